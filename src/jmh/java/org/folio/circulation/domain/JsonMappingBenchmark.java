@@ -0,0 +1,112 @@
+package org.folio.circulation.domain;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.emptyList;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.policy.LoanPolicy;
+import org.folio.circulation.domain.policy.OverdueFinePolicy;
+import org.folio.circulation.domain.policy.Period;
+import org.folio.circulation.domain.policy.lostitem.LostItemPolicy;
+import org.folio.circulation.storage.mappers.ItemMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import api.support.builders.ItemBuilder;
+import api.support.builders.LoanBuilder;
+import api.support.builders.LoanPolicyBuilder;
+import api.support.builders.LostItemFeePolicyBuilder;
+import api.support.builders.OverdueFinePolicyBuilder;
+import api.support.builders.UserBuilder;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Mapping item records from storage and representing loans with their related records,
+ * which is done for every record in a page of loans
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JsonMappingBenchmark {
+  private final ItemMapper itemMapper = new ItemMapper();
+  private final LoanRepresentation loanRepresentation = new LoanRepresentation();
+
+  private JsonObject itemRepresentation;
+  private Loan loan;
+
+  @Setup
+  public void setUp() {
+    itemRepresentation = new ItemBuilder()
+      .withId(UUID.randomUUID())
+      .withBarcode("36000291452")
+      .withMaterialType(UUID.randomUUID())
+      .withPermanentLoanType(UUID.randomUUID())
+      .withPermanentLocation(UUID.randomUUID())
+      .forHolding(UUID.randomUUID())
+      .withEnumeration("v.70:no.1-6")
+      .withChronology("1987:Jan.-June")
+      .withCopyNumber("c.2")
+      .withVolume("vol.1")
+      .checkOut()
+      .create()
+      .put("effectiveCallNumberComponents", new JsonObject()
+        .put("callNumber", "PR2894 .M5 1987")
+        .put("prefix", "Prefix")
+        .put("suffix", "Suffix"));
+
+    final var contributors = List.of(
+      new Contributor("Contributor 1", true),
+      new Contributor("Contributor 2", false));
+
+    final Item item = itemMapper.toDomain(itemRepresentation)
+      .withLocation(new Location(UUID.randomUUID().toString(), "Main library", "KU/CC/DI/M",
+        null, emptyList(), UUID.randomUUID(), false, Institution.unknown(), Campus.unknown(),
+        Library.unknown(), ServicePoint.unknown()))
+      .withInstance(new Instance(UUID.randomUUID().toString(), "in00000000001",
+        "The Long Way to a Small, Angry Planet", emptyList(), contributors, emptyList(),
+        emptyList(), emptyList(), emptyList()))
+      .withMaterialType(new MaterialType(UUID.randomUUID().toString(), "book", null));
+
+    loan = new LoanBuilder()
+      .open()
+      .withLoanDate(ZonedDateTime.of(2020, 11, 14, 11, 14, 54, 0, UTC))
+      .withDueDate(ZonedDateTime.of(2020, 12, 5, 11, 14, 54, 0, UTC))
+      .withCheckoutServicePointId(UUID.randomUUID())
+      .asDomainObject()
+      .withItem(item)
+      .withUser(new User(new UserBuilder()
+        .withName("Jones", "Steven")
+        .withBarcode("5694596854")
+        .create()))
+      .withLoanPolicy(LoanPolicy.from(new LoanPolicyBuilder()
+        .rolling(Period.weeks(3))
+        .create()))
+      .withOverdueFinePolicy(OverdueFinePolicy.from(new OverdueFinePolicyBuilder().create()))
+      .withLostItemPolicy(LostItemPolicy.from(new LostItemFeePolicyBuilder().create()));
+  }
+
+  @Benchmark
+  public Item itemToDomain() {
+    return itemMapper.toDomain(itemRepresentation);
+  }
+
+  @Benchmark
+  public JsonObject extendedLoan() {
+    return loanRepresentation.extendedLoan(loan);
+  }
+}
@@ -0,0 +1,73 @@
+package org.folio.circulation.domain;
+
+import static java.time.ZoneOffset.UTC;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.policy.OverdueFinePolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import api.support.builders.LoanBuilder;
+import api.support.builders.OverdueFinePolicyBuilder;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Calculating the overdue fine for a loan returned after a number of overdue minutes,
+ * once the minutes have been determined
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OverdueFineBenchmark {
+  @Param({"minute", "hour", "day", "week"})
+  public String interval;
+
+  @Param({"false", "true"})
+  public boolean dueDateChangedByRecall;
+
+  private Loan loan;
+
+  @Setup
+  public void setUp() {
+    final var overdueFinePolicy = OverdueFinePolicy.from(new OverdueFinePolicyBuilder()
+      .withOverdueFine(fine(0.5, interval))
+      .withMaxOverdueFine(50.0)
+      .withOverdueRecallFine(fine(1.0, interval))
+      .withMaxOverdueRecallFine(100.0)
+      .create());
+
+    loan = new LoanBuilder()
+      .withDueDate(ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, UTC))
+      .withStatus("Closed")
+      .withReturnDate(ZonedDateTime.of(2020, 1, 20, 0, 0, 0, 0, UTC))
+      .withDueDateChangedByRecall(dueDateChangedByRecall)
+      .asDomainObject()
+      .withOverdueFinePolicy(overdueFinePolicy);
+  }
+
+  @Benchmark
+  public BigDecimal overdueFine() {
+    return OverdueFineService.overdueFineAmount(loan, 19 * 24 * 60);
+  }
+
+  private static JsonObject fine(double quantity, String intervalId) {
+    return new JsonObject()
+      .put("quantity", quantity)
+      .put("intervalId", intervalId);
+  }
+}
@@ -0,0 +1,97 @@
+package org.folio.circulation.domain.policy;
+
+import static java.time.ZoneOffset.UTC;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.support.results.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import api.support.builders.FixedDueDateSchedule;
+import api.support.builders.FixedDueDateSchedulesBuilder;
+import api.support.builders.LoanBuilder;
+import api.support.builders.LoanPolicyBuilder;
+
+/**
+ * Calculating the initial due date of a loan for rolling and fixed loan policies,
+ * with a year of monthly schedules to search through
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DueDateStrategyBenchmark {
+  private static final ZonedDateTime LOAN_DATE = ZonedDateTime.of(2020, 11, 14, 11, 14, 54, 0, UTC);
+
+  private DueDateStrategy rolling;
+  private DueDateStrategy rollingLimitedBySchedule;
+  private DueDateStrategy fixedSchedule;
+  private Loan loan;
+
+  @Setup
+  public void setUp() {
+    final var schedules = monthlySchedules(2020);
+
+    rolling = LoanPolicy.from(new LoanPolicyBuilder()
+        .rolling(Period.weeks(3))
+        .create())
+      .determineStrategy(null, false, false, LOAN_DATE, null);
+
+    rollingLimitedBySchedule = LoanPolicy.from(new LoanPolicyBuilder()
+        .rolling(Period.weeks(3))
+        .limitedBySchedule(UUID.randomUUID())
+        .create())
+      .withDueDateSchedules(schedules)
+      .determineStrategy(null, false, false, LOAN_DATE, null);
+
+    fixedSchedule = LoanPolicy.from(new LoanPolicyBuilder()
+        .fixed(UUID.randomUUID())
+        .create())
+      .withDueDateSchedules(schedules)
+      .determineStrategy(null, false, false, LOAN_DATE, null);
+
+    loan = new LoanBuilder()
+      .open()
+      .withLoanDate(LOAN_DATE)
+      .asDomainObject();
+  }
+
+  @Benchmark
+  public Result<ZonedDateTime> rollingCheckOut() {
+    return rolling.calculateDueDate(loan);
+  }
+
+  @Benchmark
+  public Result<ZonedDateTime> rollingCheckOutLimitedBySchedule() {
+    return rollingLimitedBySchedule.calculateDueDate(loan);
+  }
+
+  @Benchmark
+  public Result<ZonedDateTime> fixedScheduleCheckOut() {
+    return fixedSchedule.calculateDueDate(loan);
+  }
+
+  private static FixedDueDateSchedules monthlySchedules(int year) {
+    final var builder = new FixedDueDateSchedulesBuilder();
+
+    for (int month = 1; month <= 12; month++) {
+      builder.addSchedule(FixedDueDateSchedule.wholeMonth(year, month));
+    }
+
+    return FixedDueDateSchedules.from(builder.create());
+  }
+}
@@ -0,0 +1,144 @@
+package org.folio.circulation.rules;
+
+import static java.util.Collections.emptyList;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.ServicePoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * Compiling circulation rules and applying them to find a loan policy, for rules
+ * of different sizes. Each material type has its own rule, with nested rules for
+ * some patron groups and loan types, similar to the rules of a large library.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CirculationRulesBenchmark {
+  private static final String TENANT_ID = "benchmark";
+  private static final String INSTITUTION_ID = "3d22d91c-cf1d-11e9-bb65-2a2ae2dbcce4";
+  private static final int PATRON_GROUPS = 5;
+  private static final int LOAN_TYPES = 3;
+  private static final int LOCATIONS = 10;
+  private static final int LOOK_UPS = 1024;
+
+  @Param({"10", "100", "500"})
+  public int materialTypes;
+
+  private String rulesAsText;
+  private String rulesAsDrools;
+  private Drools drools;
+  private DecisionTableRules decisionTable;
+  private Location location;
+  private final List<MultiMap> lookUps = new ArrayList<>();
+  private int nextLookUp;
+
+  @Setup
+  public void setUp() {
+    rulesAsText = rules(materialTypes);
+    rulesAsDrools = Text2Drools.convert(rulesAsText);
+    drools = new Drools(TENANT_ID, rulesAsDrools);
+    decisionTable = Text2Drools.compile(rulesAsText);
+    location = new Location(null, null, null, null, emptyList(), null, false,
+      Institution.unknown(INSTITUTION_ID), Campus.unknown(null), Library.unknown(null),
+      ServicePoint.unknown());
+
+    for (int index = 0; index < LOOK_UPS; index++) {
+      lookUps.add(params("material-" + (index * 7 % (materialTypes + 1)),
+        "loan-type-" + (index % LOAN_TYPES), "group-" + (index % PATRON_GROUPS),
+        "location-" + (index % LOCATIONS)));
+    }
+  }
+
+  @Benchmark
+  public String convertText() {
+    return Text2Drools.convert(rulesAsText);
+  }
+
+  @Benchmark
+  public Drools convertAndCreateDrools() {
+    return new Drools(TENANT_ID, Text2Drools.convert(rulesAsText));
+  }
+
+  @Benchmark
+  public DecisionTableRules compileDecisionTable() {
+    return Text2Drools.compile(rulesAsText);
+  }
+
+  @Benchmark
+  public CirculationRuleMatch droolsLoanPolicy() {
+    return drools.loanPolicy(nextLookUp(), location);
+  }
+
+  @Benchmark
+  public CirculationRuleMatch decisionTableLoanPolicy() {
+    return decisionTable.loanPolicy(nextLookUp(), location);
+  }
+
+  private MultiMap nextLookUp() {
+    nextLookUp = (nextLookUp + 1) % LOOK_UPS;
+
+    return lookUps.get(nextLookUp);
+  }
+
+  private static String rules(int materialTypes) {
+    final List<String> lines = new ArrayList<>();
+
+    lines.add("priority: t, s, c, b, a, m, g");
+    lines.add("fallback-policy: l fallback-loan r fallback-request n fallback-notice "
+      + "o fallback-overdue i fallback-lost-item");
+
+    for (int material = 0; material < materialTypes; material++) {
+      lines.add("m material-" + material + ": " + policies("material-" + material));
+      lines.add("    g group-0 group-1: " + policies("material-" + material + "-staff"));
+      lines.add("    t loan-type-2: " + policies("material-" + material + "-short"));
+      lines.add("        s location-" + material % LOCATIONS + ": "
+        + policies("material-" + material + "-reserve"));
+    }
+
+    lines.add("a " + INSTITUTION_ID + " + g group-4: " + policies("institution"));
+
+    return String.join("\n", lines);
+  }
+
+  private static String policies(String name) {
+    return String.format("l loan-%1$s r request-%1$s n notice-%1$s o overdue-%1$s i lost-item-%1$s",
+      name);
+  }
+
+  private static MultiMap params(String itemTypeId, String loanTypeId, String patronGroupId,
+    String locationId) {
+
+    return MultiMap.caseInsensitiveMultiMap()
+      .add(ITEM_TYPE_ID_NAME, itemTypeId)
+      .add(LOAN_TYPE_ID_NAME, loanTypeId)
+      .add(PATRON_TYPE_ID_NAME, patronGroupId)
+      .add(LOCATION_ID_NAME, locationId);
+  }
+}
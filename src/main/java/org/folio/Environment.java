@@ -33,10 +33,144 @@ public class Environment {
     return getVariable("HTTP_MAXPOOLSIZE", 100);
   }
 
+  public static int getHttpBatchMaxPoolSize() {
+    return getVariable("HTTP_BATCH_MAXPOOLSIZE", 0);
+  }
+
+  public static int getHttpMaxWaitQueueSize() {
+    return getVariable("HTTP_MAX_WAIT_QUEUE_SIZE", -1);
+  }
+
+  public static int getHttpKeepAliveTimeoutSeconds() {
+    return getVariable("HTTP_KEEP_ALIVE_TIMEOUT_SECONDS", 60);
+  }
+
+  public static int getHttpIdleTimeoutSeconds() {
+    return getVariable("HTTP_IDLE_TIMEOUT_SECONDS", 0);
+  }
+
+  public static boolean getHttp2Enabled() {
+    return getVariable("HTTP2_ENABLED", false);
+  }
+
+  public static int getHttp2MultiplexingLimit() {
+    return getVariable("HTTP2_MULTIPLEXING_LIMIT", -1);
+  }
+
   public static boolean getEcsTlrFeatureEnabled() {
     return getVariable("ECS_TLR_FEATURE_ENABLED", false);
   }
 
+  public static int getReferenceDataCacheTimeToLiveSeconds() {
+    return getVariable("REFERENCE_DATA_CACHE_TTL_SECONDS", 0);
+  }
+
+  public static int getReferenceDataCacheMaximumSize() {
+    return getVariable("REFERENCE_DATA_CACHE_MAX_SIZE", 1000);
+  }
+
+  public static int getPatronNoticeCacheTimeToLiveSeconds() {
+    return getVariable("PATRON_NOTICE_CACHE_TTL_SECONDS", 0);
+  }
+
+  public static int getPatronNoticeCacheMaximumSize() {
+    return getVariable("PATRON_NOTICE_CACHE_MAX_SIZE", 500);
+  }
+
+  public static int getCalendarCacheTimeToLiveSeconds() {
+    return getVariable("CALENDAR_CACHE_TTL_SECONDS", 0);
+  }
+
+  public static int getCalendarCacheMaximumSize() {
+    return getVariable("CALENDAR_CACHE_MAX_SIZE", 1000);
+  }
+
+  public static int getAllowedServicePointsCacheTimeToLiveSeconds() {
+    return getVariable("ALLOWED_SERVICE_POINTS_CACHE_TTL_SECONDS", 0);
+  }
+
+  public static int getAllowedServicePointsCacheMaximumSize() {
+    return getVariable("ALLOWED_SERVICE_POINTS_CACHE_MAX_SIZE", 1000);
+  }
+
+  public static int getBatchMaxInFlightRequests() {
+    return getVariable("BATCH_MAX_IN_FLIGHT_REQUESTS", 10);
+  }
+
+  public static boolean getScheduledNoticesBatchProcessingEnabled() {
+    return getVariable("SCHEDULED_NOTICES_BATCH_PROCESSING_ENABLED", true);
+  }
+
+  public static boolean getPubSubOutboxEnabled() {
+    return getVariable("PUBSUB_OUTBOX_ENABLED", false);
+  }
+
+  public static int getPubSubOutboxCapacity() {
+    return getVariable("PUBSUB_OUTBOX_CAPACITY", 10000);
+  }
+
+  public static int getPubSubOutboxBatchSize() {
+    return getVariable("PUBSUB_OUTBOX_BATCH_SIZE", 50);
+  }
+
+  public static int getPubSubOutboxMaximumAttempts() {
+    return getVariable("PUBSUB_OUTBOX_MAX_ATTEMPTS", 5);
+  }
+
+  public static int getPubSubOutboxRetryDelayMilliseconds() {
+    return getVariable("PUBSUB_OUTBOX_RETRY_DELAY_MS", 500);
+  }
+
+  public static String getCirculationEventsBackend() {
+    return getVariable("CIRCULATION_EVENTS_BACKEND", "pubsub");
+  }
+
+  public static String getKafkaEventsCompressionType() {
+    return getVariable("KAFKA_EVENTS_COMPRESSION_TYPE", "lz4");
+  }
+
+  public static int getKafkaEventsLingerMilliseconds() {
+    return getVariable("KAFKA_EVENTS_LINGER_MS", 5);
+  }
+
+  public static int getKafkaEventsBatchSizeBytes() {
+    return getVariable("KAFKA_EVENTS_BATCH_SIZE_BYTES", 65536);
+  }
+
+  public static boolean getRequestQueueLazyLoadingEnabled() {
+    return getVariable("REQUEST_QUEUE_LAZY_LOADING_ENABLED", true);
+  }
+
+  public static int getCirculationRuleMatchCacheMaximumSize() {
+    return getVariable("CIRCULATION_RULE_MATCH_CACHE_MAX_SIZE", 1000);
+  }
+
+  public static int getCirculationRulesCompilerThreads() {
+    return getVariable("CIRCULATION_RULES_COMPILER_THREADS", 2);
+  }
+
+  public static String getCirculationRulesSnapshotDirectory() {
+    return getVariable("CIRCULATION_RULES_SNAPSHOT_DIRECTORY", "");
+  }
+
+  public static String getCirculationRulesSnapshotKey() {
+    return getVariable("CIRCULATION_RULES_SNAPSHOT_KEY", "");
+  }
+
+  public static String getCirculationRulesEngine() {
+    return getVariable("CIRCULATION_RULES_ENGINE", "drools");
+  }
+
+  public static String getCirculationRulesEngineByTenant() {
+    return getVariable("CIRCULATION_RULES_ENGINE_BY_TENANT", "");
+  }
+
+  private static String getVariable(String key, String defaultValue) {
+    final var variable = getVar(key);
+
+    return isBlank(variable) ? defaultValue : variable;
+  }
+
   private static int getVariable(String key, int defaultValue) {
     final var variable = getVar(key);
 
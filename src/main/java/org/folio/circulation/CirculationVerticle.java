@@ -1,8 +1,11 @@
 package org.folio.circulation;
 
+import static org.folio.Environment.getHttpBatchMaxPoolSize;
 import static org.folio.Environment.getHttpMaxPoolSize;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,6 +34,7 @@ import org.folio.circulation.resources.LoanCirculationRulesEngineResource;
 import org.folio.circulation.resources.LoanCollectionResource;
 import org.folio.circulation.resources.LoanScheduledNoticeProcessingResource;
 import org.folio.circulation.resources.LostItemCirculationRulesEngineResource;
+import org.folio.circulation.resources.MetricsResource;
 import org.folio.circulation.resources.NoticeCirculationRulesEngineResource;
 import org.folio.circulation.resources.OverdueFineCirculationRulesEngineResource;
 import org.folio.circulation.resources.OverdueFineScheduledNoticeProcessingResource;
@@ -56,18 +60,21 @@ import org.folio.circulation.resources.handlers.FeeFineBalanceChangedHandlerReso
 import org.folio.circulation.resources.handlers.LoanRelatedFeeFineClosedHandlerResource;
 import org.folio.circulation.resources.renewal.RenewByBarcodeResource;
 import org.folio.circulation.resources.renewal.RenewByIdResource;
+import org.folio.circulation.services.events.KafkaCirculationEventPublisher;
+import org.folio.circulation.support.http.client.HttpClientPool;
 import org.folio.circulation.support.logging.LogHelper;
 import org.folio.circulation.support.logging.Logging;
 
 import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpServer;
-import io.vertx.core.http.PoolOptions;
 import io.vertx.ext.web.Router;
 
 public class CirculationVerticle extends AbstractVerticle {
   private HttpServer server;
+  private final List<HttpClientPool> httpClientPools = new ArrayList<>();
 
   @Override
   public void start(Promise<Void> startFuture) {
@@ -80,10 +87,14 @@ public class CirculationVerticle extends AbstractVerticle {
     Router router = Router.router(vertx);
 
     // bump up the connection pool size from the default value of 5
-    int httpMaxPoolSize = getHttpMaxPoolSize();
-    final HttpClient client = vertx.createHttpClient(new PoolOptions()
-      .setHttp1MaxSize(httpMaxPoolSize)
-      .setHttp2MaxSize(httpMaxPoolSize));
+    final HttpClient client = createHttpClientPool("interactive", getHttpMaxPoolSize());
+
+    // batch processes and event handlers can be given their own pool, so that their
+    // requests do not hold up check in and check out
+    final int httpBatchMaxPoolSize = getHttpBatchMaxPoolSize();
+    final HttpClient batchClient = httpBatchMaxPoolSize > 0
+      ? createHttpClientPool("batch", httpBatchMaxPoolSize)
+      : client;
 
     this.server = vertx.createHttpServer();
 
@@ -92,6 +103,7 @@ public class CirculationVerticle extends AbstractVerticle {
       .handler(rc -> LogHelper.logRequest(rc, log));
 
     new HealthResource().register(router);
+    new MetricsResource().register(router);
     new TenantActivationResource(client).register(router);
     var checkOutByBarcodeResource = new CheckOutByBarcodeResource(
       "/circulation/check-out-by-barcode", client);
@@ -145,32 +157,32 @@ public class CirculationVerticle extends AbstractVerticle {
       "/circulation/rules/notice-policy-all", client)
       .register(router);
 
-    new LoanScheduledNoticeProcessingResource(client).register(router);
-    new ScheduledDigitalRemindersProcessingResource(client).register(router);
-    new DueDateNotRealTimeScheduledNoticeProcessingResource(client).register(router);
-    new RequestScheduledNoticeProcessingResource(client).register(router);
+    new LoanScheduledNoticeProcessingResource(batchClient).register(router);
+    new ScheduledDigitalRemindersProcessingResource(batchClient).register(router);
+    new DueDateNotRealTimeScheduledNoticeProcessingResource(batchClient).register(router);
+    new RequestScheduledNoticeProcessingResource(batchClient).register(router);
     new RequestAnonymizationResource(client).register(router);
-    new FeeFineScheduledNoticeProcessingResource(client).register(router);
-    new FeeFineNotRealTimeScheduledNoticeProcessingResource(client).register(router);
-    new OverdueFineScheduledNoticeProcessingResource(client).register(router);
+    new FeeFineScheduledNoticeProcessingResource(batchClient).register(router);
+    new FeeFineNotRealTimeScheduledNoticeProcessingResource(batchClient).register(router);
+    new OverdueFineScheduledNoticeProcessingResource(batchClient).register(router);
 
-    new ExpiredSessionProcessingResource(client).register(router);
+    new ExpiredSessionProcessingResource(batchClient).register(router);
     new LoanAnonymizationResource(client).register(router);
     new DeclareLostResource(client).register(router);
-    new ScheduledAnonymizationProcessingResource(client).register(router);
-    new ScheduledRequestAnonymizationProcessingResource(client).register(router);
+    new ScheduledAnonymizationProcessingResource(batchClient).register(router);
+    new ScheduledRequestAnonymizationProcessingResource(batchClient).register(router);
     new EndPatronActionSessionResource(client).register(router);
     new ClaimItemReturnedResource(client).register(router);
     new ChangeDueDateResource(client).register(router);
     new AddInfoResource(client).register(router);
     new DeclareClaimedReturnedItemAsMissingResource(client).register(router);
-    new ScheduledAgeToLostResource(client).register(router);
-    new ScheduledAgeToLostFeeChargingResource(client).register(router);
-    new ExpiredActualCostProcessingResource(client).register(router);
+    new ScheduledAgeToLostResource(batchClient).register(router);
+    new ScheduledAgeToLostFeeChargingResource(batchClient).register(router);
+    new ExpiredActualCostProcessingResource(batchClient).register(router);
 
     // Handlers
-    new LoanRelatedFeeFineClosedHandlerResource(client).register(router);
-    new FeeFineBalanceChangedHandlerResource(client).register(router);
+    new LoanRelatedFeeFineClosedHandlerResource(batchClient).register(router);
+    new FeeFineBalanceChangedHandlerResource(batchClient).register(router);
     new CirculationSettingsResource(client).register(router);
     new PrintEventsResource(client).register(router);
 
@@ -190,11 +202,28 @@ public class CirculationVerticle extends AbstractVerticle {
 
     if (server != null) {
       server.close()
+        .onSuccess(v -> log.info("Stopped listening on {}", server.actualPort()))
+        .compose(v -> closeHttpClientPools())
+        .compose(v -> KafkaCirculationEventPublisher.close(vertx))
         .onFailure(stopFuture::fail)
-        .onSuccess(v -> {
-          log.info("Stopped listening on {}", server.actualPort());
-          stopFuture.complete();
-        });
+        .onSuccess(v -> stopFuture.complete());
     }
   }
+
+  private HttpClient createHttpClientPool(String name, int maximumSize) {
+    final var pool = HttpClientPool.create(vertx, name, maximumSize);
+    httpClientPools.add(pool);
+
+    return pool.getHttpClient();
+  }
+
+  private Future<Void> closeHttpClientPools() {
+    final List<Future<Void>> closed = httpClientPools.stream()
+      .map(HttpClientPool::close)
+      .toList();
+
+    httpClientPools.clear();
+
+    return Future.all(closed).mapEmpty();
+  }
 }
@@ -4,6 +4,9 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.domain.Item;
@@ -46,6 +49,27 @@ public class StoreLoanAndItem {
       .thenComposeAsync(response -> loanRepository.updateLoan(loan));
   }
 
+  /**
+   * Updates the changed items together, followed by the loans
+   */
+  public CompletableFuture<Result<List<Loan>>> updateLoansAndItemsInStorage(
+    Collection<Loan> loans) {
+
+    final List<Loan> loansWithItems = loans.stream()
+      .filter(Objects::nonNull)
+      .filter(loan -> loan.getItem() != null)
+      .toList();
+
+    final List<Item> changedItems = loansWithItems.stream()
+      .map(Loan::getItem)
+      .filter(Item::hasChanged)
+      .toList();
+
+    return itemRepository.updateItems(changedItems)
+      .thenCompose(r -> r.after(notUsed -> loanRepository.updateLoans(loansWithItems)))
+      .thenApply(mapResult(notUsed -> loansWithItems));
+  }
+
   private CompletableFuture<Result<Item>> updateItem(Item item) {
     if (!item.hasChanged()) {
       return completedFuture(succeeded(item));
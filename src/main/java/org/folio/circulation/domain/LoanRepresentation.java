@@ -2,15 +2,21 @@ package org.folio.circulation.domain;
 
 import static java.util.Objects.isNull;
 import static org.folio.circulation.domain.representations.LoanProperties.BORROWER;
+import static org.folio.circulation.domain.representations.LoanProperties.CHECKIN_SERVICE_POINT;
+import static org.folio.circulation.domain.representations.LoanProperties.CHECKOUT_SERVICE_POINT;
+import static org.folio.circulation.domain.representations.LoanProperties.FEESANDFINES;
+import static org.folio.circulation.domain.representations.LoanProperties.ITEM;
 import static org.folio.circulation.domain.representations.LoanProperties.LOAN_POLICY;
 import static org.folio.circulation.domain.representations.LoanProperties.LOST_ITEM_POLICY;
 import static org.folio.circulation.domain.representations.LoanProperties.OVERDUE_FINE_POLICY;
+import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_AT_CHECKOUT;
 import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_ID_AT_CHECKOUT;
 import static org.folio.circulation.domain.representations.LoanProperties.REMINDERS;
 
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 
 import java.lang.invoke.MethodHandles;
+import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -18,13 +24,29 @@ import org.folio.circulation.domain.policy.Policy;
 import org.folio.circulation.domain.representations.ItemSummaryRepresentation;
 import org.folio.circulation.domain.representations.LoanProperties;
 import org.folio.circulation.resources.context.RenewalContext;
+import org.folio.circulation.support.http.server.IncludedRelatedRecords;
 
 import io.vertx.core.json.JsonObject;
 
 public class LoanRepresentation {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
+  /**
+   * Related records that can be chosen using the include parameter
+   */
+  public static final List<String> RELATED_RECORDS = List.of(ITEM, BORROWER,
+    CHECKIN_SERVICE_POINT, CHECKOUT_SERVICE_POINT, LOAN_POLICY, OVERDUE_FINE_POLICY,
+    LOST_ITEM_POLICY, FEESANDFINES, PATRON_GROUP_AT_CHECKOUT);
+
   public JsonObject extendedLoan(Loan loan) {
+    return extendedLoan(loan, IncludedRelatedRecords.all());
+  }
+
+  /**
+   * Represents the loan with only the related records that are included, records
+   * that have not been fetched are already missing from the loan
+   */
+  public JsonObject extendedLoan(Loan loan, IncludedRelatedRecords include) {
     if (loan == null) {
       log.warn("extendedLoan:: loan is null");
       return null;
@@ -70,10 +92,13 @@ public class LoanRepresentation {
     }
 
 
-    addPolicy(extendedRepresentation, loan.getLoanPolicy(), LOAN_POLICY);
-    addPolicy(extendedRepresentation, loan.getOverdueFinePolicy(), OVERDUE_FINE_POLICY);
-    addPolicy(extendedRepresentation, loan.getLostItemPolicy(), LOST_ITEM_POLICY);
-    additionalAccountProperties(extendedRepresentation, loan);
+    addPolicy(extendedRepresentation, loan.getLoanPolicy(), LOAN_POLICY, include);
+    addPolicy(extendedRepresentation, loan.getOverdueFinePolicy(), OVERDUE_FINE_POLICY, include);
+    addPolicy(extendedRepresentation, loan.getLostItemPolicy(), LOST_ITEM_POLICY, include);
+
+    if (include.includes(FEESANDFINES)) {
+      additionalAccountProperties(extendedRepresentation, loan);
+    }
 
     extendedRepresentation.remove(PATRON_GROUP_ID_AT_CHECKOUT);
 
@@ -81,7 +106,12 @@ public class LoanRepresentation {
   }
 
   private void addPolicy(JsonObject extendedRepresentation, Policy policy,
-    String policyName) {
+    String policyName, IncludedRelatedRecords include) {
+
+    if (!include.includes(policyName)) {
+      log.debug("addPolicy:: {} is not included", policyName);
+      return;
+    }
 
     if (policy != null) {
       additionalPolicyProperties(extendedRepresentation, policy, policyName);
@@ -0,0 +1,178 @@
+package org.folio.circulation.domain;
+
+import static java.lang.Math.max;
+import static org.apache.commons.lang3.ObjectUtils.allNotNull;
+import static org.folio.circulation.support.utils.DateTimeUtil.isAfterMillis;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * The periods a service point is open between two dates, with the number of minutes
+ * it has been open up to the end of each period, so that the minutes it is open
+ * between any two times within those dates can be found without going through
+ * every day.
+ * <p>
+ * Minutes are counted in the same way as summing each opening hour clipped to the times,
+ * with the start and end of each period truncated to the minute
+ */
+public class OpeningPeriodIndex {
+  /** first and last dates the periods were fetched for, including closed days */
+  @Getter
+  private final LocalDate firstDate;
+  @Getter
+  private final LocalDate lastDate;
+
+  /** start and end of each period in minutes since the epoch, ordered by start */
+  private final long[] starts;
+  private final long[] ends;
+  /** minutes open before each period, with one more entry for the total of all periods */
+  private final long[] openMinutesBefore;
+
+  private OpeningPeriodIndex(LocalDate firstDate, LocalDate lastDate, List<long[]> periods) {
+    this.firstDate = firstDate;
+    this.lastDate = lastDate;
+
+    periods.sort(Comparator.comparingLong(period -> period[0]));
+
+    starts = new long[periods.size()];
+    ends = new long[periods.size()];
+    openMinutesBefore = new long[periods.size() + 1];
+
+    for (int index = 0; index < periods.size(); index++) {
+      starts[index] = periods.get(index)[0];
+      ends[index] = periods.get(index)[1];
+      openMinutesBefore[index + 1] = openMinutesBefore[index] + ends[index] - starts[index];
+    }
+  }
+
+  /**
+   * @param firstDate first date the opening days were fetched for
+   * @param lastDate last date the opening days were fetched for
+   * @param openingDays the days the service point is open, any closed days are ignored
+   */
+  public static OpeningPeriodIndex of(LocalDate firstDate, LocalDate lastDate,
+    Collection<OpeningDay> openingDays) {
+
+    final List<long[]> periods = new ArrayList<>();
+
+    openingDays.stream()
+      .filter(OpeningDay::isOpen)
+      .filter(day -> day.getDayWithTimeZone() != null)
+      .forEach(day -> addPeriods(day, periods));
+
+    return new OpeningPeriodIndex(firstDate, lastDate, periods);
+  }
+
+  private static void addPeriods(OpeningDay day, List<long[]> periods) {
+    final ZonedDateTime datePart = day.getDayWithTimeZone();
+    final LocalDate date = datePart.toLocalDate();
+
+    for (OpeningHour openingHour : day.getOpenings()) {
+      if (allNotNull(openingHour.getStartTime(), openingHour.getEndTime())) {
+        final var start = ZonedDateTime.of(date, openingHour.getStartTime(), datePart.getZone());
+        final var end = ZonedDateTime.of(date, openingHour.getEndTime(), datePart.getZone());
+
+        if (isAfterMillis(end, start)) {
+          periods.add(new long[] { epochMinute(start), epochMinute(end) });
+        }
+      }
+    }
+  }
+
+  public boolean covers(LocalDate from, LocalDate to) {
+    return !from.isBefore(firstDate) && !to.isAfter(lastDate);
+  }
+
+  /**
+   * @return an index of the periods of both indexes, covering the dates of both,
+   * the other index should be for the dates immediately before or after these dates
+   */
+  public OpeningPeriodIndex combine(OpeningPeriodIndex other) {
+    final List<long[]> periods = new ArrayList<>(starts.length + other.starts.length);
+
+    addPeriods(this, periods);
+    addPeriods(other, periods);
+
+    return new OpeningPeriodIndex(
+      firstDate.isBefore(other.firstDate) ? firstDate : other.firstDate,
+      lastDate.isAfter(other.lastDate) ? lastDate : other.lastDate,
+      periods);
+  }
+
+  private static void addPeriods(OpeningPeriodIndex index, List<long[]> periods) {
+    for (int position = 0; position < index.starts.length; position++) {
+      periods.add(new long[] { index.starts[position], index.ends[position] });
+    }
+  }
+
+  public int openMinutesBetween(ZonedDateTime from, ZonedDateTime to) {
+    final long fromMinute = epochMinute(from);
+    final long toMinute = epochMinute(to);
+
+    if (toMinute <= fromMinute) {
+      return 0;
+    }
+
+    final int first = firstEndingAfter(fromMinute);
+    final int last = lastStartingBefore(toMinute);
+
+    if (first > last) {
+      return 0;
+    }
+
+    final long minutes = openMinutesBefore[last + 1] - openMinutesBefore[first]
+      - max(0, fromMinute - starts[first])
+      - max(0, ends[last] - toMinute);
+
+    return (int) minutes;
+  }
+
+  public int size() {
+    return starts.length;
+  }
+
+  private int firstEndingAfter(long minute) {
+    int low = 0;
+    int high = ends.length;
+
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+
+      if (ends[middle] > minute) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+
+    return low;
+  }
+
+  private int lastStartingBefore(long minute) {
+    int low = 0;
+    int high = starts.length;
+
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+
+      if (starts[middle] < minute) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    return low - 1;
+  }
+
+  private static long epochMinute(ZonedDateTime dateTime) {
+    return Math.floorDiv(dateTime.toEpochSecond(), 60);
+  }
+}
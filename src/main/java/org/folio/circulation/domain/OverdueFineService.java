@@ -173,6 +173,13 @@ public class OverdueFineService {
   private CompletableFuture<Result<BigDecimal>> calculateOverdueFine(Loan loan, Integer overdueMinutes) {
     log.debug("calculateOverdueFine:: parameters loan: {}, overdueMinutes: {}",
       () -> loan ,() -> overdueMinutes);
+    BigDecimal overdueFine = overdueFineAmount(loan, overdueMinutes);
+    log.info("calculateOverdueFine:: result: {}", overdueFine);
+
+    return completedFuture(succeeded(overdueFine));
+  }
+
+  static BigDecimal overdueFineAmount(Loan loan, Integer overdueMinutes) {
     BigDecimal overdueFine = BigDecimal.ZERO;
 
     OverdueFinePolicy overdueFinePolicy = loan.getOverdueFinePolicy();
@@ -197,9 +204,8 @@ public class OverdueFineService {
         }
       }
     }
-    log.info("calculateOverdueFine:: result: {}", overdueFine);
 
-    return completedFuture(succeeded(overdueFine));
+    return overdueFine;
   }
 
   private CompletableFuture<Result<CalculationParameters>> lookupItemRelatedRecords(
@@ -1,20 +1,13 @@
 package org.folio.circulation.domain;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static org.apache.commons.lang3.ObjectUtils.allNotNull;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.flatMapResult;
-import static org.folio.circulation.support.utils.DateTimeUtil.isAfterMillis;
-import static org.folio.circulation.support.utils.DateTimeUtil.isBeforeMillis;
-import static org.folio.circulation.support.utils.DateTimeUtil.isWithinMillis;
-import static org.folio.circulation.support.utils.LogUtil.collectionAsString;
 
 import java.lang.invoke.MethodHandles;
-import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Collection;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -85,70 +78,8 @@ public class OverduePeriodCalculatorService {
     ZonedDateTime dueDate = loan.getDueDate();
     String itemLocationPrimaryServicePoint = getItemLocationPrimaryServicePoint(loan).toString();
 
-    return calendarRepository
-      .fetchOpeningDaysBetweenDates(itemLocationPrimaryServicePoint, dueDate, returnDate, zoneId)
-      .thenApply(r -> r.next(openingDays -> getOpeningDaysDurationMinutes(
-        openingDays, dueDate, returnDate)));
-  }
-
-  Result<Integer> getOpeningDaysDurationMinutes(Collection<OpeningDay> openingDays,
-    ZonedDateTime dueDate, ZonedDateTime returnDate) {
-
-    log.debug("getOpeningDaysDurationMinutes:: parameters openingDays: {}, " +
-      "dueDate: {}, returnDate: {}", () -> collectionAsString(openingDays),
-      () -> dueDate, () -> returnDate);
-
-    return succeeded(
-      openingDays.stream()
-        .filter(OpeningDay::isOpen)
-        .mapToInt(day -> getOpeningDayDurationMinutes(day, dueDate, returnDate))
-        .sum());
-  }
-
-  private int getOpeningDayDurationMinutes(OpeningDay openingDay, ZonedDateTime dueDate,
-    ZonedDateTime systemTime) {
-
-    log.debug("getOpeningDayDurationMinutes:: parameters openingDay: {}, " +
-        "dueDate: {}, returnDate: {}", () -> openingDay, () -> dueDate, () -> systemTime);
-    ZonedDateTime datePart = openingDay.getDayWithTimeZone();
-
-    return openingDay.getOpenings()
-      .stream()
-      .mapToInt(openingHour -> getOpeningHourDurationMinutes(
-        openingHour, datePart, dueDate, systemTime))
-      .sum();
-  }
-
-  private int getOpeningHourDurationMinutes(OpeningHour openingHour,
-    ZonedDateTime datePart, ZonedDateTime dueDate, ZonedDateTime returnDate) {
-
-    log.debug("getOpeningHourDurationMinutes:: parameters openingHour: {}, " +
-      "datePart: {}, dueDate: {}, returnDate: {}", () -> openingHour, () -> datePart,
-      () -> dueDate, () -> returnDate);
-
-    if (allNotNull(datePart, dueDate, openingHour.getStartTime(), openingHour.getEndTime())) {
-      final LocalDate date = datePart.toLocalDate();
-      ZonedDateTime startTime = ZonedDateTime.of(date, openingHour.getStartTime(), datePart.getZone());
-      ZonedDateTime endTime = ZonedDateTime.of(date, openingHour.getEndTime(), datePart.getZone());
-
-      if (isWithinMillis(dueDate, startTime, endTime)) {
-        log.info("getOpeningHourDurationMinutes:: dueDate is within startTime and endTime");
-        startTime = dueDate;
-      }
-
-      if (isWithinMillis(returnDate, startTime, endTime)) {
-        log.info("getOpeningHourDurationMinutes:: returnDate is within startTime and endTime");
-        endTime = returnDate;
-      }
-
-      if (isAfterMillis(endTime, startTime) && isAfterMillis(endTime, dueDate)
-        && isBeforeMillis(startTime, returnDate)) {
-        log.info("getOpeningHourDurationMinutes:: calculating difference in minutes");
-        return calculateDiffInMinutes(startTime, endTime);
-      }
-    }
-
-    return ZERO_MINUTES;
+    return calendarRepository.getOpenMinutesBetweenDates(itemLocationPrimaryServicePoint,
+      dueDate, returnDate, zoneId);
   }
 
   private int calculateDiffInMinutes(ZonedDateTime start, ZonedDateTime end) {
@@ -8,21 +8,28 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.folio.circulation.domain.RequestType.RECALL;
 import static org.folio.circulation.domain.RequestTypeItemStatusWhiteList.canCreateRequestForItem;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.results.Result;
 
 public class RequestQueue {
   private final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
@@ -30,12 +37,39 @@ public class RequestQueue {
   private List<Request> requests;
   private final List<UpdatedRequestPair> updatedRequests;
 
+  /**
+   * Fetches the related records for a request, when the queue was loaded without them,
+   * null when every request already has its related records
+   */
+  private final Function<Request, CompletableFuture<Result<Request>>> relatedRecordsLoader;
+  private final Set<String> requestsWithRelatedRecords;
+
   public static RequestQueue requestQueueOf(Request... requests) {
     return new RequestQueue(asList(requests));
   }
 
+  /**
+   * Creates a queue of requests that only have their own properties, the related records
+   * (item, instance, requester, proxy, pickup service point and loan) of a request
+   * are only fetched when {@link #loadRelatedRecords(Request)} is used
+   */
+  public static RequestQueue withoutRelatedRecords(Collection<Request> requests,
+    Function<Request, CompletableFuture<Result<Request>>> relatedRecordsLoader) {
+
+    return new RequestQueue(requests, relatedRecordsLoader, new HashSet<>());
+  }
+
   public RequestQueue(Collection<Request> requests) {
+    this(requests, null, new HashSet<>());
+  }
+
+  private RequestQueue(Collection<Request> requests,
+    Function<Request, CompletableFuture<Result<Request>>> relatedRecordsLoader,
+    Set<String> requestsWithRelatedRecords) {
+
     this.requests = new ArrayList<>(requests);
+    this.relatedRecordsLoader = relatedRecordsLoader;
+    this.requestsWithRelatedRecords = requestsWithRelatedRecords;
     updatedRequests = new ArrayList<>();
 
     // Ordering requests by position, so we can add and remove them
@@ -49,7 +83,31 @@ public class RequestQueue {
   public RequestQueue filter(Predicate<Request> predicate) {
     return new RequestQueue(requests.stream()
       .filter(predicate)
-      .toList());
+      .toList(), relatedRecordsLoader, requestsWithRelatedRecords);
+  }
+
+  public boolean hasRelatedRecords(Request request) {
+    return relatedRecordsLoader == null || requestsWithRelatedRecords.contains(request.getId());
+  }
+
+  /**
+   * Fetches the related records for a request in a queue that was loaded without them,
+   * replacing the request in the queue with the one that has them.
+   * Requests that already have their related records are returned as they are
+   */
+  public CompletableFuture<Result<Request>> loadRelatedRecords(Request request) {
+    if (hasRelatedRecords(request)) {
+      return ofAsync(request);
+    }
+
+    log.debug("loadRelatedRecords:: fetching related records for request {}", request::getId);
+
+    return relatedRecordsLoader.apply(request)
+      .thenApply(mapResult(loadedRequest -> {
+        requestsWithRelatedRecords.add(loadedRequest.getId());
+        replaceRequest(loadedRequest);
+        return loadedRequest;
+      }));
   }
 
   Request getHighestPriorityFulfillableRequest() {
@@ -6,23 +6,44 @@ import static java.util.stream.Collectors.toList;
 import static org.folio.circulation.domain.representations.CallNumberComponentsRepresentation.createCallNumberComponents;
 import static org.folio.circulation.domain.representations.ContributorsToNamesMapper.mapContributorNamesToJson;
 import static org.folio.circulation.domain.representations.ItemProperties.CALL_NUMBER_COMPONENTS;
+import static org.folio.circulation.domain.representations.RequestProperties.INSTANCE;
+import static org.folio.circulation.domain.representations.RequestProperties.ITEM;
+import static org.folio.circulation.domain.representations.RequestProperties.LOAN;
+import static org.folio.circulation.domain.representations.RequestProperties.PICKUP_SERVICE_POINT;
+import static org.folio.circulation.domain.representations.RequestProperties.PROXY;
+import static org.folio.circulation.domain.representations.RequestProperties.REQUESTER;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.copyProperty;
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.http.server.IncludedRelatedRecords;
 
 import io.vertx.core.json.JsonObject;
 
 public class RequestRepresentation {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
-  private static final String PICKUP_SERVICE_POINT = "pickupServicePoint";
+
+  /**
+   * Related records that can be chosen using the include parameter
+   */
+  public static final List<String> RELATED_RECORDS = List.of(ITEM, INSTANCE, REQUESTER, PROXY,
+    LOAN, PICKUP_SERVICE_POINT);
 
   public JsonObject extendedRepresentation(Request request) {
+    return extendedRepresentation(request, IncludedRelatedRecords.all());
+  }
+
+  /**
+   * Represents the request with only the related records that are included. The summaries
+   * stored with the request are left as they are for related records that are not included
+   */
+  public JsonObject extendedRepresentation(Request request, IncludedRelatedRecords include) {
     final JsonObject requestRepresentation = request.asJson();
     final boolean anonymized = isAnonymized(requestRepresentation, request);
 
@@ -31,7 +52,7 @@ public class RequestRepresentation {
     addAdditionalLoanProperties(requestRepresentation, request.getLoan());
 
     if (anonymized) {
-      requestRepresentation.remove("requester");
+      requestRepresentation.remove(REQUESTER);
       requestRepresentation.remove("deliveryAddress");
     } else if (request.getRequester() != null) {
       addAdditionalRequesterProperties(requestRepresentation, request.getRequester());
@@ -39,8 +60,8 @@ public class RequestRepresentation {
     }
     if (request.getProxy() != null) {
       addAdditionalProxyProperties(requestRepresentation, request.getProxy());
-    } else {
-      requestRepresentation.remove("proxy");
+    } else if (include.includes(PROXY)) {
+      requestRepresentation.remove(PROXY);
     }
     addAdditionalServicePointProperties(requestRepresentation, request.getPickupServicePoint());
     addPrintDetailsProperties(request, requestRepresentation);
@@ -120,8 +120,13 @@ public class StoredRequestRepresentation {
     log.debug("addSearchIndexProperties:: parameters requestJson: {}, request: {}",
       () -> requestJson, () -> request);
     JsonObject searchIndex = new JsonObject();
+    // requests in a queue loaded without related records keep what was stored before
+    JsonObject storedSearchIndex = requestJson.getJsonObject("searchIndex", new JsonObject());
 
-    if (request.hasItem()) {
+    if (request.getItem() == null) {
+      copyProperty(storedSearchIndex, searchIndex, ItemProperties.CALL_NUMBER_COMPONENTS);
+      copyProperty(storedSearchIndex, searchIndex, ItemProperties.SHELVING_ORDER);
+    } else if (request.hasItem()) {
       Item item = request.getItem();
       CallNumberComponents callNumberComponents = item.getCallNumberComponents();
       if (callNumberComponents != null) {
@@ -138,6 +143,8 @@ public class StoredRequestRepresentation {
     ServicePoint pickupServicePoint = request.getPickupServicePoint();
     if (pickupServicePoint != null) {
       write(searchIndex, "pickupServicePointName", pickupServicePoint.getName());
+    } else if (request.getPickupServicePointId() != null) {
+      copyProperty(storedSearchIndex, searchIndex, "pickupServicePointName");
     } else {
       logUnableToAddNullPropertiesToTheRequest("pickupServicePoint", requestJson);
     }
@@ -145,6 +152,12 @@ public class StoredRequestRepresentation {
     requestJson.put("searchIndex", searchIndex);
   }
 
+  private static void copyProperty(JsonObject from, JsonObject to, String propertyName) {
+    if (from.containsKey(propertyName)) {
+      to.put(propertyName, from.getValue(propertyName));
+    }
+  }
+
   private static void logUnableAddItemToTheRequest(JsonObject request, Item item) {
     String reason = isNull(item) ? "null" : "not found";
     String msg = "Unable to add item properties to the request: {}, item is {}";
@@ -1,5 +1,8 @@
 package org.folio.circulation.domain.events;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 import org.folio.kafka.services.KafkaTopic;
 
 import lombok.AllArgsConstructor;
@@ -14,12 +17,19 @@ public enum CirculationKafkaTopic implements KafkaTopic {
   ITEM_AGED_TO_LOST("ITEM_AGED_TO_LOST", 10),
   ITEM_CLAIMED_RETURNED("ITEM_CLAIMED_RETURNED", 10),
   LOAN_DUE_DATE_CHANGED("LOAN_DUE_DATE_CHANGED", 10),
-  LOAN_CLOSED("LOAN_CLOSED", 10);
+  LOAN_CLOSED("LOAN_CLOSED", 10),
+  LOG_RECORD("LOG_RECORD", 10);
 
   @ToString.Include
   private final String topic;
   private final int partitions;
 
+  public static Optional<CirculationKafkaTopic> forEventType(String eventType) {
+    return Arrays.stream(values())
+      .filter(topic -> topic.name().equals(eventType))
+      .findFirst();
+  }
+
   @Override
   public String moduleName() {
     return "circulation";
@@ -3,8 +3,6 @@ package org.folio.circulation.domain.mapper;
 import static org.folio.circulation.domain.mapper.UserMapper.createUserContext;
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 
-import java.util.Objects;
-
 import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -65,32 +63,18 @@ public class StaffSlipMapper {
     }
   }
 
-  public static JsonObject addPrimaryServicePointNameToStaffSlipContext(JsonObject entries,
-    ServicePoint primaryServicePoint, String slipsCollectionName) {
+  public static JsonObject addPrimaryServicePointNameToStaffSlip(JsonObject staffSlip,
+    ServicePoint primaryServicePoint) {
 
-    log.debug("addPrimaryServicePointNameToStaffSlipContext:: parameters " +
-      "entries: {}, primaryServicePoint: {}, slipsCollectionName: {}",
-      entries, primaryServicePoint, slipsCollectionName);
-    if (primaryServicePoint == null) {
-      log.info("addPrimaryServicePointNameToStaffSlipContext:: primaryServicePoint is null");
-      return entries;
+    if (primaryServicePoint == null || staffSlip == null) {
+      return staffSlip;
     }
-    log.info("addPrimaryServicePointNameToStaffSlipContext:: primaryServicePointName: {}",
-      primaryServicePoint::getName);
 
-    if (entries == null) {
-      log.info("addPrimaryServicePointNameToStaffSlipContext:: entries is null");
-      return new JsonObject();
+    final JsonObject item = staffSlip.getJsonObject(ITEM);
+    if (item != null) {
+      item.put("effectiveLocationPrimaryServicePointName", primaryServicePoint.getName());
     }
 
-    entries.getJsonArray(slipsCollectionName)
-      .stream()
-      .map(JsonObject.class::cast)
-      .map(pickSlip -> pickSlip.getJsonObject(ITEM))
-      .filter(Objects::nonNull)
-      .forEach(item -> item.put("effectiveLocationPrimaryServicePointName", primaryServicePoint.getName()));
-
-    log.debug("addPrimaryServicePointNameToStaffSlipContext:: Result entries: {}", entries);
-    return entries;
+    return staffSlip;
   }
 }
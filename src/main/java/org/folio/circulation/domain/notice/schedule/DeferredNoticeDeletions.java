@@ -0,0 +1,28 @@
+package org.folio.circulation.domain.notice.schedule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scheduled notices handled in the same batch, which are deleted together once every
+ * notice in the batch has been handled
+ */
+public final class DeferredNoticeDeletions {
+  private final Map<String, ScheduledNotice> notices = new ConcurrentHashMap<>();
+
+  public void add(ScheduledNotice notice) {
+    notices.put(notice.getId(), notice);
+  }
+
+  /**
+   * @return the notices added so far, which are no longer kept, so that each is only
+   * deleted once
+   */
+  public List<ScheduledNotice> takeAll() {
+    final List<ScheduledNotice> taken = List.copyOf(notices.values());
+    taken.forEach(notice -> notices.remove(notice.getId()));
+
+    return taken;
+  }
+}
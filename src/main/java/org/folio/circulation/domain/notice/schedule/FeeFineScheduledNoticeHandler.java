@@ -104,7 +104,7 @@ public class FeeFineScheduledNoticeHandler extends ScheduledNoticeHandler {
     ScheduledNotice notice = context.getNotice();
 
     return isNoticeIrrelevant(context) || !notice.getConfiguration().isRecurring()
-      ? deleteNoticeAsIrrelevant(notice)
+      ? deleteNoticeAsIrrelevant(context)
       : scheduledNoticesRepository.update(getNextRecurringNotice(notice));
   }
 
@@ -7,6 +7,7 @@ import static java.util.stream.Collectors.toList;
 import static org.folio.circulation.domain.notice.TemplateContextUtil.createGroupedNoticeContext;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
+import static org.folio.circulation.support.results.AsynchronousResultBindings.limitedBy;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
@@ -23,6 +24,7 @@ import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.domain.representations.logs.NoticeLogContextItem;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.HttpFailure;
+import org.folio.circulation.support.results.AsyncWorkLimiter;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -30,6 +32,8 @@ import io.vertx.core.json.JsonObject;
 public abstract class GroupedScheduledNoticeHandler {
 
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final AsyncWorkLimiter noticeGroupLimiter =
+    AsyncWorkLimiter.forBatch("grouped-scheduled-notices");
 
   private final ScheduledNoticeHandler singleNoticeHandler;
   private final ScheduledPatronNoticeService patronNoticeService;
@@ -49,16 +53,22 @@ public abstract class GroupedScheduledNoticeHandler {
     log.info("handleNotices:: processing {} group(s) of scheduled notices ({} notices total)",
       noticeGroups.size(), noticeGroups.stream().mapToInt(List::size).sum());
 
-    return allOf(noticeGroups, this::handleNoticeGroup);
+    final List<ScheduledNotice> notices = noticeGroups.stream()
+      .flatMap(List::stream)
+      .collect(toList());
+
+    return singleNoticeHandler.handleInBatch(notices,
+      deletions -> allOf(noticeGroups, limitedBy(noticeGroupLimiter,
+        group -> handleNoticeGroup(group, deletions))));
   }
 
   private CompletableFuture<Result<List<ScheduledNotice>>> handleNoticeGroup(
-    List<ScheduledNotice> notices) {
+    List<ScheduledNotice> notices, DeferredNoticeDeletions deletions) {
 
     log.debug("handleNoticeGroup:: processing group of {} scheduled notices", notices.size());
 
     //TODO: user and template are the same for all notices in the group, so they can be fetched only once
-    return allResultsOf(notices, this::buildContext)
+    return allResultsOf(notices, notice -> buildContext(notice, deletions))
       .thenCompose(this::discardContextBuildingFailures)
       .thenCompose(r -> r.after(this::sendGroupedNotice))
       .thenCompose(r -> r.after(this::updateGroupedNotice))
@@ -66,14 +76,16 @@ public abstract class GroupedScheduledNoticeHandler {
       .exceptionally(t -> handleException(t, notices));
   }
 
-  private CompletableFuture<Result<ScheduledNoticeContext>> buildContext(ScheduledNotice notice) {
+  private CompletableFuture<Result<ScheduledNoticeContext>> buildContext(ScheduledNotice notice,
+    DeferredNoticeDeletions deletions) {
+
     log.debug("buildContext:: building context for notice {}", notice);
 
-    return ofAsync(() -> new ScheduledNoticeContext(notice))
+    return ofAsync(() -> new ScheduledNoticeContext(notice).withDeferredDeletions(deletions))
       .thenCompose(r -> r.after(singleNoticeHandler::fetchData))
       .thenApply(r -> r.map(this::buildNoticeContextJson))
       .thenApply(r -> r.map(this::buildNoticeLogContextItem))
-      .thenCompose(r -> handleContextBuildingFailure(r, notice))
+      .thenCompose(r -> handleContextBuildingFailure(r, notice, deletions))
       .thenApply(r -> r.mapFailure(f -> singleNoticeHandler.publishErrorEvent(f, notice)));
   }
 
@@ -89,13 +101,14 @@ public abstract class GroupedScheduledNoticeHandler {
   }
 
   protected CompletableFuture<Result<ScheduledNoticeContext>> handleContextBuildingFailure(
-    Result<ScheduledNoticeContext> result, ScheduledNotice notice) {
+    Result<ScheduledNoticeContext> result, ScheduledNotice notice,
+    DeferredNoticeDeletions deletions) {
 
     if (result.failed()) {
       HttpFailure cause = result.cause();
       log.warn("handleContextBuildingFailure:: failed to build context: {}. Reason: {}", notice, cause);
 
-      return singleNoticeHandler.deleteNotice(notice, cause.toString())
+      return singleNoticeHandler.deleteNotice(notice, cause.toString(), deletions)
         .thenApply(r -> r.next(n -> result));
     }
 
@@ -6,6 +6,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.circulation.domain.FeeFine.lostItemFeeTypes;
 import static org.folio.circulation.domain.ItemStatus.CLAIMED_RETURNED;
@@ -23,16 +24,22 @@ import static org.folio.circulation.support.utils.DateTimeUtil.isBeforeMillis;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.circulation.domain.ItemStatus;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.domain.representations.logs.NoticeLogContextItem;
 import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RecordNotFoundFailure;
 import org.folio.circulation.support.http.client.CqlQuery;
@@ -44,12 +51,34 @@ import io.vertx.core.json.JsonObject;
 public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final LoanPolicyRepository loanPolicyRepository;
+  private final UserRepository userRepository;
   private final ZonedDateTime systemTime;
+  private final Map<String, Loan> prefetchedLoans = new ConcurrentHashMap<>();
 
   public LoanScheduledNoticeHandler(Clients clients, LoanRepository loanRepository) {
     super(clients, loanRepository);
     this.systemTime = ClockUtil.getZonedDateTime();
     this.loanPolicyRepository = new LoanPolicyRepository(clients);
+    this.userRepository = new UserRepository(clients);
+  }
+
+  @Override
+  protected CompletableFuture<Result<Void>> prefetchData(Collection<ScheduledNotice> notices) {
+    final Set<String> loanIds = notices.stream()
+      .map(ScheduledNotice::getLoanId)
+      .filter(StringUtils::isNotBlank)
+      .collect(toSet());
+
+    log.info("prefetchData:: fetching {} loans for scheduled notices", loanIds.size());
+
+    // Also fetches items and users, like fetching a single loan does
+    return loanRepository.findByIds(loanIds)
+      .thenCompose(r -> r.after(userRepository::findUsersForLoans))
+      .thenApply(mapResult(loans -> {
+        loans.getRecords().forEach(loan -> prefetchedLoans.put(loan.getId(), loan));
+
+        return null;
+      }));
   }
 
   @Override
@@ -108,7 +137,7 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
 
     if (!noticeConfig.isRecurring() || isNoticeIrrelevant(context)) {
       log.info("updateNotice:: notice {} is not recurring or irrelevant, deleting", notice.getId());
-      return deleteNoticeAsIrrelevant(notice);
+      return deleteNoticeAsIrrelevant(context);
     }
 
     ZonedDateTime recurringNoticeNextRunTime = noticeConfig
@@ -124,7 +153,7 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
     ScheduledNotice nextRecurringNotice = notice.withNextRunTime(recurringNoticeNextRunTime);
 
     if (nextRecurringNoticeIsNotRelevant(nextRecurringNotice, loan)) {
-      return deleteNoticeAsIrrelevant(notice);
+      return deleteNoticeAsIrrelevant(context);
     }
 
     log.info("updateNotice:: updating recurring notice {} with next run time {}",
@@ -137,8 +166,15 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
 
     log.info("fetchLoan:: fetching loan {} for scheduled notice", context.getNotice().getLoanId());
 
+    final String loanId = context.getNotice().getLoanId();
+    final Loan prefetchedLoan = prefetchedLoans.get(loanId);
+
     // Also fetches user, item and item-related records (holdings, instance, location, etc.)
-    return loanRepository.getById(context.getNotice().getLoanId())
+    final CompletableFuture<Result<Loan>> loan = prefetchedLoan != null
+      ? ofAsync(prefetchedLoan)
+      : loanRepository.getById(loanId);
+
+    return loan
       .thenCompose(r -> r.after(loanRepository::fetchLatestPatronInfoAddedComment))
       .thenCompose(r -> r.after(loanPolicyRepository::findPolicyForLoan))
       .thenApply(mapResult(context::withLoan))
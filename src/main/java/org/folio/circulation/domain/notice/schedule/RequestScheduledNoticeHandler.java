@@ -71,14 +71,14 @@ public abstract class RequestScheduledNoticeHandler extends ScheduledNoticeHandl
     if (request.isClosed() || isNoticeNonRecurring || isNoticeNoLongerRelevant(context)) {
       log.info("updateNotice:: deleting notice {} as irrelevant (closed={}, non-recurring={}, no longer relevant={})",
         notice.getId(), request.isClosed(), isNoticeNonRecurring, isNoticeNoLongerRelevant(context));
-      return deleteNoticeAsIrrelevant(notice);
+      return deleteNoticeAsIrrelevant(context);
     }
 
     ScheduledNotice nextRecurringNotice = updateNoticeNextRunTime(notice);
 
     if (nextRecurringNoticeIsNotRelevant(nextRecurringNotice, request)) {
       log.info("updateNotice:: next recurring notice {} is not relevant, deleting", notice.getId());
-      return deleteNoticeAsIrrelevant(notice);
+      return deleteNoticeAsIrrelevant(context);
     } else {
       log.info("updateNotice:: updating recurring notice {} with next run time {}",
         nextRecurringNotice.getId(), nextRecurringNotice.getNextRunTime());
@@ -97,7 +97,7 @@ public class ScheduledDigitalReminderHandler extends LoanScheduledNoticeHandler
     return ofAsync(context)
       .thenCompose(r -> r.after(this::fetchNoticeData))
       .thenCompose(r -> r.after(when(this::isOpenDay, this::processNotice, this::skip)))
-      .thenCompose(r -> handleResult(r, notice))
+      .thenCompose(r -> handleResult(r, context))
       .exceptionally(t -> handleException(t, notice));
   }
 
@@ -275,10 +275,10 @@ public class ScheduledDigitalReminderHandler extends LoanScheduledNoticeHandler
     RemindersPolicy.ReminderConfig nextReminder = context.getLoan().getNextReminder();
     if (nextReminder == null) {
       log.info("updateNotice:: no more reminders scheduled, deleting notice {}", context.getNotice().getId());
-      return deleteNotice(context.getNotice(), "no more reminders scheduled");
+      return deleteNotice(context, "no more reminders scheduled");
     } else if (isNoticeIrrelevant(context)) {
       log.info("updateNotice:: notice became irrelevant, deleting notice {}", context.getNotice().getId());
-      return deleteNotice(context.getNotice(), "further reminder notices became irrelevant");
+      return deleteNotice(context, "further reminder notices became irrelevant");
     } else {
       log.info("updateNotice:: scheduling next reminder for notice {}", context.getNotice().getId());
       return findNextRuntimeAndBuildNotice(context, nextReminder)
@@ -27,4 +27,5 @@ public class ScheduledNoticeContext {
   private boolean lostItemFeesForAgedToLostNoticeExist;
   private JsonObject noticeContext;
   private NoticeLogContextItem noticeLogContextItem;
+  private DeferredNoticeDeletions deferredDeletions;
 }
@@ -3,8 +3,11 @@ package org.folio.circulation.domain.notice.schedule;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toSet;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
+import static org.folio.circulation.support.results.AsynchronousResultBindings.limitedBy;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -13,15 +16,17 @@ import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
 import org.folio.circulation.domain.ItemRelatedRecord;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.Request;
@@ -45,7 +50,11 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.RecordNotFoundFailure;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.fetching.CqlIndexValuesFinder;
+import org.folio.circulation.support.fetching.CqlQueryFinder;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
+import org.folio.circulation.support.results.AsyncWorkLimiter;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -60,15 +69,17 @@ public abstract class ScheduledNoticeHandler {
   protected final CollectionResourceClient templateNoticesClient;
   private final ScheduledPatronNoticeService patronNoticeService;
   private final EventPublisher eventPublisher;
-  private final Map<String, PatronNoticePolicy> patronNoticePolicyCache = new ConcurrentHashMap<>();
+  private final Set<String> prefetchedTemplateIds = ConcurrentHashMap.newKeySet();
   private static final AppliedRuleConditions NO_RULE_CONDITIONS =
     new AppliedRuleConditions(false, false, false);
+  private static final AsyncWorkLimiter noticeLimiter =
+    AsyncWorkLimiter.forBatch("scheduled-notices");
 
   protected ScheduledNoticeHandler(Clients clients, LoanRepository loanRepository) {
     this.scheduledNoticesRepository = ScheduledNoticesRepository.using(clients);
     this.loanRepository = loanRepository;
     this.accountRepository = new AccountRepository(clients);
-    this.patronNoticePolicyRepository = new PatronNoticePolicyRepository(clients);
+    this.patronNoticePolicyRepository = PatronNoticePolicyRepository.forBatch(clients);
     this.templateNoticesClient = clients.noticeTemplatesClient();
     this.patronNoticeService = new ScheduledPatronNoticeService(clients);
     this.eventPublisher = new EventPublisher(clients);
@@ -79,7 +90,9 @@ public abstract class ScheduledNoticeHandler {
 
     log.debug("handleContexts:: handling {} notice contexts", contexts.size());
 
-    return allOf(contexts, this::handleContext);
+    return handleInBatch(contexts.stream().map(ScheduledNoticeContext::getNotice).toList(),
+      deletions -> allOf(contexts, limitedBy(noticeLimiter,
+        context -> handleContext(context.withDeferredDeletions(deletions)))));
   }
 
   public CompletableFuture<Result<List<ScheduledNotice>>> handleNotices(
@@ -87,12 +100,123 @@ public abstract class ScheduledNoticeHandler {
 
     log.debug("handleNotices:: handling {} scheduled notices", scheduledNotices.size());
 
-    return allOf(scheduledNotices, this::handleNotice);
+    return handleInBatch(scheduledNotices,
+      deletions -> allOf(scheduledNotices, limitedBy(noticeLimiter,
+        notice -> handleNotice(notice, deletions))));
   }
 
-  private CompletableFuture<Result<ScheduledNotice>> handleNotice(ScheduledNotice notice) {
+  /**
+   * In batch mode, the templates and other records needed by the notices are fetched
+   * for all of them together beforehand, and notices are deleted together afterwards,
+   * whether or not handling them succeeded
+   *
+   * Notices are handled with the deletions deferred for the batch, or with none
+   * when they are deleted as they are handled
+   */
+  <T> CompletableFuture<Result<T>> handleInBatch(Collection<ScheduledNotice> notices,
+    Function<DeferredNoticeDeletions, CompletableFuture<Result<T>>> handleEachNotice) {
+
+    if (!Environment.getScheduledNoticesBatchProcessingEnabled() || notices.size() < 2) {
+      return handleEachNotice.apply(null);
+    }
+
+    log.info("handleInBatch:: handling {} scheduled notices in batch mode", notices.size());
+
+    final DeferredNoticeDeletions deletions = new DeferredNoticeDeletions();
+
+    return prefetchTemplates(notices)
+      .thenApply(r -> ignorePrefetchFailure(r, "templates"))
+      .thenCompose(notUsed -> prefetchData(notices))
+      .thenApply(r -> ignorePrefetchFailure(r, "notice data"))
+      .thenCompose(notUsed -> handleEachNotice.apply(deletions))
+      .handle((result, throwable) -> deleteDeferredNotices(deletions)
+        .thenCompose(deletion -> throwable != null
+          ? CompletableFuture.<Result<T>>failedFuture(throwable)
+          : completedFuture(result.next(handled -> deletion.map(notUsed -> handled)))))
+      .thenCompose(identity());
+  }
+
+  private CompletableFuture<Result<Void>> prefetchTemplates(
+    Collection<ScheduledNotice> notices) {
+
+    final Set<String> templateIds = notices.stream()
+      .map(ScheduledNotice::getConfiguration)
+      .filter(Objects::nonNull)
+      .map(ScheduledNoticeConfig::getTemplateId)
+      .filter(StringUtils::isNotBlank)
+      .collect(toSet());
+
+    final CqlQueryFinder<JsonObject> templatesFinder = new CqlQueryFinder<>(
+      templateNoticesClient, "templates", identity());
+
+    return new CqlIndexValuesFinder<>(templatesFinder)
+      .findByIds(templateIds)
+      .thenApply(mapResult(templates -> {
+        templates.getRecords().forEach(template ->
+          prefetchedTemplateIds.add(template.getString("id")));
+
+        return null;
+      }));
+  }
+
+  /**
+   * Fetches records needed by many of the notices together, before the notices are handled
+   */
+  protected CompletableFuture<Result<Void>> prefetchData(Collection<ScheduledNotice> notices) {
+    return ofAsync(() -> null);
+  }
+
+  private static Result<Void> ignorePrefetchFailure(Result<Void> result, String description) {
+    if (result.failed()) {
+      log.warn("ignorePrefetchFailure:: failed to prefetch {}, notices will fetch it " +
+        "individually: {}", description, result.cause());
+    }
+
+    return succeeded(null);
+  }
+
+  /**
+   * When the notices cannot be deleted together, each is deleted separately,
+   * so that a notice is only treated as handled once it has been deleted.
+   * Notices which could not be deleted either way are logged, and the failure returned
+   */
+  private CompletableFuture<Result<Void>> deleteDeferredNotices(
+    DeferredNoticeDeletions deletions) {
+
+    final List<ScheduledNotice> notices = deletions.takeAll();
+
+    if (notices.isEmpty()) {
+      return ofAsync(() -> null);
+    }
+
+    log.info("deleteDeferredNotices:: deleting {} scheduled notices", notices.size());
+
+    return scheduledNoticesRepository.deleteAll(notices)
+      .thenCompose(deletion -> {
+        if (deletion.succeeded()) {
+          return completedFuture(deletion);
+        }
+
+        log.warn("deleteDeferredNotices:: failed to delete scheduled notices together, " +
+          "deleting each separately: {}", deletion.cause());
+
+        return allOf(notices, limitedBy(noticeLimiter, scheduledNoticesRepository::delete))
+          .thenApply(r -> r.<Void>map(deleted -> null));
+      })
+      .exceptionally(t -> failed(new ServerErrorFailure(t)))
+      .thenApply(r -> r.mapFailure(failure -> {
+        log.error("deleteDeferredNotices:: failed to delete scheduled notices {}: {}",
+          () -> notices.stream().map(ScheduledNotice::getId).toList(), () -> failure);
+
+        return failed(failure);
+      }));
+  }
+
+  private CompletableFuture<Result<ScheduledNotice>> handleNotice(ScheduledNotice notice,
+    DeferredNoticeDeletions deletions) {
+
     log.debug("handleNotice:: processing scheduled notice {}", notice::getId);
-    return handleContext(new ScheduledNoticeContext(notice));
+    return handleContext(new ScheduledNoticeContext(notice).withDeferredDeletions(deletions));
   }
 
   protected CompletableFuture<Result<ScheduledNotice>> handleContext(ScheduledNoticeContext context) {
@@ -103,7 +227,7 @@ public abstract class ScheduledNoticeHandler {
       .thenCompose(r -> r.after(this::fetchNoticeData))
       .thenCompose(r -> r.after(this::sendNotice))
       .thenCompose(r -> r.after(this::updateNotice))
-      .thenCompose(r -> handleResult(r, notice))
+      .thenCompose(r -> handleResult(r, context))
       .exceptionally(t -> handleException(t, notice));
   }
 
@@ -166,8 +290,26 @@ public abstract class ScheduledNoticeHandler {
     return failed(failure);
   }
 
+  protected CompletableFuture<Result<ScheduledNotice>> deleteNotice(
+    ScheduledNoticeContext context, String reason) {
+
+    return deleteNotice(context.getNotice(), reason, context.getDeferredDeletions());
+  }
+
+  /**
+   * @param deletions the deletions deferred for the batch the notice is handled in, if any
+   */
   protected CompletableFuture<Result<ScheduledNotice>> deleteNotice(ScheduledNotice notice,
-    String reason) {
+    String reason, DeferredNoticeDeletions deletions) {
+
+    if (deletions != null) {
+      log.info("deleteNotice:: scheduled notice {} will be deleted with the batch. Reason: {}",
+        notice::getId, () -> reason);
+
+      deletions.add(notice);
+
+      return ofAsync(notice);
+    }
 
     log.info("deleteNotice:: deleting scheduled notice {}. Reason: {}", notice::getId, () -> reason);
 
@@ -175,11 +317,12 @@ public abstract class ScheduledNoticeHandler {
   }
 
   protected CompletableFuture<Result<ScheduledNotice>> deleteNoticeAsIrrelevant(
-    ScheduledNotice notice) {
+    ScheduledNoticeContext context) {
 
-    log.info("deleteNoticeAsIrrelevant:: deleting notice {} as irrelevant", notice != null ? notice.getId() : "null");
+    log.info("deleteNoticeAsIrrelevant:: deleting notice {} as irrelevant",
+      context.getNotice().getId());
 
-    return deleteNotice(notice, "notice is no longer relevant");
+    return deleteNotice(context, "notice is no longer relevant");
   }
 
   protected Result<ScheduledNoticeContext> failWhenLoanIsIncomplete(
@@ -261,7 +404,7 @@ public abstract class ScheduledNoticeHandler {
       return completedFuture(TRUE);
     }
 
-    return lookupPatronNoticePolicy(policyId)
+    return patronNoticePolicyRepository.lookupPolicy(policyId, NO_RULE_CONDITIONS)
       .thenApply(policyLookup -> shouldSend(context, policyLookup));
   }
 
@@ -278,28 +421,6 @@ public abstract class ScheduledNoticeHandler {
     return evaluatePreference(context, policyLookup.value());
   }
 
-  private CompletableFuture<Result<PatronNoticePolicy>> lookupPatronNoticePolicy(String policyId) {
-    var cachedPolicy = patronNoticePolicyCache.get(policyId);
-
-    if (cachedPolicy != null) {
-      log.debug("lookupPatronNoticePolicy:: cache hit for policy {}", policyId);
-      return ofAsync(() -> cachedPolicy);
-    }
-
-    return patronNoticePolicyRepository.lookupPolicy(policyId, NO_RULE_CONDITIONS)
-      .thenApply(result -> cachePolicy(policyId, result));
-  }
-
-  private Result<PatronNoticePolicy> cachePolicy(String policyId,
-    Result<PatronNoticePolicy> result) {
-
-    if (result.succeeded() && result.value() != null) {
-      patronNoticePolicyCache.put(policyId, result.value());
-    }
-
-    return result;
-  }
-
   private boolean evaluatePreference(ScheduledNoticeContext context, PatronNoticePolicy policy) {
     var notice = context.getNotice();
     var noticeConfig = notice.getConfiguration();
@@ -419,6 +540,12 @@ public abstract class ScheduledNoticeHandler {
     ScheduledNoticeContext context) {
 
     String templateId = context.getNotice().getConfiguration().getTemplateId();
+
+    if (prefetchedTemplateIds.contains(templateId)) {
+      log.debug("fetchTemplate:: template {} has already been fetched", templateId);
+      return ofAsync(context);
+    }
+
     log.info("fetchTemplate:: fetching template {} for notice {}", templateId, context.getNotice().getId());
 
     var responseInterpreter = new ResponseInterpreter<ScheduledNoticeContext>()
@@ -432,7 +559,9 @@ public abstract class ScheduledNoticeHandler {
   }
 
   protected CompletableFuture<Result<ScheduledNotice>> handleResult(Result<ScheduledNotice> result,
-    ScheduledNotice notice) {
+    ScheduledNoticeContext context) {
+
+    final ScheduledNotice notice = context.getNotice();
 
     if (result.succeeded()) {
       log.info("handleResult:: finished processing scheduled notice {}", notice.getId());
@@ -442,7 +571,7 @@ public abstract class ScheduledNoticeHandler {
     HttpFailure failure = result.cause();
     log.error("handleResult:: processing scheduled notice {} failed: {}", notice.getId(), failure);
 
-    return deleteNotice(notice, failure.toString());
+    return deleteNotice(context, failure.toString());
   }
 
   protected Result<ScheduledNotice> handleException(Throwable throwable, ScheduledNotice notice) {
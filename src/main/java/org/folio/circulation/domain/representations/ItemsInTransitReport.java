@@ -1,16 +1,12 @@
 package org.folio.circulation.domain.representations;
 
-import static java.util.Comparator.comparing;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
 import static org.folio.circulation.domain.representations.CallNumberComponentsRepresentation.createCallNumberComponents;
 import static org.folio.circulation.domain.representations.ContributorsToNamesMapper.mapContributorNamesToJson;
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 import static org.folio.circulation.support.json.JsonPropertyWriter.writeNamedObject;
 
 import java.lang.invoke.MethodHandles;
-import java.util.Comparator;
-import java.util.List;
 import java.util.UUID;
 
 import org.apache.logging.log4j.LogManager;
@@ -37,30 +33,7 @@ public class ItemsInTransitReport {
 
   private final ItemsInTransitReportContext reportContext;
 
-  public JsonObject build() {
-    log.debug("build:: ");
-    List<JsonObject> reportEntries = reportContext.getItems().values().stream()
-      .sorted(sortByCheckinServicePointComparator())
-      .map(this::buildEntry)
-      .collect(toList());
-
-    JsonObject result = new JsonObject()
-      .put("items", new JsonArray(reportEntries))
-      .put("totalRecords", reportEntries.size());
-    log.debug("build:: result {}", result);
-    return result;
-  }
-
-  private Comparator<Item> sortByCheckinServicePointComparator() {
-    log.debug("sortByCheckinServicePointComparator:: ");
-    return comparing(item -> ofNullable(reportContext.getLoans().get(item.getItemId()))
-      .map(Loan::getCheckInServicePointId)
-      .map(id -> reportContext.getServicePoints().get(id))
-      .map(ServicePoint::getName)
-      .orElse(null), Comparator.nullsLast(String::compareTo));
-  }
-
-  private JsonObject buildEntry(Item item) {
+  public JsonObject buildEntry(Item item) {
     log.debug("buildEntry:: parameters item: {}", item);
 
     if (item == null || item.isNotFound()) {
@@ -15,7 +15,10 @@ public class LoanProperties {
   public static final String CHECKOUT_SERVICE_POINT_ID = "checkoutServicePointId";
   public static final String ACTION_COMMENT = "actionComment";
   public static final String ITEM_LOCATION_ID_AT_CHECKOUT = "itemEffectiveLocationIdAtCheckOut";
+  public static final String ITEM = "item";
   public static final String BORROWER = "borrower";
+  public static final String CHECKIN_SERVICE_POINT = "checkinServicePoint";
+  public static final String CHECKOUT_SERVICE_POINT = "checkoutServicePoint";
   public static final String LOAN_POLICY = "loanPolicy";
   public static final String OVERDUE_FINE_POLICY = "overdueFinePolicy";
   public static final String LOST_ITEM_POLICY = "lostItemPolicy";
@@ -23,4 +23,10 @@ public class RequestProperties {
   public static final String FULFILLMENT_PREFERENCE = "fulfillmentPreference";
   public static final String PICKUP_SERVICE_POINT_ID = "pickupServicePointId";
   public static final String ITEM_LOCATION_CODE = "itemLocationCode";
+  public static final String ITEM = "item";
+  public static final String INSTANCE = "instance";
+  public static final String REQUESTER = "requester";
+  public static final String PROXY = "proxy";
+  public static final String LOAN = "loan";
+  public static final String PICKUP_SERVICE_POINT = "pickupServicePoint";
 }
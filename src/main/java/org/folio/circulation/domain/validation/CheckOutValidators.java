@@ -155,38 +155,32 @@ public class CheckOutValidators {
         USER_IS_INACTIVE, result));
   }
 
+  /**
+   * Checks both manual and automated patron blocks at the same time,
+   * handling the outcomes in the same order as when checked one after the other
+   */
   public CompletableFuture<Result<LoanAndRelatedRecords>>
-  refuseWhenCheckOutActionIsBlockedAutomaticallyForPatron(Result<LoanAndRelatedRecords> result) {
+  refuseWhenCheckOutActionIsBlockedForPatron(Result<LoanAndRelatedRecords> result) {
 
-    log.debug("refuseWhenCheckOutActionIsBlockedAutomaticallyForPatron:: parameters result: {}",
+    log.debug("refuseWhenCheckOutActionIsBlockedForPatron:: parameters result: {}",
       () -> resultAsString(result));
 
     if (errorHandler.hasAny(FAILED_TO_FETCH_USER)) {
-      log.info("refuseWhenCheckOutActionIsBlockedAutomaticallyForPatron:: error handler has {}",
+      log.info("refuseWhenCheckOutActionIsBlockedForPatron:: error handler has {}",
         FAILED_TO_FETCH_USER);
       return completedFuture(result);
     }
 
-    return result.after(l -> automatedPatronBlocksValidator.validate(l)
-      .thenApply(r -> errorHandler.handleValidationResult(r,
-        automatedPatronBlocksValidator.getErrorType(), result)));
-  }
-
-  public CompletableFuture<Result<LoanAndRelatedRecords>>
-  refuseWhenCheckOutActionIsBlockedManuallyForPatron(Result<LoanAndRelatedRecords> result) {
-
-    log.debug("refuseWhenCheckOutActionIsBlockedManuallyForPatron:: parameters result: {}",
-      () -> resultAsString(result));
-
-    if (errorHandler.hasAny(FAILED_TO_FETCH_USER)) {
-      log.info("refuseWhenCheckOutActionIsBlockedManuallyForPatron:: error handler has {}",
-        FAILED_TO_FETCH_USER);
-      return completedFuture(result);
-    }
+    return result.after(l -> {
+      final var manualBlocks = manualPatronBlocksValidator.validate(l);
+      final var automatedBlocks = automatedPatronBlocksValidator.validate(l);
 
-    return result.after(l -> manualPatronBlocksValidator.validate(l)
-      .thenApply(r -> errorHandler.handleValidationResult(
-        r, manualPatronBlocksValidator.getErrorType(), result)));
+      return manualBlocks.thenCombine(automatedBlocks, (manual, automated) ->
+        errorHandler.handleValidationResult(manual,
+            manualPatronBlocksValidator.getErrorType(), result)
+          .next(ignored -> errorHandler.handleValidationResult(automated,
+            automatedPatronBlocksValidator.getErrorType(), result)));
+    });
   }
 
   public Result<LoanAndRelatedRecords> refuseWhenProxyUserIsInactive(
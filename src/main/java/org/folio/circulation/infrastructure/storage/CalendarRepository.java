@@ -1,7 +1,10 @@
 package org.folio.circulation.infrastructure.storage;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
 import static org.folio.circulation.support.ErrorCode.CALENDAR_OPEN_PERIODS_NOT_FOUND;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -14,6 +17,7 @@ import java.util.function.UnaryOperator;
 import org.folio.circulation.AdjacentOpeningDays;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.OpeningDay;
+import org.folio.circulation.domain.OpeningPeriodIndex;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
@@ -41,14 +45,41 @@ public class CalendarRepository {
 
   private final CollectionResourceClient calendarClient;
   private final SettingsRepository settingsRepository;
+  private final String tenantId;
+  private final ServicePointCalendarCache calendarCache;
 
   public CalendarRepository(Clients clients) {
+    this(clients, ServicePointCalendarCache.getInstance());
+  }
+
+  CalendarRepository(Clients clients, ServicePointCalendarCache calendarCache) {
     this.calendarClient = clients.calendarStorageClient();
     this.settingsRepository = new SettingsRepository(clients);
+    this.tenantId = clients.tenantId();
+    this.calendarCache = calendarCache;
   }
 
   public CompletableFuture<Result<AdjacentOpeningDays>> lookupOpeningDays(
     LocalDate requestedDate, String servicePointId) {
+
+    final var keptOpeningDays = calendarCache.getAdjacentOpeningDays(tenantId,
+      servicePointId, requestedDate);
+
+    if (keptOpeningDays.isPresent()) {
+      return ofAsync(keptOpeningDays.get());
+    }
+
+    return fetchAdjacentOpeningDays(requestedDate, servicePointId)
+      .thenApply(r -> r.map(openingDays -> {
+        calendarCache.putAdjacentOpeningDays(tenantId, servicePointId, requestedDate,
+          openingDays);
+        return openingDays;
+      }));
+  }
+
+  private CompletableFuture<Result<AdjacentOpeningDays>> fetchAdjacentOpeningDays(
+    LocalDate requestedDate, String servicePointId) {
+
     String path = String.format(SURROUNDING_DATES_PATH, servicePointId, requestedDate);
 
     // TODO: Validation error should have parameters
@@ -65,13 +96,73 @@ public class CalendarRepository {
       .fetch(path);
   }
 
+  /**
+   * @return the minutes the service point is open between the dates, only fetching
+   * opening hours for the dates that are not already kept for the service point
+   */
+  public CompletableFuture<Result<Integer>> getOpenMinutesBetweenDates(String servicePointId,
+    ZonedDateTime startDate, ZonedDateTime endDate, ZoneId zoneId) {
+
+    final LocalDate firstDate = startDate.withZoneSameInstant(zoneId).toLocalDate();
+    final LocalDate lastDate = endDate.withZoneSameInstant(zoneId).toLocalDate();
+
+    return lookupOpeningPeriods(servicePointId, firstDate, lastDate)
+      .thenApply(r -> r.map(periods -> periods.openMinutesBetween(startDate, endDate)));
+  }
+
+  private CompletableFuture<Result<OpeningPeriodIndex>> lookupOpeningPeriods(
+    String servicePointId, LocalDate firstDate, LocalDate lastDate) {
+
+    final var keptPeriods = calendarCache.getOpeningPeriods(tenantId, servicePointId);
+
+    if (keptPeriods.isEmpty()) {
+      return fetchOpeningPeriods(servicePointId, firstDate, lastDate);
+    }
+
+    final OpeningPeriodIndex periods = keptPeriods.get();
+    CompletableFuture<Result<OpeningPeriodIndex>> result = completedFuture(succeeded(periods));
+
+    // dates between those requested and those kept are fetched too, so the periods stay continuous
+    if (firstDate.isBefore(periods.getFirstDate())) {
+      result = result.thenCompose(r -> r.combineAfter(() -> fetchOpeningPeriods(servicePointId,
+        firstDate, periods.getFirstDate().minusDays(1)), OpeningPeriodIndex::combine));
+    }
+
+    if (lastDate.isAfter(periods.getLastDate())) {
+      result = result.thenCompose(r -> r.combineAfter(() -> fetchOpeningPeriods(servicePointId,
+        periods.getLastDate().plusDays(1), lastDate), OpeningPeriodIndex::combine));
+    }
+
+    return result;
+  }
+
+  private CompletableFuture<Result<OpeningPeriodIndex>> fetchOpeningPeriods(
+    String servicePointId, LocalDate firstDate, LocalDate lastDate) {
+
+    return fetchOpeningDays(servicePointId, firstDate, lastDate)
+      .thenApply(r -> r.map(openingDays -> {
+        final var periods = OpeningPeriodIndex.of(firstDate, lastDate, openingDays);
+        calendarCache.addOpeningPeriods(tenantId, servicePointId, periods);
+        return periods;
+      }));
+  }
+
   public CompletableFuture<Result<Collection<OpeningDay>>> fetchOpeningDaysBetweenDates(
     String servicePointId, ZonedDateTime startDate, ZonedDateTime endDate, ZoneId zoneId) {
+
+    return fetchOpeningDays(servicePointId,
+      startDate.withZoneSameInstant(zoneId).toLocalDate(),
+      endDate.withZoneSameInstant(zoneId).toLocalDate());
+  }
+
+  private CompletableFuture<Result<Collection<OpeningDay>>> fetchOpeningDays(
+    String servicePointId, LocalDate firstDate, LocalDate lastDate) {
+
     String path = String.format(
       ALL_DATES_PATH,
       servicePointId,
-      startDate.withZoneSameInstant(zoneId).toLocalDate(),
-      endDate.withZoneSameInstant(zoneId).toLocalDate(),
+      firstDate,
+      lastDate,
       Integer.MAX_VALUE
     );
 
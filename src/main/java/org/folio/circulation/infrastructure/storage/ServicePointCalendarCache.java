@@ -0,0 +1,191 @@
+package org.folio.circulation.infrastructure.storage;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.circulation.AdjacentOpeningDays;
+import org.folio.circulation.domain.OpeningPeriodIndex;
+import org.folio.circulation.rules.cache.BoundedExpiringCache;
+
+import lombok.Value;
+
+/**
+ * Service point calendars kept for each tenant, shared by requests and batch processes
+ *
+ * The opening periods of a service point are extended as calendars for more dates are
+ * fetched, and expire a fixed time after they were first fetched, however often they
+ * have been extended. The days either side of a date are kept for each date
+ *
+ * Disabled unless a time to live is configured
+ */
+public final class ServicePointCalendarCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final ServicePointCalendarCache instance = new ServicePointCalendarCache(
+    Environment.getCalendarCacheMaximumSize(),
+    Environment.getCalendarCacheTimeToLiveSeconds() * 1000L, System::currentTimeMillis);
+
+  private final int maximumSizePerTenant;
+  private final long timeToLiveMillis;
+  private final LongSupplier currentTimeMillis;
+  /** opening periods for each tenantId, keyed by service point */
+  private final Map<String, BoundedExpiringCache<String, OpeningPeriods>> openingPeriods =
+    new ConcurrentHashMap<>();
+  /** days either side of a date for each tenantId, keyed by service point and date */
+  private final Map<String, BoundedExpiringCache<String, AdjacentOpeningDays>> adjacentOpeningDays =
+    new ConcurrentHashMap<>();
+
+  public static ServicePointCalendarCache getInstance() {
+    return instance;
+  }
+
+  ServicePointCalendarCache(int maximumSizePerTenant, long timeToLiveMillis,
+    LongSupplier currentTimeMillis) {
+
+    this.maximumSizePerTenant = maximumSizePerTenant;
+    this.timeToLiveMillis = timeToLiveMillis;
+    this.currentTimeMillis = currentTimeMillis;
+  }
+
+  public boolean isEnabled() {
+    return maximumSizePerTenant > 0 && timeToLiveMillis > 0;
+  }
+
+  public Optional<OpeningPeriodIndex> getOpeningPeriods(String tenantId, String servicePointId) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+
+    final var cache = forTenant(openingPeriods, tenantId);
+    final var cached = cache.get(servicePointId);
+
+    if (cached.isPresent() && hasExpired(cached.get())) {
+      log.debug("getOpeningPeriods:: opening periods for service point {} have expired",
+        servicePointId);
+      cache.invalidate(servicePointId);
+
+      return Optional.empty();
+    }
+
+    return cached.map(OpeningPeriods::getIndex);
+  }
+
+  /**
+   * Keeps the periods of the index, added to those already kept for the service point
+   * when they are for the dates immediately before or after them
+   *
+   * @return the periods now kept for the service point
+   */
+  public OpeningPeriodIndex addOpeningPeriods(String tenantId, String servicePointId,
+    OpeningPeriodIndex index) {
+
+    if (!isEnabled()) {
+      return index;
+    }
+
+    final var cache = forTenant(openingPeriods, tenantId);
+
+    synchronized (cache) {
+      final var combined = cache.get(servicePointId)
+        .filter(existing -> !hasExpired(existing))
+        .map(existing -> addTo(existing, index))
+        .orElseGet(() -> new OpeningPeriods(index, currentTimeMillis.getAsLong()));
+
+      cache.put(servicePointId, combined);
+
+      log.debug("addOpeningPeriods:: {} periods from {} to {} for service point {}",
+        () -> combined.getIndex().size(), () -> combined.getIndex().getFirstDate(),
+        () -> combined.getIndex().getLastDate(), () -> servicePointId);
+
+      return combined.getIndex();
+    }
+  }
+
+  public Optional<AdjacentOpeningDays> getAdjacentOpeningDays(String tenantId,
+    String servicePointId, LocalDate date) {
+
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+
+    return forTenant(adjacentOpeningDays, tenantId).get(adjacentKey(servicePointId, date));
+  }
+
+  public void putAdjacentOpeningDays(String tenantId, String servicePointId, LocalDate date,
+    AdjacentOpeningDays openingDays) {
+
+    if (isEnabled()) {
+      forTenant(adjacentOpeningDays, tenantId).put(adjacentKey(servicePointId, date),
+        openingDays);
+    }
+  }
+
+  public void invalidate(String tenantId) {
+    log.info("invalidate:: invalidating calendars for tenant {}", tenantId);
+    openingPeriods.remove(tenantId);
+    adjacentOpeningDays.remove(tenantId);
+  }
+
+  public void dropCache() {
+    openingPeriods.clear();
+    adjacentOpeningDays.clear();
+  }
+
+  public long getHitCount() {
+    return openingPeriods.values().stream().mapToLong(BoundedExpiringCache::getHitCount).sum()
+      + adjacentOpeningDays.values().stream().mapToLong(BoundedExpiringCache::getHitCount).sum();
+  }
+
+  public long getMissCount() {
+    return openingPeriods.values().stream().mapToLong(BoundedExpiringCache::getMissCount).sum()
+      + adjacentOpeningDays.values().stream().mapToLong(BoundedExpiringCache::getMissCount).sum();
+  }
+
+  /**
+   * Periods for dates already kept (fetched by a concurrent request) are not added again,
+   * and periods for dates that are not next to those kept replace them
+   */
+  private OpeningPeriods addTo(OpeningPeriods existing, OpeningPeriodIndex index) {
+    final var existingIndex = existing.getIndex();
+
+    if (existingIndex.covers(index.getFirstDate(), index.getLastDate())) {
+      return existing;
+    }
+
+    if (index.getLastDate().plusDays(1).equals(existingIndex.getFirstDate())
+      || existingIndex.getLastDate().plusDays(1).equals(index.getFirstDate())) {
+
+      return new OpeningPeriods(existingIndex.combine(index), existing.getFetchedAt());
+    }
+
+    return new OpeningPeriods(index, currentTimeMillis.getAsLong());
+  }
+
+  private boolean hasExpired(OpeningPeriods periods) {
+    return currentTimeMillis.getAsLong() - periods.getFetchedAt() >= timeToLiveMillis;
+  }
+
+  private static String adjacentKey(String servicePointId, LocalDate date) {
+    return servicePointId + "/" + date;
+  }
+
+  private <V> BoundedExpiringCache<String, V> forTenant(
+    Map<String, BoundedExpiringCache<String, V>> caches, String tenantId) {
+
+    return caches.computeIfAbsent(tenantId,
+      key -> new BoundedExpiringCache<>(maximumSizePerTenant, timeToLiveMillis));
+  }
+
+  @Value
+  private static class OpeningPeriods {
+    OpeningPeriodIndex index;
+    long fetchedAt;
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.circulation.infrastructure.storage.inventory;
 
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.http.client.Offset.offset;
@@ -7,6 +8,7 @@ import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -18,14 +20,18 @@ import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.storage.mappers.ItemMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.GetManyRecordsClient;
+import org.folio.circulation.support.fetching.GetManyRecordsRepository;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.Offset;
+import org.folio.circulation.support.http.client.PageLimit;
 
-public class ItemReportRepository {
+public class ItemReportRepository implements GetManyRecordsRepository<Item> {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final GetManyRecordsClient itemsClient;
 
   private static final int PAGE_LIMIT = 1000;
+  private static final String ITEMS_PROPERTY_NAME = "items";
 
   public ItemReportRepository(Clients clients) {
     itemsClient = clients.itemsStorage();
@@ -86,6 +92,32 @@ public class ItemReportRepository {
       .after(query -> itemsClient.getMany(query, limit(PAGE_LIMIT),
         offset(pageOffset)))
       .thenApply(result -> result
-        .next(response -> MultipleRecords.from(response, mapper::toDomain, "items")));
+        .next(response -> MultipleRecords.from(response, mapper::toDomain, ITEMS_PROPERTY_NAME)));
+  }
+
+  @Override
+  public CompletableFuture<Result<MultipleRecords<Item>>> getMany(CqlQuery cqlQuery,
+    PageLimit pageLimit, Offset offset) {
+
+    log.debug("getMany:: parameters cqlQuery: {}, pageLimit: {}, offset: {}",
+      cqlQuery, pageLimit, offset);
+
+    final var mapper = new ItemMapper();
+
+    return itemsClient.getMany(cqlQuery, pageLimit, offset)
+      .thenApply(result -> result
+        .next(response -> MultipleRecords.from(response, mapper::toDomain, ITEMS_PROPERTY_NAME)));
+  }
+
+  /**
+   * Fetches items without any of their related records
+   */
+  public CompletableFuture<Result<MultipleRecords<Item>>> findByIds(Collection<String> itemIds) {
+    log.debug("findByIds:: fetching {} items", itemIds.size());
+
+    final var mapper = new ItemMapper();
+
+    return findWithMultipleCqlIndexValues(itemsClient, ITEMS_PROPERTY_NAME, mapper::toDomain)
+      .findByIds(itemIds);
   }
 }
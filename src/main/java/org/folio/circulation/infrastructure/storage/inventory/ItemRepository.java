@@ -4,13 +4,16 @@ import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.function.Function.identity;
+import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toMap;
 import static org.folio.circulation.domain.ItemStatus.AVAILABLE;
 import static org.folio.circulation.domain.ItemStatus.IN_TRANSIT;
 import static org.folio.circulation.domain.MultipleRecords.CombinationMatchers.matchRecordsById;
 import static org.folio.circulation.domain.representations.ItemProperties.LAST_CHECK_IN;
 import static org.folio.circulation.domain.representations.ItemProperties.STATUS_PROPERTY;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria.byIndex;
 import static org.folio.circulation.support.http.CommonResponseInterpreters.noContentRecordInterpreter;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
@@ -19,6 +22,9 @@ import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty
 import static org.folio.circulation.support.json.JsonPropertyWriter.remove;
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 import static org.folio.circulation.support.results.AsynchronousResultBindings.combineAfter;
+import static org.folio.circulation.support.results.AsynchronousResultBindings.limitedBy;
+import static org.folio.circulation.support.results.ContextExecutor.forCurrentContext;
+import static org.folio.circulation.support.results.ContextExecutor.orForCurrentContext;
 import static org.folio.circulation.support.results.MappingFunctions.when;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -28,8 +34,13 @@ import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsStrin
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -49,19 +60,31 @@ import org.folio.circulation.infrastructure.storage.ServicePointRepository;
 import org.folio.circulation.storage.mappers.ItemMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.ForwardOnFailure;
 import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.SingleRecordFetcher;
 import org.folio.circulation.support.fetching.CqlIndexValuesFinder;
 import org.folio.circulation.support.fetching.CqlQueryFinder;
 import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.AsyncWorkLimiter;
 import org.folio.circulation.support.results.Result;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import lombok.AllArgsConstructor;
 
-@AllArgsConstructor
 public class ItemRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final AsyncWorkLimiter storageUpdateLimiter =
+    AsyncWorkLimiter.forBatch("item-storage-updates");
+  private static final Set<Integer> BATCH_UPDATE_UNAVAILABLE_STATUS_CODES = Set.of(403, 404, 405);
+  /** existing items can only be replaced using the batch endpoint by upserting them */
+  private static final boolean UPSERT = true;
+  /**
+   * tenants whose item storage does not provide the batch endpoint, shared by every
+   * repository, until the module is enabled for the tenant again
+   */
+  private static final Set<String> tenantsWithoutBatchUpdate = ConcurrentHashMap.newKeySet();
 
   private final CollectionResourceClient itemsClient;
   private final LocationRepository locationRepository;
@@ -71,6 +94,9 @@ public class ItemRepository {
   private final HoldingsRepository holdingsRepository;
   private final LoanTypeRepository loanTypeRepository;
   private final CollectionResourceClient circulationItemClient;
+  private final CollectionResourceClient itemsBatchStorageClient;
+  private final Executor executor;
+  private final String tenantId;
   private final IdentityMap identityMap = new IdentityMap(
     item -> getProperty(item, "id"));
 
@@ -82,7 +108,53 @@ public class ItemRepository {
       new MaterialTypeRepository(clients), new InstanceRepository(clients),
       new HoldingsRepository(clients.holdingsStorage()),
       new LoanTypeRepository(clients.loanTypesStorage()),
-      clients.circulationItemClient());
+      clients.circulationItemClient(),
+      clients.itemsBatchStorage(),
+      orForCurrentContext(clients.executor()),
+      clients.tenantId());
+  }
+
+  @SuppressWarnings("squid:S00107")
+  public ItemRepository(CollectionResourceClient itemsClient,
+    LocationRepository locationRepository,
+    ShadowLocationRepository shadowLocationRepository,
+    MaterialTypeRepository materialTypeRepository, InstanceRepository instanceRepository,
+    HoldingsRepository holdingsRepository, LoanTypeRepository loanTypeRepository,
+    CollectionResourceClient circulationItemClient,
+    CollectionResourceClient itemsBatchStorageClient, String tenantId) {
+
+    this(itemsClient, locationRepository, shadowLocationRepository, materialTypeRepository,
+      instanceRepository, holdingsRepository, loanTypeRepository, circulationItemClient,
+      itemsBatchStorageClient, forCurrentContext(), tenantId);
+  }
+
+  @SuppressWarnings("squid:S00107")
+  private ItemRepository(CollectionResourceClient itemsClient,
+    LocationRepository locationRepository,
+    ShadowLocationRepository shadowLocationRepository,
+    MaterialTypeRepository materialTypeRepository, InstanceRepository instanceRepository,
+    HoldingsRepository holdingsRepository, LoanTypeRepository loanTypeRepository,
+    CollectionResourceClient circulationItemClient,
+    CollectionResourceClient itemsBatchStorageClient, Executor executor, String tenantId) {
+
+    this.itemsClient = itemsClient;
+    this.locationRepository = locationRepository;
+    this.shadowLocationRepository = shadowLocationRepository;
+    this.materialTypeRepository = materialTypeRepository;
+    this.instanceRepository = instanceRepository;
+    this.holdingsRepository = holdingsRepository;
+    this.loanTypeRepository = loanTypeRepository;
+    this.circulationItemClient = circulationItemClient;
+    this.itemsBatchStorageClient = itemsBatchStorageClient;
+    this.executor = executor;
+    this.tenantId = tenantId;
+  }
+
+  /**
+   * Batch updates are tried again for the tenant, in case item storage now provides them
+   */
+  public static void resetBatchUpdateAvailability(String tenantId) {
+    tenantsWithoutBatchUpdate.remove(tenantId);
   }
 
   public CompletableFuture<Result<Item>> fetchFor(ItemRelatedRecord itemRelatedRecord) {
@@ -98,17 +170,125 @@ public class ItemRepository {
   public CompletableFuture<Result<Item>> updateItem(Item item) {
     log.debug("updateItem:: parameters item: {}", item);
 
-    final String IN_TRANSIT_DESTINATION_SERVICE_POINT_ID = "inTransitDestinationServicePointId";
-    final String TEMPORARY_LOCATION_ID = "temporaryLocationId";
-
     if (item == null) {
       log.info("updateItem:: item is null");
       return ofAsync(() -> null);
     }
 
+    return storageRepresentation(item)
+      .after(representation -> (item.isDcbItem() ? circulationItemClient : itemsClient)
+        .put(item.getItemId(), representation))
+      .thenApply(noContentRecordInterpreter(item)::flatMap)
+      .thenCompose(x -> ofAsync(() -> item));
+  }
+
+  /**
+   * Updates the items in a single request to the batch endpoint of item storage. Falls
+   * back to updating each item on its own when the batch endpoint is not available,
+   * for items from circulation item storage, or when only one item has changed
+   *
+   * The batch endpoint creates items that do not exist, so only items that are still in
+   * storage are included, items deleted since they were fetched are updated on their own,
+   * which fails in the same way as updating a single item that no longer exists
+   */
+  public CompletableFuture<Result<Collection<Item>>> updateItems(Collection<Item> items) {
+    log.debug("updateItems:: parameters items: {}", items::size);
+
+    final List<Item> inventoryItems = items.stream()
+      .filter(Objects::nonNull)
+      .filter(not(Item::isDcbItem))
+      .toList();
+
+    final List<Item> otherItems = items.stream()
+      .filter(Objects::nonNull)
+      .filter(Item::isDcbItem)
+      .toList();
+
+    if (inventoryItems.size() < 2 || !isBatchUpdateAvailable()) {
+      return updateEachItem(items);
+    }
+
+    return findItemIdsInStorage(inventoryItems)
+      .thenCompose(r -> r.after(idsInStorage -> updateItemsInStorage(inventoryItems,
+        idsInStorage)))
+      .thenCompose(r -> r.after(updated -> updateEachItem(otherItems)))
+      .thenApply(mapResult(notUsed -> items));
+  }
+
+  private CompletableFuture<Result<Set<String>>> findItemIdsInStorage(
+    Collection<Item> items) {
+
+    final var finder = new CqlIndexValuesFinder<>(createItemFinder());
+
+    return finder.findByIds(items.stream().map(Item::getItemId).toList())
+      .thenApply(mapResult(records -> records.toKeys(item -> getProperty(item, "id"))));
+  }
+
+  private CompletableFuture<Result<Collection<Item>>> updateItemsInStorage(
+    Collection<Item> items, Set<String> idsInStorage) {
+
+    final Map<Boolean, List<Item>> itemsByPresence = items.stream()
+      .collect(partitioningBy(item -> idsInStorage.contains(item.getItemId())));
+
+    final List<Item> missingItems = itemsByPresence.get(false);
+
+    if (!missingItems.isEmpty()) {
+      log.warn("updateItemsInStorage:: {} items are no longer in storage, " +
+        "updating them individually", missingItems.size());
+    }
+
+    return updateInBatch(itemsByPresence.get(true))
+      .thenCompose(r -> r.after(updated -> updateEachItem(missingItems)))
+      .thenApply(mapResult(notUsed -> items));
+  }
+
+  private CompletableFuture<Result<Collection<Item>>> updateInBatch(Collection<Item> items) {
+    if (items.isEmpty()) {
+      return ofAsync(() -> items);
+    }
+
+    return Result.combineAll(items.stream().map(this::storageRepresentation).toList())
+      .after(representations -> itemsBatchStorageClient.post(
+        new JsonObject().put("items", new JsonArray(representations)), UPSERT))
+      .thenCompose(r -> r.after(response -> afterBatchUpdate(response, items)));
+  }
+
+  private CompletableFuture<Result<Collection<Item>>> afterBatchUpdate(Response response,
+    Collection<Item> items) {
+
+    if (response.getStatusCode() == 201) {
+      return ofAsync(() -> items);
+    }
+
+    if (BATCH_UPDATE_UNAVAILABLE_STATUS_CODES.contains(response.getStatusCode())) {
+      log.warn("afterBatchUpdate:: item storage batch update is not available ({}), " +
+        "updating items individually", response.getStatusCode());
+      if (tenantId != null) {
+        tenantsWithoutBatchUpdate.add(tenantId);
+      }
+
+      return updateEachItem(items);
+    }
+
+    return completedFuture(Result.failed(new ForwardOnFailure(response)));
+  }
+
+  private boolean isBatchUpdateAvailable() {
+    return tenantId == null || !tenantsWithoutBatchUpdate.contains(tenantId);
+  }
+
+  private CompletableFuture<Result<Collection<Item>>> updateEachItem(Collection<Item> items) {
+    return allOf(items, limitedBy(storageUpdateLimiter, this::updateItem))
+      .thenApply(mapResult(notUsed -> items));
+  }
+
+  private Result<JsonObject> storageRepresentation(Item item) {
+    final String IN_TRANSIT_DESTINATION_SERVICE_POINT_ID = "inTransitDestinationServicePointId";
+    final String TEMPORARY_LOCATION_ID = "temporaryLocationId";
+
     if (identityMap.entryNotPresent(item.getItemId())) {
-      return completedFuture(Result.failed(new ServerErrorFailure(
-        "Cannot update item when original representation is not available in identity map")));
+      return Result.failed(new ServerErrorFailure(
+        "Cannot update item when original representation is not available in identity map"));
     }
 
     final var updatedItemRepresentation = identityMap.get(item.getItemId());
@@ -135,10 +315,7 @@ public class ItemRepository {
       write(updatedItemRepresentation, LAST_CHECK_IN, lastCheckIn.toJson());
     }
 
-    return (item.isDcbItem() ? circulationItemClient : itemsClient)
-      .put(item.getItemId(), updatedItemRepresentation)
-      .thenApply(noContentRecordInterpreter(item)::flatMap)
-      .thenCompose(x -> ofAsync(() -> item));
+    return succeeded(updatedItemRepresentation);
   }
 
   public CompletableFuture<Result<Item>> getFirstAvailableItemByInstanceId(String instanceId) {
@@ -165,15 +342,15 @@ public class ItemRepository {
       .thenComposeAsync(itemResult -> itemResult.after(when(item -> ofAsync(item::isNotFound),
         item -> fetchItemByBarcode(barcode, createCirculationItemFinder())
           .thenApply(r -> r.mapFailure(failure -> Result.succeeded(item)))
-        , item -> completedFuture(itemResult))))
-      .thenComposeAsync(this::fetchItemRelatedRecords);
+        , item -> completedFuture(itemResult))), executor)
+      .thenComposeAsync(this::fetchItemRelatedRecords, executor);
   }
 
   public CompletableFuture<Result<Item>> fetchById(String itemId) {
     return fetchItem(itemId)
       .thenComposeAsync(itemResult -> itemResult.after(when(item -> ofAsync(item::isNotFound),
-        item -> fetchCirculationItem(itemId), item -> completedFuture(itemResult))))
-      .thenComposeAsync(this::fetchItemRelatedRecords);
+        item -> fetchCirculationItem(itemId), item -> completedFuture(itemResult))), executor)
+      .thenComposeAsync(this::fetchItemRelatedRecords, executor);
   }
 
   private CompletableFuture<Result<Item>> fetchCirculationItem(String id) {
@@ -233,7 +410,7 @@ public class ItemRepository {
     return supplyAsync(() -> result.after(items -> materialTypeRepository.getMaterialTypes(items)
         .thenApply(r -> r.map(records -> records.getRecordsMap(MaterialType::getId)))
         .thenApply(mapResult(materialTypes -> items.combineRecords(materialTypes,
-          Item::getMaterialTypeId, Item::withMaterialType, MaterialType.unknown())))))
+          Item::getMaterialTypeId, Item::withMaterialType, MaterialType.unknown())))), executor)
       .thenCompose(Function.identity());
   }
 
@@ -246,7 +423,7 @@ public class ItemRepository {
       return supplyAsync(() -> loanTypeRepository.findByIds(loanTypeIdsToFetch)
         .thenApply(r -> r.map(records -> records.getRecordsMap(LoanType::getId)))
         .thenApply(mapResult(loanTypes -> items.combineRecords(loanTypes,
-          Item::getLoanTypeId, Item::withLoanType, LoanType.unknown()))))
+          Item::getLoanTypeId, Item::withLoanType, LoanType.unknown()))), executor)
         .thenCompose(Function.identity());
     });
   }
@@ -260,7 +437,7 @@ public class ItemRepository {
       return supplyAsync(() -> instanceRepository.fetchByIds(instanceIds)
         .thenApply(r -> r.map(records -> records.getRecordsMap(Instance::getId)))
         .thenApply(mapResult(instances -> items.combineRecords(instances,
-          Item::getInstanceId, Item::withInstance, Instance.unknown()))))
+          Item::getInstanceId, Item::withInstance, Instance.unknown()))), executor)
         .thenCompose(Function.identity());
     });
   }
@@ -274,7 +451,7 @@ public class ItemRepository {
       return supplyAsync(() -> holdingsRepository.fetchByIds(holdingsIds)
         .thenApply(r -> r.map(records -> records.getRecordsMap(Holdings::getId)))
         .thenApply(mapResult(holdings -> items.combineRecords(holdings,
-          Item::getHoldingsRecordId, Item::withHoldings, Holdings.unknown()))))
+          Item::getHoldingsRecordId, Item::withHoldings, Holdings.unknown()))), executor)
         .thenCompose(Function.identity());
     });
   }
@@ -369,7 +546,7 @@ public class ItemRepository {
     return finder.find(byIndex(indexName, ids))
       .thenApply(mapResult(identityMap::add))
       .thenApply(mapResult(m -> m.mapRecords(mapper::toDomain)))
-      .thenComposeAsync(this::fetchItemsRelatedRecords)
+      .thenComposeAsync(this::fetchItemsRelatedRecords, executor)
       .thenApply(mapResult(MultipleRecords::getRecords));
   }
 
@@ -388,22 +565,22 @@ public class ItemRepository {
     return finder.find(byIndex(indexName, ids).withQuery(query))
       .thenApply(mapResult(identityMap::add))
       .thenApply(mapResult(m -> m.mapRecords(mapper::toDomain)))
-      .thenComposeAsync(this::fetchItemsRelatedRecords);
+      .thenComposeAsync(this::fetchItemsRelatedRecords, executor);
   }
 
   public CompletableFuture<Result<MultipleRecords<Item>>> fetchFor(
     Collection<String> itemIds) {
 
     return fetchItems(itemIds)
-      .thenComposeAsync(this::fetchItemsRelatedRecords);
+      .thenComposeAsync(this::fetchItemsRelatedRecords, executor);
   }
 
   public CompletableFuture<Result<Item>> fetchItemRelatedRecords(Result<Item> itemResult) {
     return itemResult.combineAfter(this::fetchHoldingsRecord, Item::withHoldings)
-      .thenComposeAsync(combineAfter(this::fetchInstance, Item::withInstance))
-      .thenComposeAsync(combineAfter(locationRepository::getEffectiveLocation, Item::withLocation))
-      .thenComposeAsync(combineAfter(materialTypeRepository::getFor, Item::withMaterialType))
-      .thenComposeAsync(combineAfter(this::fetchLoanType, Item::withLoanType))
+      .thenComposeAsync(combineAfter(this::fetchInstance, Item::withInstance), executor)
+      .thenComposeAsync(combineAfter(locationRepository::getEffectiveLocation, Item::withLocation), executor)
+      .thenComposeAsync(combineAfter(materialTypeRepository::getFor, Item::withMaterialType), executor)
+      .thenComposeAsync(combineAfter(this::fetchLoanType, Item::withLoanType), executor)
       .thenCompose(CompletableFuture::completedFuture);
   }
 
@@ -438,10 +615,10 @@ public class ItemRepository {
     Result<MultipleRecords<Item>> items) {
 
     return fetchHoldingsRecords(items)
-      .thenComposeAsync(this::fetchInstances)
-      .thenComposeAsync(this::fetchLocations)
-      .thenComposeAsync(this::fetchMaterialTypes)
-      .thenComposeAsync(this::fetchLoanTypes);
+      .thenComposeAsync(this::fetchInstances, executor)
+      .thenComposeAsync(this::fetchLocations, executor)
+      .thenComposeAsync(this::fetchMaterialTypes, executor)
+      .thenComposeAsync(this::fetchLoanTypes, executor);
   }
 
   private CqlQueryFinder<JsonObject> createItemFinder() {
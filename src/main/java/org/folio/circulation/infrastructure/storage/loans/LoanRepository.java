@@ -13,6 +13,7 @@ import static org.folio.circulation.domain.representations.LoanProperties.LOST_I
 import static org.folio.circulation.domain.representations.LoanProperties.OVERDUE_FINE_POLICY;
 import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_AT_CHECKOUT;
 import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_ID_AT_CHECKOUT;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.CqlSortBy.descending;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
@@ -23,6 +24,7 @@ import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 import static org.folio.circulation.support.http.client.CqlQuery.notIn;
 import static org.folio.circulation.support.http.client.PageLimit.one;
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+import static org.folio.circulation.support.results.AsynchronousResultBindings.limitedBy;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
 import static org.folio.circulation.support.results.Result.emptyAsync;
 import static org.folio.circulation.support.results.Result.failed;
@@ -68,6 +70,7 @@ import org.folio.circulation.support.http.client.Offset;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
+import org.folio.circulation.support.results.AsyncWorkLimiter;
 import org.folio.circulation.support.results.CommonFailures;
 import org.folio.circulation.support.results.Result;
 
@@ -90,6 +93,9 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
 
   private static final String IS_DCB = "isDcb";
 
+  private static final AsyncWorkLimiter storageUpdateLimiter =
+    AsyncWorkLimiter.forBatch("loan-storage-updates");
+
   public LoanRepository(Clients clients, ItemRepository itemRepository,
     UserRepository userRepository) {
 
@@ -138,6 +144,17 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
       .thenApply(r -> r.map(response -> loan));
   }
 
+  /**
+   * Loan storage does not have a batch endpoint, so the loans are updated individually,
+   * with a limited number of requests at the same time
+   */
+  public CompletableFuture<Result<Collection<Loan>>> updateLoans(Collection<Loan> loans) {
+    log.debug("updateLoans:: parameters loans: {}", loans::size);
+
+    return allOf(loans, limitedBy(storageUpdateLimiter, this::updateLoan))
+      .thenApply(mapResult(notUsed -> loans));
+  }
+
   /**
    *
    * @param request the request to fetch the open loan for the same item for
@@ -263,11 +280,15 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
   }
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findBy(String query) {
-    return loansStorageClient.getManyWithRawQueryStringParameters(query)
-      .thenApply(flatMapResult(this::mapResponseToLoans))
+    return findByWithoutItems(query)
       .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
   }
 
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findByWithoutItems(String query) {
+    return loansStorageClient.getManyWithRawQueryStringParameters(query)
+      .thenApply(flatMapResult(this::mapResponseToLoans));
+  }
+
   public CompletableFuture<Result<MultipleRecords<Loan>>> findByIds(Collection<String> loanIds) {
     log.debug("findByIds:: parameters loanIds: {}", () -> collectionAsString(loanIds));
     FindWithMultipleCqlIndexValues<Loan> fetcher =
@@ -0,0 +1,159 @@
+package org.folio.circulation.infrastructure.storage.notices;
+
+import static org.folio.circulation.rules.cache.BoundedExpiringCache.NEVER_EXPIRE;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.circulation.domain.notice.PatronNoticePolicy;
+import org.folio.circulation.rules.cache.BoundedExpiringCache;
+import org.folio.circulation.rules.cache.ResponseCache;
+import org.folio.circulation.support.http.client.Response;
+
+/**
+ * Patron notice policies and notice templates kept for each tenant, shared by immediate
+ * notices, scheduling notices and processing scheduled notices
+ *
+ * Policies are kept once they have been parsed, templates are kept as the responses used
+ * by the templates client. Changes made to either through this module invalidate those
+ * kept for the tenant, other changes are only noticed once they expire, or when the
+ * module is enabled or disabled for the tenant
+ *
+ * When disabled, a batch process still keeps the policies it has looked up until it finishes
+ */
+public final class PatronNoticePolicyCache implements ResponseCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final PatronNoticePolicyCache instance = new PatronNoticePolicyCache(
+    Environment.getPatronNoticeCacheMaximumSize(),
+    Environment.getPatronNoticeCacheTimeToLiveSeconds() * 1000L);
+
+  private final int maximumSizePerTenant;
+  private final long timeToLiveMillis;
+  /** policies for each tenantId, keyed by policy ID */
+  private final Map<String, BoundedExpiringCache<String, PatronNoticePolicy>> policyCaches =
+    new ConcurrentHashMap<>();
+  /** template responses for each tenantId, keyed by request */
+  private final Map<String, BoundedExpiringCache<String, Response>> templateCaches =
+    new ConcurrentHashMap<>();
+
+  public static PatronNoticePolicyCache getInstance() {
+    return instance;
+  }
+
+  PatronNoticePolicyCache(int maximumSizePerTenant, long timeToLiveMillis) {
+    this.maximumSizePerTenant = maximumSizePerTenant;
+    this.timeToLiveMillis = timeToLiveMillis;
+  }
+
+  public boolean isEnabled() {
+    return maximumSizePerTenant > 0 && timeToLiveMillis > 0;
+  }
+
+  /**
+   * @return the policies kept for the tenant, or a cache that keeps nothing when disabled
+   */
+  public BoundedExpiringCache<String, PatronNoticePolicy> forTenant(String tenantId) {
+    if (!isEnabled() || tenantId == null) {
+      return new BoundedExpiringCache<>(0, 0);
+    }
+
+    return policyCaches.computeIfAbsent(tenantId,
+      key -> new BoundedExpiringCache<>(maximumSizePerTenant, timeToLiveMillis));
+  }
+
+  /**
+   * @return the policies kept for the tenant, or when disabled, a cache for only the batch
+   * process using it, which keeps policies until the process finishes
+   */
+  public BoundedExpiringCache<String, PatronNoticePolicy> forBatch(String tenantId) {
+    if (!isEnabled() || tenantId == null) {
+      return new BoundedExpiringCache<>(maximumSizePerTenant, NEVER_EXPIRE);
+    }
+
+    return forTenant(tenantId);
+  }
+
+  @Override
+  public Optional<Response> get(String tenantId, String requestKey) {
+    if (!isEnabled() || tenantId == null) {
+      return Optional.empty();
+    }
+
+    final var template = templatesForTenant(tenantId).get(requestKey);
+
+    log.debug("get:: cache {} for tenant {}: {}",
+      template.isPresent() ? "hit" : "miss", tenantId, requestKey);
+
+    return template;
+  }
+
+  @Override
+  public void put(String tenantId, String requestKey, Response response) {
+    if (isEnabled() && tenantId != null) {
+      templatesForTenant(tenantId).put(requestKey, response);
+    }
+  }
+
+  @Override
+  public void invalidate(String tenantId, String collectionRoot) {
+    log.info("invalidate:: invalidating {} for tenant {}", collectionRoot, tenantId);
+
+    Optional.ofNullable(templateCaches.get(tenantId))
+      .ifPresent(cache -> cache.invalidateIf(key -> key.startsWith(collectionRoot)));
+  }
+
+  public void invalidatePolicies(String tenantId) {
+    log.info("invalidatePolicies:: invalidating patron notice policies for tenant {}",
+      tenantId);
+
+    policyCaches.remove(tenantId);
+  }
+
+  public void invalidate(String tenantId) {
+    log.info("invalidate:: invalidating patron notice policies and templates for tenant {}",
+      tenantId);
+
+    policyCaches.remove(tenantId);
+    templateCaches.remove(tenantId);
+  }
+
+  public void dropCache() {
+    policyCaches.clear();
+    templateCaches.clear();
+  }
+
+  public long getHitCount() {
+    return policyCaches.values().stream()
+      .mapToLong(BoundedExpiringCache::getHitCount)
+      .sum();
+  }
+
+  public long getMissCount() {
+    return policyCaches.values().stream()
+      .mapToLong(BoundedExpiringCache::getMissCount)
+      .sum();
+  }
+
+  public long getTemplateHitCount() {
+    return templateCaches.values().stream()
+      .mapToLong(BoundedExpiringCache::getHitCount)
+      .sum();
+  }
+
+  public long getTemplateMissCount() {
+    return templateCaches.values().stream()
+      .mapToLong(BoundedExpiringCache::getMissCount)
+      .sum();
+  }
+
+  private BoundedExpiringCache<String, Response> templatesForTenant(String tenantId) {
+    return templateCaches.computeIfAbsent(tenantId,
+      key -> new BoundedExpiringCache<>(maximumSizePerTenant, timeToLiveMillis));
+  }
+}
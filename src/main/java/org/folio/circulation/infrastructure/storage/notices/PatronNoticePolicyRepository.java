@@ -1,5 +1,7 @@
 package org.folio.circulation.infrastructure.storage.notices;
 
+import static org.folio.circulation.support.results.Result.ofAsync;
+
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -10,6 +12,7 @@ import org.folio.circulation.domain.notice.PatronNoticePolicy;
 import org.folio.circulation.infrastructure.storage.CirculationPolicyRepository;
 import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
+import org.folio.circulation.rules.cache.BoundedExpiringCache;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.results.Result;
@@ -19,16 +22,61 @@ import io.vertx.core.json.JsonObject;
 public class PatronNoticePolicyRepository extends CirculationPolicyRepository<PatronNoticePolicy> {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final Function<JsonObject, Result<PatronNoticePolicy>> patronNoticePolicyMapper;
+  private final BoundedExpiringCache<String, PatronNoticePolicy> policies;
 
   public PatronNoticePolicyRepository(Clients clients) {
-    this(clients, new PatronNoticePolicyMapper());
+    this(clients, PatronNoticePolicyCache.getInstance().forTenant(clients.tenantId()));
+  }
+
+  /**
+   * Creates a repository for a batch process, which keeps the policies it has looked up
+   * until it finishes, even when they are not kept for the tenant
+   */
+  public static PatronNoticePolicyRepository forBatch(Clients clients) {
+    return new PatronNoticePolicyRepository(clients,
+      PatronNoticePolicyCache.getInstance().forBatch(clients.tenantId()));
+  }
+
+  PatronNoticePolicyRepository(Clients clients,
+    BoundedExpiringCache<String, PatronNoticePolicy> policies) {
+
+    this(clients, new PatronNoticePolicyMapper(), policies);
   }
 
   private PatronNoticePolicyRepository(
     Clients clients,
-    Function<JsonObject, Result<PatronNoticePolicy>> patronNoticePolicyMapper) {
+    Function<JsonObject, Result<PatronNoticePolicy>> patronNoticePolicyMapper,
+    BoundedExpiringCache<String, PatronNoticePolicy> policies) {
     super(clients.patronNoticePolicesStorageClient(), clients);
     this.patronNoticePolicyMapper = patronNoticePolicyMapper;
+    this.policies = policies;
+  }
+
+  /**
+   * Policies that have already been looked up are not fetched again while they are kept,
+   * the conditions a notice policy was applied with do not change it
+   */
+  @Override
+  public CompletableFuture<Result<PatronNoticePolicy>> lookupPolicy(String policyId,
+    AppliedRuleConditions conditionsEntity) {
+
+    final var keptPolicy = policies.get(policyId);
+
+    if (keptPolicy.isPresent()) {
+      log.debug("lookupPolicy:: using kept policy {}", policyId);
+      return ofAsync(keptPolicy.get());
+    }
+
+    return super.lookupPolicy(policyId, conditionsEntity)
+      .thenApply(r -> r.map(policy -> keepPolicy(policyId, policy)));
+  }
+
+  private PatronNoticePolicy keepPolicy(String policyId, PatronNoticePolicy policy) {
+    if (policy != null) {
+      policies.put(policyId, policy);
+    }
+
+    return policy;
   }
 
   @Override
@@ -16,6 +16,7 @@ import static org.folio.circulation.infrastructure.storage.notices.JsonScheduled
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.TIMING;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.TRIGGERING_EVENT;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.mapToJson;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.http.CommonResponseInterpreters.noContentRecordInterpreter;
 import static org.folio.circulation.support.http.ResponseMapping.flatMapUsingJson;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
@@ -34,6 +35,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.apache.commons.collections4.ListUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.MultipleRecords;
@@ -54,6 +56,7 @@ public class ScheduledNoticesRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private static final List<String> UPON_AT_AND_AFTER_TIMING =
     Arrays.asList(UPON_AT.getRepresentation(), AFTER.getRepresentation());
+  private static final int MAXIMUM_IDS_PER_DELETE = 50;
 
   public static ScheduledNoticesRepository using(Clients clients) {
     return new ScheduledNoticesRepository(
@@ -126,6 +129,22 @@ public class ScheduledNoticesRepository {
       .thenApply(flatMapResult(interpreter::apply));
   }
 
+  /**
+   * Deletes the notices with a request for each group of up to 50 notices
+   */
+  public CompletableFuture<Result<Void>> deleteAll(Collection<ScheduledNotice> scheduledNotices) {
+    log.debug("deleteAll:: parameters scheduledNotices: {}", scheduledNotices::size);
+
+    final List<String> ids = scheduledNotices.stream()
+      .map(ScheduledNotice::getId)
+      .distinct()
+      .toList();
+
+    return allOf(ListUtils.partition(ids, MAXIMUM_IDS_PER_DELETE),
+      idsToDelete -> exactMatchAny("id", idsToDelete).after(this::deleteMany))
+      .thenApply(Result::mapEmpty);
+  }
+
   public CompletableFuture<Result<Response>> deleteByLoanIdAndTriggeringEvent(
     String loanId, TriggeringEvent triggeringEvent) {
 
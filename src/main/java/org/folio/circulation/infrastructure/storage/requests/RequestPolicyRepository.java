@@ -15,6 +15,7 @@ import static org.folio.circulation.support.utils.LogUtil.asJson;
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -26,6 +27,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Location;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.RequestAndRelatedRecords;
@@ -35,6 +37,7 @@ import org.folio.circulation.rules.CirculationRuleCriteria;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.rules.CirculationRulesProcessor;
 import org.folio.circulation.rules.RulesExecutionParameters;
+import org.folio.circulation.storage.mappers.LocationMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
@@ -49,9 +52,11 @@ public class RequestPolicyRepository {
 
   private final CirculationRulesProcessor circulationRulesProcessor;
   private final CollectionResourceClient requestPoliciesStorageClient;
+  private final CollectionResourceClient locationsStorageClient;
 
   public RequestPolicyRepository(Clients clients) {
     this.requestPoliciesStorageClient = clients.requestPoliciesStorage();
+    this.locationsStorageClient = clients.locationsStorage();
     this.circulationRulesProcessor = clients.circulationRulesProcessor();
   }
 
@@ -91,13 +96,36 @@ public class RequestPolicyRepository {
       .map(item -> new CirculationRuleCriteria(item, patronGroupId))
       .collect(toMap(identity(), criteria -> Set.of(criteria.getItem()), itemsMergeOperator()));
 
-    return allOf(criteriaMap.entrySet(), entry -> lookupRequestPolicyId(entry.getKey())
-      .thenApply(r -> r.map(id -> Pair.of(id, entry.getValue()))))
+    log.info("lookupRequestPolicies:: {} items have {} distinct criteria", items.size(),
+      criteriaMap.size());
+
+    return fetchLocations(criteriaMap.keySet())
+      .thenCompose(r -> r.after(locations -> allOf(criteriaMap.entrySet(),
+        entry -> lookupRequestPolicyId(entry.getKey(), locations)
+          .thenApply(idResult -> idResult.map(id -> Pair.of(id, entry.getValue()))))))
       .thenApply(r -> r.map(pair -> pair.stream()
         .collect(toMap(Pair::getKey, Pair::getValue, itemsMergeOperator()))))
       .thenCompose(r -> r.after(this::lookupRequestPolicies));
   }
 
+  /**
+   * Fetches the locations of all the criteria at once, rather than the rules fetching
+   * the location for each criteria
+   */
+  private CompletableFuture<Result<Map<String, Location>>> fetchLocations(
+    Collection<CirculationRuleCriteria> criteria) {
+
+    final Set<String> locationIds = criteria.stream()
+      .map(CirculationRuleCriteria::getLocationId)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+
+    return findWithMultipleCqlIndexValues(locationsStorageClient, "locations",
+      new LocationMapper()::toDomain)
+      .findByIds(locationIds)
+      .thenApply(r -> r.map(locations -> locations.toMap(Location::getId)));
+  }
+
   public CompletableFuture<Result<RequestPolicy>> lookupRequestPolicy(String patronGroupId) {
     // Circulation rules need to be executed with the patron group parameter only.
     // All the item-related parameters should be random UUIDs.
@@ -157,20 +185,31 @@ public class RequestPolicyRepository {
   }
 
   private CompletableFuture<Result<String>> lookupRequestPolicyId(
-    CirculationRuleCriteria criteria) {
+    CirculationRuleCriteria criteria, Map<String, Location> locations) {
 
     log.debug("lookupRequestPolicyId:: parameters criteria: {}", criteria);
     return lookupRequestPolicyId(criteria.getMaterialTypeId(),
-      criteria.getPatronGroupId(), criteria.getLoanTypeId(), criteria.getLocationId());
+      criteria.getPatronGroupId(), criteria.getLoanTypeId(), criteria.getLocationId(),
+      locations.get(criteria.getLocationId()));
   }
 
   private CompletableFuture<Result<String>> lookupRequestPolicyId(String materialTypeId,
     String patronGroupId, String loanTypeId, String locationId) {
 
+    return lookupRequestPolicyId(materialTypeId, patronGroupId, loanTypeId, locationId, null);
+  }
+
+  /**
+   * @param location the location, when it has already been fetched, otherwise the rules
+   * fetch it
+   */
+  private CompletableFuture<Result<String>> lookupRequestPolicyId(String materialTypeId,
+    String patronGroupId, String loanTypeId, String locationId, Location location) {
+
     log.debug("lookupRequestPolicyId:: parameters materialTypeId: {}, patronGroupId: {}," +
       "loanTypeId: {}, locationId: {}", materialTypeId, patronGroupId, loanTypeId, locationId);
 
-    var params = new RulesExecutionParameters(loanTypeId, locationId, materialTypeId, patronGroupId, null);
+    var params = new RulesExecutionParameters(loanTypeId, locationId, materialTypeId, patronGroupId, location);
     return circulationRulesProcessor.getRequestPolicyAndMatch(params)
       .thenCompose(this::processRulesResponse);
   }
@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.MultipleRecords;
@@ -64,7 +65,7 @@ public class RequestQueueRepository {
   public CompletableFuture<Result<RequestQueue>> getQueue(TlrSettingsConfiguration tlrSettings,
     String instanceId, String itemId) {
 
-    boolean isTlrEnabled = tlrSettings != null && tlrSettings.isTitleLevelRequestsFeatureEnabled();
+    boolean isTlrEnabled = isTlrEnabled(tlrSettings);
     log.info("getQueue:: TLR feature is {}", isTlrEnabled ? "enabled" : "disabled");
 
     return isTlrEnabled ? getByInstanceId(instanceId) : getByItemId(itemId);
@@ -93,9 +94,66 @@ public class RequestQueueRepository {
     return get(itemId, null, EnumSet.of(ITEM));
   }
 
+  /**
+   * Gets the queue for an item (and its instance, when title level requests are included),
+   * without fetching the related records of every request in it. The related records
+   * of a request are only fetched when it is found to be fulfillable by the item.
+   * Intended for check in, where usually only the first request in the queue matters
+   */
+  public CompletableFuture<Result<RequestQueue>> getWithoutRelatedRecords(
+    TlrSettingsConfiguration tlrSettings, String instanceId, String itemId) {
+
+    if (!Environment.getRequestQueueLazyLoadingEnabled()) {
+      log.info("getWithoutRelatedRecords:: lazy loading is disabled, fetching related records");
+      return isTlrEnabled(tlrSettings)
+        ? getByInstanceIdAndItemId(instanceId, itemId)
+        : getByItemId(itemId);
+    }
+
+    return isTlrEnabled(tlrSettings)
+      ? getWithoutRelatedRecords(itemId, instanceId, EnumSet.of(ITEM, TITLE))
+      : getWithoutRelatedRecords(itemId, null, EnumSet.of(ITEM));
+  }
+
+  private CompletableFuture<Result<RequestQueue>> getWithoutRelatedRecords(String itemId,
+    String instanceId, EnumSet<RequestLevel> requestLevels) {
+
+    log.debug("getWithoutRelatedRecords:: parameters itemId: {}, instanceId: {}",
+      itemId, instanceId);
+
+    if (itemId == null && instanceId == null) {
+      log.info("getWithoutRelatedRecords:: itemId and instanceId are null, returning an empty queue");
+      return ofAsync(new RequestQueue(emptyList()));
+    }
+
+    return queueQuery(itemId, instanceId, requestLevels)
+      .after(q -> requestRepository.findByWithoutItems(q, MAXIMUM_SUPPORTED_REQUEST_QUEUE_SIZE))
+      .thenApply(r -> r.map(MultipleRecords::getRecords))
+      .thenApply(r -> r.map(requests -> RequestQueue.withoutRelatedRecords(requests,
+        requestRepository::fetchRelatedRecords)));
+  }
+
+  private static boolean isTlrEnabled(TlrSettingsConfiguration tlrSettings) {
+    return tlrSettings != null && tlrSettings.isTitleLevelRequestsFeatureEnabled();
+  }
+
   private CompletableFuture<Result<RequestQueue>> get(String itemId, String instanceId,
     EnumSet<RequestLevel> requestLevels) {
 
+    if (itemId == null && instanceId == null) {
+      log.info("get:: itemId and instanceId are null, returning an empty queue");
+      return ofAsync(new RequestQueue(emptyList()));
+    }
+
+    return queueQuery(itemId, instanceId, requestLevels)
+      .after(q -> requestRepository.findBy(q, MAXIMUM_SUPPORTED_REQUEST_QUEUE_SIZE))
+      .thenApply(r -> r.map(MultipleRecords::getRecords))
+      .thenApply(r -> r.map(RequestQueue::new));
+  }
+
+  private static Result<CqlQuery> queueQuery(String itemId, String instanceId,
+    EnumSet<RequestLevel> requestLevels) {
+
     Map<String, String> filters = new HashMap<>();
     if (itemId != null) {
       filters.put("itemId", itemId);
@@ -103,10 +161,6 @@ public class RequestQueueRepository {
     if (instanceId != null) {
       filters.put("instanceId", instanceId);
     }
-    if (filters.isEmpty()) {
-      log.info("get:: itemId and instanceId are null, returning an empty queue");
-      return ofAsync(new RequestQueue(emptyList()));
-    }
 
     List<String> requestLevelStrings = requestLevels.stream()
       .map(RequestLevel::getValue)
@@ -118,10 +172,7 @@ public class RequestQueueRepository {
     return CqlQuery.exactMatchAny(filters)
       .combine(statusQuery, CqlQuery::and)
       .combine(requestLevelQuery, CqlQuery::and)
-      .map(q -> q.sortBy(ascending("position")))
-      .after(q -> requestRepository.findBy(q, MAXIMUM_SUPPORTED_REQUEST_QUEUE_SIZE))
-      .thenApply(r -> r.map(MultipleRecords::getRecords))
-      .thenApply(r -> r.map(RequestQueue::new));
+      .map(q -> q.sortBy(ascending("position")));
   }
 
   public CompletableFuture<Result<RequestQueue>> getRequestQueueWithoutItemLookup(String itemId) {
@@ -1,9 +1,16 @@
 package org.folio.circulation.infrastructure.storage.requests;
 
 import static java.util.Objects.isNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
 import static org.folio.circulation.domain.RequestStatus.openStates;
 import static org.folio.circulation.domain.RequestStatus.closedStates;
+import static org.folio.circulation.domain.representations.RequestProperties.INSTANCE;
+import static org.folio.circulation.domain.representations.RequestProperties.ITEM;
+import static org.folio.circulation.domain.representations.RequestProperties.LOAN;
+import static org.folio.circulation.domain.representations.RequestProperties.PICKUP_SERVICE_POINT;
+import static org.folio.circulation.domain.representations.RequestProperties.PROXY;
+import static org.folio.circulation.domain.representations.RequestProperties.REQUESTER;
 import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
@@ -23,6 +30,7 @@ import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -49,6 +57,7 @@ import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
+import org.folio.circulation.support.http.server.IncludedRelatedRecords;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -119,9 +128,18 @@ public class RequestRepository {
   }
 
   public CompletableFuture<Result<MultipleRecords<Request>>> findBy(String query) {
+    return findBy(query, IncludedRelatedRecords.all());
+  }
+
+  /**
+   * Finds the requests matching the query, only fetching the related records that are included
+   */
+  public CompletableFuture<Result<MultipleRecords<Request>>> findBy(String query,
+    IncludedRelatedRecords include) {
+
     return requestsStorageClient.getManyWithRawQueryStringParameters(query)
       .thenApply(flatMapResult(this::mapResponseToRequests))
-      .thenCompose(r -> r.after(this::fetchAdditionalFields));
+      .thenCompose(r -> r.after(requests -> fetchAdditionalFields(requests, include)));
   }
 
   CompletableFuture<Result<MultipleRecords<Request>>> findBy(CqlQuery query, PageLimit pageLimit) {
@@ -133,15 +151,36 @@ public class RequestRepository {
   private CompletableFuture<Result<MultipleRecords<Request>>> fetchAdditionalFields(
     MultipleRecords<Request> requestRecords) {
 
-    log.debug("fetchAdditionalFields:: parameters requestRecords: {}", ()-> multipleRecordsAsString(requestRecords));
+    return fetchAdditionalFields(requestRecords, IncludedRelatedRecords.all());
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Request>>> fetchAdditionalFields(
+    MultipleRecords<Request> requestRecords, IncludedRelatedRecords include) {
+
+    log.debug("fetchAdditionalFields:: parameters requestRecords: {}, include: {}",
+      () -> multipleRecordsAsString(requestRecords), () -> include);
+
+    final boolean usersIncluded = include.includesAny(REQUESTER, PROXY);
 
     return ofAsync(() -> requestRecords)
-      .thenComposeAsync(requests -> itemRepository.fetchItemsFor(requests, Request::withItem))
-      .thenComposeAsync(result -> result.after(servicePointRepository::findServicePointsForRequests))
-      .thenComposeAsync(result -> result.after(loanRepository::findOpenLoansFor))
-      .thenComposeAsync(result -> result.after(userRepository::findUsersForRequests))
-      .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers))
-      .thenComposeAsync(result -> result.after(instanceRepository::findInstancesForRequests));
+      .thenComposeAsync(result -> include.includes(ITEM)
+        ? itemRepository.fetchItemsFor(result, Request::withItem)
+        : completedFuture(result))
+      .thenComposeAsync(fetchWhen(include.includes(PICKUP_SERVICE_POINT),
+        servicePointRepository::findServicePointsForRequests))
+      .thenComposeAsync(fetchWhen(include.includes(LOAN), loanRepository::findOpenLoansFor))
+      .thenComposeAsync(fetchWhen(usersIncluded, userRepository::findUsersForRequests))
+      .thenComposeAsync(fetchWhen(usersIncluded,
+        patronGroupRepository::findPatronGroupsForRequestsUsers))
+      .thenComposeAsync(fetchWhen(include.includes(INSTANCE),
+        instanceRepository::findInstancesForRequests));
+  }
+
+  private static Function<Result<MultipleRecords<Request>>,
+    CompletableFuture<Result<MultipleRecords<Request>>>> fetchWhen(boolean included,
+    Function<MultipleRecords<Request>, CompletableFuture<Result<MultipleRecords<Request>>>> fetch) {
+
+    return result -> included ? result.after(fetch) : completedFuture(result);
   }
 
   public CompletableFuture<Result<MultipleRecords<Request>>> findByWithoutItems(
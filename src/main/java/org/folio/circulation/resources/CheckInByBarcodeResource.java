@@ -5,6 +5,7 @@ import static org.folio.circulation.domain.validation.UserNotFoundValidator.refu
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.Executor;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,6 +30,7 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.ValidationErrorFailure;
 import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.metrics.StageTimer;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.http.HttpClient;
@@ -37,6 +39,8 @@ import io.vertx.ext.web.RoutingContext;
 
 public class CheckInByBarcodeResource extends Resource {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final String CHECK_IN_OPERATION = "check-in";
+
   public CheckInByBarcodeResource(HttpClient client) {
     super(client);
   }
@@ -51,8 +55,10 @@ public class CheckInByBarcodeResource extends Resource {
 
   private void checkIn(RoutingContext routingContext) {
     final WebContext context = new WebContext(routingContext);
+    final StageTimer timer = context.getStageTimer(CHECK_IN_OPERATION);
 
     final Clients clients = Clients.create(context, client);
+    final Executor executor = clients.executor();
 
     final var userRepository = new UserRepository(clients);
     final var itemRepository = new ItemRepository(clients);
@@ -84,59 +90,69 @@ public class CheckInByBarcodeResource extends Resource {
     refuseWhenLoggedInUserNotPresent(context)
       .next(notUsed -> checkInRequestResult)
       .map(CheckInContext::new)
-      .combineAfter(processAdapter::findItem, (records, item) -> records
+      .combineAfter(timer.timed("lookupItem", processAdapter::findItem), (records, item) -> records
         .withItemAndUpdatedLoan(item)
         .withItemStatusBeforeCheckIn(item.getStatus()))
       .thenApply(checkInValidators::refuseWhenItemIsNotAllowedForCheckIn)
       .thenApply(checkInValidators::refuseWhenClaimedReturnedIsNotResolved)
       .thenComposeAsync(r -> r.combineAfter(circulationSettingsService::getTlrSettings,
-        CheckInContext::withTlrSettings))
+        CheckInContext::withTlrSettings), executor)
       .thenComposeAsync(r -> r.combineAfter(settingsRepository::lookupTimeZoneSettings,
-        CheckInContext::withTimeZone))
-      .thenComposeAsync(findItemResult -> findItemResult.combineAfter(
-        processAdapter::getRequestQueue, CheckInContext::withRequestQueue))
-      .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest))
+        CheckInContext::withTimeZone), executor)
+      .thenComposeAsync(timer.timed("lookupRequestQueue",
+        findItemResult -> findItemResult.combineAfter(
+          processAdapter::getRequestQueue, CheckInContext::withRequestQueue)), executor)
+      .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest), executor)
       .thenApply(findRequestQueueResult -> findRequestQueueResult.map(
         processAdapter::setInHouseUse))
-      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
-      .thenComposeAsync(setUserResult -> setUserResult.after(processAdapter::logCheckInOperation))
-      .thenComposeAsync(logCheckInResult -> logCheckInResult.combineAfter(
-        processAdapter::findSingleOpenLoan, CheckInContext::withLoan))
-      .thenComposeAsync(findLoanResult -> findLoanResult.combineAfter(
-        processAdapter::checkInLoan, CheckInContext::withLoan))
+      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())), executor)
+      .thenComposeAsync(timer.timed("logCheckIn",
+        setUserResult -> setUserResult.after(processAdapter::logCheckInOperation)), executor)
+      .thenComposeAsync(timer.timed("lookupLoan",
+        logCheckInResult -> logCheckInResult.combineAfter(
+          processAdapter::findSingleOpenLoan, CheckInContext::withLoan)), executor)
+      .thenComposeAsync(timer.timed("checkInLoan",
+        findLoanResult -> findLoanResult.combineAfter(
+          processAdapter::checkInLoan, CheckInContext::withLoan)), executor)
       .thenApply(r -> r.map(processAdapter::markReturnedIfForUseAtLocation))
-      .thenComposeAsync(checkInLoan -> checkInLoan.combineAfter(
-        processAdapter::updateRequestQueue, CheckInContext::withRequestQueue))
-        .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest))
+      .thenComposeAsync(timer.timed("updateRequestQueue",
+        checkInLoan -> checkInLoan.combineAfter(
+          processAdapter::updateRequestQueue, CheckInContext::withRequestQueue)), executor)
+        .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest), executor)
       .thenComposeAsync(checkInContextResult ->
         checkInContextResult.combineAfter(processAdapter::findFloatingDestination,
-          CheckInContext::withItemAndUpdatedLoan))
-      .thenComposeAsync(updateRequestQueueResult -> updateRequestQueueResult.combineAfter(
-        processAdapter::updateItem, CheckInContext::withItemAndUpdatedLoan))
+          CheckInContext::withItemAndUpdatedLoan), executor)
+      .thenComposeAsync(timer.timed("updateItem",
+        updateRequestQueueResult -> updateRequestQueueResult.combineAfter(
+          processAdapter::updateItem, CheckInContext::withItemAndUpdatedLoan)), executor)
       .thenApply(handleItemStatus -> handleItemStatus.next(
         requestNoticeSender::sendNoticeOnRequestAwaitingPickup))
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getDestinationServicePoint, CheckInContext::withItemAndUpdatedLoan))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getCheckInServicePoint, CheckInContext::withCheckInServicePoint))
+        processAdapter::getDestinationServicePoint, CheckInContext::withItemAndUpdatedLoan), executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getPickupServicePoint, CheckInContext::withHighestPriorityFulfillableRequest))
+        processAdapter::getCheckInServicePoint, CheckInContext::withCheckInServicePoint), executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getRequester, CheckInContext::withHighestPriorityFulfillableRequest))
+        processAdapter::getPickupServicePoint, CheckInContext::withHighestPriorityFulfillableRequest), executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getAddressType, CheckInContext::withHighestPriorityFulfillableRequest))
+        processAdapter::getRequester, CheckInContext::withHighestPriorityFulfillableRequest), executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::updateLoan, CheckInContext::withLoan))
-      .thenComposeAsync(updateItemResult -> updateItemResult.after(
-        patronActionSessionService::saveCheckInSessionRecord))
-      .thenComposeAsync(r -> r.after(processAdapter::refundLostItemFees))
-      .thenComposeAsync(r -> r.after(
-        records -> processAdapter.createOverdueFineIfNecessary(records, context)))
-      .thenComposeAsync(r -> r.after(v -> eventPublisher.publishItemCheckedInEvents(v, userRepository, loanRepository)))
+        processAdapter::getAddressType, CheckInContext::withHighestPriorityFulfillableRequest), executor)
+      .thenComposeAsync(timer.timed("updateLoan",
+        updateItemResult -> updateItemResult.combineAfter(
+          processAdapter::updateLoan, CheckInContext::withLoan)), executor)
+      .thenComposeAsync(timer.timed("saveSessionRecord",
+        updateItemResult -> updateItemResult.after(
+          patronActionSessionService::saveCheckInSessionRecord)), executor)
+      .thenComposeAsync(timer.timed("refundLostItemFees",
+        r -> r.after(processAdapter::refundLostItemFees)), executor)
+      .thenComposeAsync(timer.timed("createOverdueFine", r -> r.after(
+        records -> processAdapter.createOverdueFineIfNecessary(records, context))), executor)
+      .thenComposeAsync(timer.timed("publishCheckedInEvents",
+        r -> r.after(v -> eventPublisher.publishItemCheckedInEvents(v, userRepository, loanRepository))), executor)
       .thenApply(r -> r.next(requestScheduledNoticeService::rescheduleRequestNotices))
       .thenApply(r -> r.map(CheckInByBarcodeResponse::fromRecords))
       .thenApply(r -> r.map(CheckInByBarcodeResponse::toHttpResponse))
-      .thenAccept(context::writeResultToHttpResponse);
+      .thenAccept(r -> context.writeResultToHttpResponse(r, timer));
   }
 
   private ValidationErrorFailure errorWhenInIncorrectStatus(Item item) {
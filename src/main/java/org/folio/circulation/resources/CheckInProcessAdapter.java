@@ -2,11 +2,13 @@ package org.folio.circulation.resources;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.domain.representations.LoanProperties.USAGE_STATUS_RETURNED;
+import static org.folio.circulation.support.results.ContextExecutor.orForCurrentContext;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.lang.invoke.MethodHandles;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -71,6 +73,7 @@ class CheckInProcessAdapter {
   private final RequestQueueService requestQueueService;
   protected final EventPublisher eventPublisher;
   private final DepartmentRepository departmentRepository;
+  private final Executor executor;
 
   @SuppressWarnings("squid:S00107")
   CheckInProcessAdapter(
@@ -89,7 +92,8 @@ class CheckInProcessAdapter {
     LostItemFeeRefundService lostItemFeeRefundService,
     RequestQueueService requestQueueService,
     EventPublisher eventPublisher,
-    DepartmentRepository departmentRepository) {
+    DepartmentRepository departmentRepository,
+    Executor executor) {
 
     this.itemFinder = itemFinder;
     this.singleOpenLoanFinder = singleOpenLoanFinder;
@@ -109,6 +113,7 @@ class CheckInProcessAdapter {
     this.requestQueueService = requestQueueService;
     this.eventPublisher = eventPublisher;
     this.departmentRepository = departmentRepository;
+    this.executor = executor;
   }
 
   public static CheckInProcessAdapter newInstance(Clients clients,
@@ -151,7 +156,8 @@ class CheckInProcessAdapter {
         userRepository, loanRepository),
       requestQueueService,
       new EventPublisher(clients),
-      new DepartmentRepository(clients));
+      new DepartmentRepository(clients),
+      orForCurrentContext(clients.executor()));
   }
 
   CompletableFuture<Result<Item>> findItem(CheckInContext context) {
@@ -177,13 +183,8 @@ class CheckInProcessAdapter {
     boolean tlrEnabled = context.getTlrSettings().isTitleLevelRequestsFeatureEnabled();
     log.info("getRequestQueue:: tlrEnabled: {}", tlrEnabled);
 
-    if (!tlrEnabled) {
-      return requestQueueRepository.getByItemId(context.getItem().getItemId());
-    }
-    else {
-      return requestQueueRepository.getByInstanceIdAndItemId(context.getItem().getInstanceId(),
-        context.getItem().getItemId());
-    }
+    return requestQueueRepository.getWithoutRelatedRecords(context.getTlrSettings(),
+      context.getItem().getInstanceId(), context.getItem().getItemId());
   }
 
   CompletableFuture<Result<Item>> updateItem(CheckInContext context) {
@@ -253,7 +254,7 @@ class CheckInProcessAdapter {
       return completedFuture(succeeded(null));
     }
     return userRepository.getUserWithPatronGroup(firstRequest)
-      .thenComposeAsync(departmentRepository::findDepartmentsForUser)
+      .thenComposeAsync(departmentRepository::findDepartmentsForUser, executor)
       .thenApply(r -> r.map(firstRequest::withRequester));
   }
 
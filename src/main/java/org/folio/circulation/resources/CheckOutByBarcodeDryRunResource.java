@@ -27,6 +27,7 @@ import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 
 public class CheckOutByBarcodeDryRunResource extends Resource {
+  private static final String CHECK_OUT_DRY_RUN_OPERATION = "check-out-dry-run";
 
   private final String rootPath;
   private final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
@@ -59,13 +60,15 @@ public class CheckOutByBarcodeDryRunResource extends Resource {
     var clients = Clients.create(context, client);
     final var patronNoticePolicyRepository = new PatronNoticePolicyRepository(clients);
 
+    final var stageTimer = context.getStageTimer(CHECK_OUT_DRY_RUN_OPERATION);
+
     checkOutByBarcodeResource.checkOut(checkOutByBarcodeRequest, routingContext, context,
       errorHandler, permissions, clients, true)
         .thenCompose(r -> r.after(records -> lookupNoticePolicyId(records,
           patronNoticePolicyRepository)))
         .thenApply(r -> r.next(this::mapToResponse))
         .thenApply(r -> r.map(JsonHttpResponse::created))
-        .thenAccept(context::writeResultToHttpResponse);
+        .thenAccept(r -> context.writeResultToHttpResponse(r, stageTimer));
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> lookupNoticePolicyId(
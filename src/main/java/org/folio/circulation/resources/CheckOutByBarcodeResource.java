@@ -32,6 +32,8 @@ import org.folio.circulation.domain.LoanRepresentation;
 import org.folio.circulation.domain.LoanService;
 import org.folio.circulation.domain.RequestQueue;
 import org.folio.circulation.domain.UpdateRequestQueue;
+import org.folio.circulation.domain.User;
+import org.folio.circulation.domain.configuration.CheckoutLockConfiguration;
 import org.folio.circulation.domain.configuration.TlrSettingsConfiguration;
 import org.folio.circulation.domain.notice.schedule.LoanScheduledNoticeService;
 import org.folio.circulation.domain.notice.schedule.ReminderFeeScheduledNoticeService;
@@ -56,6 +58,7 @@ import org.folio.circulation.infrastructure.storage.requests.RequestRepository;
 import org.folio.circulation.infrastructure.storage.sessions.PatronActionSessionRepository;
 import org.folio.circulation.infrastructure.storage.users.PatronGroupRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
+import org.folio.circulation.resources.context.CheckOutLookups;
 import org.folio.circulation.resources.handlers.error.CirculationErrorHandler;
 import org.folio.circulation.resources.handlers.error.CirculationErrorType;
 import org.folio.circulation.resources.handlers.error.OverridingErrorHandler;
@@ -78,6 +81,7 @@ public class CheckOutByBarcodeResource extends Resource {
 
   private static final CirculationErrorType[] PARTIAL_SUCCESS_ERRORS = {
     FAILED_TO_SAVE_SESSION_RECORD, FAILED_TO_PUBLISH_CHECKOUT_EVENT};
+  static final String CHECK_OUT_OPERATION = "check-out";
   private final String rootPath;
   private final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
@@ -101,12 +105,13 @@ public class CheckOutByBarcodeResource extends Resource {
     var permissions = OkapiPermissions.from(new WebContext(routingContext).getHeaders());
     var errorHandler = new OverridingErrorHandler(permissions);
     var clients = Clients.create(context, client);
+    var stageTimer = context.getStageTimer(CHECK_OUT_OPERATION);
 
     checkOut(request, routingContext, context, errorHandler, permissions, clients, false)
       .thenApply(r -> r.map(LoanAndRelatedRecords::getLoan))
       .thenApply(r -> r.map(loanRepresentation::extendedLoan))
       .thenApply(r -> createdLoanFrom(r, errorHandler))
-      .thenAccept(context::writeResultToHttpResponse);
+      .thenAccept(r -> context.writeResultToHttpResponse(r, stageTimer));
   }
 
   CompletableFuture<Result<LoanAndRelatedRecords>> checkOut(CheckOutByBarcodeRequest request,
@@ -143,36 +148,44 @@ public class CheckOutByBarcodeResource extends Resource {
     final var settingsRepository = new SettingsRepository(clients);
     final var circulationSettingsService = new CirculationSettingsService(clients);
 
+    final var timer = context.getStageTimer(CHECK_OUT_OPERATION);
+    final var executor = clients.executor();
+    final var lookups = CheckOutLookups.start(request, userRepository, itemRepository,
+      circulationSettingsService, settingsRepository, isDryRun);
 
     var dryRunCheckOut = ofAsync(() -> new LoanAndRelatedRecords(request.toLoan(),
       request.getForceLoanPolicyId()))
       .thenApply(validators::refuseCheckOutWhenServicePointIsNotPresent)
-      .thenComposeAsync(r -> lookupUser(request.getUserBarcode(), userRepository, r, errorHandler))
-      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedManuallyForPatron)
-      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedAutomaticallyForPatron)
-      .thenComposeAsync(r -> lookupProxyUser(request.getProxyUserBarcode(), userRepository, r,
-        errorHandler))
+      .thenComposeAsync(timer.timed("lookupUser",
+        r -> lookupUser(lookups.getUser(), r, errorHandler)), executor)
+      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedForPatron, executor)
+      .thenComposeAsync(timer.timed("lookupProxyUser",
+        r -> lookupProxyUser(lookups.getProxyUser(), r, errorHandler)), executor)
       .thenApply(validators::refuseWhenUserIsInactive)
       .thenApply(validators::refuseWhenProxyUserIsInactive)
-      .thenComposeAsync(validators::refuseWhenInvalidProxyRelationship)
-      .thenComposeAsync(r -> lookupItem(request.getItemBarcode(), itemRepository, r))
+      .thenComposeAsync(validators::refuseWhenInvalidProxyRelationship, executor)
+      .thenComposeAsync(timer.timed("lookupItem", r -> lookupItem(lookups.getItem(), r)), executor)
       .thenApply(validators::refuseWhenItemNotFound)
       .thenApply(validators::refuseWhenItemIsAlreadyCheckedOut)
       .thenApply(validators::refuseWhenItemIsNotAllowedForCheckOut)
-      .thenComposeAsync(validators::refuseWhenItemHasOpenLoans)
-      .thenComposeAsync(r -> r.combineAfter(circulationSettingsService::getTlrSettings,
-        LoanAndRelatedRecords::withTlrSettings))
-      .thenComposeAsync(r -> r.combineAfter(l -> getRequestQueue(l, requestQueueRepository),
-        LoanAndRelatedRecords::withRequestQueue))
+      .thenComposeAsync(timer.timed("lookupOpenLoans", validators::refuseWhenItemHasOpenLoans), executor)
+      .thenComposeAsync(r -> r.combineAfter(lookups::getTlrSettings,
+        LoanAndRelatedRecords::withTlrSettings), executor)
+      .thenComposeAsync(timer.timed("lookupRequestQueue",
+        r -> r.combineAfter(l -> getRequestQueue(l, requestQueueRepository),
+          LoanAndRelatedRecords::withRequestQueue)), executor)
       .thenCompose(validators::refuseWhenRequestedByAnotherPatron)
-      .thenComposeAsync(r -> r.after(l -> lookupLoanPolicy(l, loanPolicyRepository, errorHandler)))
-      .thenComposeAsync(validators::refuseWhenItemLimitIsReached)
+      .thenComposeAsync(timer.timed("lookupLoanPolicy",
+        r -> r.after(l -> lookupLoanPolicy(l, loanPolicyRepository, errorHandler))), executor)
+      .thenComposeAsync(timer.timed("checkItemLimit", validators::refuseWhenItemLimitIsReached), executor)
       .thenCompose(validators::refuseWhenItemIsNotLoanable)
       .thenApply(r -> r.next(errorHandler::failWithValidationErrors))
-      .thenCompose(r -> r.combineAfter(settingsRepository::lookupTimeZoneSettings,
+      .thenCompose(r -> r.combineAfter(lookups::getTimeZone,
         LoanAndRelatedRecords::withTimeZone))
-      .thenComposeAsync(r -> r.after(overdueFinePolicyRepository::lookupOverdueFinePolicy))
-      .thenComposeAsync(r -> r.after(lostItemPolicyRepository::lookupLostItemPolicy));
+      .thenComposeAsync(timer.timed("lookupOverdueFinePolicy",
+        r -> r.after(overdueFinePolicyRepository::lookupOverdueFinePolicy)), executor)
+      .thenComposeAsync(timer.timed("lookupLostItemPolicy",
+        r -> r.after(lostItemPolicyRepository::lookupLostItemPolicy)), executor);
 
     if (isDryRun) {
       return dryRunCheckOut;
@@ -181,36 +194,42 @@ public class CheckOutByBarcodeResource extends Resource {
 
     return dryRunCheckOut
       .thenApply(r -> r.next(this::setItemLocationIdAtCheckout))
-      .thenComposeAsync(r -> r.after(records -> checkOut(records, clients)))
+      .thenComposeAsync(timer.timed("calculateDueDate",
+        r -> r.after(records -> checkOut(records, clients))), executor)
       .thenApply(r -> r.map(this::checkOutItem))
       .thenApply(r -> r.map(this::markInUseIfForUseAtLocation))
-      .thenCompose(r -> r.after(l -> acquireLockIfNeededOrFail(settingsRepository,
+      .thenCompose(r -> r.after(l -> acquireLockIfNeededOrFail(lookups.getCheckOutLockSettings(),
         checkOutLockRepository, l, checkOutLockId, validators, errorHandler)))
-      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
-      .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices))
-      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled))
-      .thenComposeAsync(r -> r.after(patronGroupRepository::findPatronGroupForLoanAndRelatedRecords))
-      .thenComposeAsync(r -> r.after(l -> updateItem(l, itemRepository)))
-      .thenComposeAsync(r -> r.after(loanRepository::createLoan))
-      .thenComposeAsync(r -> r.after(l -> saveCheckOutSessionRecord(l, patronActionSessionService,
-        errorHandler)))
+      .thenComposeAsync(timer.timed("updateRequestQueue",
+        r -> r.after(requestQueueUpdate::onCheckOut)), executor)
+      .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices), executor)
+      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled), executor)
+      .thenComposeAsync(r -> r.after(patronGroupRepository::findPatronGroupForLoanAndRelatedRecords), executor)
+      .thenComposeAsync(timer.timed("updateItem",
+        r -> r.after(l -> updateItem(l, itemRepository))), executor)
+      .thenComposeAsync(timer.timed("createLoan", r -> r.after(loanRepository::createLoan)), executor)
+      .thenComposeAsync(timer.timed("saveSessionRecord",
+        r -> r.after(l -> saveCheckOutSessionRecord(l, patronActionSessionService,
+          errorHandler))), executor)
       .thenApply(r -> deleteCheckOutLock(r, checkOutLockRepository, checkOutLockId.get()))
-      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
-      .thenComposeAsync(r -> r.after(l -> publishItemCheckedOutEvent(l, eventPublisher,
-        userRepository, errorHandler)))
+      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())), executor)
+      .thenComposeAsync(timer.timed("publishCheckedOutEvent",
+        r -> r.after(l -> publishItemCheckedOutEvent(l, eventPublisher,
+          userRepository, errorHandler))), executor)
       .thenApply(r -> r.next(scheduledNoticeService::scheduleNoticesForLoanDueDate))
       .thenApply(r -> r.next(reminderFeeScheduledNoticesService::scheduleFirstReminder));
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> acquireLockIfNeededOrFail(
-    SettingsRepository settingsRepository, CheckOutLockRepository checkOutLockRepository,
+    CompletableFuture<Result<CheckoutLockConfiguration>> checkOutLockSettings,
+    CheckOutLockRepository checkOutLockRepository,
     LoanAndRelatedRecords loanAndRelatedRecords, AtomicReference<String> checkOutLockId,
     CheckOutValidators validators, CirculationErrorHandler errorHandler) {
 
     log.debug("acquireLockIfNeededOrFail:: parameters loanAndRelatedRecords: {}",
       () -> loanAndRelatedRecords);
 
-    return settingsRepository.lookUpCheckOutLockSettings()
+    return checkOutLockSettings
       .thenApply(cr -> succeeded(loanAndRelatedRecords).combine(cr,
         LoanAndRelatedRecords::withCheckoutLockConfiguration))
       .thenCompose(r -> r.after(records -> this.acquireLock(records, checkOutLockRepository,
@@ -342,30 +361,28 @@ public class CheckOutByBarcodeResource extends Resource {
     return String.format("/circulation/loans/%s", id);
   }
 
-  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupUser(String barcode,
-    UserRepository userRepository, Result<LoanAndRelatedRecords> loanResult,
+  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupUser(
+    CompletableFuture<Result<User>> user, Result<LoanAndRelatedRecords> loanResult,
     CirculationErrorHandler errorHandler) {
 
-    return userRepository.getUserByBarcode(barcode)
+    return user
       .thenApply(userResult -> loanResult.combine(userResult, LoanAndRelatedRecords::withRequestingUser))
       .thenApply(r -> errorHandler.handleValidationResult(r, FAILED_TO_FETCH_USER, loanResult));
   }
 
-  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupProxyUser(String barcode,
-    UserRepository userRepository, Result<LoanAndRelatedRecords> loanResult,
+  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupProxyUser(
+    CompletableFuture<Result<User>> proxyUser, Result<LoanAndRelatedRecords> loanResult,
     CirculationErrorHandler errorHandler) {
 
-    return userRepository.getProxyUserByBarcode(barcode)
+    return proxyUser
       .thenApply(userResult -> loanResult.combine(userResult, LoanAndRelatedRecords::withProxyingUser))
       .thenApply(r -> errorHandler.handleValidationResult(r, FAILED_TO_FETCH_PROXY_USER, loanResult));
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> lookupItem(
-    String barcode, ItemRepository itemRepository, Result<LoanAndRelatedRecords> loanResult) {
+    CompletableFuture<Result<Item>> item, Result<LoanAndRelatedRecords> loanResult) {
 
-    log.debug("lookupItem:: parameters barcode: {}", barcode);
-
-    return itemRepository.fetchByBarcode(barcode)
+    return item
       .thenApply(itemResult -> loanResult.combine(itemResult, LoanAndRelatedRecords::withItem));
   }
 
@@ -1,9 +1,14 @@
 package org.folio.circulation.resources;
 
+import static java.util.function.Function.identity;
+
+import java.util.List;
+
 import org.folio.circulation.services.ItemsInTransitReportService;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.HttpResponse;
+import org.folio.circulation.support.http.server.PagedJsonHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 
 import io.vertx.core.http.HttpClient;
@@ -28,9 +33,21 @@ public class ItemsInTransitResource extends Resource {
   private void buildReport(RoutingContext routingContext) {
     final WebContext context = new WebContext(routingContext);
     final Clients clients = Clients.create(context, client);
+    final var reportService = new ItemsInTransitReportService(clients);
 
-    new ItemsInTransitReportService(clients).buildReport()
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
+    reportService.buildReport()
+      .thenApply(r -> r.map(pages -> toResponse(reportService, pages)))
       .thenAccept(context::writeResultToHttpResponse);
   }
+
+  /**
+   * Items that can no longer be found when their page is built are left out, so the
+   * total is the number of items written rather than the number of IDs found
+   */
+  private static HttpResponse toResponse(ItemsInTransitReportService reportService,
+    List<List<String>> pages) {
+
+    return PagedJsonHttpResponse.ok("items", pages.size(),
+      pageIndex -> reportService.buildPage(pages.get(pageIndex)), identity());
+  }
 }
@@ -1,7 +1,16 @@
 package org.folio.circulation.resources;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.representations.LoanProperties.BORROWER;
+import static org.folio.circulation.domain.representations.LoanProperties.CHECKIN_SERVICE_POINT;
+import static org.folio.circulation.domain.representations.LoanProperties.CHECKOUT_SERVICE_POINT;
+import static org.folio.circulation.domain.representations.LoanProperties.FEESANDFINES;
+import static org.folio.circulation.domain.representations.LoanProperties.ITEM;
 import static org.folio.circulation.domain.representations.LoanProperties.ITEM_ID;
+import static org.folio.circulation.domain.representations.LoanProperties.LOAN_POLICY;
+import static org.folio.circulation.domain.representations.LoanProperties.LOST_ITEM_POLICY;
+import static org.folio.circulation.domain.representations.LoanProperties.OVERDUE_FINE_POLICY;
+import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_AT_CHECKOUT;
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
 import static org.folio.circulation.support.results.MappingFunctions.toFixedValue;
 import static org.folio.circulation.support.results.Result.of;
@@ -20,6 +29,7 @@ import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.LoanRepresentation;
 import org.folio.circulation.domain.LoanService;
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.RequestQueue;
 import org.folio.circulation.domain.UpdateItem;
 import org.folio.circulation.domain.UpdateRequestQueue;
@@ -49,6 +59,8 @@ import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.services.RequestQueueService;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.fetching.ConcurrentEnrichment;
+import org.folio.circulation.support.http.server.IncludedRelatedRecords;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
@@ -262,36 +274,81 @@ public class LoanCollectionResource extends CollectionResource {
     WebContext context = new WebContext(routingContext);
     Clients clients = Clients.create(context, client);
 
+    final LoanRepresentation loanRepresentation = new LoanRepresentation();
+    final String query = routingContext.request().query();
+
+    IncludedRelatedRecords.fromQueryString(query, LoanRepresentation.RELATED_RECORDS)
+      .after(include -> findLoans(clients, IncludedRelatedRecords.withoutIncludeParameter(query),
+          include)
+        .thenApply(multipleLoanRecordsResult -> multipleLoanRecordsResult.map(loans ->
+          loans.asJson(loan -> loanRepresentation.extendedLoan(loan, include), "loans"))))
+      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  /**
+   * Fetches the loans matching the query, along with only the related records that are included
+   */
+  private CompletableFuture<Result<MultipleRecords<Loan>>> findLoans(Clients clients,
+    String query, IncludedRelatedRecords include) {
+
+    log.debug("findLoans:: parameters query: {}, include: {}", query, include);
+
     final var userRepository = new UserRepository(clients);
     final var itemRepository = new ItemRepository(clients);
     final var loanRepository = new LoanRepository(clients, itemRepository, userRepository);
     final ServicePointRepository servicePointRepository = new ServicePointRepository(clients);
-    final LoanRepresentation loanRepresentation = new LoanRepresentation();
     final LoanPolicyRepository loanPolicyRepository = new LoanPolicyRepository(clients);
     final OverdueFinePolicyRepository overdueFinePolicyRepository = new OverdueFinePolicyRepository(clients);
     final LostItemPolicyRepository lostItemPolicyRepository = new LostItemPolicyRepository(clients);
     final AccountRepository accountRepository = new AccountRepository(clients);
     final PatronGroupRepository patronGroupRepository = new PatronGroupRepository(clients);
 
-    loanRepository.findBy(routingContext.request().query())
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(accountRepository::findAccountsForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(servicePointRepository::findServicePointsForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(userRepository::findUsersForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(loanPolicyRepository::findLoanPoliciesForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(overdueFinePolicyRepository::findOverdueFinePoliciesForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(lostItemPolicyRepository::findLostItemPoliciesForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(patronGroupRepository::findPatronGroupsByIds))
-      .thenApply(multipleLoanRecordsResult -> multipleLoanRecordsResult.map(loans ->
-        loans.asJson(loanRepresentation::extendedLoan, "loans")))
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
-      .thenAccept(context::writeResultToHttpResponse);
+    // These look ups do not depend upon each other, so are made at the same time
+    final ConcurrentEnrichment<Loan> enrichment = new ConcurrentEnrichment<>();
+
+    if (include.includes(FEESANDFINES)) {
+      enrichment.with(accountRepository::findAccountsForLoans,
+        (loan, enriched) -> loan.withAccounts(enriched.getAccounts()));
+    }
+
+    if (include.includesAny(CHECKIN_SERVICE_POINT, CHECKOUT_SERVICE_POINT)) {
+      enrichment.with(servicePointRepository::findServicePointsForLoans,
+        (loan, enriched) -> loan
+          .withCheckinServicePoint(enriched.getCheckinServicePoint())
+          .withCheckoutServicePoint(enriched.getCheckoutServicePoint()));
+    }
+
+    if (include.includes(BORROWER)) {
+      enrichment.with(userRepository::findUsersForLoans,
+        (loan, enriched) -> loan.withUser(enriched.getUser()));
+    }
+
+    if (include.includes(LOAN_POLICY)) {
+      enrichment.with(loanPolicyRepository::findLoanPoliciesForLoans,
+        (loan, enriched) -> loan.withLoanPolicy(enriched.getLoanPolicy()));
+    }
+
+    if (include.includes(OVERDUE_FINE_POLICY)) {
+      enrichment.with(overdueFinePolicyRepository::findOverdueFinePoliciesForLoans,
+        (loan, enriched) -> loan.withOverdueFinePolicy(enriched.getOverdueFinePolicy()));
+    }
+
+    if (include.includes(LOST_ITEM_POLICY)) {
+      enrichment.with(lostItemPolicyRepository::findLostItemPoliciesForLoans,
+        (loan, enriched) -> loan.withLostItemPolicy(enriched.getLostItemPolicy()));
+    }
+
+    final CompletableFuture<Result<MultipleRecords<Loan>>> loans = include.includes(ITEM)
+      ? loanRepository.findBy(query)
+      : loanRepository.findByWithoutItems(query);
+
+    return loans
+      .thenCompose(multiLoanRecordsResult -> multiLoanRecordsResult.after(enrichment::enrich))
+      // Patron groups are written into the loan itself, so are added once the others are merged
+      .thenCompose(multiLoanRecordsResult -> include.includes(PATRON_GROUP_AT_CHECKOUT)
+        ? multiLoanRecordsResult.after(patronGroupRepository::findPatronGroupsByIds)
+        : completedFuture(multiLoanRecordsResult));
   }
 
   @Override
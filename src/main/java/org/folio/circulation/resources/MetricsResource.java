@@ -0,0 +1,190 @@
+package org.folio.circulation.resources;
+
+import org.folio.circulation.infrastructure.storage.ServicePointCalendarCache;
+import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyCache;
+import org.folio.circulation.rules.cache.ReferenceDataCache;
+import org.folio.circulation.services.AllowedServicePointsCache;
+import org.folio.circulation.services.PubSubPublishingOutbox;
+import org.folio.circulation.services.events.KafkaCirculationEventPublisher;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.http.client.HttpClientPool;
+import org.folio.circulation.support.metrics.OutboundCallMetrics;
+import org.folio.circulation.support.metrics.PrometheusTextWriter;
+import org.folio.circulation.support.metrics.StageTimingMetrics;
+import org.folio.circulation.support.results.AsyncWorkLimiter;
+import org.folio.circulation.support.results.ContextExecutor;
+
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Exposes the module's metrics in the Prometheus text format: requests made to other modules,
+ * stages of check in, check out and renewal, HTTP connection pools, asynchronous stages,
+ * batch process limiters, reference data caches and event publishing
+ */
+public class MetricsResource {
+  public void register(Router router) {
+    RouteRegistration routeRegistration = new RouteRegistration("/admin/metrics", router);
+    routeRegistration.getMany(this::getMetrics);
+  }
+
+  private void getMetrics(RoutingContext routingContext) {
+    final var writer = new PrometheusTextWriter();
+
+    OutboundCallMetrics.getInstance().writeTo(writer);
+    StageTimingMetrics.getInstance().writeTo(writer);
+    writeHttpClientPools(writer);
+    writeContextExecutors(writer);
+    writeBatchLimiters(writer);
+    writeReferenceDataCaches(writer);
+    writePubSubOutboxes(writer);
+    writeKafkaEventPublishers(writer);
+
+    routingContext.response()
+      .putHeader("content-type", PrometheusTextWriter.CONTENT_TYPE)
+      .end(writer.toString());
+  }
+
+  private static void writeHttpClientPools(PrometheusTextWriter writer) {
+    writer.describe("circulation_http_pool_max_size", "gauge",
+      "Maximum number of connections in the pool");
+    writer.describe("circulation_http_pool_connections", "gauge",
+      "Connections the pool has open");
+    writer.describe("circulation_http_pool_in_flight", "gauge",
+      "Requests made using the pool that have not yet completed, including those "
+        + "waiting for a connection");
+    writer.describe("circulation_http_pool_max_in_flight", "gauge",
+      "Most requests made using the pool that have been in flight at the same time");
+    writer.describe("circulation_http_pool_requests_total", "counter",
+      "Requests made using the pool");
+
+    HttpClientPool.pools().forEach(pool -> {
+      final String[] labels = { "pool", pool.getName(), "instance", pool.getInstance() };
+
+      writer.sample("circulation_http_pool_max_size", pool.getMaximumSize(), labels);
+      writer.sample("circulation_http_pool_connections", pool.getConnections(), labels);
+      writer.sample("circulation_http_pool_in_flight", pool.getInFlight(), labels);
+      writer.sample("circulation_http_pool_max_in_flight", pool.getMaximumInFlight(), labels);
+      writer.sample("circulation_http_pool_requests_total", pool.getRequestCount(), labels);
+    });
+  }
+
+  private static void writeContextExecutors(PrometheusTextWriter writer) {
+    writer.describe("circulation_async_stages_total", "counter",
+      "Asynchronous stages of a request, by whether they were submitted from the request's "
+        + "context, from another thread (a context switch) or run without a context");
+
+    writer.sample("circulation_async_stages_total", ContextExecutor.getOnContextCount(),
+      "submitted", "on-context");
+    writer.sample("circulation_async_stages_total", ContextExecutor.getContextSwitchCount(),
+      "submitted", "other-thread");
+    writer.sample("circulation_async_stages_total", ContextExecutor.getWithoutContextCount(),
+      "submitted", "without-context");
+  }
+
+  private static void writeBatchLimiters(PrometheusTextWriter writer) {
+    writer.describe("circulation_batch_requests_in_flight", "gauge",
+      "Requests made by a batch process that have not yet completed");
+    writer.describe("circulation_batch_requests_waiting", "gauge",
+      "Requests of a batch process waiting for an earlier request to complete");
+    writer.describe("circulation_batch_requests_completed_total", "counter",
+      "Requests made by a batch process that have completed");
+
+    AsyncWorkLimiter.batchLimiters().forEach(limiter -> {
+      writer.sample("circulation_batch_requests_in_flight", limiter.getInFlight(),
+        "limiter", limiter.getName());
+      writer.sample("circulation_batch_requests_waiting", limiter.getQueueDepth(),
+        "limiter", limiter.getName());
+      writer.sample("circulation_batch_requests_completed_total", limiter.getCompletedCount(),
+        "limiter", limiter.getName());
+    });
+  }
+
+  private static void writeReferenceDataCaches(PrometheusTextWriter writer) {
+    writer.describe("circulation_reference_data_cache_hits_total", "counter",
+      "Reference data requests answered from the cache");
+    writer.describe("circulation_reference_data_cache_misses_total", "counter",
+      "Reference data requests that were not in the cache");
+
+    writeReferenceDataCache(writer, "reference-data", ReferenceDataCache.getInstance());
+
+    final var patronNoticePolicyCache = PatronNoticePolicyCache.getInstance();
+    writer.sample("circulation_reference_data_cache_hits_total",
+      patronNoticePolicyCache.getHitCount(), "cache", "patron-notice-policy");
+    writer.sample("circulation_reference_data_cache_misses_total",
+      patronNoticePolicyCache.getMissCount(), "cache", "patron-notice-policy");
+    writer.sample("circulation_reference_data_cache_hits_total",
+      patronNoticePolicyCache.getTemplateHitCount(), "cache", "notice-template");
+    writer.sample("circulation_reference_data_cache_misses_total",
+      patronNoticePolicyCache.getTemplateMissCount(), "cache", "notice-template");
+
+    final var calendarCache = ServicePointCalendarCache.getInstance();
+    writer.sample("circulation_reference_data_cache_hits_total", calendarCache.getHitCount(),
+      "cache", "calendar");
+    writer.sample("circulation_reference_data_cache_misses_total", calendarCache.getMissCount(),
+      "cache", "calendar");
+
+    final var allowedServicePointsCache = AllowedServicePointsCache.getInstance();
+    writer.sample("circulation_reference_data_cache_hits_total",
+      allowedServicePointsCache.getHitCount(), "cache", "allowed-service-points");
+    writer.sample("circulation_reference_data_cache_misses_total",
+      allowedServicePointsCache.getMissCount(), "cache", "allowed-service-points");
+  }
+
+  private static void writeReferenceDataCache(PrometheusTextWriter writer, String name,
+    ReferenceDataCache cache) {
+
+    writer.sample("circulation_reference_data_cache_hits_total", cache.getHitCount(),
+      "cache", name);
+    writer.sample("circulation_reference_data_cache_misses_total", cache.getMissCount(),
+      "cache", name);
+  }
+
+  private static void writePubSubOutboxes(PrometheusTextWriter writer) {
+    writer.describe("circulation_pubsub_outbox_pending", "gauge",
+      "Events waiting to be published through pub-sub");
+    writer.describe("circulation_pubsub_outbox_delivered_total", "counter",
+      "Events from the outbox published through pub-sub");
+    writer.describe("circulation_pubsub_outbox_retried_total", "counter",
+      "Attempts to publish an event from the outbox that failed and were tried again");
+    writer.describe("circulation_pubsub_outbox_dropped_total", "counter",
+      "Events given up on after the maximum number of attempts");
+    writer.describe("circulation_pubsub_outbox_overflow_total", "counter",
+      "Events published straight away because the outbox was full");
+
+    PubSubPublishingOutbox.outboxes().forEach(outbox -> {
+      final String tenant = outbox.getTenantId();
+
+      writer.sample("circulation_pubsub_outbox_pending", outbox.getPendingCount(),
+        "tenant", tenant);
+      writer.sample("circulation_pubsub_outbox_delivered_total", outbox.getDeliveredCount(),
+        "tenant", tenant);
+      writer.sample("circulation_pubsub_outbox_retried_total", outbox.getRetriedCount(),
+        "tenant", tenant);
+      writer.sample("circulation_pubsub_outbox_dropped_total", outbox.getDroppedCount(),
+        "tenant", tenant);
+      writer.sample("circulation_pubsub_outbox_overflow_total", outbox.getOverflowCount(),
+        "tenant", tenant);
+    });
+  }
+
+  private static void writeKafkaEventPublishers(PrometheusTextWriter writer) {
+    writer.describe("circulation_kafka_events_published_total", "counter",
+      "Events sent directly to Kafka");
+    writer.describe("circulation_kafka_events_failed_total", "counter",
+      "Events that could not be sent to Kafka");
+    writer.describe("circulation_kafka_events_average_latency_seconds", "gauge",
+      "Average time taken for Kafka to acknowledge an event");
+    writer.describe("circulation_kafka_events_maximum_latency_seconds", "gauge",
+      "Longest time taken for Kafka to acknowledge an event");
+
+    KafkaCirculationEventPublisher.publishers().forEach(publisher -> {
+      writer.sample("circulation_kafka_events_published_total", publisher.getPublishedCount());
+      writer.sample("circulation_kafka_events_failed_total", publisher.getFailedCount());
+      writer.sample("circulation_kafka_events_average_latency_seconds",
+        publisher.getAverageLatencyMilliseconds() / 1000);
+      writer.sample("circulation_kafka_events_maximum_latency_seconds",
+        publisher.getMaximumLatencyMilliseconds() / 1000);
+    });
+  }
+}
@@ -46,6 +46,7 @@ import org.folio.circulation.services.RequestQueueService;
 import org.folio.circulation.storage.ItemByInstanceIdFinder;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.http.OkapiPermissions;
+import org.folio.circulation.support.http.server.IncludedRelatedRecords;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
@@ -236,16 +237,24 @@ public class RequestCollectionResource extends CollectionResource {
     final var requestRepository = RequestRepository.using(clients,
       itemRepository, userRepository, loanRepository);
 
-    fromFutureResult(requestRepository.findBy(routingContext.request().query()))
-      .map(this::mapToJson)
+    final var query = routingContext.request().query();
+
+    fromFutureResult(IncludedRelatedRecords.fromQueryString(query,
+        RequestRepresentation.RELATED_RECORDS)
+      .after(include -> requestRepository.findBy(
+          IncludedRelatedRecords.withoutIncludeParameter(query), include)
+        .thenApply(r -> r.map(requests -> mapToJson(requests, include)))))
       .map(JsonHttpResponse::ok)
       .onComplete(context::write, context::write);
   }
 
-  private JsonObject mapToJson(MultipleRecords<Request> requests) {
+  private JsonObject mapToJson(MultipleRecords<Request> requests,
+    IncludedRelatedRecords include) {
+
     final var requestRepresentation = new RequestRepresentation();
 
-    return requests.asJson(requestRepresentation::extendedRepresentation, "requests");
+    return requests.asJson(request -> requestRepresentation.extendedRepresentation(
+      request, include), "requests");
   }
 
   @Override
@@ -39,13 +39,12 @@ import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.HttpResponse;
+import org.folio.circulation.support.http.server.StreamingJsonHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.json.JsonArray;
-import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 
@@ -71,7 +70,6 @@ public class RequestHoldShelfClearanceResource extends Resource {
   private static final String REQUESTS_KEY = "requests";
   private static final String STATUS_KEY = "status";
   private static final String STATUS_NAME_KEY = "status.name";
-  private static final String TOTAL_RECORDS_KEY = "totalRecords";
   private static final String REQUEST_CLOSED_DATE_KEY = "awaitingPickupRequestClosedDate";
 
   private final String rootPath;
@@ -104,8 +102,7 @@ public class RequestHoldShelfClearanceResource extends Resource {
       .thenComposeAsync(r -> findExpiredOrCancelledRequestByItemIds(requestsStorage, r.value()))
       .thenApply(r -> findExpiredOrCancelledRequestByServicePoint(servicePointId, r.value()))
       .thenCompose(r -> fetchItemToRequest(r, itemRepository))
-      .thenApply(this::mapResultToJson)
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenApply(r -> r.map(this::toRequestsResponse))
       .thenAccept(context::writeResultToHttpResponse);
   }
 
@@ -288,18 +285,11 @@ public class RequestHoldShelfClearanceResource extends Resource {
       requests -> allOf(requests, request -> fetchItem(itemRepository, request)));
   }
 
-  private Result<JsonObject> mapResultToJson(Result<List<Request>> requestsResult) {
-    return requestsResult.map(this::toRequestsResponse);
-  }
-
-  private JsonObject toRequestsResponse(List<Request> requests) {
-    final List<JsonObject> requestsRepresentations = requests.stream()
-      .map(request -> new RequestRepresentation().extendedRepresentation(request))
-      .collect(Collectors.toList());
+  private HttpResponse toRequestsResponse(List<Request> requests) {
+    final var requestRepresentation = new RequestRepresentation();
 
-    return new JsonObject()
-      .put(REQUESTS_KEY, new JsonArray(requestsRepresentations))
-      .put(TOTAL_RECORDS_KEY, requestsRepresentations.size());
+    return StreamingJsonHttpResponse.ok(REQUESTS_KEY, requests,
+      requestRepresentation::extendedRepresentation);
   }
 
   private CompletableFuture<Result<Request>> fetchItem(ItemRepository itemRepository, Request request) {
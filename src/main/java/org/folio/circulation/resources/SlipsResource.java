@@ -5,6 +5,7 @@ import static java.util.Comparator.comparing;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
+import static org.folio.circulation.domain.mapper.StaffSlipMapper.addPrimaryServicePointNameToStaffSlip;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithCqlQuery;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.results.Result.ofAsync;
@@ -44,12 +45,12 @@ import org.folio.circulation.storage.mappers.LocationMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.PageLimit;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.HttpResponse;
+import org.folio.circulation.support.http.server.StreamingJsonHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
@@ -58,7 +59,6 @@ public abstract class SlipsResource extends Resource {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private static final PageLimit LOCATIONS_LIMIT = PageLimit.oneThousand();
   private static final String LOCATIONS_KEY = "locations";
-  private static final String TOTAL_RECORDS_KEY = "totalRecords";
   private static final String SEARCH_SLIPS_KEY = "searchSlips";
   private static final String SERVICE_POINT_ID_PARAM = "servicePointId";
   private static final String PRIMARY_SERVICE_POINT_KEY = "primaryServicePoint";
@@ -95,17 +95,14 @@ public abstract class SlipsResource extends Resource {
     isStaffSlipsPrintingDisabled(clients)
       .thenCompose(r -> r.after(isPrintingDisabled -> buildStaffSlips(
         servicePointId, clients, isPrintingDisabled)))
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
       .thenAccept(context::writeResultToHttpResponse);
   }
 
-  private CompletableFuture<Result<JsonObject>> buildStaffSlips(UUID servicePointId,
+  private CompletableFuture<Result<HttpResponse>> buildStaffSlips(UUID servicePointId,
     Clients clients, boolean isPrintingDisabled) {
 
     if (isPrintingDisabled) {
-      return ofAsync(new JsonObject()
-        .put(collectionName, new JsonArray())
-        .put(TOTAL_RECORDS_KEY, 0));
+      return ofAsync(StreamingJsonHttpResponse.ok(collectionName, List.of()));
     }
 
     final var userRepository = new UserRepository(clients);
@@ -127,7 +124,7 @@ public abstract class SlipsResource extends Resource {
       .thenCompose(r -> r.after(servicePointRepository::findServicePointsForRequests))
       .thenApplyAsync(r -> r.map(this::mapResultToJson))
       .thenCompose(r -> r.combineAfter(() -> servicePointRepository.getServicePointById(servicePointId),
-        this::addPrimaryServicePointNameToStaffSlipContext));
+        this::toStaffSlipsResponse));
   }
 
   private CompletableFuture<Result<Boolean>> isStaffSlipsPrintingDisabled(Clients clients) {
@@ -225,10 +222,10 @@ public abstract class SlipsResource extends Resource {
         .orElse(request)));
   }
 
-  private JsonObject mapResultToJson(MultipleRecords<Request> requests) {
+  private List<JsonObject> mapResultToJson(MultipleRecords<Request> requests) {
     log.debug("mapResultToJson:: parameters requests: {}", () -> multipleRecordsAsString(requests));
     JsonObject na = new JsonObject();
-    List<JsonObject> representations = requests.getRecords().stream()
+    return requests.getRecords().stream()
       .map(StaffSlipMapper::createStaffSlipContext)
       .sorted(comparing((JsonObject json) ->
           (json.getJsonObject("item", na).getString("effectiveLocationSpecific") == null
@@ -239,17 +236,16 @@ public abstract class SlipsResource extends Resource {
           .thenComparing(json -> (json.getJsonObject("item", na).getString("title") == null)
               ?  "_" : json.getJsonObject("item", na).getString("title")))
         .toList();
-
-    return new JsonObject()
-      .put(collectionName, representations)
-      .put(TOTAL_RECORDS_KEY, representations.size());
   }
 
-  private JsonObject addPrimaryServicePointNameToStaffSlipContext(JsonObject context,
-    ServicePoint servicePoint) {
+  /**
+   * Staff slips are written a slip at a time, the primary service point name is
+   * added to each slip as it is written
+   */
+  private HttpResponse toStaffSlipsResponse(List<JsonObject> staffSlips,
+    ServicePoint primaryServicePoint) {
 
-    return StaffSlipMapper.addPrimaryServicePointNameToStaffSlipContext(
-      context, servicePoint, collectionName);
+    return StreamingJsonHttpResponse.ok(collectionName, staffSlips,
+      staffSlip -> addPrimaryServicePointNameToStaffSlip(staffSlip, primaryServicePoint));
   }
-
 }
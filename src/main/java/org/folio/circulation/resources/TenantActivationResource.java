@@ -7,8 +7,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.circulation.infrastructure.storage.ServicePointCalendarCache;
+import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
+import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyCache;
 import org.folio.circulation.rules.cache.CirculationRulesCache;
+import org.folio.circulation.rules.cache.ReferenceDataCache;
+import org.folio.circulation.services.AllowedServicePointsCache;
 import org.folio.circulation.services.PubSubRegistrationService;
+import org.folio.circulation.services.events.KafkaCirculationEventPublisher;
 import org.folio.circulation.services.events.KafkaService;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
@@ -49,6 +55,12 @@ public class TenantActivationResource extends Resource {
     WebContext webContext = new WebContext(routingContext);
     Clients clients = Clients.create(webContext, client);
 
+    ReferenceDataCache.getInstance().invalidate(webContext.getTenantId());
+    PatronNoticePolicyCache.getInstance().invalidate(webContext.getTenantId());
+    ServicePointCalendarCache.getInstance().invalidate(webContext.getTenantId());
+    AllowedServicePointsCache.getInstance().invalidate(webContext.getTenantId());
+    ItemRepository.resetBatchUpdateAvailability(webContext.getTenantId());
+
     createKafkaTopics(webContext, routingContext.vertx())
       .thenCompose(ignored -> warmUpCirculationRulesCache(webContext, clients))
       .thenRun(() -> created(new JsonObject()).writeTo(routingContext.response()))
@@ -62,12 +74,25 @@ public class TenantActivationResource extends Resource {
     String tenantId = webContext.getTenantId();
     Map<String, String> headers = webContext.getHeaders();
 
-    return ENABLE_NATIVE_KAFKA_INTEGRATION
-      ? new KafkaService(vertx).createCirculationTopics(tenantId)
-      : PubSubRegistrationService.registerModule(headers, vertx);
+    if (ENABLE_NATIVE_KAFKA_INTEGRATION) {
+      return new KafkaService(vertx).createCirculationTopics(tenantId);
+    }
+
+    // events not sent directly to Kafka are still published through pub-sub
+    return PubSubRegistrationService.registerModule(headers, vertx)
+      .thenCompose(ignored -> KafkaCirculationEventPublisher.isEnabled()
+        ? new KafkaService(vertx).createCirculationTopics(tenantId)
+        : CompletableFuture.completedFuture(null));
   }
 
   private void disableModuleForTenant(RoutingContext routingContext) {
+    final String tenantId = new WebContext(routingContext).getTenantId();
+    ReferenceDataCache.getInstance().invalidate(tenantId);
+    PatronNoticePolicyCache.getInstance().invalidate(tenantId);
+    ServicePointCalendarCache.getInstance().invalidate(tenantId);
+    AllowedServicePointsCache.getInstance().invalidate(tenantId);
+    ItemRepository.resetBatchUpdateAvailability(tenantId);
+
     deleteKafkaTopics(routingContext)
       .thenRun(() -> noContent().writeTo(routingContext.response()))
       .exceptionally(throwable -> {
@@ -0,0 +1,57 @@
+package org.folio.circulation.resources.context;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.User;
+import org.folio.circulation.domain.configuration.CheckoutLockConfiguration;
+import org.folio.circulation.domain.configuration.TlrSettingsConfiguration;
+import org.folio.circulation.domain.representations.CheckOutByBarcodeRequest;
+import org.folio.circulation.infrastructure.storage.SettingsRepository;
+import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
+import org.folio.circulation.infrastructure.storage.users.UserRepository;
+import org.folio.circulation.services.CirculationSettingsService;
+import org.folio.circulation.support.results.Result;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Look ups needed during check out that do not depend upon each other.
+ *
+ * They are all started together when check out begins, rather than one
+ * after the other, and are consumed by the check out process in the same
+ * order as before, so that validation and error handling are unaffected
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CheckOutLookups {
+  private final CompletableFuture<Result<User>> user;
+  private final CompletableFuture<Result<User>> proxyUser;
+  private final CompletableFuture<Result<Item>> item;
+  private final CompletableFuture<Result<TlrSettingsConfiguration>> tlrSettings;
+  private final CompletableFuture<Result<ZoneId>> timeZone;
+  private final CompletableFuture<Result<CheckoutLockConfiguration>> checkOutLockSettings;
+
+  public static CheckOutLookups start(CheckOutByBarcodeRequest request,
+    UserRepository userRepository, ItemRepository itemRepository,
+    CirculationSettingsService circulationSettingsService,
+    SettingsRepository settingsRepository, boolean isDryRun) {
+
+    return new CheckOutLookups(
+      userRepository.getUserByBarcode(request.getUserBarcode()),
+      userRepository.getProxyUserByBarcode(request.getProxyUserBarcode()),
+      itemRepository.fetchByBarcode(request.getItemBarcode()),
+      circulationSettingsService.getTlrSettings(),
+      settingsRepository.lookupTimeZoneSettings(),
+      // A dry run never takes the check out lock, so there is no need to fetch the settings
+      isDryRun
+        ? completedFuture(succeeded(null))
+        : settingsRepository.lookUpCheckOutLockSettings());
+  }
+}
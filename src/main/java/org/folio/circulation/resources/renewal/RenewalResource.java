@@ -52,6 +52,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
@@ -117,6 +118,7 @@ import org.folio.circulation.support.http.server.HttpResponse;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.ValidationError;
 import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.metrics.StageTimer;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.utils.ClockUtil;
 
@@ -128,6 +130,7 @@ import io.vertx.ext.web.RoutingContext;
 public abstract class RenewalResource extends Resource {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final String rootPath;
+  private static final String RENEWAL_OPERATION = "renewal";
   private static final String COMMENT = "comment";
   private static final String DUE_DATE = "dueDate";
   private static final String OVERRIDE_BLOCKS = "overrideBlocks";
@@ -154,7 +157,9 @@ public abstract class RenewalResource extends Resource {
   private void renew(RoutingContext routingContext) {
     log.debug("renew:: body={}", routingContext.body()::asString);
     final WebContext webContext = new WebContext(routingContext);
+    final StageTimer timer = webContext.getStageTimer(RENEWAL_OPERATION);
     final Clients clients = Clients.create(webContext, client);
+    final Executor executor = clients.executor();
     final OkapiPermissions okapiPermissions = OkapiPermissions.from(webContext.getHeaders());
 
     final CirculationErrorHandler errorHandler = new OverridingErrorHandler(okapiPermissions);
@@ -198,38 +203,46 @@ public abstract class RenewalResource extends Resource {
     isRenewalBlockOverrideRequested = overrideBlocks.getRenewalBlockOverride().isRequested() ||
       overrideBlocks.getRenewalDueDateRequiredBlockOverride().isRequested();
 
-    findLoan(bodyAsJson, loanRepository, itemRepository, userRepository, errorHandler)
+    timer.time("lookupLoan",
+        () -> findLoan(bodyAsJson, loanRepository, itemRepository, userRepository, errorHandler))
       .thenApply(r -> r.map(loan -> RenewalContext.create(loan, bodyAsJson, webContext.getUserId())))
-      .thenComposeAsync(r -> refuseWhenPatronIsInactive(r, errorHandler, USER_IS_INACTIVE))
+      .thenComposeAsync(r -> refuseWhenPatronIsInactive(r, errorHandler, USER_IS_INACTIVE), executor)
       .thenComposeAsync(r -> refuseWhenRenewalActionIsBlockedForPatron(
-        manualPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_MANUALLY))
-      .thenComposeAsync(r -> refuseWhenRenewalActionIsBlockedForPatron(
-        automatedPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_AUTOMATICALLY))
+        manualPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_MANUALLY), executor)
+      .thenComposeAsync(timer.timed("checkAutomatedPatronBlocks",
+        r -> refuseWhenRenewalActionIsBlockedForPatron(
+          automatedPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_AUTOMATICALLY)), executor)
       .thenComposeAsync(r -> refuseIfNoPermissionsForRenewalOverride(
-        overrideRenewValidator, r, errorHandler))
-      .thenCompose(r -> r.after(ctx -> lookupOverdueFinePolicy(ctx, overdueFinePolicyRepository, errorHandler)))
-      .thenComposeAsync(r -> r.after(ctx -> blockRenewalOfItemsWithReminderFees(ctx, errorHandler)))
-      .thenCompose(r -> r.after(ctx -> lookupLoanPolicy(ctx, loanPolicyRepository, requestRepository, errorHandler)))
+        overrideRenewValidator, r, errorHandler), executor)
+      .thenCompose(timer.timed("lookupOverdueFinePolicy",
+        r -> r.after(ctx -> lookupOverdueFinePolicy(ctx, overdueFinePolicyRepository, errorHandler))))
+      .thenComposeAsync(r -> r.after(ctx -> blockRenewalOfItemsWithReminderFees(ctx, errorHandler)), executor)
+      .thenCompose(timer.timed("lookupLoanPolicy",
+        r -> r.after(ctx -> lookupLoanPolicy(ctx, loanPolicyRepository, requestRepository, errorHandler))))
       .thenCompose(r -> r.combineAfter(circulationSettingsService::getTlrSettings,
         RenewalContext::withTlrSettings))
-      .thenComposeAsync(r -> r.after(
-        ctx -> lookupRequestQueue(ctx, requestQueueRepository, errorHandler)))
+      .thenComposeAsync(timer.timed("lookupRequestQueue", r -> r.after(
+        ctx -> lookupRequestQueue(ctx, requestQueueRepository, errorHandler))), executor)
       .thenCompose(r -> r.combineAfter(settingsRepository::lookupTimeZoneSettings,
         RenewalContext::withTimeZone))
-      .thenComposeAsync(r -> r.after(context -> renew(context, clients, errorHandler)))
+      .thenComposeAsync(timer.timed("calculateDueDate",
+        r -> r.after(context -> renew(context, clients, errorHandler))), executor)
       .thenApply(r -> r.next(errorHandler::failWithValidationErrors))
       .thenApply(r -> r.map(this::unsetDueDateChangedByRecallIfNoOpenRecallsInQueue))
-      .thenComposeAsync(r -> r.after(storeLoanAndItem::updateLoanAndItemInStorage))
-      .thenComposeAsync(r -> r.after(context -> processFeesFines(context, clients,
-        itemRepository, userRepository, loanRepository, overdueFinePolicyRepository)))
-      .thenApplyAsync(r -> r.next(feeFineNoticesService::scheduleOverdueFineNotices))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenComposeAsync(timer.timed("updateLoanAndItem",
+        r -> r.after(storeLoanAndItem::updateLoanAndItemInStorage)), executor)
+      .thenComposeAsync(timer.timed("processFeesFines",
+        r -> r.after(context -> processFeesFines(context, clients,
+          itemRepository, userRepository, loanRepository, overdueFinePolicyRepository))), executor)
+      .thenApplyAsync(r -> r.next(feeFineNoticesService::scheduleOverdueFineNotices), executor)
+      .thenComposeAsync(timer.timed("publishDueDateChangedEvent",
+        r -> r.after(eventPublisher::publishDueDateChangedEvent)), executor)
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
       .thenApply(r -> r.next(scheduledRemindersService::rescheduleFirstReminder))
       .thenApply(r -> r.next(loanNoticeSender::sendRenewalPatronNotice))
       .thenApply(r -> r.map(loanRepresentation::extendedLoan))
       .thenApply(r -> r.map(this::toResponse))
-      .thenAccept(webContext::writeResultToHttpResponse);
+      .thenAccept(r -> webContext.writeResultToHttpResponse(r, timer));
   }
 
   private RenewalContext unsetDueDateChangedByRecallIfNoOpenRecallsInQueue(
@@ -0,0 +1,72 @@
+package org.folio.circulation.rules;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.substringAfter;
+import static org.apache.commons.lang3.StringUtils.substringBefore;
+import static org.apache.commons.lang3.StringUtils.trim;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+
+/**
+ * How the circulation rules of a tenant are applied.
+ * <p>
+ * The engine for all tenants is set by CIRCULATION_RULES_ENGINE and can be
+ * overridden for individual tenants by CIRCULATION_RULES_ENGINE_BY_TENANT,
+ * for example "diku:decision-table,college:differential".
+ */
+public enum CirculationRulesEngineType {
+  /** a Drools session for each look up */
+  DROOLS("drools"),
+  /** the precompiled decision table */
+  DECISION_TABLE("decision-table"),
+  /** both, logging any differences and answering with the Drools result */
+  DIFFERENTIAL("differential");
+
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final String value;
+
+  CirculationRulesEngineType(String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public static CirculationRulesEngineType forTenant(String tenantId) {
+    return forTenant(tenantId, Environment.getCirculationRulesEngine(),
+      Environment.getCirculationRulesEngineByTenant());
+  }
+
+  static CirculationRulesEngineType forTenant(String tenantId, String defaultEngine,
+    String enginesByTenant) {
+
+    final String tenantEngine = Arrays.stream(enginesByTenant.split(","))
+      .filter(entry -> tenantId.equals(trim(substringBefore(entry, ":"))))
+      .map(entry -> trim(substringAfter(entry, ":")))
+      .findFirst()
+      .orElse(defaultEngine);
+
+    return from(tenantEngine);
+  }
+
+  public static CirculationRulesEngineType from(String value) {
+    if (isBlank(value)) {
+      return DROOLS;
+    }
+
+    return Arrays.stream(values())
+      .filter(type -> type.value.equalsIgnoreCase(trim(value)))
+      .findFirst()
+      .orElseGet(() -> {
+        log.warn("from:: unknown circulation rules engine '{}', using Drools", value);
+        return DROOLS;
+      });
+  }
+}
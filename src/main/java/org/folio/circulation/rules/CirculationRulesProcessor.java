@@ -47,7 +47,7 @@ public class CirculationRulesProcessor {
     log.debug("getLoanPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.loanPolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.loanPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getLostItemPolicyAndMatch(
@@ -62,7 +62,7 @@ public class CirculationRulesProcessor {
     log.debug("getLostItemPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.lostItemPolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.lostItemPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getNoticePolicyAndMatch(
@@ -77,7 +77,7 @@ public class CirculationRulesProcessor {
     log.debug("getNoticePolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.noticePolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.noticePolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getOverduePolicyAndMatch(
@@ -92,7 +92,7 @@ public class CirculationRulesProcessor {
     log.debug("getOverduePolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.overduePolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.overduePolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getRequestPolicyAndMatch(
@@ -107,19 +107,19 @@ public class CirculationRulesProcessor {
     log.debug("getRequestPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.requestPolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.requestPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   private <T> CompletableFuture<Result<T>> triggerRules(RulesExecutionParameters params,
-    BiFunction<Drools, RulesExecutionParameters, T> droolsFunction) {
+    BiFunction<CirculationRulesEngine, RulesExecutionParameters, T> rulesFunction) {
 
     val rulesFuture = CirculationRulesCache.getInstance()
-      .getDrools(tenantId, circulationRulesStorage);
+      .getRulesEngine(tenantId, circulationRulesStorage);
 
     return fetchLocation(params).thenCombine(rulesFuture, combined(
-      (newParams, drools) -> {
+      (newParams, engine) -> {
         log.debug("Applying circulation rules with parameters: {}", newParams);
-        return succeeded(droolsFunction.apply(drools, newParams));
+        return succeeded(rulesFunction.apply(engine, newParams));
       }));
   }
 
@@ -0,0 +1,449 @@
+package org.folio.circulation.rules;
+
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+import static org.folio.circulation.support.utils.LogUtil.asJson;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Location;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Applies circulation rules compiled by {@link Text2Drools#compile(String)}
+ * into a decision table, without creating a Drools session for each look up.
+ * <p>
+ * The rules are held in the order Drools would fire them (highest salience first)
+ * and are indexed by the criterium that most rules require a specific value for,
+ * so that only the rules for that value and the rules that do not depend upon it
+ * are checked. Single policy look ups return matches prepared when the rules
+ * were compiled.
+ */
+public class DecisionTableRules implements CirculationRulesEngine {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final int[] NO_RULES = new int[0];
+
+  private final Rule[] rules;
+  private final Criterium indexedCriterium;
+  private final Map<String, int[]> indexedRules;
+  private final int[] unindexedRules;
+
+  DecisionTableRules(Collection<Rule> compiledRules) {
+    rules = compiledRules.stream()
+      .sorted(Comparator.comparingInt(Rule::getSalience).reversed())
+      .toArray(Rule[]::new);
+
+    indexedCriterium = chooseIndexedCriterium(rules);
+
+    final Map<String, List<Integer>> rulesByValue = new HashMap<>();
+    final List<Integer> remainingRules = new ArrayList<>();
+
+    for (int position = 0; position < rules.length; position++) {
+      final Condition condition = rules[position].requiredCondition(indexedCriterium);
+
+      if (condition == null) {
+        remainingRules.add(position);
+      } else {
+        for (String id : condition.ids) {
+          rulesByValue.computeIfAbsent(id, key -> new ArrayList<>()).add(position);
+        }
+      }
+    }
+
+    indexedRules = new HashMap<>(rulesByValue.size() * 2);
+    rulesByValue.forEach((id, positions) -> indexedRules.put(id, toArray(positions)));
+    unindexedRules = toArray(remainingRules);
+
+    log.info("DecisionTableRules:: compiled {} rules, indexed by {} ({} values)",
+      rules.length, indexedCriterium, indexedRules.size());
+  }
+
+  @Override
+  public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
+    log.debug("loanPolicy:: params params: {}, location: {}", params, location);
+
+    return matchOrNull(firstMatch(params, location), Rule::getLoanPolicyMatch);
+  }
+
+  @Override
+  public JsonArray loanPolicies(MultiMap params, Location location) {
+    log.debug("loanPolicies:: params params: {}, location: {}", params, location);
+
+    return allMatches(params, location, "loanPolicyId", Rule::getLoanPolicyMatch);
+  }
+
+  @Override
+  public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
+    log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
+
+    return matchOrNull(firstMatch(params, location), Rule::getRequestPolicyMatch);
+  }
+
+  @Override
+  public JsonArray requestPolicies(MultiMap params, Location location) {
+    log.debug("requestPolicies:: parameters params: {}, location: {}", params, location);
+
+    return allMatches(params, location, "requestPolicyId", Rule::getRequestPolicyMatch);
+  }
+
+  @Override
+  public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
+    log.debug("noticePolicy:: parameters params: {}, location: {}", params, location);
+
+    return matchOrNull(firstMatch(params, location), Rule::getNoticePolicyMatch);
+  }
+
+  @Override
+  public JsonArray noticePolicies(MultiMap params, Location location) {
+    log.debug("noticePolicies:: parameters params: {}, location: {}", params, location);
+
+    return allMatches(params, location, "noticePolicyId", Rule::getNoticePolicyMatch);
+  }
+
+  @Override
+  public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
+    log.debug("overduePolicy:: parameters params: {}, location: {}", params, location);
+
+    return matchOrNull(firstMatch(params, location), Rule::getOverduePolicyMatch);
+  }
+
+  @Override
+  public JsonArray overduePolicies(MultiMap params, Location location) {
+    log.debug("overduePolicies:: parameters params: {}, location: {}", params, location);
+
+    return allMatches(params, location, "overduePolicyId", Rule::getOverduePolicyMatch);
+  }
+
+  @Override
+  public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
+    log.debug("lostItemPolicy:: parameters params: {}, location: {}", params, location);
+
+    return matchOrNull(firstMatch(params, location), Rule::getLostItemPolicyMatch);
+  }
+
+  @Override
+  public JsonArray lostItemPolicies(MultiMap params, Location location) {
+    log.debug("lostItemPolicies:: parameters params: {}, location: {}", params, location);
+
+    return allMatches(params, location, "lostItemPolicyId", Rule::getLostItemPolicyMatch);
+  }
+
+  private static CirculationRuleMatch matchOrNull(Rule rule,
+    Function<Rule, CirculationRuleMatch> policyMatch) {
+
+    // Drools leaves the policy unset when no rule fires
+    return rule == null
+      ? new CirculationRuleMatch(null, new AppliedRuleConditions(false, false, false))
+      : policyMatch.apply(rule);
+  }
+
+  private JsonArray allMatches(MultiMap params, Location location, String policyIdName,
+    Function<Rule, CirculationRuleMatch> policyMatch) {
+
+    final List<Rule> matches = new ArrayList<>();
+    findMatches(params, location, matches);
+
+    final JsonArray array = new JsonArray();
+
+    for (Rule rule : matches) {
+      JsonObject json = new JsonObject();
+
+      write(json, policyIdName, policyMatch.apply(rule).getPolicyId());
+      write(json, "circulationRuleLine", rule.getLineNumber());
+
+      array.add(json);
+    }
+
+    log.info("allMatches:: result: {}", () -> asJson(array.stream().toList()));
+    return array;
+  }
+
+  private Rule firstMatch(MultiMap params, Location location) {
+    return findMatches(params, location, null);
+  }
+
+  /**
+   * Checks the candidate rules in the order Drools would fire them.
+   *
+   * @param matches when null, stop at and return the first matching rule,
+   * otherwise add all matching rules to it and return null
+   */
+  private Rule findMatches(MultiMap params, Location location, List<Rule> matches) {
+    final String itemTypeId = params.get(ITEM_TYPE_ID_NAME);
+    final String loanTypeId = params.get(LOAN_TYPE_ID_NAME);
+    final String patronGroupId = params.get(PATRON_TYPE_ID_NAME);
+    final String locationId = params.get(LOCATION_ID_NAME);
+
+    final String indexedValue = indexedCriterium == null ? null : indexedCriterium.value(
+      itemTypeId, loanTypeId, patronGroupId, locationId, location);
+
+    final int[] candidates = indexedValue == null
+      ? NO_RULES
+      : indexedRules.getOrDefault(indexedValue, NO_RULES);
+
+    // both arrays are in firing order, so merge them to keep that order
+    int candidate = 0;
+    int unindexed = 0;
+
+    while (candidate < candidates.length || unindexed < unindexedRules.length) {
+      final int position;
+
+      if (unindexed >= unindexedRules.length || (candidate < candidates.length
+        && candidates[candidate] < unindexedRules[unindexed])) {
+
+        position = candidates[candidate++];
+      } else {
+        position = unindexedRules[unindexed++];
+      }
+
+      final Rule rule = rules[position];
+
+      if (rule.matches(itemTypeId, loanTypeId, patronGroupId, locationId, location)) {
+        if (matches == null) {
+          return rule;
+        }
+        matches.add(rule);
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Index the criterium with a fact that is always present
+   * and which most rules require specific values for.
+   */
+  private static Criterium chooseIndexedCriterium(Rule[] rules) {
+    final Map<Criterium, Integer> indexableRules = new EnumMap<>(Criterium.class);
+
+    for (Rule rule : rules) {
+      for (Criterium criterium : Criterium.values()) {
+        if (criterium.isAlwaysPresent() && rule.requiredCondition(criterium) != null) {
+          indexableRules.merge(criterium, 1, Integer::sum);
+        }
+      }
+    }
+
+    return indexableRules.entrySet().stream()
+      .max(Map.Entry.comparingByValue())
+      .map(Map.Entry::getKey)
+      .orElse(null);
+  }
+
+  private static int[] toArray(List<Integer> positions) {
+    return positions.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * The facts a circulation rule can match upon, one for each criterium type letter.
+   */
+  enum Criterium {
+    LOAN_TYPE(true),
+    INSTITUTION(false),
+    CAMPUS(false),
+    LIBRARY(false),
+    ITEM_LOCATION(true),
+    ITEM_TYPE(true),
+    PATRON_GROUP(true);
+
+    /** location unit facts are only present when the location is known */
+    private final boolean alwaysPresent;
+
+    Criterium(boolean alwaysPresent) {
+      this.alwaysPresent = alwaysPresent;
+    }
+
+    boolean isAlwaysPresent() {
+      return alwaysPresent;
+    }
+
+    static Criterium fromLetter(String letter) {
+      switch (letter) {
+      case "t": return LOAN_TYPE;
+      case "a": return INSTITUTION;
+      case "b": return CAMPUS;
+      case "c": return LIBRARY;
+      case "s": return ITEM_LOCATION;
+      case "m": return ITEM_TYPE;
+      case "g": return PATRON_GROUP;
+      default:  throw new IllegalArgumentException(
+        "Expected criterium type t, a, b, c, s, m or g but found: " + letter);
+      }
+    }
+
+    boolean isPresent(Location location) {
+      return alwaysPresent || location != null;
+    }
+
+    String value(String itemTypeId, String loanTypeId, String patronGroupId,
+      String locationId, Location location) {
+
+      switch (this) {
+      case LOAN_TYPE: return loanTypeId;
+      case ITEM_LOCATION: return locationId;
+      case ITEM_TYPE: return itemTypeId;
+      case PATRON_GROUP: return patronGroupId;
+      default:
+        if (location == null) {
+          return null;
+        }
+        if (this == INSTITUTION) {
+          return location.getInstitutionId();
+        }
+        return this == CAMPUS ? location.getCampusId() : location.getLibraryId();
+      }
+    }
+  }
+
+  /**
+   * A single criterium of a rule, the equivalent of one Drools pattern.
+   */
+  static class Condition {
+    private final Criterium criterium;
+    /** null when any value is allowed (all) */
+    private final Set<String> ids;
+    private final boolean negated;
+
+    Condition(Criterium criterium, Set<String> ids, boolean negated) {
+      this.criterium = criterium;
+      this.ids = ids;
+      this.negated = negated;
+    }
+
+    boolean matches(String itemTypeId, String loanTypeId, String patronGroupId,
+      String locationId, Location location) {
+
+      if (!criterium.isPresent(location)) {
+        return false;
+      }
+
+      if (ids == null) {
+        return true;
+      }
+
+      final String value = criterium.value(itemTypeId, loanTypeId, patronGroupId,
+        locationId, location);
+
+      // like Drools, == and in never match a missing id, != and not in always do
+      final boolean contained = value != null && ids.contains(value);
+
+      return negated != contained;
+    }
+
+    private boolean requires(Criterium criterium) {
+      return this.criterium == criterium && ids != null && !negated;
+    }
+  }
+
+  /**
+   * One line of the circulation rules, with the conditions of the lines it is nested within.
+   */
+  static class Rule {
+    private final int lineNumber;
+    private final int salience;
+    private final Condition[] conditions;
+    private final CirculationRuleMatch loanPolicyMatch;
+    private final CirculationRuleMatch requestPolicyMatch;
+    private final CirculationRuleMatch noticePolicyMatch;
+    private final CirculationRuleMatch overduePolicyMatch;
+    private final CirculationRuleMatch lostItemPolicyMatch;
+
+    Rule(int lineNumber, int salience, List<Condition> conditions,
+      Map<String, String> policyIdsByType) {
+
+      this.lineNumber = lineNumber;
+      this.salience = salience;
+      this.conditions = conditions.toArray(new Condition[0]);
+
+      final AppliedRuleConditions appliedRuleConditions = new AppliedRuleConditions(
+        hasCondition(Criterium.ITEM_TYPE), hasCondition(Criterium.LOAN_TYPE),
+        hasCondition(Criterium.PATRON_GROUP));
+      final AppliedRuleConditions noConditions = new AppliedRuleConditions(false, false, false);
+
+      loanPolicyMatch = new CirculationRuleMatch(policyIdsByType.get("l"),
+        appliedRuleConditions);
+      requestPolicyMatch = new CirculationRuleMatch(policyIdsByType.get("r"), noConditions);
+      noticePolicyMatch = new CirculationRuleMatch(policyIdsByType.get("n"), noConditions);
+      overduePolicyMatch = new CirculationRuleMatch(policyIdsByType.get("o"), noConditions);
+      lostItemPolicyMatch = new CirculationRuleMatch(policyIdsByType.get("i"), noConditions);
+    }
+
+    int getLineNumber() {
+      return lineNumber;
+    }
+
+    int getSalience() {
+      return salience;
+    }
+
+    CirculationRuleMatch getLoanPolicyMatch() {
+      return loanPolicyMatch;
+    }
+
+    CirculationRuleMatch getRequestPolicyMatch() {
+      return requestPolicyMatch;
+    }
+
+    CirculationRuleMatch getNoticePolicyMatch() {
+      return noticePolicyMatch;
+    }
+
+    CirculationRuleMatch getOverduePolicyMatch() {
+      return overduePolicyMatch;
+    }
+
+    CirculationRuleMatch getLostItemPolicyMatch() {
+      return lostItemPolicyMatch;
+    }
+
+    boolean matches(String itemTypeId, String loanTypeId, String patronGroupId,
+      String locationId, Location location) {
+
+      for (Condition condition : conditions) {
+        if (!condition.matches(itemTypeId, loanTypeId, patronGroupId, locationId, location)) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    private Condition requiredCondition(Criterium criterium) {
+      for (Condition condition : conditions) {
+        if (condition.requires(criterium)) {
+          return condition;
+        }
+      }
+
+      return null;
+    }
+
+    private boolean hasCondition(Criterium criterium) {
+      for (Condition condition : conditions) {
+        if (condition.criterium == criterium) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+  }
+}
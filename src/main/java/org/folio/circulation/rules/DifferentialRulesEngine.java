@@ -0,0 +1,155 @@
+package org.folio.circulation.rules;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Location;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Applies the circulation rules using both Drools and the decision table,
+ * logs any difference between them and answers with the Drools result.
+ * <p>
+ * Used to check that the decision table gives the same results
+ * for a tenant before switching it over.
+ */
+public class DifferentialRulesEngine implements CirculationRulesEngine {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final String tenantId;
+  private final CirculationRulesEngine drools;
+  private final CirculationRulesEngine decisionTable;
+  private final AtomicLong mismatchCount = new AtomicLong();
+
+  public DifferentialRulesEngine(String tenantId, CirculationRulesEngine drools,
+    CirculationRulesEngine decisionTable) {
+
+    this.tenantId = tenantId;
+    this.drools = drools;
+    this.decisionTable = decisionTable;
+  }
+
+  public long getMismatchCount() {
+    return mismatchCount.get();
+  }
+
+  @Override
+  public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
+    return compareMatches("loanPolicy", CirculationRulesEngine::loanPolicy, params, location);
+  }
+
+  @Override
+  public JsonArray loanPolicies(MultiMap params, Location location) {
+    return compareArrays("loanPolicies", CirculationRulesEngine::loanPolicies, params, location);
+  }
+
+  @Override
+  public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
+    return compareMatches("requestPolicy", CirculationRulesEngine::requestPolicy, params,
+      location);
+  }
+
+  @Override
+  public JsonArray requestPolicies(MultiMap params, Location location) {
+    return compareArrays("requestPolicies", CirculationRulesEngine::requestPolicies, params,
+      location);
+  }
+
+  @Override
+  public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
+    return compareMatches("noticePolicy", CirculationRulesEngine::noticePolicy, params,
+      location);
+  }
+
+  @Override
+  public JsonArray noticePolicies(MultiMap params, Location location) {
+    return compareArrays("noticePolicies", CirculationRulesEngine::noticePolicies, params,
+      location);
+  }
+
+  @Override
+  public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
+    return compareMatches("overduePolicy", CirculationRulesEngine::overduePolicy, params,
+      location);
+  }
+
+  @Override
+  public JsonArray overduePolicies(MultiMap params, Location location) {
+    return compareArrays("overduePolicies", CirculationRulesEngine::overduePolicies, params,
+      location);
+  }
+
+  @Override
+  public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
+    return compareMatches("lostItemPolicy", CirculationRulesEngine::lostItemPolicy, params,
+      location);
+  }
+
+  @Override
+  public JsonArray lostItemPolicies(MultiMap params, Location location) {
+    return compareArrays("lostItemPolicies", CirculationRulesEngine::lostItemPolicies, params,
+      location);
+  }
+
+  private CirculationRuleMatch compareMatches(String lookUp,
+    PolicyLookUp<CirculationRuleMatch> policyLookUp,
+    MultiMap params, Location location) {
+
+    final CirculationRuleMatch expected = policyLookUp.apply(drools, params, location);
+    final CirculationRuleMatch actual = policyLookUp.apply(decisionTable, params, location);
+
+    if (!sameMatch(expected, actual)) {
+      reportMismatch(lookUp, params, location, expected, actual);
+    }
+
+    return expected;
+  }
+
+  private JsonArray compareArrays(String lookUp,
+    PolicyLookUp<JsonArray> policyLookUp,
+    MultiMap params, Location location) {
+
+    final JsonArray expected = policyLookUp.apply(drools, params, location);
+    final JsonArray actual = policyLookUp.apply(decisionTable, params, location);
+
+    if (!Objects.equals(expected, actual)) {
+      reportMismatch(lookUp, params, location, expected, actual);
+    }
+
+    return expected;
+  }
+
+  private void reportMismatch(String lookUp, MultiMap params, Location location,
+    Object expected, Object actual) {
+
+    mismatchCount.incrementAndGet();
+
+    log.warn("{}:: decision table differs from Drools for tenant {}, params: {}, " +
+      "location: {}, Drools: {}, decision table: {}", lookUp, tenantId, params,
+      location == null ? null : location.getId(), expected, actual);
+  }
+
+  private static boolean sameMatch(CirculationRuleMatch expected, CirculationRuleMatch actual) {
+    if (expected == null || actual == null) {
+      return expected == actual;
+    }
+
+    final AppliedRuleConditions expectedConditions = expected.getAppliedRuleConditions();
+    final AppliedRuleConditions actualConditions = actual.getAppliedRuleConditions();
+
+    return Objects.equals(expected.getPolicyId(), actual.getPolicyId())
+      && expectedConditions.isItemTypePresent() == actualConditions.isItemTypePresent()
+      && expectedConditions.isLoanTypePresent() == actualConditions.isLoanTypePresent()
+      && expectedConditions.isPatronGroupPresent() == actualConditions.isPatronGroupPresent();
+  }
+
+  @FunctionalInterface
+  private interface PolicyLookUp<T> {
+    T apply(CirculationRulesEngine engine, MultiMap params, Location location);
+  }
+}
@@ -16,13 +16,13 @@ import org.apache.logging.log4j.Logger;
 import org.drools.base.definitions.rule.impl.RuleImpl;
 import org.drools.core.event.DefaultAgendaEventListener;
 import org.folio.circulation.domain.Location;
+import org.kie.api.KieBase;
 import org.kie.api.KieServices;
 import org.kie.api.builder.KieBuilder;
 import org.kie.api.builder.KieFileSystem;
 import org.kie.api.builder.Message.Level;
 import org.kie.api.builder.ReleaseId;
 import org.kie.api.event.rule.AfterMatchFiredEvent;
-import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieSession;
 
 import io.vertx.core.MultiMap;
@@ -32,12 +32,12 @@ import io.vertx.core.json.JsonObject;
 /**
  * Holds a Drools kieSession to calculate a loan policy.
  */
-public class Drools {
+public class Drools implements CirculationRulesEngine {
   // https://docs.jboss.org/drools/release/6.2.0.CR1/drools-docs/html/ch19.html
   // http://www.deepakgaikwad.net/index.php/2016/05/16/drools-tutorial-beginners.html
 
   private static final Logger log = LogManager.getLogger(CirculationRulesProcessor.class);
-  private final KieContainer kieContainer;
+  private final KieBase kieBase;
 
   /**
    * Create the Drools kieSession based on a String containing a drools file.
@@ -59,7 +59,20 @@ public class Drools {
     if (kieBuilder.getResults().hasMessages(Level.ERROR)) {
       throw new IllegalArgumentException("Drools build errors:\n" + kieBuilder.getResults().toString());
     }
-    kieContainer = kieServices.newKieContainer(releaseId);
+    kieBase = kieServices.newKieContainer(releaseId).getKieBase();
+  }
+
+  /**
+   * Create the Drools kieSession based on rules that have already been compiled,
+   * for example those restored from a snapshot.
+   * @param kieBase compiled circulation rules
+   */
+  public Drools(KieBase kieBase) {
+    this.kieBase = kieBase;
+  }
+
+  public KieBase getKieBase() {
+    return kieBase;
   }
 
   private KieSession createSession(MultiMap params, Location location, Match match) {
@@ -70,7 +83,7 @@ public class Drools {
     String patronGroupId = params.get(PATRON_TYPE_ID_NAME);
     String locationId = params.get(LOCATION_ID_NAME);
 
-    KieSession kieSession = kieContainer.newKieSession();
+    KieSession kieSession = kieBase.newKieSession();
     kieSession.setGlobal("match", match);
     kieSession.insert(new ItemType(itemTypeId));
     kieSession.insert(new LoanType(loanTypeId));
@@ -92,6 +105,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
     log.debug("loanPolicy:: params params: {}, location: {}", params, location);
     final var match = new Match();
@@ -117,6 +131,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a loanPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray loanPolicies(MultiMap params, Location location) {
     log.debug("loanPolicies:: params params: {}, location: {}", params, location);
     final var match = new Match();
@@ -144,6 +159,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
     log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -163,6 +179,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a requestPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray requestPolicies(MultiMap params, Location location) {
     log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
 
@@ -192,6 +209,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
     log.debug("noticePolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -211,6 +229,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a noticePolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray noticePolicies(MultiMap params, Location location) {
     log.debug("noticePolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -239,6 +258,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
     log.debug("overduePolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -258,6 +278,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a overduePolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray overduePolicies(MultiMap params, Location location) {
     log.debug("overduePolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -286,6 +307,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
     log.debug("lostItemPolicy:: parameters params: {}, location: {}", params, location);
 
@@ -306,6 +328,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a lostItemPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray lostItemPolicies(MultiMap params, Location location) {
     log.debug("lostItemPolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -11,6 +11,7 @@ import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.cache.RuleMatchCache;
 import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.results.Result;
@@ -28,47 +29,52 @@ public class ExecutableRules {
 
   @Getter()
   private final String text;
-  private final Drools drools;
+  private final CirculationRulesEngine engine;
+  private final RuleMatchCache ruleMatches;
+
+  public ExecutableRules(String text, CirculationRulesEngine engine,
+    RuleMatchCache ruleMatches) {
 
-  public ExecutableRules(String text, Drools drools) {
     this.text = text;
-    this.drools = drools;
+    this.engine = engine;
+    this.ruleMatches = ruleMatches;
   }
 
   public Result<CirculationRuleMatch> determineLoanPolicy(RulesExecutionParameters parameters) {
     log.debug("determineLoanPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::loanPolicy, "loan policy");
+    return determinePolicy(parameters, engine::loanPolicy, "loan policy");
   }
 
   public Result<CirculationRuleMatch> determineRequestPolicy(RulesExecutionParameters parameters) {
     log.debug("determineRequestPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::requestPolicy, "request policy");
+    return determinePolicy(parameters, engine::requestPolicy, "request policy");
   }
 
   public Result<CirculationRuleMatch> determineNoticePolicy(RulesExecutionParameters parameters) {
     log.debug("determineNoticePolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::noticePolicy, "notice policy");
+    return determinePolicy(parameters, engine::noticePolicy, "notice policy");
   }
 
   public Result<CirculationRuleMatch> determineLostItemPolicy(RulesExecutionParameters parameters) {
     log.debug("determineLostItemPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::lostItemPolicy, "lost item policy");
+    return determinePolicy(parameters, engine::lostItemPolicy, "lost item policy");
   }
 
   public Result<CirculationRuleMatch> determineOverduePolicy(RulesExecutionParameters parameters) {
     log.debug("determineOverduePolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::overduePolicy, "overdue policy");
+    return determinePolicy(parameters, engine::overduePolicy, "overdue policy");
   }
 
   private Result<CirculationRuleMatch> determinePolicy(RulesExecutionParameters parameters,
-    BiFunction<MultiMap, Location, CirculationRuleMatch> droolsExecutor, String policyType) {
+    BiFunction<MultiMap, Location, CirculationRuleMatch> rulesExecutor, String policyType) {
 
-    return of(() -> droolsExecutor.apply(parameters.toMap(), parameters.getLocation()))
+    return of(() -> ruleMatches.getOrDetermine(policyType, parameters,
+        () -> rulesExecutor.apply(parameters.toMap(), parameters.getLocation())))
       .failWhen(this::noMatch, fail(parameters, policyType));
   }
 
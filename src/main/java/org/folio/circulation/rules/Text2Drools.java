@@ -4,6 +4,7 @@ import static java.util.Collections.emptySet;
 import static org.apache.commons.text.StringEscapeUtils.escapeJava;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -35,9 +36,13 @@ import org.folio.circulation.rules.CirculationRulesParser.PolicyContext;
 import org.folio.circulation.rules.CirculationRulesParser.SevenCriteriumLettersContext;
 import org.folio.circulation.rules.CirculationRulesParser.ThreePrioritiesContext;
 import org.folio.circulation.rules.CirculationRulesParser.TwoPrioritiesContext;
+import org.folio.circulation.rules.DecisionTableRules.Condition;
+import org.folio.circulation.rules.DecisionTableRules.Criterium;
+import org.folio.circulation.rules.DecisionTableRules.Rule;
 
 /**
- * Convert a circulation rules text in FOLIO format into a drools rules text.
+ * Convert a circulation rules text in FOLIO format into a drools rules text,
+ * or into a decision table with the same rules.
  */
 public class Text2Drools extends CirculationRulesBaseListener {
   @SuppressWarnings("squid:CommentedOutCodeLine")  // Example code is allowed
@@ -90,6 +95,9 @@ public class Text2Drools extends CirculationRulesBaseListener {
       "global Match match\n" +
       "\n");
 
+  /** the same rules as {@link #drools}, for {@link DecisionTableRules} */
+  private final List<Rule> decisionTable = new ArrayList<>();
+
   private final LinkedList<Matcher> stack = new LinkedList<>();
   private final String[] policyTypes = {"l", "r", "n", "o", "i"};
   private final PolicyValidator policyValidator;
@@ -131,8 +139,31 @@ public class Text2Drools extends CirculationRulesBaseListener {
     return getDroolsRepresentation(text, text2drools);
   }
 
+  /**
+   * Compile circulation rules from FOLIO text format into a decision table
+   * that gives the same matches as the Drools file produced by {@link #convert(String)}.
+   * @param text String with a circulation rules file in FOLIO syntax.
+   * @return decision table
+   */
+  public static DecisionTableRules compile(String text) {
+    log.debug("compile:: parameters text: {}", text);
+    Text2Drools text2drools = new Text2Drools((policyType, policies, token) -> {});
+    walk(text, text2drools);
+
+    return new DecisionTableRules(text2drools.decisionTable);
+  }
+
   private static String getDroolsRepresentation(String text, Text2Drools text2drools) {
     log.debug("getDroolsRepresentation:: parameters text: {}", text);
+    walk(text, text2drools);
+
+    String droolsRepresentation = text2drools.drools.toString();
+    log.debug("getDroolsRepresentation:: result: {}", droolsRepresentation);
+
+    return droolsRepresentation;
+  }
+
+  private static void walk(String text, Text2Drools text2drools) {
     CharStream input = CharStreams.fromString(text);
     CirculationRulesLexer lexer = new CirculationRulesLexer(input);
     CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -142,11 +173,6 @@ public class Text2Drools extends CirculationRulesBaseListener {
     CirculationRulesFileContext entryPoint = parser.circulationRulesFile();
     ParseTreeWalker walker = new ParseTreeWalker();
     walker.walk(text2drools, entryPoint);
-
-    String droolsRepresentation = text2drools.drools.toString();
-    log.debug("getDroolsRepresentation:: result: {}", droolsRepresentation);
-
-    return droolsRepresentation;
   }
 
   /**
@@ -340,18 +366,28 @@ public class Text2Drools extends CirculationRulesBaseListener {
     }
 
     int line = policies.getStart().getLine();
+    int salience = getSalience(line);
+    List<Condition> conditions = new ArrayList<>();
+    Map<String, String> policyIds = new HashMap<>();
+
     drools.append("rule \"line ").append(line).append("\"\n");
-    drools.append("  salience ").append(getSalience(line)).append("\n");
+    drools.append("  salience ").append(salience).append("\n");
     drools.append("  when\n");
-    stack.descendingIterator().forEachRemaining(matcher -> drools.append(matcher.drools));
+    stack.descendingIterator().forEachRemaining(matcher -> {
+      drools.append(matcher.drools);
+      conditions.addAll(matcher.conditions);
+    });
     drools.append("  then\n");
 
     for (PolicyContext policy : policies.policy()) {
       drools.append(policyMatchString(policy));
       appendQuotedString(drools, policy.NAME().getText());
       drools.append(";\n");
+      policyIds.put(policy.POLICY_TYPE().getText(), policy.NAME().getText());
     }
 
+    decisionTable.add(new Rule(line, salience, conditions, policyIds));
+
     drools.append("    match.lineNumber = ").append(line).append(";\n");
     drools.append("    drools.halt();\n");
     drools.append("end\n\n");
@@ -431,9 +467,12 @@ public class Text2Drools extends CirculationRulesBaseListener {
     String field = criteriumTypeClassname(criteriumTypeLetter);
     matcher.drools.append(field);
 
+    Criterium criterium = Criterium.fromLetter(criteriumTypeLetter);
+
     if (criteriumContext.all() != null) {
       log.debug("addCriterium:: criteriumContext.all() is not null");
       matcher.drools.append("() // all\n");
+      matcher.conditions.add(new Condition(criterium, null, false));
       return;
     }
 
@@ -445,6 +484,12 @@ public class Text2Drools extends CirculationRulesBaseListener {
       not = true;
     }
 
+    Set<String> ids = new HashSet<>();
+    for (TerminalNode name : criteriumContext.NAME()) {
+      ids.add(name.getText());
+    }
+    matcher.conditions.add(new Condition(criterium, ids, not));
+
     if (criteriumContext.NAME().size() == 1) {
       log.debug("addCriterium:: criteriumContext.NAME().size() is 1");
       matcher.drools.append(not ? "(id != " : "(id == " );
@@ -502,6 +547,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
     Set<String> criteriaUsed = new HashSet<>(4);
     int maxCriteriumPriority;
     StringBuilder drools;
+    List<Condition> conditions = new ArrayList<>();
 
     public Matcher(int indentation, Set<String> criteriaUsed,
       int maxCriteriumPriority, StringBuilder drools) {
@@ -0,0 +1,123 @@
+package org.folio.circulation.rules.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import lombok.Value;
+
+/**
+ * A size bounded, in-memory cache where entries expire after a fixed time to live.
+ *
+ * When the cache is full, the least recently used entry is evicted.
+ * Hits and misses are counted so that the effectiveness of the cache can be reported
+ *
+ * A time to live of {@link #NEVER_EXPIRE} keeps entries until they are evicted or invalidated
+ */
+public class BoundedExpiringCache<K, V> {
+  public static final long NEVER_EXPIRE = Long.MAX_VALUE;
+
+  private final int maximumSize;
+  private final long timeToLiveMillis;
+  private final LongSupplier currentTimeMillis;
+  private final Map<K, ExpiringEntry<V>> entries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public BoundedExpiringCache(int maximumSize, long timeToLiveMillis) {
+    this(maximumSize, timeToLiveMillis, System::currentTimeMillis);
+  }
+
+  BoundedExpiringCache(int maximumSize, long timeToLiveMillis,
+    LongSupplier currentTimeMillis) {
+
+    this.maximumSize = maximumSize;
+    this.timeToLiveMillis = timeToLiveMillis;
+    this.currentTimeMillis = currentTimeMillis;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, ExpiringEntry<V>> eldest) {
+        return size() > BoundedExpiringCache.this.maximumSize;
+      }
+    };
+  }
+
+  public boolean isEnabled() {
+    return maximumSize > 0 && timeToLiveMillis > 0;
+  }
+
+  public synchronized Optional<V> get(K key) {
+    final var entry = entries.get(key);
+
+    if (entry == null) {
+      misses.incrementAndGet();
+      return Optional.empty();
+    }
+
+    if (entry.hasExpired(currentTimeMillis.getAsLong())) {
+      entries.remove(key);
+      misses.incrementAndGet();
+      return Optional.empty();
+    }
+
+    hits.incrementAndGet();
+    return Optional.ofNullable(entry.getValue());
+  }
+
+  public synchronized void put(K key, V value) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    final long now = currentTimeMillis.getAsLong();
+    final long expiresAt = now > Long.MAX_VALUE - timeToLiveMillis
+      ? Long.MAX_VALUE
+      : now + timeToLiveMillis;
+
+    entries.put(key, new ExpiringEntry<>(value, expiresAt));
+  }
+
+  public synchronized void invalidate(K key) {
+    entries.remove(key);
+  }
+
+  public synchronized void invalidateIf(Predicate<K> keyPredicate) {
+    final Iterator<K> keys = entries.keySet().iterator();
+
+    while (keys.hasNext()) {
+      if (keyPredicate.test(keys.next())) {
+        keys.remove();
+      }
+    }
+  }
+
+  public synchronized void invalidateAll() {
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  @Value
+  private static class ExpiringEntry<V> {
+    V value;
+    long expiresAt;
+
+    boolean hasExpired(long now) {
+      return expiresAt != Long.MAX_VALUE && now >= expiresAt;
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package org.folio.circulation.rules.cache;
 
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.circulation.support.results.AsynchronousResultBindings.safelyInitialise;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.succeeded;
 
@@ -9,11 +11,18 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
 import org.folio.circulation.domain.events.DomainEvent;
 import org.folio.circulation.domain.events.EntityChangedEventData;
+import org.folio.circulation.rules.CirculationRulesEngine;
+import org.folio.circulation.rules.CirculationRulesEngineType;
+import org.folio.circulation.rules.DifferentialRulesEngine;
 import org.folio.circulation.rules.Drools;
 import org.folio.circulation.rules.ExecutableRules;
 import org.folio.circulation.rules.Text2Drools;
@@ -28,8 +37,26 @@ public final class CirculationRulesCache {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private static final CirculationRulesCache instance = new CirculationRulesCache();
-  /** rules and Drools for each tenantId */
+  private static final AtomicInteger compilerThreadCount = new AtomicInteger();
+  /**
+   * compiling large rules takes seconds, so it is done on these threads rather than
+   * the event loop or the Kafka consumer
+   */
+  private static final ExecutorService compiler = Executors.newFixedThreadPool(
+    Environment.getCirculationRulesCompilerThreads(), task -> {
+      final var thread = new Thread(task,
+        "circulation-rules-compiler-" + compilerThreadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+  private static final RulesSnapshotStore snapshots = RulesSnapshotStore.fromEnvironment();
+
+  /** rules and rules engine for each tenantId */
   private final Map<String, Rules> rulesMap = new ConcurrentHashMap<>();
+  /** rules being loaded for each tenantId, shared by everything waiting for them */
+  private final Map<String, CompletableFuture<Result<Rules>>> loadsInProgress =
+    new ConcurrentHashMap<>();
 
   public static CirculationRulesCache getInstance() {
     return instance;
@@ -41,14 +68,56 @@ public final class CirculationRulesCache {
     rulesMap.clear();
   }
 
-  public CompletableFuture<Result<Drools>> reloadRules(String tenantId,
+  public CompletableFuture<Result<CirculationRulesEngine>> reloadRules(String tenantId,
     CollectionResourceClient circulationRulesClient) {
 
-    log.info("reloadRules:: reloading rules for tenant {}", tenantId);
+    return loadRules(tenantId, circulationRulesClient)
+      .thenApply(r -> r.map(Rules::getEngine));
+  }
+
+  /**
+   * Fetches and compiles the rules, unless they are already being loaded for the tenant,
+   * in which case that load is shared. Any rules already cached continue to be used until
+   * the new rules have been compiled
+   *
+   * The rules fetched are at least as recent as when fetching them began, so they only
+   * replace rules compiled from an update event made before then
+   */
+  private CompletableFuture<Result<Rules>> loadRules(String tenantId,
+    CollectionResourceClient circulationRulesClient) {
+
+    final var load = new CompletableFuture<Result<Rules>>();
+    final var loadInProgress = loadsInProgress.putIfAbsent(tenantId, load);
+
+    if (loadInProgress != null) {
+      log.info("loadRules:: rules for tenant {} are already being loaded", tenantId);
+      return loadInProgress;
+    }
+
+    log.info("loadRules:: reloading rules for tenant {}", tenantId);
+    final long loadTimestamp = System.currentTimeMillis();
 
-    return circulationRulesClient.get()
+    safelyInitialise(circulationRulesClient::get)
       .thenApply(r -> r.map(response -> getRulesAsText(response, tenantId)))
-      .thenApply(r -> r.next(rulesAsText -> buildRules(tenantId, rulesAsText)));
+      .thenCompose(r -> r.after(rulesAsText ->
+        compileRules(tenantId, rulesAsText, loadTimestamp)))
+      .whenComplete((result, throwable) -> {
+        loadsInProgress.remove(tenantId, load);
+
+        if (throwable != null) {
+          load.completeExceptionally(throwable);
+        } else {
+          load.complete(result);
+        }
+      });
+
+    return load;
+  }
+
+  private CompletableFuture<Result<Rules>> compileRules(String tenantId, String rulesAsText,
+    long rulesTimestamp) {
+
+    return supplyAsync(() -> installRules(tenantId, rulesAsText, rulesTimestamp), compiler);
   }
 
   private static String getRulesAsText(Response response, String tenantId) {
@@ -59,48 +128,118 @@ public final class CirculationRulesCache {
     return circulationRules.getString("rulesAsText");
   }
 
-  public Result<Drools> buildRules(String tenantId, String rulesAsText) {
-    log.info("buildRules:: building rules for tenant {}", tenantId);
-    log.debug("buildRules:: rules={}", rulesAsText);
+  public Result<CirculationRulesEngine> buildRules(String tenantId, String rulesAsText) {
+    return installRules(tenantId, rulesAsText, System.currentTimeMillis())
+      .map(Rules::getEngine);
+  }
+
+  /**
+   * Builds the rules and replaces those cached for the tenant, together with
+   * the matches determined by the previous rules, unless the cached rules are more recent
+   *
+   * @param rulesTimestamp when the rules were known to be current
+   * @return the rules cached for the tenant once these have been built
+   */
+  private Result<Rules> installRules(String tenantId, String rulesAsText,
+    long rulesTimestamp) {
+
+    log.info("installRules:: building rules for tenant {}", tenantId);
+    log.debug("installRules:: rules={}", rulesAsText);
 
     if (isBlank(rulesAsText)) {
-      log.warn("buildRules:: rules are blank for tenant {}", tenantId);
+      log.warn("installRules:: rules are blank for tenant {}", tenantId);
       return failed(new ServerErrorFailure("Cannot apply blank circulation rules"));
     }
 
     String droolsText = Text2Drools.convert(rulesAsText);
-    Drools drools = new Drools(tenantId, droolsText);
-    log.info("buildRules:: done building Drools for tenant {}", tenantId);
-    log.debug("buildRules:: Drools as text: {}", droolsText);
+    log.debug("installRules:: Drools as text: {}", droolsText);
+    CirculationRulesEngine engine = buildEngine(tenantId, rulesAsText, droolsText);
 
-    long timestamp = System.currentTimeMillis();
-    log.debug("buildRules:: timestamp={}", timestamp);
-    Rules rules = new Rules(rulesAsText, droolsText, drools, timestamp);
-    rulesMap.put(tenantId, rules);
+    log.debug("installRules:: timestamp={}", rulesTimestamp);
+    Rules rules = new Rules(rulesAsText, droolsText, engine, rulesTimestamp);
 
-    return succeeded(drools);
+    return succeeded(rulesMap.merge(tenantId, rules,
+      (cachedRules, builtRules) -> moreRecentRules(tenantId, cachedRules, builtRules)));
+  }
+
+  /**
+   * Rules built by a slow load can complete after those from a later update, and must
+   * not replace them
+   */
+  private static Rules moreRecentRules(String tenantId, Rules cachedRules, Rules builtRules) {
+    if (builtRules.getReloadTimestamp() < cachedRules.getReloadTimestamp()) {
+      log.info("moreRecentRules:: keeping more recent rules cached for tenant {}: " +
+        "built rules timestamp is {}, cache timestamp is {}", tenantId,
+        builtRules.getReloadTimestamp(), cachedRules.getReloadTimestamp());
+
+      return cachedRules;
+    }
+
+    return builtRules;
+  }
+
+  private static CirculationRulesEngine buildEngine(String tenantId, String rulesAsText,
+    String droolsText) {
+
+    final CirculationRulesEngineType engineType = CirculationRulesEngineType.forTenant(tenantId);
+    log.info("buildEngine:: building {} rules engine for tenant {}", engineType.getValue(),
+      tenantId);
+
+    switch (engineType) {
+    case DECISION_TABLE:
+      return Text2Drools.compile(rulesAsText);
+    case DIFFERENTIAL:
+      return new DifferentialRulesEngine(tenantId, buildDrools(tenantId, rulesAsText, droolsText),
+        Text2Drools.compile(rulesAsText));
+    default:
+      return buildDrools(tenantId, rulesAsText, droolsText);
+    }
+  }
+
+  /**
+   * Restores the rules from a snapshot when they have not changed since it was saved,
+   * otherwise compiles them and saves a snapshot for next time
+   */
+  private static Drools buildDrools(String tenantId, String rulesAsText, String droolsText) {
+    return snapshots.load(tenantId, rulesAsText)
+      .map(Drools::new)
+      .orElseGet(() -> {
+        final var drools = new Drools(tenantId, droolsText);
+        snapshots.save(tenantId, rulesAsText, drools.getKieBase());
+
+        return drools;
+      });
   }
 
   public CompletableFuture<Result<ExecutableRules>> getExecutableRules(String tenantId,
     CollectionResourceClient circulationRulesClient) {
 
-    return getDrools(tenantId, circulationRulesClient)
-      .thenApply(r -> r.map(drools ->
-        new ExecutableRules(rulesMap.get(tenantId).getRulesAsText(), drools)));
+    return getOrLoadRules(tenantId, circulationRulesClient)
+      .thenApply(r -> r.map(rules -> new ExecutableRules(rules.getRulesAsText(),
+        rules.getEngine(), rules.getRuleMatches())));
   }
 
-  public CompletableFuture<Result<Drools>> getDrools(String tenantId,
+  public CompletableFuture<Result<CirculationRulesEngine>> getRulesEngine(String tenantId,
     CollectionResourceClient circulationRulesClient) {
 
-    log.info("getDrools:: getting Drools for tenant {}", tenantId);
+    log.info("getRulesEngine:: getting rules engine for tenant {}", tenantId);
+
+    return getOrLoadRules(tenantId, circulationRulesClient)
+      .thenApply(r -> r.map(Rules::getEngine));
+  }
+
+  private CompletableFuture<Result<Rules>> getOrLoadRules(String tenantId,
+    CollectionResourceClient circulationRulesClient) {
 
     return Optional.ofNullable(getRules(tenantId))
-      .map(Rules::getDrools)
       .map(Result::ofAsync)
-      .orElseGet(() -> reloadRules(tenantId, circulationRulesClient));
+      .orElseGet(() -> loadRules(tenantId, circulationRulesClient));
   }
 
-  public void handleRulesUpdateEvent(DomainEvent<EntityChangedEventData> event) {
+  /**
+   * @return completes once the new rules have been compiled (or the event was ignored)
+   */
+  public CompletableFuture<Void> handleRulesUpdateEvent(DomainEvent<EntityChangedEventData> event) {
     log.debug("handleRulesUpdateEvent:: event={}", () -> event);
 
     final String tenantId = event.tenantId();
@@ -108,22 +247,28 @@ public final class CirculationRulesCache {
       event.id(), event.tenantId());
     final Rules cachedRules = getRules(tenantId);
 
-    if (cachedRules == null) {
+    // rules being loaded may have been fetched before this update, so it is applied to them
+    if (cachedRules == null && !loadsInProgress.containsKey(tenantId)) {
       // if cache is empty, rules are downloaded from storage anyway when they are first requested
       log.info("handleRulesUpdateEvent:: no cached rules for tenant {}, ignoring event {}",
         tenantId, event.id());
-      return;
+      return CompletableFuture.completedFuture(null);
     }
 
     final long eventTimestamp = event.timestamp();
-    final long cacheTimestamp = cachedRules.getReloadTimestamp();
+    final long cacheTimestamp = cachedRules == null ? 0 : cachedRules.getReloadTimestamp();
     if (eventTimestamp < cacheTimestamp) {
       log.info("handleRulesUpdateEvent:: ignoring event {}: event timestamp is {}, " +
           "cache timestamp is {}", event.id(), eventTimestamp, cacheTimestamp);
-      return;
+      return CompletableFuture.completedFuture(null);
     }
 
-    buildRules(tenantId, event.data().newVersion().getString("rulesAsText"));
+    return compileRules(tenantId, event.data().newVersion().getString("rulesAsText"),
+        eventTimestamp)
+      .thenAccept(r -> r.applySideEffect(
+        rules -> log.info("handleRulesUpdateEvent:: rules rebuilt for tenant {}", tenantId),
+        failure -> log.error("handleRulesUpdateEvent:: failed to rebuild rules for tenant {}: {}",
+          tenantId, failure)));
   }
 
   public Rules getRules(String tenantId) {
@@ -0,0 +1,98 @@
+package org.folio.circulation.rules.cache;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.circulation.support.http.client.Response;
+
+/**
+ * Responses for reference data (locations, location units, service points, material types,
+ * loan types and identifier types) that rarely changes, kept for each tenant
+ *
+ * Disabled unless a time to live is configured
+ */
+public final class ReferenceDataCache implements ResponseCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final ReferenceDataCache instance = new ReferenceDataCache(
+    Environment.getReferenceDataCacheMaximumSize(),
+    Environment.getReferenceDataCacheTimeToLiveSeconds() * 1000L);
+
+  private final int maximumSizePerTenant;
+  private final long timeToLiveMillis;
+  /** cached responses for each tenantId, keyed by request */
+  private final Map<String, BoundedExpiringCache<String, Response>> tenantCaches =
+    new ConcurrentHashMap<>();
+
+  public static ReferenceDataCache getInstance() {
+    return instance;
+  }
+
+  ReferenceDataCache(int maximumSizePerTenant, long timeToLiveMillis) {
+    this.maximumSizePerTenant = maximumSizePerTenant;
+    this.timeToLiveMillis = timeToLiveMillis;
+  }
+
+  public boolean isEnabled() {
+    return maximumSizePerTenant > 0 && timeToLiveMillis > 0;
+  }
+
+  @Override
+  public Optional<Response> get(String tenantId, String requestKey) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+
+    final var cachedResponse = forTenant(tenantId).get(requestKey);
+    log.debug("get:: cache {} for tenant {}: {}",
+      cachedResponse.isPresent() ? "hit" : "miss", tenantId, requestKey);
+
+    return cachedResponse;
+  }
+
+  @Override
+  public void put(String tenantId, String requestKey, Response response) {
+    if (isEnabled()) {
+      forTenant(tenantId).put(requestKey, response);
+    }
+  }
+
+  @Override
+  public void invalidate(String tenantId, String collectionRoot) {
+    log.info("invalidate:: invalidating {} for tenant {}", collectionRoot, tenantId);
+
+    Optional.ofNullable(tenantCaches.get(tenantId))
+      .ifPresent(cache -> cache.invalidateIf(key -> key.startsWith(collectionRoot)));
+  }
+
+  public void invalidate(String tenantId) {
+    log.info("invalidate:: invalidating reference data for tenant {}", tenantId);
+    tenantCaches.remove(tenantId);
+  }
+
+  public void dropCache() {
+    tenantCaches.clear();
+  }
+
+  public long getHitCount() {
+    return tenantCaches.values().stream()
+      .mapToLong(BoundedExpiringCache::getHitCount)
+      .sum();
+  }
+
+  public long getMissCount() {
+    return tenantCaches.values().stream()
+      .mapToLong(BoundedExpiringCache::getMissCount)
+      .sum();
+  }
+
+  private BoundedExpiringCache<String, Response> forTenant(String tenantId) {
+    return tenantCaches.computeIfAbsent(tenantId,
+      key -> new BoundedExpiringCache<>(maximumSizePerTenant, timeToLiveMillis));
+  }
+}
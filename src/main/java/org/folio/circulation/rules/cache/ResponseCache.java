@@ -0,0 +1,19 @@
+package org.folio.circulation.rules.cache;
+
+import java.util.Optional;
+
+import org.folio.circulation.support.http.client.Response;
+
+/**
+ * Responses kept for each tenant, keyed by the request they were fetched for
+ */
+public interface ResponseCache {
+  Optional<Response> get(String tenantId, String requestKey);
+
+  void put(String tenantId, String requestKey, Response response);
+
+  /**
+   * Removes the responses kept for the tenant for requests to the collection
+   */
+  void invalidate(String tenantId, String collectionRoot);
+}
@@ -0,0 +1,98 @@
+package org.folio.circulation.rules.cache;
+
+import static org.folio.circulation.rules.cache.BoundedExpiringCache.NEVER_EXPIRE;
+
+import java.lang.invoke.MethodHandles;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.RulesExecutionParameters;
+
+import lombok.Value;
+
+/**
+ * Matches already determined by one version of a tenant's circulation rules,
+ * keyed by policy type and the criteria the rules match upon
+ *
+ * Belongs to the {@link Rules} it was created with, so that installing new rules
+ * replaces the matches along with them
+ */
+public class RuleMatchCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final long rulesVersion;
+  private final BoundedExpiringCache<MatchKey, CirculationRuleMatch> matches;
+
+  public RuleMatchCache(long rulesVersion) {
+    this(rulesVersion, Environment.getCirculationRuleMatchCacheMaximumSize());
+  }
+
+  RuleMatchCache(long rulesVersion, int maximumSize) {
+    this.rulesVersion = rulesVersion;
+    this.matches = new BoundedExpiringCache<>(maximumSize, NEVER_EXPIRE);
+  }
+
+  public CirculationRuleMatch getOrDetermine(String policyType,
+    RulesExecutionParameters parameters, Supplier<CirculationRuleMatch> determineMatch) {
+
+    if (!matches.isEnabled()) {
+      return determineMatch.get();
+    }
+
+    final MatchKey key = MatchKey.of(policyType, rulesVersion, parameters);
+
+    return matches.get(key)
+      .orElseGet(() -> {
+        log.debug("getOrDetermine:: cache miss for {}", key);
+        final CirculationRuleMatch match = determineMatch.get();
+
+        if (match != null && match.getPolicyId() != null) {
+          matches.put(key, match);
+        }
+
+        return match;
+      });
+  }
+
+  public int size() {
+    return matches.size();
+  }
+
+  public long getHitCount() {
+    return matches.getHitCount();
+  }
+
+  public long getMissCount() {
+    return matches.getMissCount();
+  }
+
+  @Value
+  private static class MatchKey {
+    String policyType;
+    long rulesVersion;
+    String materialTypeId;
+    String loanTypeId;
+    String patronGroupId;
+    String locationId;
+    // location units are looked up from the location, which may not be found
+    String institutionId;
+    String campusId;
+    String libraryId;
+
+    static MatchKey of(String policyType, long rulesVersion,
+      RulesExecutionParameters parameters) {
+
+      final Location location = parameters.getLocation();
+
+      return new MatchKey(policyType, rulesVersion, parameters.getMaterialTypeId(),
+        parameters.getLoanTypeId(), parameters.getPatronGroupId(), parameters.getLocationId(),
+        location == null ? null : location.getInstitutionId(),
+        location == null ? null : location.getCampusId(),
+        location == null ? null : location.getLibraryId());
+    }
+  }
+}
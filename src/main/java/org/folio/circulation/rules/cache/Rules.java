@@ -1,23 +1,33 @@
 package org.folio.circulation.rules.cache;
 
-import org.folio.circulation.rules.Drools;
+import org.folio.circulation.rules.CirculationRulesEngine;
 
 import lombok.Getter;
-import lombok.AllArgsConstructor;
 
 @Getter
-@AllArgsConstructor
 public class Rules {
   private final String rulesAsText;
   private final String rulesAsDrools;
-  private final Drools drools;
-  /** System.currentTimeMillis() of the last load/reload of the rules from the storage */
+  private final CirculationRulesEngine engine;
+  /**
+   * System.currentTimeMillis() of when the rules were known to be current: when loading them
+   * from the storage began, or when they were updated for rules from an update event
+   */
   private final long reloadTimestamp;
+  /** matches determined by these rules, replaced together with them */
+  private final RuleMatchCache ruleMatches;
+
+  public Rules(String rulesAsText, String rulesAsDrools, CirculationRulesEngine engine,
+    long reloadTimestamp) {
+
+    this.rulesAsText = rulesAsText;
+    this.rulesAsDrools = rulesAsDrools;
+    this.engine = engine;
+    this.reloadTimestamp = reloadTimestamp;
+    this.ruleMatches = new RuleMatchCache(reloadTimestamp);
+  }
 
   public Rules() {
-    rulesAsText = "";
-    rulesAsDrools = "";
-    drools = null;
-    reloadTimestamp = 0;
+    this("", "", null, 0);
   }
 }
@@ -0,0 +1,260 @@
+package org.folio.circulation.rules.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.kie.api.KieBase;
+
+/**
+ * Keeps compiled Drools rules on the local disk, so that an instance that restarts
+ * (or another instance sharing the directory) does not need to compile rules
+ * that have not changed.
+ * <p>
+ * Each snapshot is named after the tenant and a hash of the rules text it was compiled
+ * from. Restoring a snapshot loads the compiled rules as code, so a snapshot is signed
+ * with a key from the configuration, and is only restored when its signature matches and
+ * it contains nothing but Drools, rules and JDK classes. No snapshots are kept without a key.
+ * <p>
+ * Snapshots are read whenever rules are built (when loaded, reloaded or changed), and any
+ * that cannot be validated or restored are deleted and the rules compiled again
+ */
+public class RulesSnapshotStore {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final int MAGIC = 0x43524b42;
+  private static final int FORMAT_VERSION = 2;
+  private static final String EXTENSION = ".kbase";
+  private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+  private static final int SIGNATURE_LENGTH = 32;
+
+  /**
+   * Classes that can be restored from a snapshot: the JDK, Drools, the classes
+   * generated for the rules (in the circulationrules package) and the facts they use
+   */
+  private static final ObjectInputFilter SNAPSHOT_CLASSES = ObjectInputFilter.Config.createFilter(
+    "maxdepth=200;java.**;org.drools.**;org.kie.**;org.mvel2.**;circulationrules.*;"
+      + "org.folio.circulation.rules.*;!*");
+
+  private final Path directory;
+  private final byte[] key;
+
+  RulesSnapshotStore(Path directory, byte[] key) {
+    this.directory = directory;
+    this.key = key;
+  }
+
+  /**
+   * @return a store using the directory and key set by the environment, or one that
+   * keeps nothing when either is not set
+   */
+  public static RulesSnapshotStore fromEnvironment() {
+    final String directory = Environment.getCirculationRulesSnapshotDirectory();
+    final String key = Environment.getCirculationRulesSnapshotKey();
+
+    if (isBlank(directory)) {
+      return new RulesSnapshotStore(null, null);
+    }
+
+    if (isBlank(key)) {
+      log.warn("fromEnvironment:: no key to sign snapshots of rules with, " +
+        "snapshots will not be kept in {}", directory);
+      return new RulesSnapshotStore(null, null);
+    }
+
+    return new RulesSnapshotStore(Path.of(directory), key.getBytes(UTF_8));
+  }
+
+  public boolean isEnabled() {
+    return directory != null && key != null && key.length > 0;
+  }
+
+  public Optional<KieBase> load(String tenantId, String rulesAsText) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+
+    final String rulesHash = hash(rulesAsText.getBytes(UTF_8));
+    final Path snapshot = snapshotPath(tenantId, rulesHash);
+
+    if (!Files.isRegularFile(snapshot)) {
+      log.info("load:: no snapshot of rules for tenant {}", tenantId);
+      return Optional.empty();
+    }
+
+    try (var input = new DataInputStream(Files.newInputStream(snapshot))) {
+      final byte[] compiledRules = readValidated(input, tenantId, rulesHash);
+
+      try (var objects = new ObjectInputStream(new ByteArrayInputStream(compiledRules))) {
+        objects.setObjectInputFilter(SNAPSHOT_CLASSES);
+        final var kieBase = (KieBase) objects.readObject();
+
+        log.info("load:: restored rules for tenant {} from snapshot {}", tenantId, snapshot);
+        return Optional.of(kieBase);
+      }
+    }
+    catch (Exception e) {
+      log.warn("load:: cannot restore snapshot {} for tenant {}, rules will be compiled",
+        snapshot, tenantId, e);
+      deleteQuietly(snapshot);
+
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Saves the compiled rules and removes any previous snapshots for the tenant.
+   * Rules that cannot be saved are only logged, as they can always be compiled again
+   */
+  public void save(String tenantId, String rulesAsText, KieBase kieBase) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    final String rulesHash = hash(rulesAsText.getBytes(UTF_8));
+    final Path snapshot = snapshotPath(tenantId, rulesHash);
+
+    try {
+      final var compiledRules = new ByteArrayOutputStream();
+
+      try (var objects = new ObjectOutputStream(compiledRules)) {
+        objects.writeObject(kieBase);
+      }
+
+      final byte[] payload = compiledRules.toByteArray();
+
+      Files.createDirectories(directory);
+      final Path temporary = Files.createTempFile(directory, snapshot.getFileName().toString(),
+        ".tmp");
+
+      try (var output = new DataOutputStream(Files.newOutputStream(temporary))) {
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeUTF(rulesHash);
+        output.writeInt(payload.length);
+        output.write(sign(tenantId, rulesHash, payload));
+        output.write(payload);
+      }
+
+      Files.move(temporary, snapshot, REPLACE_EXISTING, ATOMIC_MOVE);
+      removeOtherSnapshots(tenantId, snapshot);
+
+      log.info("save:: saved snapshot {} of rules for tenant {} ({} bytes)", snapshot,
+        tenantId, payload.length);
+    }
+    catch (Exception e) {
+      log.warn("save:: cannot save snapshot of rules for tenant {}", tenantId, e);
+    }
+  }
+
+  private byte[] readValidated(DataInputStream input, String tenantId, String rulesHash)
+    throws IOException {
+
+    if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+      throw new IOException("Not a snapshot of this format");
+    }
+
+    if (!rulesHash.equals(input.readUTF())) {
+      throw new IOException("Snapshot is of different rules");
+    }
+
+    final int length = input.readInt();
+    final byte[] signature = input.readNBytes(SIGNATURE_LENGTH);
+    final byte[] payload = input.readNBytes(length);
+
+    if (payload.length != length
+      || !MessageDigest.isEqual(signature, sign(tenantId, rulesHash, payload))) {
+
+      throw new IOException("Snapshot signature does not match");
+    }
+
+    return payload;
+  }
+
+  private void removeOtherSnapshots(String tenantId, Path current) throws IOException {
+    final var tenantSnapshot = Pattern.compile(Pattern.quote(fileNamePrefix(tenantId))
+      + "[0-9a-f]{64}" + Pattern.quote(EXTENSION));
+
+    try (Stream<Path> files = Files.list(directory)) {
+      files.filter(file -> !file.equals(current))
+        .filter(file -> tenantSnapshot.matcher(file.getFileName().toString()).matches())
+        .forEach(RulesSnapshotStore::deleteQuietly);
+    }
+  }
+
+  private Path snapshotPath(String tenantId, String rulesHash) {
+    return directory.resolve(fileNamePrefix(tenantId) + rulesHash + EXTENSION);
+  }
+
+  private static String fileNamePrefix(String tenantId) {
+    return tenantId.replaceAll("[^A-Za-z0-9_-]", "_") + "-";
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    }
+    catch (IOException e) {
+      log.warn("deleteQuietly:: cannot delete {}", file, e);
+    }
+  }
+
+  /**
+   * Signs the compiled rules together with the tenant and rules they are for,
+   * so that a snapshot cannot be used for another tenant or other rules
+   */
+  private byte[] sign(String tenantId, String rulesHash, byte[] payload) {
+    try {
+      final Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+      mac.init(new SecretKeySpec(key, SIGNATURE_ALGORITHM));
+      mac.update(tenantId.getBytes(UTF_8));
+      mac.update((byte) 0);
+      mac.update(rulesHash.getBytes(UTF_8));
+      mac.update((byte) 0);
+
+      return mac.doFinal(payload);
+    }
+    catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String hash(byte[] bytes) {
+    return HexFormat.of().formatHex(digest(bytes));
+  }
+
+  private static byte[] digest(byte[] bytes) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(bytes);
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package org.folio.circulation.services;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.circulation.domain.AllowedServicePoint;
+import org.folio.circulation.domain.AllowedServicePointsRequest;
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.RequestType;
+import org.folio.circulation.rules.cache.BoundedExpiringCache;
+
+import lombok.Value;
+
+/**
+ * Allowed service points for title level requests, kept for each tenant for a short time,
+ * so that repeated requests for the same instance and patron group (for example, while
+ * a request is being created) do not look up the policies of every item again
+ *
+ * Disabled unless a time to live is configured
+ */
+public final class AllowedServicePointsCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final AllowedServicePointsCache instance = new AllowedServicePointsCache(
+    Environment.getAllowedServicePointsCacheMaximumSize(),
+    Environment.getAllowedServicePointsCacheTimeToLiveSeconds() * 1000L);
+
+  private final int maximumSizePerTenant;
+  private final long timeToLiveMillis;
+  /** allowed service points for each tenantId, keyed by what they were found for */
+  private final Map<String, BoundedExpiringCache<Key, Map<RequestType, Set<AllowedServicePoint>>>>
+    tenantCaches = new ConcurrentHashMap<>();
+
+  public static AllowedServicePointsCache getInstance() {
+    return instance;
+  }
+
+  AllowedServicePointsCache(int maximumSizePerTenant, long timeToLiveMillis) {
+    this.maximumSizePerTenant = maximumSizePerTenant;
+    this.timeToLiveMillis = timeToLiveMillis;
+  }
+
+  public boolean isEnabled() {
+    return maximumSizePerTenant > 0 && timeToLiveMillis > 0;
+  }
+
+  /**
+   * Only title level requests are kept, item level requests are already cheap to answer
+   */
+  public boolean isKept(AllowedServicePointsRequest request) {
+    return isEnabled() && request.isForTitleLevelRequest();
+  }
+
+  public Optional<Map<RequestType, Set<AllowedServicePoint>>> get(String tenantId,
+    AllowedServicePointsRequest request, String patronGroupId, String indexName) {
+
+    if (!isKept(request)) {
+      return Optional.empty();
+    }
+
+    final var key = Key.of(request, patronGroupId, indexName);
+    final var allowedServicePoints = forTenant(tenantId).get(key);
+
+    log.debug("get:: cache {} for tenant {}: {}",
+      allowedServicePoints.isPresent() ? "hit" : "miss", tenantId, key);
+
+    return allowedServicePoints;
+  }
+
+  public void put(String tenantId, AllowedServicePointsRequest request, String patronGroupId,
+    String indexName, Map<RequestType, Set<AllowedServicePoint>> allowedServicePoints) {
+
+    if (isKept(request)) {
+      forTenant(tenantId).put(Key.of(request, patronGroupId, indexName),
+        allowedServicePoints);
+    }
+  }
+
+  public void invalidate(String tenantId) {
+    log.info("invalidate:: invalidating allowed service points for tenant {}", tenantId);
+    tenantCaches.remove(tenantId);
+  }
+
+  public void dropCache() {
+    tenantCaches.clear();
+  }
+
+  public long getHitCount() {
+    return tenantCaches.values().stream()
+      .mapToLong(BoundedExpiringCache::getHitCount)
+      .sum();
+  }
+
+  public long getMissCount() {
+    return tenantCaches.values().stream()
+      .mapToLong(BoundedExpiringCache::getMissCount)
+      .sum();
+  }
+
+  private BoundedExpiringCache<Key, Map<RequestType, Set<AllowedServicePoint>>> forTenant(
+    String tenantId) {
+
+    return tenantCaches.computeIfAbsent(tenantId,
+      key -> new BoundedExpiringCache<>(maximumSizePerTenant, timeToLiveMillis));
+  }
+
+  /**
+   * Everything about a request that the allowed service points depend upon,
+   * once any existing request has been taken into account
+   */
+  @Value
+  private static class Key {
+    Request.Operation operation;
+    String instanceId;
+    String itemId;
+    String patronGroupId;
+    boolean useStubItem;
+    String indexName;
+
+    static Key of(AllowedServicePointsRequest request, String patronGroupId,
+      String indexName) {
+
+      return new Key(request.getOperation(), request.getInstanceId(), request.getItemId(),
+        patronGroupId, request.isUseStubItem(), indexName);
+    }
+  }
+}
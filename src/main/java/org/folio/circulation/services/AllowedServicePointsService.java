@@ -68,6 +68,8 @@ public class AllowedServicePointsService {
   private final CirculationSettingsService circulationSettingsService;
   private final InstanceRepository instanceRepository;
   private final String indexName;
+  private final String tenantId;
+  private final AllowedServicePointsCache allowedServicePointsCache;
 
   public AllowedServicePointsService(Clients clients, boolean isEcsRequestRouting) {
     itemRepository = new ItemRepository(clients);
@@ -79,6 +81,8 @@ public class AllowedServicePointsService {
     instanceRepository = new InstanceRepository(clients);
     itemFinder = new ItemByInstanceIdFinder(clients.holdingsStorage(), itemRepository);
     indexName = isEcsRequestRouting ? ECS_REQUEST_ROUTING_INDEX_NAME : PICKUP_LOCATION_INDEX_NAME;
+    tenantId = clients.tenantId();
+    allowedServicePointsCache = AllowedServicePointsCache.getInstance();
   }
 
   public CompletableFuture<Result<Map<RequestType, Set<AllowedServicePoint>>>>
@@ -148,8 +152,21 @@ public class AllowedServicePointsService {
 
     log.debug("getAllowedServicePoints:: parameters request: {}, patronGroupId: {}", request, patronGroupId);
 
+    final var cached = allowedServicePointsCache.get(tenantId, request, patronGroupId,
+      indexName);
+
+    if (cached.isPresent()) {
+      log.info("getAllowedServicePoints:: using allowed service points found recently");
+      return ofAsync(cached.get());
+    }
+
     return fetchItems(request)
-      .thenCompose(r -> r.after(items -> getAllowedServicePoints(request, patronGroupId, items)));
+      .thenCompose(r -> r.after(items -> getAllowedServicePoints(request, patronGroupId, items)))
+      .thenApply(r -> r.map(allowedServicePoints -> {
+        allowedServicePointsCache.put(tenantId, request, patronGroupId, indexName,
+          allowedServicePoints);
+        return allowedServicePoints;
+      }));
   }
 
   private CompletableFuture<Result<Map<RequestType, Set<AllowedServicePoint>>>>
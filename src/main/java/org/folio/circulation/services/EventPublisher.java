@@ -27,7 +27,9 @@ import static org.folio.circulation.domain.representations.logs.LogEventType.NOT
 import static org.folio.circulation.domain.representations.logs.RequestUpdateLogEventMapper.mapToRequestLogEventJson;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+import static org.folio.circulation.support.results.AsynchronousResultBindings.limitedBy;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.ContextExecutor.orForCurrentContext;
 import static org.folio.circulation.support.results.Result.emptyAsync;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -39,6 +41,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.*;
@@ -56,12 +59,15 @@ import org.folio.circulation.resources.context.RenewalContext;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.AsyncWorkLimiter;
 import org.folio.circulation.support.results.Result;
 import io.vertx.core.json.JsonObject;
 
 public class EventPublisher {
 
   private static final Logger logger = LogManager.getLogger(EventPublisher.class);
+  private static final AsyncWorkLimiter anonymizationLimiter =
+    AsyncWorkLimiter.forBatch("loan-anonymization-events");
 
   public static final String USER_ID_FIELD = "userId";
   public static final String LOAN_ID_FIELD = "loanId";
@@ -78,17 +84,20 @@ public class EventPublisher {
 
   private final PubSubPublishingService pubSubPublishingService;
   private final Clients clients;
+  private final Executor executor;
   private WebContext webContext;
 
   public EventPublisher(WebContext webContext, Clients clients) {
     this.webContext = webContext;
     this.clients = clients;
     this.pubSubPublishingService = clients.pubSubPublishingService();
+    this.executor = orForCurrentContext(clients.executor());
   }
 
   public EventPublisher(Clients clients) {
     this.clients = clients;
     this.pubSubPublishingService = clients.pubSubPublishingService();
+    this.executor = orForCurrentContext(clients.executor());
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> publishItemCheckedOutEvent(
@@ -113,13 +122,14 @@ public class EventPublisher {
       runAsync(() -> userRepository.getUser(loanAndRelatedRecords.getLoggedInUserId())
         .thenApplyAsync(r -> r.after(loggedInUser -> completedFuture(
           succeeded(pubSubPublishingService.publishEvent(LOG_RECORD.name(),
-            mapToCheckOutLogEventContent(loanAndRelatedRecords, loggedInUser)))))));
+            mapToCheckOutLogEventContent(loanAndRelatedRecords, loggedInUser))))), executor),
+        executor);
 
       logger.info("publishItemCheckedOutEvent:: publishing ITEM_CHECKED_OUT event for loan {}",
         loan.getId());
       // run ITEM_CHECKED_OUT event publishing asynchronously to prevent any impact on the performance of check-out
       runAsync(() -> pubSubPublishingService.publishEvent(ITEM_CHECKED_OUT.name(),
-        payloadJsonObject.encode()));
+        payloadJsonObject.encode()), executor);
     } else {
       logger.error(FAILED_TO_PUBLISH_LOG_TEMPLATE, ITEM_CHECKED_OUT.name());
     }
@@ -135,8 +145,8 @@ public class EventPublisher {
     runAsync(() -> userRepository.getUser(context.getLoggedInUserId())
       .thenCompose(r1 -> r1.after(loggedInUser -> getUserForLastLoan(context, userRepository, loanRepository)
         .thenCompose(r -> r.after(userFromLastLoan -> pubSubPublishingService.publishEvent(LOG_RECORD.name(),
-          mapToCheckInLogEventContent(context, loggedInUser, userFromLastLoan)).thenApply(Result::succeeded)))))
-    );
+          mapToCheckInLogEventContent(context, loggedInUser, userFromLastLoan)).thenApply(Result::succeeded))))),
+      executor);
 
     if (context.getLoan() != null) {
       Loan loan = context.getLoan();
@@ -282,7 +292,8 @@ public class EventPublisher {
   public CompletableFuture<Result<LoanAnonymizationRecords>> publishAnonymizeEvents(LoanAnonymizationRecords records) {
     logger.info("publishAnonymizeEvents:: parameters anonymized loans count: {}",
       records.getAnonymizedLoans()::size);
-    return allOf(records.getAnonymizedLoans(), this::publishAnonymizeEvent)
+    return allOf(records.getAnonymizedLoans(),
+      limitedBy(anonymizationLimiter, this::publishAnonymizeEvent))
       .thenApply(r -> succeeded(records));
   }
 
@@ -413,7 +424,7 @@ public class EventPublisher {
   public RequestAndRelatedRecords publishLogRecordAsync(RequestAndRelatedRecords requestAndRelatedRecords, Request originalRequest, LogEventType logEventType) {
     logger.info("publishLogRecordAsync:: parameters requestId: {}, logEventType: {}",
       originalRequest != null ? originalRequest.getId() : "null", logEventType);
-    runAsync(() -> publishLogRecord(mapToRequestLogEventJson(originalRequest, fetchRequestAndUpdateMetadata(requestAndRelatedRecords)), logEventType));
+    runAsync(() -> publishLogRecord(mapToRequestLogEventJson(originalRequest, fetchRequestAndUpdateMetadata(requestAndRelatedRecords)), logEventType), executor);
     return requestAndRelatedRecords;
   }
 
@@ -456,7 +467,7 @@ public class EventPublisher {
     var loanLogContext = LoanLogContext.from(loan)
       .withDescription(getLoanActionCommentLog(loan))
       .asJson();
-    runAsync(() -> publishLogRecord(loanLogContext, LOAN));
+    runAsync(() -> publishLogRecord(loanLogContext, LOAN), executor);
 
     JsonObject payloadJson = new JsonObject();
     write(payloadJson, USER_ID_FIELD, loan.getUserId());
@@ -490,11 +501,11 @@ public class EventPublisher {
       write(payloadJsonObject, DUE_DATE_CHANGED_BY_RECALL_FIELD, loan.wasDueDateChangedByRecall());
 
       if (renewalContext != null) {
-        runAsync(() -> publishDueDateLogEvent(loan, renewalContext.getLoggedInUserId()));
+        runAsync(() -> publishDueDateLogEvent(loan, renewalContext.getLoggedInUserId()), executor);
         runAsync(() -> publishRenewedEvent(loan.copy().withUser(user),
-          renewalContext.getLoggedInUserId()));
+          renewalContext.getLoggedInUserId()), executor);
       } else {
-        runAsync(() -> publishDueDateLogEvent(loan));
+        runAsync(() -> publishDueDateLogEvent(loan), executor);
       }
 
       return pubSubPublishingService.publishEvent(LOAN_DUE_DATE_CHANGED.name(), payloadJsonObject.encode())
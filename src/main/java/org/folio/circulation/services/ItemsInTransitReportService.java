@@ -1,16 +1,23 @@
 package org.folio.circulation.services;
 
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.nullsLast;
+import static java.util.Optional.ofNullable;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.collections4.ListUtils.partition;
 import static org.folio.circulation.domain.ItemStatus.IN_TRANSIT;
-import static org.folio.circulation.support.results.Result.combineAll;
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -27,6 +34,7 @@ import org.folio.circulation.domain.Holdings;
 import org.folio.circulation.domain.Instance;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.PatronGroup;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.ServicePoint;
@@ -43,10 +51,13 @@ import org.folio.circulation.infrastructure.storage.users.PatronGroupRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.services.support.ItemsInTransitReportContext;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.fetching.PageableFetcher;
+import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
 import lombok.AllArgsConstructor;
+import lombok.Value;
 
 @AllArgsConstructor
 public class ItemsInTransitReportService {
@@ -61,6 +72,10 @@ public class ItemsInTransitReportService {
   private final InstanceRepository instanceRepository;
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
+  private static final String STATUS_NAME_KEY = "status.name";
+  private static final int ITEMS_PAGE_SIZE = 1000;
+  private static final int REPORT_PAGE_SIZE = 100;
+
   public ItemsInTransitReportService(Clients clients) {
     this.itemReportRepository = new ItemReportRepository(clients);
     this.itemRepository = new ItemRepository(clients);
@@ -74,10 +89,31 @@ public class ItemsInTransitReportService {
     this.instanceRepository = new InstanceRepository(clients);
   }
 
-  public CompletableFuture<Result<JsonObject>> buildReport() {
+  /**
+   * Finds the items in transit in the order they are presented in the report,
+   * without holding on to the items themselves
+   *
+   * @return pages of item IDs, each of which is built using {@link #buildPage(List)}
+   */
+  public CompletableFuture<Result<List<List<String>>>> buildReport() {
     log.info("buildReport:: building items in transit report");
-    return completedFuture(succeeded(new ItemsInTransitReportContext()))
-      .thenCompose(r -> r.after(this::fetchItems))
+    return completedFuture(exactMatch(STATUS_NAME_KEY, IN_TRANSIT.getValue()))
+      .thenCompose(r -> r.after(this::findItemsInTransit))
+      .thenCompose(r -> r.after(this::sortByCheckInServicePoint))
+      .thenApply(mapResult(itemIds -> partition(itemIds, REPORT_PAGE_SIZE)))
+      .whenComplete(this::handleResult);
+  }
+
+  /**
+   * Fetches the items and their related records, and builds the report entries for them
+   *
+   * @param itemIds IDs of the items, in the order they are presented in the report
+   */
+  public CompletableFuture<Result<Collection<JsonObject>>> buildPage(List<String> itemIds) {
+    log.info("buildPage:: building report entries for {} items", itemIds.size());
+    return itemReportRepository.findByIds(itemIds)
+      .thenApply(mapResult(items -> new ItemsInTransitReportContext()
+        .withItems(toMap(items.getRecords(), Item::getItemId))))
       .thenCompose(r -> r.after(this::fetchHoldingsRecords))
       .thenCompose(r -> r.after(this::fetchInstances))
       .thenCompose(r -> r.after(this::fetchLocations))
@@ -86,11 +122,10 @@ public class ItemsInTransitReportService {
       .thenCompose(r -> r.after(this::fetchUsers))
       .thenCompose(r -> r.after(this::fetchPatronGroups))
       .thenCompose(r -> r.after(this::fetchServicePoints))
-      .thenApply(this::mapToJsonObject)
-      .whenComplete(this::handleResult);
+      .thenApply(mapResult(context -> buildEntries(context, itemIds)));
   }
 
-  private void handleResult(Result<JsonObject> result, Throwable throwable) {
+  private void handleResult(Result<List<List<String>>> result, Throwable throwable) {
     if (throwable != null) {
       log.error("An exception was caught while building the report", throwable);
     } else if (result != null) {
@@ -104,18 +139,62 @@ public class ItemsInTransitReportService {
     }
   }
 
-  private CompletableFuture<Result<ItemsInTransitReportContext>> fetchItems(
-    ItemsInTransitReportContext context) {
+  /**
+   * Only the loan check in service point of each item is kept, as that is all that
+   * is needed to sort the report
+   */
+  private CompletableFuture<Result<List<ReportOrder>>> findItemsInTransit(CqlQuery query) {
+    log.info("findItemsInTransit:: fetching items in transit");
+
+    final List<ReportOrder> reportOrder = new ArrayList<>();
 
-    log.info("fetchItems:: fetching items in transit");
-    return itemReportRepository.getAllItemsByField("status.name", IN_TRANSIT.getValue())
-      .thenApply(r -> r.next(itemsReportFetcher ->
-        combineAll(itemsReportFetcher.getResultListOfItems())
-          .map(listOfPages -> listOfPages.stream()
-            .flatMap(page -> page.getRecords().stream())
-            .collect(Collectors.toList()))))
-      .thenApply(mapResult(items -> toMap(items, Item::getItemId)))
-      .thenApply(mapResult(context::withItems));
+    return new PageableFetcher<>(itemReportRepository, limit(ITEMS_PAGE_SIZE), Integer.MAX_VALUE)
+      .processPagesByKey(query, "id", Item::getItemId,
+        items -> addReportOrder(items, reportOrder))
+      .thenApply(mapResult(notUsed -> reportOrder));
+  }
+
+  private CompletableFuture<Result<Void>> addReportOrder(MultipleRecords<Item> items,
+    List<ReportOrder> reportOrder) {
+
+    log.debug("addReportOrder:: fetching loans for {} items", items.size());
+    return loanRepository.findByItemIds(mapToStrings(items.getRecords(), Item::getItemId))
+      .thenApply(mapResult(loans -> toMap(loans, Loan::getItemId)))
+      .thenApply(mapResult(loans -> items.getRecords().stream()
+        .map(item -> new ReportOrder(item.getItemId(), ofNullable(loans.get(item.getItemId()))
+          .map(Loan::getCheckInServicePointId)
+          .orElse(null)))
+        .collect(Collectors.toList())))
+      .thenApply(mapResult(reportOrder::addAll))
+      .thenApply(Result::mapEmpty);
+  }
+
+  private CompletableFuture<Result<List<String>>> sortByCheckInServicePoint(
+    List<ReportOrder> reportOrder) {
+
+    log.info("sortByCheckInServicePoint:: sorting {} items", reportOrder.size());
+    return succeeded(mapToStrings(reportOrder, ReportOrder::getCheckInServicePointId))
+      .after(servicePointRepository::findServicePointsByIds)
+      .thenApply(mapResult(servicePoints -> toMap(servicePoints, ServicePoint::getId)))
+      .thenApply(mapResult(servicePoints -> reportOrder.stream()
+        .sorted(comparing((ReportOrder order) -> ofNullable(order.getCheckInServicePointId())
+          .map(servicePoints::get)
+          .map(ServicePoint::getName)
+          .orElse(null), nullsLast(String::compareTo)))
+        .map(ReportOrder::getItemId)
+        .collect(Collectors.toList())));
+  }
+
+  private Collection<JsonObject> buildEntries(ItemsInTransitReportContext context,
+    List<String> itemIds) {
+
+    final var report = new ItemsInTransitReport(context);
+
+    return itemIds.stream()
+      .map(context.getItems()::get)
+      .filter(Objects::nonNull)
+      .map(report::buildEntry)
+      .collect(Collectors.toList());
   }
 
   private CompletableFuture<Result<ItemsInTransitReportContext>> fetchHoldingsRecords(
@@ -236,8 +315,9 @@ public class ItemsInTransitReportService {
       .collect(Collectors.toMap(keyMapper, identity(), (left, right) -> left));
   }
 
-  private Result<JsonObject> mapToJsonObject(Result<ItemsInTransitReportContext> context) {
-    return context.map(ItemsInTransitReport::new)
-      .map(ItemsInTransitReport::build);
+  @Value
+  private static class ReportOrder {
+    String itemId;
+    String checkInServicePointId;
   }
 }
@@ -0,0 +1,235 @@
+package org.folio.circulation.services;
+
+import static org.folio.circulation.services.PubSubPublishingService.createEvent;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.rest.util.OkapiConnectionParams;
+import org.folio.util.pubsub.PubSubClientUtils;
+
+import io.vertx.core.Vertx;
+import lombok.Value;
+
+/**
+ * Publishes events that nothing waits for (such as log records) in the background,
+ * so that publishing them does not add to the time taken to respond to a request.
+ * <p>
+ * Each tenant has its own outbox, which holds at most PUBSUB_OUTBOX_CAPACITY events.
+ * When an outbox is full, the event is not accepted and should be published
+ * straight away instead.
+ * <p>
+ * Events are delivered in batches of PUBSUB_OUTBOX_BATCH_SIZE. Pub-sub only accepts
+ * a single event per request, so the events in a batch are sent at the same time and
+ * the next batch is started once they have all completed. An event that fails to be
+ * delivered is tried again after a delay that doubles with each attempt, up to
+ * PUBSUB_OUTBOX_MAX_ATTEMPTS attempts
+ */
+public class PubSubPublishingOutbox {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final Map<String, PubSubPublishingOutbox> outboxes = new ConcurrentHashMap<>();
+
+  private final String tenantId;
+  private final Vertx vertx;
+  private final BiFunction<Vertx, OutboxEvent, CompletableFuture<Boolean>> delivery;
+  private final int capacity;
+  private final int batchSize;
+  private final int maximumAttempts;
+  private final long retryDelayMilliseconds;
+
+  private final Queue<OutboxEvent> ready = new ConcurrentLinkedQueue<>();
+  /** events that have been accepted and not yet delivered or given up on, including retries */
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicBoolean delivering = new AtomicBoolean();
+
+  private final AtomicLong deliveredCount = new AtomicLong();
+  private final AtomicLong retriedCount = new AtomicLong();
+  private final AtomicLong droppedCount = new AtomicLong();
+  private final AtomicLong overflowCount = new AtomicLong();
+
+  PubSubPublishingOutbox(String tenantId, Vertx vertx,
+    BiFunction<Vertx, OutboxEvent, CompletableFuture<Boolean>> delivery, int capacity,
+    int batchSize, int maximumAttempts, long retryDelayMilliseconds) {
+
+    this.tenantId = tenantId;
+    this.vertx = vertx;
+    this.delivery = delivery;
+    this.capacity = capacity;
+    this.batchSize = Math.max(batchSize, 1);
+    this.maximumAttempts = Math.max(maximumAttempts, 1);
+    this.retryDelayMilliseconds = Math.max(retryDelayMilliseconds, 1);
+  }
+
+  public static boolean isEnabled() {
+    return Environment.getPubSubOutboxEnabled();
+  }
+
+  public static PubSubPublishingOutbox forTenant(String tenantId, Vertx vertx) {
+    return outboxes.computeIfAbsent(tenantId, key -> new PubSubPublishingOutbox(key, vertx,
+      PubSubPublishingOutbox::sendToPubSub, Environment.getPubSubOutboxCapacity(),
+      Environment.getPubSubOutboxBatchSize(), Environment.getPubSubOutboxMaximumAttempts(),
+      Environment.getPubSubOutboxRetryDelayMilliseconds()));
+  }
+
+  public static Collection<PubSubPublishingOutbox> outboxes() {
+    return List.copyOf(outboxes.values());
+  }
+
+  /**
+   * @return false when the outbox is full and the event has not been accepted
+   */
+  public boolean offer(String eventType, String payload, Map<String, String> okapiHeaders) {
+    if (pending.incrementAndGet() > capacity) {
+      pending.decrementAndGet();
+      overflowCount.incrementAndGet();
+
+      log.warn("offer:: outbox for tenant {} is full, {} event will be published directly",
+        tenantId, eventType);
+
+      return false;
+    }
+
+    ready.add(new OutboxEvent(eventType, payload, new HashMap<>(okapiHeaders), 1));
+    startDelivering();
+
+    return true;
+  }
+
+  public String getTenantId() {
+    return tenantId;
+  }
+
+  public int getPendingCount() {
+    return pending.get();
+  }
+
+  public long getDeliveredCount() {
+    return deliveredCount.get();
+  }
+
+  public long getRetriedCount() {
+    return retriedCount.get();
+  }
+
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  public long getOverflowCount() {
+    return overflowCount.get();
+  }
+
+  private void startDelivering() {
+    if (delivering.compareAndSet(false, true)) {
+      vertx.runOnContext(v -> deliverNextBatch());
+    }
+  }
+
+  private void deliverNextBatch() {
+    final List<OutboxEvent> batch = new ArrayList<>(batchSize);
+
+    OutboxEvent event;
+    while (batch.size() < batchSize && (event = ready.poll()) != null) {
+      batch.add(event);
+    }
+
+    if (batch.isEmpty()) {
+      delivering.set(false);
+
+      // an event could have been added after the queue was found to be empty
+      if (!ready.isEmpty()) {
+        startDelivering();
+      }
+
+      return;
+    }
+
+    log.debug("deliverNextBatch:: delivering {} events for tenant {}", batch.size(), tenantId);
+
+    CompletableFuture.allOf(batch.stream()
+        .map(this::deliver)
+        .toArray(CompletableFuture[]::new))
+      .whenComplete((v, t) -> vertx.runOnContext(next -> deliverNextBatch()));
+  }
+
+  private CompletableFuture<Void> deliver(OutboxEvent event) {
+    final CompletableFuture<Boolean> delivered;
+
+    try {
+      delivered = delivery.apply(vertx, event);
+    } catch (Exception e) {
+      retryOrDrop(event, e);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return delivered.handle((result, error) -> {
+      if (Boolean.TRUE.equals(result)) {
+        pending.decrementAndGet();
+        deliveredCount.incrementAndGet();
+      } else {
+        retryOrDrop(event, error);
+      }
+
+      return null;
+    });
+  }
+
+  private void retryOrDrop(OutboxEvent event, Throwable error) {
+    if (event.getAttempt() >= maximumAttempts) {
+      pending.decrementAndGet();
+      droppedCount.incrementAndGet();
+
+      log.error("retryOrDrop:: {} event for tenant {} could not be delivered after {} attempts",
+        event.getEventType(), tenantId, event.getAttempt(), error);
+
+      return;
+    }
+
+    final long delay = retryDelayMilliseconds << Math.min(event.getAttempt() - 1, 16);
+
+    retriedCount.incrementAndGet();
+
+    log.warn("retryOrDrop:: {} event for tenant {} failed on attempt {}, trying again in {} ms",
+      event.getEventType(), tenantId, event.getAttempt(), delay);
+
+    vertx.setTimer(delay, id -> {
+      ready.add(event.nextAttempt());
+      startDelivering();
+    });
+  }
+
+  private static CompletableFuture<Boolean> sendToPubSub(Vertx vertx, OutboxEvent event) {
+    final var params = new OkapiConnectionParams(event.getOkapiHeaders(), vertx);
+
+    return PubSubClientUtils.sendEventMessage(
+      createEvent(event.getEventType(), event.getPayload(), params.getTenantId()), params);
+  }
+
+  @Value
+  static class OutboxEvent {
+    String eventType;
+    String payload;
+    Map<String, String> okapiHeaders;
+    int attempt;
+
+    OutboxEvent nextAttempt() {
+      return new OutboxEvent(eventType, payload, okapiHeaders, attempt + 1);
+    }
+  }
+}
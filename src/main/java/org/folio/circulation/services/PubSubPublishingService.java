@@ -1,11 +1,17 @@
 package org.folio.circulation.services;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.EventType.ITEM_CHECKED_OUT;
+import static org.folio.circulation.domain.EventType.LOG_RECORD;
+
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.circulation.services.events.KafkaCirculationEventPublisher;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.rest.jaxrs.model.Event;
 import org.folio.rest.jaxrs.model.EventMetadata;
@@ -19,6 +25,12 @@ import io.vertx.ext.web.RoutingContext;
 public class PubSubPublishingService {
   private static final Logger logger = LogManager.getLogger(PubSubPublishingService.class);
 
+  /**
+   * Events that are not waited for, which are published through the outbox when it is enabled
+   */
+  private static final Set<String> BACKGROUND_EVENT_TYPES = Set.of(
+    LOG_RECORD.name(), ITEM_CHECKED_OUT.name());
+
   private final Map<String, String> okapiHeaders;
   private final Context vertxContext;
 
@@ -33,14 +45,45 @@ public class PubSubPublishingService {
 
   public CompletableFuture<Boolean> publishEvent(String eventType, String payload) {
     OkapiConnectionParams params = new OkapiConnectionParams(okapiHeaders, vertxContext.owner());
-    Event event = new Event()
-      .withId(UUID.randomUUID().toString())
-      .withEventType(eventType)
-      .withEventPayload(payload)
-      .withEventMetadata(new EventMetadata()
-        .withPublishedBy(PubSubClientUtils.getModuleId())
-        .withTenantId(params.getTenantId())
-        .withEventTTL(1));
+
+    final CompletableFuture<Boolean> publishedToPubSub = publishToPubSub(eventType, payload,
+      params);
+
+    // existing pub-sub subscribers still depend upon these events, so they are sent
+    // to both until those subscribers consume the Kafka topics instead
+    if (KafkaCirculationEventPublisher.publishesEventType(eventType)) {
+      publishToKafka(eventType, payload, params.getTenantId());
+    }
+
+    return publishedToPubSub;
+  }
+
+  /**
+   * Events are sent to Kafka without being waited for, so that publishing still only
+   * depends upon pub-sub, failures are recorded by the publisher
+   */
+  private void publishToKafka(String eventType, String payload, String tenantId) {
+    final Event event = createEvent(eventType, payload, tenantId);
+
+    KafkaCirculationEventPublisher.forVertx(vertxContext.owner())
+      .publish(event, tenantId, okapiHeaders)
+      .whenComplete((published, throwable) -> {
+        if (throwable != null) {
+          logger.error("publishToKafka:: failed to send {} event {} to Kafka",
+            eventType, event.getId(), throwable);
+        }
+      });
+  }
+
+  private CompletableFuture<Boolean> publishToPubSub(String eventType, String payload,
+    OkapiConnectionParams params) {
+
+    if (publishInBackground(eventType, payload, params.getTenantId())) {
+      logger.debug("publishToPubSub:: {} event added to outbox", eventType);
+      return completedFuture(true);
+    }
+
+    Event event = createEvent(eventType, payload, params.getTenantId());
 
     final CompletableFuture<Boolean> publishResult = new CompletableFuture<>();
 
@@ -64,4 +107,25 @@ public class PubSubPublishingService {
 
     return publishResult;
   }
+
+  static Event createEvent(String eventType, String payload, String tenantId) {
+    return new Event()
+      .withId(UUID.randomUUID().toString())
+      .withEventType(eventType)
+      .withEventPayload(payload)
+      .withEventMetadata(new EventMetadata()
+        .withPublishedBy(PubSubClientUtils.getModuleId())
+        .withTenantId(tenantId)
+        .withEventTTL(1));
+  }
+
+  /**
+   * @return true when the event has been accepted by the outbox
+   */
+  private boolean publishInBackground(String eventType, String payload, String tenantId) {
+    return PubSubPublishingOutbox.isEnabled()
+      && BACKGROUND_EVENT_TYPES.contains(eventType)
+      && PubSubPublishingOutbox.forTenant(tenantId, vertxContext.owner())
+        .offer(eventType, payload, okapiHeaders);
+  }
 }
@@ -1,6 +1,7 @@
 package org.folio.circulation.services;
 
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.folio.circulation.domain.RequestLevel.TITLE;
 import static org.folio.circulation.support.results.Result.emptyAsync;
 import static org.folio.circulation.support.results.Result.ofAsync;
 
@@ -43,11 +44,17 @@ public class RequestQueueService {
     RequestQueue requestQueue) {
 
     log.info("findRequestFulfillableByItem:: parameters itemId: {}", item::getItemId);
-    return findRequestFulfillableByItem(item, requestQueue.fulfillableRequests().iterator());
+    return findRequestFulfillableByItem(item, requestQueue,
+      requestQueue.fulfillableRequests().iterator());
   }
 
+  /**
+   * When the queue was loaded without related records, they are only fetched for
+   * title level requests (which need the requester to choose policies) before checking them,
+   * and for the request that is found
+   */
   private CompletableFuture<Result<Request>> findRequestFulfillableByItem(Item item,
-    Iterator<Request> iterator) {
+    RequestQueue requestQueue, Iterator<Request> iterator) {
 
     if (!iterator.hasNext()) {
       return emptyAsync();
@@ -55,8 +62,15 @@ public class RequestQueueService {
 
     final Request request = iterator.next();
 
-    return isRequestFulfillableByItem(item, request)
-      .thenCompose(r -> r.after(whenTrue(ofAsync(request), findRequestFulfillableByItem(item, iterator))));
+    final CompletableFuture<Result<Request>> candidate = request.getRequestLevel() == TITLE
+      ? requestQueue.loadRelatedRecords(request)
+      : ofAsync(request);
+
+    return candidate.thenCompose(r -> r.after(candidateRequest ->
+      isRequestFulfillableByItem(item, candidateRequest)
+        .thenCompose(f -> f.after(fulfillable -> isTrue(fulfillable)
+          ? requestQueue.loadRelatedRecords(candidateRequest)
+          : findRequestFulfillableByItem(item, requestQueue, iterator)))));
   }
 
   public CompletableFuture<Result<Boolean>> isRequestFulfillableByItem(Item item, Request request) {
@@ -11,10 +11,10 @@ import static org.folio.circulation.domain.representations.LoanProperties.DATE_L
 import static org.folio.circulation.domain.representations.LoanProperties.ITEM_STATUS;
 import static org.folio.circulation.domain.representations.LoanProperties.LOST_ITEM_HAS_BEEN_BILLED;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
-import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThanOrEqualTo;
+import static org.folio.circulation.support.results.AsynchronousResultBindings.limitedBy;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -64,12 +64,15 @@ import org.folio.circulation.services.support.CreateAccountCommand;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.results.AsyncWorkLimiter;
 import org.folio.circulation.support.results.Result;
 
 import lombok.val;
 
 public class ChargeLostFeesWhenAgedToLostService {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final AsyncWorkLimiter chargingLimiter =
+    AsyncWorkLimiter.forBatch("charge-lost-fees-when-aged-to-lost");
   private final LostItemPolicyRepository lostItemPolicyRepository;
   private final FeeFineOwnerRepository feeFineOwnerRepository;
   private final FeeFineRepository feeFineRepository;
@@ -107,7 +110,8 @@ public class ChargeLostFeesWhenAgedToLostService {
   public CompletableFuture<Result<Void>> chargeFees() {
     log.info("chargeFees:: starting aged to lost items charging process");
     return loanFetchQuery()
-      .after(query -> loanPageableFetcher.processPages(query, this::chargeFees));
+      .after(query -> loanPageableFetcher.processPagesByKey(query, "id", Loan::getId,
+        this::chargeFees));
   }
 
   public CompletableFuture<Result<Void>> chargeFees(MultipleRecords<Loan> loans) {
@@ -132,7 +136,7 @@ public class ChargeLostFeesWhenAgedToLostService {
     Result<List<LoanToChargeFees>> loansToChargeFeesResult) {
 
     return loansToChargeFeesResult
-      .after(loans -> allOf(loans, this::chargeLostFees))
+      .after(loans -> allOf(loans, limitedBy(chargingLimiter, this::chargeLostFees)))
       .thenApply(Result::mapEmpty);
   }
 
@@ -311,8 +315,7 @@ public class ChargeLostFeesWhenAgedToLostService {
       lostItemHasBeenBilled, "false");
 
     return billingDateQuery.combine(agedToLostQuery, CqlQuery::and)
-      .combine(hasNotBeenBilledQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending(billingDateProperty)));
+      .combine(hasNotBeenBilledQuery, CqlQuery::and);
   }
 
   private Result<LoanToChargeFees> validateCanCreateAccountForLoan(LoanToChargeFees loanToChargeFees) {
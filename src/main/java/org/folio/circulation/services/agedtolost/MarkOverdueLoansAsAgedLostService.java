@@ -4,10 +4,10 @@ import static org.folio.circulation.domain.ItemStatus.AGED_TO_LOST;
 import static org.folio.circulation.domain.ItemStatus.CLAIMED_RETURNED;
 import static org.folio.circulation.domain.ItemStatus.DECLARED_LOST;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
-import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThan;
 import static org.folio.circulation.support.http.client.CqlQuery.notEqual;
+import static org.folio.circulation.support.results.AsynchronousResultBindings.limitedBy;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
 import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsString;
@@ -31,11 +31,14 @@ import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.results.AsyncWorkLimiter;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.utils.ClockUtil;
 
 public class MarkOverdueLoansAsAgedLostService {
   private static final Logger log = LogManager.getLogger(MarkOverdueLoansAsAgedLostService.class);
+  private static final AsyncWorkLimiter agedToLostLimiter =
+    AsyncWorkLimiter.forBatch("mark-overdue-loans-as-aged-to-lost");
 
   private final LostItemPolicyRepository lostItemPolicyRepository;
   private final ItemRepository itemRepository;
@@ -61,7 +64,8 @@ public class MarkOverdueLoansAsAgedLostService {
     log.info("processAgeToLost:: running mark overdue loans as aged to lost process...");
 
     return loanFetchQuery()
-      .after(query -> loanPageableFetcher.processPages(query, this::processAgeToLost));
+      .after(query -> loanPageableFetcher.processPagesByKey(query, "id", Loan::getId,
+        this::processAgeToLost));
   }
 
   public CompletableFuture<Result<Void>> processAgeToLost(MultipleRecords<Loan> loans) {
@@ -85,7 +89,8 @@ public class MarkOverdueLoansAsAgedLostService {
     Result<List<Loan>> allLoansResult) {
 
     log.debug("publishAgedToLostEvents:: publishing aged to lost events");
-    return allLoansResult.after(allLoans -> allOf(allLoans, eventPublisher::publishAgedToLostEvents))
+    return allLoansResult.after(allLoans -> allOf(allLoans,
+      limitedBy(agedToLostLimiter, eventPublisher::publishAgedToLostEvents)))
       .thenApply(r -> r.next(ignored -> allLoansResult));
   }
 
@@ -116,7 +121,7 @@ public class MarkOverdueLoansAsAgedLostService {
     log.debug("updateLoansAndItemsInStorage:: updating loans and items in storage");
     return loanRecordsResult
       .map(MultipleRecords::getRecords)
-      .after(loans -> allOf(loans, storeLoanAndItem::updateLoanAndItemInStorage));
+      .after(storeLoanAndItem::updateLoansAndItemsInStorage);
   }
 
   private Result<MultipleRecords<Loan>> getLoansThatHaveToBeAgedToLost(
@@ -153,8 +158,7 @@ public class MarkOverdueLoansAsAgedLostService {
     return statusQuery.combine(dueDateQuery, CqlQuery::and)
       .combine(claimedReturnedQuery, CqlQuery::and)
       .combine(agedToLostQuery, CqlQuery::and)
-      .combine(declaredLostQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending("dueDate")));
+      .combine(declaredLostQuery, CqlQuery::and);
   }
 
   private CompletableFuture<Result<Void>> scheduleAgedToLostNotices(Result<List<Loan>> result) {
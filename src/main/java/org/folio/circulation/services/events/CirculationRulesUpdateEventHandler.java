@@ -34,10 +34,14 @@ public class CirculationRulesUpdateEventHandler implements AsyncRecordHandler<St
         return succeededFuture(eventKey);
       }
       validate(event);
-      CirculationRulesCache.getInstance().handleRulesUpdateEvent(event);
 
-      log.info("handle:: circulation rules update event processed: {}", eventKey);
-      return succeededFuture(eventKey);
+      // the rules are compiled on another thread, the event is processed once they have been
+      return Future.fromCompletionStage(
+          CirculationRulesCache.getInstance().handleRulesUpdateEvent(event))
+        .onSuccess(v -> log.info("handle:: circulation rules update event processed: {}",
+          eventKey))
+        .onFailure(e -> log.error("handle:: failed to process circulation rules update event", e))
+        .map(eventKey);
     } catch (Exception e) {
       log.error("handle:: failed to process circulation rules update event", e);
       return failedFuture(e);
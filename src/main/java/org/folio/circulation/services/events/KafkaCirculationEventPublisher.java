@@ -0,0 +1,190 @@
+package org.folio.circulation.services.events;
+
+import static org.apache.kafka.clients.producer.ProducerConfig.ACKS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.BATCH_SIZE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.COMPRESSION_TYPE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.LINGER_MS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.folio.Environment;
+import org.folio.circulation.domain.events.CirculationKafkaTopic;
+import org.folio.kafka.KafkaConfig;
+import org.folio.kafka.services.KafkaEnvironmentProperties;
+import org.folio.kafka.services.KafkaProducerRecordBuilder;
+import org.folio.rest.jaxrs.model.Event;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.kafka.client.producer.KafkaProducer;
+import io.vertx.kafka.client.producer.KafkaProducerRecord;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sends circulation events directly to the module's Kafka topics, as an alternative
+ * to publishing them through pub-sub.
+ * <p>
+ * Unlike {@link KafkaEventPublisher}, which creates a producer for each event,
+ * a single producer is kept until the module is stopped, so that records sent close together
+ * are grouped into compressed batches. Records are keyed by tenant, so that all of
+ * a tenant's events of a type are kept in order on the same partition
+ */
+@Log4j2
+public class KafkaCirculationEventPublisher {
+  private static final String BACKEND_NAME = "kafka";
+  private static final String PRODUCER_NAME = "circulation-events";
+
+  private static final Map<Vertx, KafkaCirculationEventPublisher> publishers =
+    new ConcurrentHashMap<>();
+
+  private final KafkaProducer<String, String> producer;
+
+  private final AtomicLong publishedCount = new AtomicLong();
+  private final AtomicLong failedCount = new AtomicLong();
+  private final AtomicLong totalLatencyNanoseconds = new AtomicLong();
+  private final AtomicLong maximumLatencyNanoseconds = new AtomicLong();
+
+  KafkaCirculationEventPublisher(KafkaProducer<String, String> producer) {
+    this.producer = producer;
+  }
+
+  public static boolean isEnabled() {
+    return BACKEND_NAME.equalsIgnoreCase(Environment.getCirculationEventsBackend());
+  }
+
+  /**
+   * @return true when events of this type are sent to Kafka rather than through pub-sub
+   */
+  public static boolean publishesEventType(String eventType) {
+    return isEnabled() && CirculationKafkaTopic.forEventType(eventType).isPresent();
+  }
+
+  public static KafkaCirculationEventPublisher forVertx(Vertx vertx) {
+    return publishers.computeIfAbsent(vertx,
+      key -> new KafkaCirculationEventPublisher(createProducer(key)));
+  }
+
+  /**
+   * Closes the producer used for the Vert.x instance, called when the module's verticle
+   * is stopped (including when Vert.x is closed), a new producer is created if events
+   * are published afterwards
+   */
+  public static Future<Void> close(Vertx vertx) {
+    final var publisher = publishers.remove(vertx);
+
+    if (publisher == null) {
+      return Future.succeededFuture();
+    }
+
+    log.info("close:: closing Kafka producer for circulation events");
+
+    return publisher.producer.close()
+      .onFailure(cause -> log.warn("close:: failed to close Kafka producer", cause))
+      .otherwiseEmpty();
+  }
+
+  public static Collection<KafkaCirculationEventPublisher> publishers() {
+    return List.copyOf(publishers.values());
+  }
+
+  public CompletableFuture<Boolean> publish(Event event, String tenantId,
+    Map<String, String> okapiHeaders) {
+
+    final var topic = CirculationKafkaTopic.forEventType(event.getEventType())
+      .orElseThrow(() -> new IllegalArgumentException(
+        "No Kafka topic for event type " + event.getEventType()));
+
+    final KafkaProducerRecord<String, String> producerRecord =
+      new KafkaProducerRecordBuilder<String, Event>(tenantId)
+        .key(tenantId)
+        .value(event)
+        .topic(topic.fullTopicName(tenantId))
+        .propagateOkapiHeaders(okapiHeaders)
+        .build();
+
+    final long startTime = System.nanoTime();
+
+    return producer.send(producerRecord)
+      .map(metadata -> {
+        recordLatency(System.nanoTime() - startTime);
+        publishedCount.incrementAndGet();
+
+        log.debug("publish:: {} event {} sent to partition {} of {}", event.getEventType(),
+          event.getId(), metadata.getPartition(), metadata.getTopic());
+
+        return true;
+      })
+      .otherwise(cause -> {
+        failedCount.incrementAndGet();
+
+        log.error("publish:: failed to send {} event {} for tenant {}", event.getEventType(),
+          event.getId(), tenantId, cause);
+
+        return false;
+      })
+      .toCompletionStage()
+      .toCompletableFuture();
+  }
+
+  public long getPublishedCount() {
+    return publishedCount.get();
+  }
+
+  public long getFailedCount() {
+    return failedCount.get();
+  }
+
+  public double getAverageLatencyMilliseconds() {
+    final long published = publishedCount.get();
+
+    return published == 0
+      ? 0
+      : (double) totalLatencyNanoseconds.get() / published / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  public double getMaximumLatencyMilliseconds() {
+    return (double) maximumLatencyNanoseconds.get() / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  private void recordLatency(long latencyNanoseconds) {
+    totalLatencyNanoseconds.addAndGet(latencyNanoseconds);
+    maximumLatencyNanoseconds.accumulateAndGet(latencyNanoseconds, Math::max);
+  }
+
+  /**
+   * The producer is configured from the environment in the same way as other producers,
+   * including any security settings, with batching and compression configured on top
+   */
+  private static KafkaProducer<String, String> createProducer(Vertx vertx) {
+    final Map<String, String> config = new HashMap<>(KafkaConfig.builder()
+      .kafkaHost(KafkaEnvironmentProperties.host())
+      .kafkaPort(KafkaEnvironmentProperties.port())
+      .build()
+      .getProducerProps());
+
+    config.put(KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+    config.put(VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+    config.put(ACKS_CONFIG, "all");
+    config.put(COMPRESSION_TYPE_CONFIG, Environment.getKafkaEventsCompressionType());
+    config.put(LINGER_MS_CONFIG, String.valueOf(Environment.getKafkaEventsLingerMilliseconds()));
+    config.put(BATCH_SIZE_CONFIG, String.valueOf(Environment.getKafkaEventsBatchSizeBytes()));
+
+    log.info("createProducer:: creating Kafka producer for circulation events to {}, " +
+      "compression: {}, linger: {} ms, batch size: {} bytes", config.get(BOOTSTRAP_SERVERS_CONFIG),
+      config.get(COMPRESSION_TYPE_CONFIG), config.get(LINGER_MS_CONFIG),
+      config.get(BATCH_SIZE_CONFIG));
+
+    return KafkaProducer.createShared(vertx, PRODUCER_NAME, config);
+  }
+}
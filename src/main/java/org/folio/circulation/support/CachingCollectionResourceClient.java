@@ -0,0 +1,67 @@
+package org.folio.circulation.support;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.folio.circulation.rules.cache.ReferenceDataCache;
+import org.folio.circulation.rules.cache.ResponseCache;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.Offset;
+import org.folio.circulation.support.http.client.OkapiHttpClient;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Client for collections which rarely change, which uses a shared {@link ResponseCache}
+ * (for example, the {@link ReferenceDataCache}) for fetches, and invalidates the cached
+ * collection on any change made through it
+ */
+public class CachingCollectionResourceClient extends InvalidatingCollectionResourceClient {
+  private final String tenantId;
+  private final ResponseCache cache;
+
+  public CachingCollectionResourceClient(OkapiHttpClient client, URL collectionRoot,
+    String tenantId, ResponseCache cache) {
+
+    super(client, collectionRoot,
+      () -> cache.invalidate(tenantId, collectionRoot.toString()));
+    this.tenantId = tenantId;
+    this.cache = cache;
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(String id) {
+    return cached(individualRecordUrl(id), () -> super.get(id));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> getMany(CqlQuery cqlQuery,
+    PageLimit pageLimit, Offset offset) {
+
+    final var requestKey = String.join("|", collectionRoot.toString(),
+      String.valueOf(cqlQuery), String.valueOf(pageLimit), String.valueOf(offset.getOffset()));
+
+    return cached(requestKey, () -> super.getMany(cqlQuery, pageLimit, offset));
+  }
+
+  private CompletableFuture<Result<Response>> cached(String requestKey,
+    Supplier<CompletableFuture<Result<Response>>> fetch) {
+
+    return cache.get(tenantId, requestKey)
+      .map(response -> completedFuture(succeeded(response)))
+      .orElseGet(() -> fetch.get()
+        .thenApply(r -> r.peek(response -> cacheWhenOk(requestKey, response))));
+  }
+
+  private void cacheWhenOk(String requestKey, Response response) {
+    if (response.getStatusCode() == HTTP_OK) {
+      cache.put(tenantId, requestKey, response);
+    }
+  }
+}
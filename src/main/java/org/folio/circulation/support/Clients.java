@@ -3,13 +3,17 @@ package org.folio.circulation.support;
 import static org.folio.circulation.support.http.client.NamedQueryParameter.namedParameter;
 
 import java.net.MalformedURLException;
+import java.util.concurrent.Executor;
 
+import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyCache;
 import org.folio.circulation.rules.CirculationRulesProcessor;
+import org.folio.circulation.rules.cache.ReferenceDataCache;
 import org.folio.circulation.services.PubSubPublishingService;
 import org.folio.circulation.support.http.client.IncludeRoutingServicePoints;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
 import org.folio.circulation.support.http.client.QueryParameter;
 import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.ContextExecutor;
 
 import io.vertx.core.http.HttpClient;
 
@@ -18,6 +22,7 @@ public class Clients {
   private final CollectionResourceClient requestsBatchStorageClient;
   private final CollectionResourceClient cancellationReasonStorageClient;
   private final CollectionResourceClient itemsStorageClient;
+  private final CollectionResourceClient itemsBatchStorageClient;
   private final CollectionResourceClient holdingsStorageClient;
   private final CollectionResourceClient instancesStorageClient;
   private final CollectionResourceClient identifierTypesStorageClient;
@@ -82,42 +87,47 @@ public class Clients {
   private final CollectionResourceClient localeClient;
   private final CollectionResourceClient circulationSettingsStorageClient;
   private final CollectionResourceClient printEventsStorageClient;
-
+  private final String tenantId;
+  private final Executor executor;
 
   public static Clients create(WebContext context, HttpClient httpClient) {
-    return new Clients(context.createHttpClient(httpClient), context);
+    return new Clients(context.createHttpClient(httpClient), context, context.getTenantId());
   }
 
   public static Clients create(WebContext context, HttpClient httpClient, String tenantId) {
-    return new Clients(context.createHttpClient(httpClient, tenantId), context);
+    return new Clients(context.createHttpClient(httpClient, tenantId), context, tenantId);
   }
 
-  private Clients(OkapiHttpClient client, WebContext context) {
+  private Clients(OkapiHttpClient client, WebContext context, String tenantId) {
+    this.tenantId = tenantId;
+    this.executor = ContextExecutor.forCurrentContext();
+
     try {
       requestsStorageClient = createRequestsStorageClient(client, context);
       requestsBatchStorageClient = createRequestsBatchStorageClient(client, context);
       cancellationReasonStorageClient = createCancellationReasonStorageClient(client, context);
       itemsStorageClient = createItemsStorageClient(client, context);
+      itemsBatchStorageClient = createItemsBatchStorageClient(client, context);
       holdingsStorageClient = createHoldingsStorageClient(client, context);
       instancesStorageClient = createInstanceStorageClient(client, context);
-      identifierTypesStorageClient = createIdentifierTypesStorageClient(client, context);
+      identifierTypesStorageClient = createIdentifierTypesStorageClient(client, context, tenantId);
       usersStorageClient = createUsersStorageClient(client, context);
       addressTypesStorageClient = createAddressTypesStorageClient(client, context);
       loansStorageClient = createLoansStorageClient(client, context);
       loansHistoryStorageClient = createLoansHistoryStorageClient(client, context);
       overdueFinesPoliciesPoliciesStorageClient = createOverdueFinesPoliciesStorageClient(client, context);
       lostItemPoliciesStorageClient = createLostItemPoliciesStorageClient(client, context);
-      locationsStorageClient = createLocationsStorageClient(client, context);
+      locationsStorageClient = createLocationsStorageClient(client, context, tenantId);
       anonymizeStorageLoansClient = createAnonymizeStorageLoansClient(client, context);
-      institutionsStorageClient = createInstitutionsStorageClient(client, context);
-      campusesStorageClient = createCampusesStorageClient(client, context);
-      librariesStorageClient = createLibrariesStorageClient(client, context);
+      institutionsStorageClient = createInstitutionsStorageClient(client, context, tenantId);
+      campusesStorageClient = createCampusesStorageClient(client, context, tenantId);
+      librariesStorageClient = createLibrariesStorageClient(client, context, tenantId);
       shadowLocationsStorageClient = createShadowLocationsStorageClient(client, context);
       shadowInstitutionsStorageClient = createShadowInstitutionsStorageClient(client, context);
       shadowCampusesStorageClient = createShadowCampusesStorageClient(client, context);
       shadowLibrariesStorageClient = createShadowLibrariesStorageClient(client, context);
-      materialTypesStorageClient = createMaterialTypesStorageClient(client, context);
-      loanTypesStorageClient = createLoanTypesStorageClient(client, context);
+      materialTypesStorageClient = createMaterialTypesStorageClient(client, context, tenantId);
+      loanTypesStorageClient = createLoanTypesStorageClient(client, context, tenantId);
       proxiesForClient = createProxyUsersStorageClient(client, context);
       circulationLoanRulesClient = createCirculationLoanRulesClient(client, context);
       circulationRequestRulesClient = createCirculationRequestRulesClient(client, context);
@@ -128,7 +138,7 @@ public class Clients {
       loanPoliciesStorageClient = createLoanPoliciesStorageClient(client, context);
       requestPoliciesStorageClient = createRequestPoliciesStorageClient(client, context);
       fixedDueDateSchedulesStorageClient = createFixedDueDateSchedulesStorageClient(client, context);
-      servicePointsStorageClient = createServicePointsStorageClient(client, context);
+      servicePointsStorageClient = createServicePointsStorageClient(client, context, tenantId);
       routingServicePointsStorageClient = createServicePointsStorageWithCustomParam(client,
         context, IncludeRoutingServicePoints.enabled());
       patronGroupsStorageClient = createPatronGroupsStorageClient(client, context);
@@ -171,6 +181,18 @@ public class Clients {
     }
   }
 
+  public String tenantId() {
+    return tenantId;
+  }
+
+  /**
+   * @return executor for asynchronous stages, running them on the context
+   * the clients were created on
+   */
+  public Executor executor() {
+    return executor;
+  }
+
   public CollectionResourceClient requestsStorage() {
     return requestsStorageClient;
   }
@@ -191,6 +213,10 @@ public class Clients {
     return itemsStorageClient;
   }
 
+  public CollectionResourceClient itemsBatchStorage() {
+    return itemsBatchStorageClient;
+  }
+
   public CollectionResourceClient holdingsStorage() {
     return holdingsStorageClient;
   }
@@ -447,6 +473,14 @@ public class Clients {
     return new CollectionResourceClient(client, context.getOkapiBasedUrl(path));
   }
 
+  private static CollectionResourceClient getReferenceDataClient(
+    OkapiHttpClient client, WebContext context, String tenantId, String path)
+    throws MalformedURLException {
+
+    return new CachingCollectionResourceClient(client, context.getOkapiBasedUrl(path),
+      tenantId, ReferenceDataCache.getInstance());
+  }
+
   private static CollectionResourceClient getCollectionResourceClientWithCustomParam(
     OkapiHttpClient client, WebContext context, String path, QueryParameter customParam)
     throws MalformedURLException {
@@ -530,6 +564,14 @@ public class Clients {
     return getCollectionResourceClient(client, context, "/item-storage/items");
   }
 
+  private static CollectionResourceClient createItemsBatchStorageClient(
+    OkapiHttpClient client, WebContext context)
+    throws MalformedURLException {
+
+    return getCollectionResourceClient(client, context,
+      "/item-storage/batch/synchronous?upsert=%s");
+  }
+
   private static CollectionResourceClient createHoldingsStorageClient(
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
@@ -547,10 +589,10 @@ public class Clients {
   }
 
   private static CollectionResourceClient createIdentifierTypesStorageClient(
-    OkapiHttpClient client, WebContext context)
+    OkapiHttpClient client, WebContext context, String tenantId)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context,
+    return getReferenceDataClient(client, context, tenantId,
       "/identifier-types");
   }
 
@@ -590,33 +632,33 @@ public class Clients {
   }
 
   private static CollectionResourceClient createLocationsStorageClient(
-    OkapiHttpClient client, WebContext context)
+    OkapiHttpClient client, WebContext context, String tenantId)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context, "/locations");
+    return getReferenceDataClient(client, context, tenantId, "/locations");
   }
 
   private static CollectionResourceClient createInstitutionsStorageClient(
-    OkapiHttpClient client, WebContext context)
+    OkapiHttpClient client, WebContext context, String tenantId)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context,
+    return getReferenceDataClient(client, context, tenantId,
       "/location-units/institutions");
   }
 
   private static CollectionResourceClient createCampusesStorageClient(
-    OkapiHttpClient client, WebContext context)
+    OkapiHttpClient client, WebContext context, String tenantId)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context,
+    return getReferenceDataClient(client, context, tenantId,
       "/location-units/campuses");
   }
 
   private static CollectionResourceClient createLibrariesStorageClient(
-    OkapiHttpClient client, WebContext context)
+    OkapiHttpClient client, WebContext context, String tenantId)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context,
+    return getReferenceDataClient(client, context, tenantId,
       "/location-units/libraries");
   }
 
@@ -660,17 +702,17 @@ public class Clients {
   }
 
   private CollectionResourceClient createMaterialTypesStorageClient(
-    OkapiHttpClient client, WebContext context)
+    OkapiHttpClient client, WebContext context, String tenantId)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context, "/material-types");
+    return getReferenceDataClient(client, context, tenantId, "/material-types");
   }
 
   private CollectionResourceClient createLoanTypesStorageClient(
-    OkapiHttpClient client, WebContext context)
+    OkapiHttpClient client, WebContext context, String tenantId)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context, "/loan-types");
+    return getReferenceDataClient(client, context, tenantId, "/loan-types");
   }
 
   private CollectionResourceClient createLoanPoliciesStorageClient(
@@ -723,10 +765,10 @@ public class Clients {
   }
 
   private CollectionResourceClient createServicePointsStorageClient(
-    OkapiHttpClient client, WebContext context)
+    OkapiHttpClient client, WebContext context, String tenantId)
       throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context, "/service-points");
+    return getReferenceDataClient(client, context, tenantId, "/service-points");
   }
 
   private CollectionResourceClient createServicePointsStorageWithCustomParam(
@@ -755,8 +797,9 @@ public class Clients {
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context,
-      "/patron-notice-policy-storage/patron-notice-policies");
+    return new InvalidatingCollectionResourceClient(client,
+      context.getOkapiBasedUrl("/patron-notice-policy-storage/patron-notice-policies"),
+      () -> PatronNoticePolicyCache.getInstance().invalidatePolicies(tenantId));
   }
 
   private CollectionResourceClient createPatronNoticeClient(
@@ -838,7 +881,8 @@ public class Clients {
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context, "/templates");
+    return new CachingCollectionResourceClient(client, context.getOkapiBasedUrl("/templates"),
+      tenantId, PatronNoticePolicyCache.getInstance());
   }
 
   private CollectionResourceClient createCheckInStorageClient(
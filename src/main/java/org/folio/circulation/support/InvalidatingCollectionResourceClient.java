@@ -0,0 +1,80 @@
+package org.folio.circulation.support;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.OkapiHttpClient;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Client for a collection whose records are kept once they have been fetched, which
+ * invalidates what is kept on any change made through it
+ *
+ * Every method of {@link CollectionResourceClient} which changes the collection is
+ * overridden to go through the same invalidating write
+ */
+public class InvalidatingCollectionResourceClient extends CollectionResourceClient {
+  private final Runnable invalidation;
+
+  public InvalidatingCollectionResourceClient(OkapiHttpClient client, URL collectionRoot,
+    Runnable invalidation) {
+
+    super(client, collectionRoot);
+    this.invalidation = invalidation;
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(JsonObject representation,
+    Object... pathVariables) {
+
+    return written(() -> super.post(representation, pathVariables));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(JsonObject representation) {
+    return written(() -> super.post(representation));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(JsonObject representation) {
+    return written(() -> super.put(representation));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(String id, JsonObject representation) {
+    return written(() -> super.put(id, representation));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete(String id) {
+    return written(() -> super.delete(id));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete() {
+    return written(super::delete);
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> deleteMany(CqlQuery cqlQuery) {
+    return written(() -> super.deleteMany(cqlQuery));
+  }
+
+  /**
+   * Invalidates both before and once the change has been made, so that a fetch made
+   * while the change is in progress cannot keep the collection as it was
+   */
+  private CompletableFuture<Result<Response>> written(
+    Supplier<CompletableFuture<Result<Response>>> write) {
+
+    invalidation.run();
+
+    return write.get()
+      .whenComplete((result, throwable) -> invalidation.run());
+  }
+}
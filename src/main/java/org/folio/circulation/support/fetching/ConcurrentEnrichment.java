@@ -0,0 +1,99 @@
+package org.folio.circulation.support.fetching;
+
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.results.Result;
+
+import lombok.Value;
+
+/**
+ * Enriches a page of records with related records fetched by several independent stages
+ * at the same time, rather than one after the other.
+ * <p>
+ * Every stage is given the same page, and must return the records in the same order.
+ * The records from each stage are then merged into the original records, using the
+ * merge function for that stage to copy what the stage added.
+ */
+public class ConcurrentEnrichment<T> {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final List<Stage<T>> stages = new ArrayList<>();
+
+  /**
+   * @param enrichment fetches related records for the page
+   * @param merge copies what the stage added from the enriched record (second argument)
+   * into the record merged so far (first argument)
+   */
+  public ConcurrentEnrichment<T> with(
+    Function<MultipleRecords<T>, CompletableFuture<Result<MultipleRecords<T>>>> enrichment,
+    BinaryOperator<T> merge) {
+
+    stages.add(new Stage<>(enrichment, merge));
+
+    return this;
+  }
+
+  public CompletableFuture<Result<MultipleRecords<T>>> enrich(MultipleRecords<T> records) {
+    if (records.isEmpty() || stages.isEmpty()) {
+      return ofAsync(records);
+    }
+
+    log.debug("enrich:: enriching {} records in {} stages", records.size(), stages.size());
+
+    return allOf(stages, stage -> stage.getEnrichment().apply(records))
+      .thenApply(r -> r.next(enrichedByStage -> merge(records, enrichedByStage)));
+  }
+
+  private Result<MultipleRecords<T>> merge(MultipleRecords<T> records,
+    List<MultipleRecords<T>> enrichedByStage) {
+
+    final List<T> original = new ArrayList<>(records.getRecords());
+    final List<List<T>> enriched = new ArrayList<>();
+
+    for (MultipleRecords<T> stageRecords : enrichedByStage) {
+      if (stageRecords.size() != original.size()) {
+        log.error("merge:: enrichment returned {} records for {} records",
+          stageRecords.size(), original.size());
+
+        return failedDueToServerError(
+          "Enrichment returned a different number of records than it was given");
+      }
+
+      enriched.add(new ArrayList<>(stageRecords.getRecords()));
+    }
+
+    final List<T> merged = new ArrayList<>(original.size());
+
+    for (int index = 0; index < original.size(); index++) {
+      T mergedRecord = original.get(index);
+
+      for (int stage = 0; stage < stages.size(); stage++) {
+        mergedRecord = stages.get(stage).getMerge()
+          .apply(mergedRecord, enriched.get(stage).get(index));
+      }
+
+      merged.add(mergedRecord);
+    }
+
+    return succeeded(new MultipleRecords<>(merged, records.getTotalRecords()));
+  }
+
+  @Value
+  private static class Stage<T> {
+    Function<MultipleRecords<T>, CompletableFuture<Result<MultipleRecords<T>>>> enrichment;
+    BinaryOperator<T> merge;
+  }
+}
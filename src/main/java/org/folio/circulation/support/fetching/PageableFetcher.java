@@ -1,29 +1,44 @@
 package org.folio.circulation.support.fetching;
 
-import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.CqlSortBy.ascending;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
+import static org.folio.circulation.support.http.client.Offset.offset;
 import static org.folio.circulation.support.http.client.Offset.zeroOffset;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.http.client.CqlQuery;
-import org.folio.circulation.support.http.client.Offset;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.results.Result;
 
 import lombok.AllArgsConstructor;
-
+import lombok.Value;
+
+/**
+ * Fetches and processes records a page at a time.
+ * <p>
+ * Pages are processed one after the other in a loop, rather than recursively, so
+ * there is no limit on the number of pages other than the optional records limit.
+ * <p>
+ * Paging by key ({@link #processPagesByKey}) asks for the records after the last key
+ * of the previous page, rather than skipping the records already fetched. This is cheaper
+ * for storage with large offsets, and does not skip records when processing a page
+ * changes which records match the query.
+ */
 @AllArgsConstructor
 public final class PageableFetcher<T> {
   private static final Logger log = LogManager.getLogger(PageableFetcher.class);
 
-  // This limit needed to prevent stack overflow for recursive fetch
-  private static final int DEFAULT_MAX_ALLOWED_RECORDS_LIMIT = 1_000_000;
+  private static final int NO_RECORDS_LIMIT = Integer.MAX_VALUE;
   private static final PageLimit DEFAULT_PAGE_SIZE_LIMIT = limit(500);
 
   private final GetManyRecordsRepository<T> repository;
@@ -31,42 +46,147 @@ public final class PageableFetcher<T> {
   private final int maxAllowedRecordsToFetchLimit;
 
   public PageableFetcher(GetManyRecordsRepository<T> repository) {
-    this(repository, DEFAULT_PAGE_SIZE_LIMIT, DEFAULT_MAX_ALLOWED_RECORDS_LIMIT);
+    this(repository, DEFAULT_PAGE_SIZE_LIMIT, NO_RECORDS_LIMIT);
   }
 
+  /**
+   * Processes the records matching the query, paging by offset
+   */
   public CompletableFuture<Result<Void>> processPages(CqlQuery query, PageProcessor<T> pageProcessor) {
-    return processPagesRecursively(query, pageProcessor, zeroOffset(), 0);
+    return processAllPages(pageProcessor, (previousPage, recordsFetchedSoFar) ->
+      repository.getMany(query, pageSize,
+        previousPage == null ? zeroOffset() : offset(recordsFetchedSoFar)));
+  }
+
+  /**
+   * Processes the records matching the query in the order of a unique key, paging by
+   * asking for the records after the last key of the previous page
+   *
+   * @param keyIndex CQL index of the key, for example id
+   * @param keyOf the value of the key for a record
+   */
+  public CompletableFuture<Result<Void>> processPagesByKey(CqlQuery query, String keyIndex,
+    Function<T, String> keyOf, PageProcessor<T> pageProcessor) {
+
+    return processAllPages(pageProcessor, (previousPage, recordsFetchedSoFar) -> {
+      final Result<CqlQuery> pageQuery = previousPage == null
+        ? succeeded(query)
+        : greaterThan(keyIndex, keyOf.apply(lastRecord(previousPage))).map(query::and);
+
+      return pageQuery
+        .map(q -> q.sortBy(ascending(keyIndex)))
+        .after(q -> repository.getMany(q, pageSize, zeroOffset()));
+    });
+  }
+
+  private CompletableFuture<Result<Void>> processAllPages(PageProcessor<T> pageProcessor,
+    PageFetcher<T> pageFetcher) {
+
+    final CompletableFuture<Result<Void>> completion = new CompletableFuture<>();
+
+    processFrom(new PageState<>(null, 0), pageProcessor, pageFetcher, completion);
+
+    return completion;
+  }
+
+  /**
+   * Processes pages in a loop for as long as they complete straight away, and
+   * continues from a callback when they do not, so that the stack does not grow
+   * with the number of pages
+   */
+  private void processFrom(PageState<T> state, PageProcessor<T> pageProcessor,
+    PageFetcher<T> pageFetcher, CompletableFuture<Result<Void>> completion) {
+
+    PageState<T> currentState = state;
+
+    while (true) {
+      final CompletableFuture<Result<PageState<T>>> nextPage =
+        processNextPage(currentState, pageProcessor, pageFetcher);
+
+      if (!nextPage.isDone()) {
+        nextPage.whenComplete((result, error) -> {
+          if (error != null) {
+            completion.completeExceptionally(error);
+          } else if (isLastPage(result, completion)) {
+            log.debug("processFrom:: finished processing pages");
+          } else {
+            processFrom(result.value(), pageProcessor, pageFetcher, completion);
+          }
+        });
+
+        return;
+      }
+
+      final Result<PageState<T>> result;
+
+      try {
+        result = nextPage.join();
+      } catch (CompletionException e) {
+        completion.completeExceptionally(e.getCause());
+        return;
+      }
+
+      if (isLastPage(result, completion)) {
+        return;
+      }
+
+      currentState = result.value();
+    }
+  }
+
+  /**
+   * Completes processing when the result has failed or there are no more pages
+   */
+  private boolean isLastPage(Result<PageState<T>> result,
+    CompletableFuture<Result<Void>> completion) {
+
+    if (result.failed()) {
+      completion.complete(failed(result.cause()));
+      return true;
+    }
+
+    if (result.value() == null) {
+      completion.complete(succeeded(null));
+      return true;
+    }
+
+    return false;
   }
 
-  private CompletableFuture<Result<Void>> processPagesRecursively(CqlQuery query,
-    PageProcessor<T> pageProcessor, Offset currentOffset, int recordsFetchedOnPreviousIteration) {
+  /**
+   * Fetches and processes a page
+   *
+   * @return the state for fetching the next page, or null when all pages have been fetched
+   */
+  private CompletableFuture<Result<PageState<T>>> processNextPage(PageState<T> state,
+    PageProcessor<T> pageProcessor, PageFetcher<T> pageFetcher) {
 
-    return repository.getMany(query, pageSize, currentOffset)
+    return pageFetcher.fetchPage(state.getPreviousPage(), state.getRecordsFetchedSoFar())
       .thenCompose(r -> r.after(records -> pageProcessor.processPage(records)
-          .thenCompose(processResult -> processResult.after(unused -> {
-            final int recordsFetchedSoFar = recordsFetchedOnPreviousIteration + records.size();
-
-            if (hasFetchedAllPages(records)) {
-              log.info("All pages have been fetched, total records fetched {}", recordsFetchedSoFar);
-
-              return completedFuture(processResult);
-            } else if (hasReachedRecordsLimit(recordsFetchedSoFar)) {
-              log.warn("Terminating fetching because records limit in {} has been reached",
-                maxAllowedRecordsToFetchLimit);
-
-              return itemCountLimitHasBeenReached();
-            } else {
-              final var nextOffset = currentOffset.nextPage(pageSize);
-              return processPagesRecursively(query, pageProcessor, nextOffset, recordsFetchedSoFar);
-            }
-          }))
-      ));
+        .thenApply(processResult -> processResult.next(unused -> nextState(state, records)))));
+  }
+
+  private Result<PageState<T>> nextState(PageState<T> state, MultipleRecords<T> latestPage) {
+    final int recordsFetchedSoFar = state.getRecordsFetchedSoFar() + latestPage.size();
+
+    if (hasFetchedAllPages(latestPage)) {
+      log.info("All pages have been fetched, total records fetched {}", recordsFetchedSoFar);
+
+      return succeeded(null);
+    } else if (hasReachedRecordsLimit(recordsFetchedSoFar)) {
+      log.warn("Terminating fetching because records limit in {} has been reached",
+        maxAllowedRecordsToFetchLimit);
+
+      return itemCountLimitHasBeenReached();
+    } else {
+      return succeeded(new PageState<>(latestPage, recordsFetchedSoFar));
+    }
   }
 
-  private CompletableFuture<Result<Void>> itemCountLimitHasBeenReached() {
-    return completedFuture(failed(new ServerErrorFailure(
+  private Result<PageState<T>> itemCountLimitHasBeenReached() {
+    return failed(new ServerErrorFailure(
       "Maximum allowed item count is set to " + maxAllowedRecordsToFetchLimit
-        + " and it has been reached")));
+        + " and it has been reached"));
   }
 
   private boolean hasReachedRecordsLimit(int recordFetchedSoFar) {
@@ -80,4 +200,25 @@ public final class PageableFetcher<T> {
 
     return latestPage.size() < pageSize.getLimit();
   }
+
+  private static <T> T lastRecord(MultipleRecords<T> page) {
+    return page.getRecords().stream()
+      .reduce((first, second) -> second)
+      .orElseThrow();
+  }
+
+  @FunctionalInterface
+  private interface PageFetcher<T> {
+    /**
+     * @param previousPage null when fetching the first page
+     */
+    CompletableFuture<Result<MultipleRecords<T>>> fetchPage(MultipleRecords<T> previousPage,
+      int recordsFetchedSoFar);
+  }
+
+  @Value
+  private static class PageState<T> {
+    MultipleRecords<T> previousPage;
+    int recordsFetchedSoFar;
+  }
 }
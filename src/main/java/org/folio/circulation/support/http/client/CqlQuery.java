@@ -126,6 +126,10 @@ public class CqlQuery implements QueryParameter {
       return this;
     }
 
+    if (StringUtils.isBlank(query)) {
+      return new CqlQuery(other.query, sortBy);
+    }
+
     return new CqlQuery(format("%s and %s", asText(), other.asText()), sortBy);
   }
 
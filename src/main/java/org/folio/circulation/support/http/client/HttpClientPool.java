@@ -0,0 +1,181 @@
+package org.folio.circulation.support.http.client;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.folio.Environment;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.ext.web.client.WebClient;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * An HTTP client with its own pool of connections, configured from the environment.
+ * <p>
+ * The connections the pool has open and the requests made using it that have not
+ * yet completed are recorded, so that a pool that is too small can be seen (requests
+ * in flight staying above the connections open at the maximum size of the pool).
+ * <p>
+ * Pools are closed by the verticle that created them when it is stopped. Each pool has
+ * an instance number, so that pools with the same name created by different verticle
+ * instances are told apart
+ */
+@Log4j2
+public class HttpClientPool {
+  private static final Map<HttpClient, HttpClientPool> pools = new ConcurrentHashMap<>();
+  private static final AtomicInteger instanceCount = new AtomicInteger();
+
+  private final String name;
+  private final String instance;
+  private final int maximumSize;
+  private final HttpClient httpClient;
+  private final WebClient webClient;
+
+  private final AtomicInteger connections = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maximumInFlight = new AtomicInteger();
+  private final LongAdder requestCount = new LongAdder();
+
+  private HttpClientPool(String name, int maximumSize, Vertx vertx,
+    HttpClientOptions clientOptions, PoolOptions poolOptions) {
+
+    this.name = name;
+    this.instance = String.valueOf(instanceCount.incrementAndGet());
+    this.maximumSize = maximumSize;
+    this.httpClient = vertx.httpClientBuilder()
+      .with(clientOptions)
+      .with(poolOptions)
+      .withConnectHandler(this::connected)
+      .build();
+    this.webClient = WebClient.wrap(httpClient);
+  }
+
+  /**
+   * Creates a pool of the given size, with the wait queue, keep alive, idle timeout
+   * and HTTP/2 settings taken from the environment
+   */
+  public static HttpClientPool create(Vertx vertx, String name, int maximumSize) {
+    final boolean http2 = Environment.getHttp2Enabled();
+
+    final var clientOptions = new HttpClientOptions()
+      .setKeepAlive(true)
+      .setKeepAliveTimeout(Environment.getHttpKeepAliveTimeoutSeconds())
+      .setIdleTimeout(Environment.getHttpIdleTimeoutSeconds())
+      .setIdleTimeoutUnit(SECONDS);
+
+    if (http2) {
+      // falls back to HTTP/1.1 when the server does not accept the upgrade
+      clientOptions
+        .setProtocolVersion(HttpVersion.HTTP_2)
+        .setHttp2ClearTextUpgrade(true)
+        .setUseAlpn(true)
+        .setHttp2MultiplexingLimit(Environment.getHttp2MultiplexingLimit())
+        .setHttp2KeepAliveTimeout(Environment.getHttpKeepAliveTimeoutSeconds());
+    }
+
+    final var poolOptions = new PoolOptions()
+      .setHttp1MaxSize(maximumSize)
+      .setHttp2MaxSize(maximumSize)
+      .setMaxWaitQueueSize(Environment.getHttpMaxWaitQueueSize());
+
+    final var pool = new HttpClientPool(name, maximumSize, vertx, clientOptions,
+      poolOptions);
+
+    log.info("create:: HTTP client pool '{}' (instance {}) with maximum size {}, HTTP/2 {}",
+      name, pool.instance, maximumSize, http2 ? "enabled" : "disabled");
+
+    pools.put(pool.httpClient, pool);
+
+    return pool;
+  }
+
+  /**
+   * @return the pool the HTTP client was created for, or null when it was not created by a pool
+   */
+  static HttpClientPool forClient(HttpClient httpClient) {
+    return pools.get(httpClient);
+  }
+
+  /**
+   * @return the web client of the pool the HTTP client was created for, or a new web client
+   * when it was not created by a pool
+   */
+  static WebClient webClientFor(HttpClient httpClient) {
+    final var pool = forClient(httpClient);
+
+    return pool == null ? WebClient.wrap(httpClient) : pool.webClient;
+  }
+
+  public static Collection<HttpClientPool> pools() {
+    return List.copyOf(pools.values());
+  }
+
+  /**
+   * Closes the pool's connections and stops recording it
+   */
+  public Future<Void> close() {
+    log.info("close:: closing HTTP client pool '{}' (instance {})", name, instance);
+
+    pools.remove(httpClient);
+
+    return httpClient.close();
+  }
+
+  public HttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getInstance() {
+    return instance;
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public int getConnections() {
+    return connections.get();
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public int getMaximumInFlight() {
+    return maximumInFlight.get();
+  }
+
+  public long getRequestCount() {
+    return requestCount.sum();
+  }
+
+  void requestStarted() {
+    requestCount.increment();
+    maximumInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+  }
+
+  void requestFinished() {
+    inFlight.decrementAndGet();
+  }
+
+  private void connected(HttpConnection connection) {
+    connections.incrementAndGet();
+    connection.closeHandler(v -> connections.decrementAndGet());
+  }
+}
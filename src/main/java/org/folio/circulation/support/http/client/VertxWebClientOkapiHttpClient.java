@@ -16,10 +16,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.metrics.OutboundCallMetrics;
 import org.folio.circulation.support.results.Result;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpMethod;
@@ -33,30 +35,48 @@ import lombok.extern.log4j.Log4j2;
 public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
   private static final Duration DEFAULT_TIMEOUT = Duration.of(20, SECONDS);
   private static final String ACCEPT = HttpHeaderNames.ACCEPT.toString();
+  private static final String CONTENT_TYPE = HttpHeaderNames.CONTENT_TYPE.toString();
 
   private final WebClient webClient;
+  private final HttpClientPool pool;
   private final URL okapiUrl;
   private final String tenantId;
   private final String token;
   private final String userId;
   private final String requestId;
+  private final String callingResource;
 
   public static OkapiHttpClient createClientUsing(HttpClient httpClient,
     URL okapiUrl, String tenantId, String token, String userId, String requestId) {
 
-    return new VertxWebClientOkapiHttpClient(WebClient.wrap(httpClient),
-      okapiUrl, tenantId, token, userId, requestId);
+    return createClientUsing(httpClient, okapiUrl, tenantId, token, userId, requestId, null);
   }
 
-  private VertxWebClientOkapiHttpClient(WebClient webClient, URL okapiUrl,
-    String tenantId, String token, String userId, String requestId) {
+  /**
+   * @param callingResource the path of the resource the requests are made for,
+   *                        used to group outbound call metrics
+   */
+  public static OkapiHttpClient createClientUsing(HttpClient httpClient,
+    URL okapiUrl, String tenantId, String token, String userId, String requestId,
+    String callingResource) {
+
+    return new VertxWebClientOkapiHttpClient(HttpClientPool.webClientFor(httpClient),
+      HttpClientPool.forClient(httpClient), okapiUrl, tenantId, token, userId, requestId,
+      callingResource);
+  }
+
+  private VertxWebClientOkapiHttpClient(WebClient webClient, HttpClientPool pool,
+    URL okapiUrl, String tenantId, String token, String userId, String requestId,
+    String callingResource) {
 
     this.webClient = webClient;
+    this.pool = pool;
     this.okapiUrl = okapiUrl;
     this.tenantId = tenantId;
     this.token = token;
     this.userId = userId;
     this.requestId = requestId;
+    this.callingResource = callingResource;
   }
 
   @Override
@@ -81,10 +101,15 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     final HttpRequest<Buffer> request = withStandardHeaders(
       webClient.requestAbs(HttpMethod.POST, url));
 
-    request
-      .timeout(timeout.toMillis())
-      .sendJsonObject(body)
-      .onComplete(futureResponse::complete);
+    // encoded once, so that its size can be recorded without encoding it again
+    final Buffer encodedBody = body == null ? null : body.toBuffer();
+    final OutboundCallMetrics.Call call = startCall(HttpMethod.POST, url, encodedBody);
+
+    sendJson(request.timeout(timeout.toMillis()), encodedBody)
+      .onComplete(asyncResult -> {
+        finishCall(call, asyncResult);
+        futureResponse.complete(asyncResult);
+      });
 
     return futureResponse
       .thenApply(asyncResult -> mapAsyncResultToResult(url, asyncResult));
@@ -105,10 +130,15 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     Stream.of(queryParameters)
       .forEach(parameter -> parameter.consume(request::addQueryParam));
 
+    final OutboundCallMetrics.Call call = startCall(HttpMethod.GET, url, null);
+
     request
       .timeout(timeout.toMillis())
       .send()
-      .onComplete(futureResponse::complete);
+      .onComplete(asyncResult -> {
+        finishCall(call, asyncResult);
+        futureResponse.complete(asyncResult);
+      });
 
     return futureResponse
       .thenApply(asyncResult -> mapAsyncResultToResult(url, asyncResult));
@@ -150,10 +180,15 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     final HttpRequest<Buffer> request = withStandardHeaders(
       webClient.requestAbs(HttpMethod.PUT, url));
 
-    request
-      .timeout(timeout.toMillis())
-      .sendJsonObject(body)
-      .onComplete(futureResponse::complete);
+    // encoded once, so that its size can be recorded without encoding it again
+    final Buffer encodedBody = body == null ? null : body.toBuffer();
+    final OutboundCallMetrics.Call call = startCall(HttpMethod.PUT, url, encodedBody);
+
+    sendJson(request.timeout(timeout.toMillis()), encodedBody)
+      .onComplete(asyncResult -> {
+        finishCall(call, asyncResult);
+        futureResponse.complete(asyncResult);
+      });
 
     return futureResponse
       .thenApply(asyncResult -> mapAsyncResultToResult(url, asyncResult));
@@ -188,10 +223,15 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     Stream.of(queryParameters)
       .forEach(parameter -> parameter.consume(request::addQueryParam));
 
+    final OutboundCallMetrics.Call call = startCall(HttpMethod.DELETE, url, null);
+
     request
       .timeout(timeout.toMillis())
       .send()
-      .onComplete(futureResponse::complete);
+      .onComplete(asyncResult -> {
+        finishCall(call, asyncResult);
+        futureResponse.complete(asyncResult);
+      });
 
     return futureResponse
       .thenApply(asyncResult -> mapAsyncResultToResult(url, asyncResult));
@@ -208,6 +248,40 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
       .putHeader(REQUEST_ID, this.requestId);
   }
 
+  private static Future<HttpResponse<Buffer>> sendJson(HttpRequest<Buffer> request,
+    Buffer encodedBody) {
+
+    return encodedBody == null
+      ? request.sendJsonObject(null)
+      : request.putHeader(CONTENT_TYPE, "application/json").sendBuffer(encodedBody);
+  }
+
+  private OutboundCallMetrics.Call startCall(HttpMethod method, String url, Buffer body) {
+    if (pool != null) {
+      pool.requestStarted();
+    }
+
+    return OutboundCallMetrics.getInstance().started(tenantId, method.name(), url,
+      body == null ? 0 : body.length(), callingResource);
+  }
+
+  private void finishCall(OutboundCallMetrics.Call call,
+    AsyncResult<HttpResponse<Buffer>> asyncResult) {
+
+    if (pool != null) {
+      pool.requestFinished();
+    }
+
+    if (asyncResult.succeeded()) {
+      final Buffer responseBody = asyncResult.result().body();
+
+      call.finished(asyncResult.result().statusCode(),
+        responseBody == null ? 0 : responseBody.length());
+    } else {
+      call.finished(null, 0);
+    }
+  }
+
   private static Result<Response> mapAsyncResultToResult(String url,
     AsyncResult<HttpResponse<Buffer>> asyncResult) {
 
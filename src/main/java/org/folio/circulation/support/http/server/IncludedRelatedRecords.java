@@ -0,0 +1,104 @@
+package org.folio.circulation.support.http.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toCollection;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.net.URLDecoder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.folio.circulation.support.results.Result;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Which related records a client wants to be included in a collection response,
+ * given by the include query string parameter, for example include=item,borrower
+ * <p>
+ * When the parameter is not given, all related records are included, when it is given
+ * without any names (include=), none are
+ */
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class IncludedRelatedRecords {
+  public static final String INCLUDE_PARAMETER = "include";
+
+  /** null when all related records are included */
+  private final Set<String> included;
+
+  public static IncludedRelatedRecords all() {
+    return new IncludedRelatedRecords(null);
+  }
+
+  /**
+   * @param rawQueryString the query string of the incoming request
+   * @param recognised the names that can be included for this collection
+   */
+  public static Result<IncludedRelatedRecords> fromQueryString(String rawQueryString,
+    Collection<String> recognised) {
+
+    if (isBlank(rawQueryString)) {
+      return succeeded(all());
+    }
+
+    final List<String> includeParameters = Arrays.stream(rawQueryString.split("&"))
+      .filter(IncludedRelatedRecords::isIncludeParameter)
+      .toList();
+
+    if (includeParameters.isEmpty()) {
+      return succeeded(all());
+    }
+
+    final Set<String> included = includeParameters.stream()
+      .map(parameter -> URLDecoder.decode(
+        parameter.substring(INCLUDE_PARAMETER.length() + 1), UTF_8))
+      .flatMap(value -> Arrays.stream(value.split(",")))
+      .map(String::trim)
+      .filter(name -> !name.isEmpty())
+      .collect(toCollection(LinkedHashSet::new));
+
+    return included.stream()
+      .filter(name -> !recognised.contains(name))
+      .findFirst()
+      .<Result<IncludedRelatedRecords>>map(name -> failed(singleValidationError(
+        "Related record cannot be included, must be one of: " + String.join(", ", recognised),
+        INCLUDE_PARAMETER, name)))
+      .orElseGet(() -> succeeded(new IncludedRelatedRecords(included)));
+  }
+
+  /**
+   * Removes the include parameter, so that the rest of the query string can be
+   * passed on to storage
+   */
+  public static String withoutIncludeParameter(String rawQueryString) {
+    if (isBlank(rawQueryString)) {
+      return rawQueryString;
+    }
+
+    return Arrays.stream(rawQueryString.split("&"))
+      .filter(parameter -> !isIncludeParameter(parameter))
+      .collect(joining("&"));
+  }
+
+  public boolean includes(String name) {
+    return included == null || included.contains(name);
+  }
+
+  public boolean includesAny(String... names) {
+    return Arrays.stream(names).anyMatch(this::includes);
+  }
+
+  private static boolean isIncludeParameter(String parameter) {
+    return parameter.startsWith(INCLUDE_PARAMETER + "=");
+  }
+}
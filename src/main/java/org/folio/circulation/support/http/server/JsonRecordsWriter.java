@@ -0,0 +1,184 @@
+package org.folio.circulation.support.http.server;
+
+import static io.vertx.core.buffer.Buffer.buffer;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.HttpFailure;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Writes a collection response of the form {"records": [...], "totalRecords": n}
+ * to the response in chunks, so that neither the whole collection representation nor
+ * its encoded form needs to be held in memory at once.
+ * <p>
+ * Records can be written in several goes (e.g. a page at a time), each record is only
+ * mapped to JSON when it is about to be written, and writing is paused while the
+ * response's write queue is full (until the client has caught up)
+ */
+public class JsonRecordsWriter {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  /** encoded records are gathered into a chunk of roughly this size before being written */
+  static final int CHUNK_SIZE = 16 * 1024;
+
+  private final HttpServerResponse response;
+  private final String recordsPropertyName;
+  private boolean firstRecord = true;
+  private int recordsWritten = 0;
+
+  public JsonRecordsWriter(HttpServerResponse response, String recordsPropertyName) {
+    this.response = response;
+    this.recordsPropertyName = recordsPropertyName;
+  }
+
+  /**
+   * Starts the response, after this the status code can no longer be changed
+   */
+  public JsonRecordsWriter begin(int statusCode) {
+    response.setStatusCode(statusCode);
+    response.putHeader("content-type", "application/json; charset=utf-8");
+    response.setChunked(true);
+    response.write(buffer("{\"" + recordsPropertyName + "\":["));
+
+    return this;
+  }
+
+  /**
+   * @return a future completed once all of the records have been handed to the response
+   */
+  public <T> CompletableFuture<Void> write(Collection<T> records,
+    Function<T, JsonObject> toJson) {
+
+    if (records.isEmpty()) {
+      return completedFuture(null);
+    }
+
+    final var written = new CompletableFuture<Void>();
+
+    writeRecords(records.iterator(), toJson, written);
+
+    return written;
+  }
+
+  public void end(Integer totalRecords) {
+    log.debug("end:: {} records written, totalRecords: {}", recordsWritten, totalRecords);
+
+    response.end(buffer("],\"totalRecords\":" + totalRecords + "}"));
+  }
+
+  /**
+   * Used when a failure happens after the response has been started, as an error
+   * response can no longer be sent, the connection is reset so that the client does
+   * not mistake a partial response for a complete one
+   */
+  public void abort(Throwable cause) {
+    log.error("abort:: response failed after {} records were written", recordsWritten, cause);
+
+    reset();
+  }
+
+  public void abort(HttpFailure failure) {
+    log.error("abort:: response failed after {} records were written: {}",
+      recordsWritten, failure);
+
+    reset();
+  }
+
+  public int getRecordsWritten() {
+    return recordsWritten;
+  }
+
+  private void reset() {
+    if (!response.ended() && !response.reset()) {
+      response.close();
+    }
+  }
+
+  private <T> void writeRecords(Iterator<T> records, Function<T, JsonObject> toJson,
+    CompletableFuture<Void> written) {
+
+    try {
+      Buffer chunk = Buffer.buffer();
+
+      while (records.hasNext()) {
+        if (response.closed()) {
+          log.warn("writeRecords:: response closed after {} records were written",
+            recordsWritten);
+          written.completeExceptionally(new IllegalStateException("Response has been closed"));
+          return;
+        }
+
+        if (!firstRecord) {
+          chunk.appendString(",");
+        }
+
+        chunk.appendString(toJson.apply(records.next()).encode());
+        firstRecord = false;
+        recordsWritten++;
+
+        if (chunk.length() >= CHUNK_SIZE) {
+          response.write(chunk);
+          chunk = Buffer.buffer();
+
+          if (response.writeQueueFull()) {
+            log.debug("writeRecords:: write queue full after {} records, waiting for drain",
+              recordsWritten);
+            waitForDrain(() -> writeRecords(records, toJson, written), written);
+            return;
+          }
+        }
+      }
+
+      if (chunk.length() > 0) {
+        response.write(chunk);
+      }
+
+      written.complete(null);
+    }
+    catch (Exception e) {
+      written.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Waits for the client to catch up, failing instead if the connection is closed
+   * or fails while waiting, so that the records being written are not held forever
+   */
+  private void waitForDrain(Runnable continueWriting, CompletableFuture<Void> written) {
+    response.drainHandler(v -> {
+      clearWaitingHandlers();
+      continueWriting.run();
+    });
+
+    response.closeHandler(v -> {
+      clearWaitingHandlers();
+      log.warn("waitForDrain:: response closed after {} records were written",
+        recordsWritten);
+      written.completeExceptionally(new IllegalStateException("Response has been closed"));
+    });
+
+    response.exceptionHandler(cause -> {
+      clearWaitingHandlers();
+      log.warn("waitForDrain:: response failed after {} records were written",
+        recordsWritten, cause);
+      written.completeExceptionally(cause);
+    });
+  }
+
+  private void clearWaitingHandlers() {
+    response.drainHandler(null);
+    response.closeHandler(null);
+    response.exceptionHandler(null);
+  }
+}
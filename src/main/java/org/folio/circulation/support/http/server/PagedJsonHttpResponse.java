@@ -0,0 +1,99 @@
+package org.folio.circulation.support.http.server;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Collection response that is fetched and written a page at a time, so that only a
+ * single page of records needs to be held in memory.
+ * <p>
+ * A page is only fetched once the previous page has been handed to the response,
+ * so a slow client also slows down fetching.
+ * As the response has already started by the time a page fails to be fetched,
+ * the connection is reset instead of an error response being sent
+ */
+public class PagedJsonHttpResponse<T> implements HttpResponse {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final String recordsPropertyName;
+  private final int numberOfPages;
+  private final IntFunction<CompletableFuture<Result<Collection<T>>>> pageFetcher;
+  private final Function<T, JsonObject> toJson;
+  private final Integer totalRecords;
+
+  /**
+   * The total number of records is the number of records written, for when the pages
+   * may contain fewer records than were expected when the response was started
+   *
+   * @param pageFetcher fetches the page with the given index (starting from 0)
+   */
+  public static <T> HttpResponse ok(String recordsPropertyName, int numberOfPages,
+    IntFunction<CompletableFuture<Result<Collection<T>>>> pageFetcher,
+    Function<T, JsonObject> toJson) {
+
+    return ok(recordsPropertyName, numberOfPages, pageFetcher, toJson, null);
+  }
+
+  /**
+   * @param pageFetcher fetches the page with the given index (starting from 0)
+   * @param totalRecords the total number of records, or null to use the number written
+   */
+  public static <T> HttpResponse ok(String recordsPropertyName, int numberOfPages,
+    IntFunction<CompletableFuture<Result<Collection<T>>>> pageFetcher,
+    Function<T, JsonObject> toJson, Integer totalRecords) {
+
+    return new PagedJsonHttpResponse<>(recordsPropertyName, numberOfPages, pageFetcher,
+      toJson, totalRecords);
+  }
+
+  private PagedJsonHttpResponse(String recordsPropertyName, int numberOfPages,
+    IntFunction<CompletableFuture<Result<Collection<T>>>> pageFetcher,
+    Function<T, JsonObject> toJson, Integer totalRecords) {
+
+    this.recordsPropertyName = recordsPropertyName;
+    this.numberOfPages = numberOfPages;
+    this.pageFetcher = pageFetcher;
+    this.toJson = toJson;
+    this.totalRecords = totalRecords;
+  }
+
+  @Override
+  public void writeTo(HttpServerResponse response) {
+    log.debug("writeTo:: writing {} pages", numberOfPages);
+
+    writePagesFrom(0, new JsonRecordsWriter(response, recordsPropertyName).begin(200));
+  }
+
+  private void writePagesFrom(int pageIndex, JsonRecordsWriter writer) {
+    if (pageIndex >= numberOfPages) {
+      writer.end(totalRecords != null ? totalRecords : writer.getRecordsWritten());
+      return;
+    }
+
+    pageFetcher.apply(pageIndex).whenComplete((page, fetchingError) -> {
+      if (fetchingError != null) {
+        writer.abort(fetchingError);
+      } else if (page.failed()) {
+        writer.abort(page.cause());
+      } else {
+        writer.write(page.value(), toJson).whenComplete((v, writingError) -> {
+          if (writingError != null) {
+            writer.abort(writingError);
+          } else {
+            writePagesFrom(pageIndex + 1, writer);
+          }
+        });
+      }
+    });
+  }
+}
@@ -0,0 +1,61 @@
+package org.folio.circulation.support.http.server;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Collection response that is written a record at a time, instead of being built
+ * as a single JSON object and encoded before any of it is sent.
+ * Intended only for large reports (such as the hold shelf clearance report and staff slips),
+ * as a failure part way through resets the connection rather than responding with an error,
+ * paged collections (such as loans or requests) should use {@link JsonHttpResponse}
+ */
+public class StreamingJsonHttpResponse<T> implements HttpResponse {
+  private final String recordsPropertyName;
+  private final Collection<T> records;
+  private final Function<T, JsonObject> toJson;
+  private final Integer totalRecords;
+
+  public static <T> HttpResponse ok(String recordsPropertyName, Collection<T> records,
+    Function<T, JsonObject> toJson, Integer totalRecords) {
+
+    return new StreamingJsonHttpResponse<>(recordsPropertyName, records, toJson,
+      totalRecords);
+  }
+
+  public static <T> HttpResponse ok(String recordsPropertyName, Collection<T> records,
+    Function<T, JsonObject> toJson) {
+
+    return ok(recordsPropertyName, records, toJson, records.size());
+  }
+
+  public static HttpResponse ok(String recordsPropertyName, Collection<JsonObject> records) {
+    return ok(recordsPropertyName, records, Function.identity());
+  }
+
+  private StreamingJsonHttpResponse(String recordsPropertyName, Collection<T> records,
+    Function<T, JsonObject> toJson, Integer totalRecords) {
+
+    this.recordsPropertyName = recordsPropertyName;
+    this.records = records;
+    this.toJson = toJson;
+    this.totalRecords = totalRecords;
+  }
+
+  @Override
+  public void writeTo(HttpServerResponse response) {
+    final var writer = new JsonRecordsWriter(response, recordsPropertyName).begin(200);
+
+    writer.write(records, toJson)
+      .whenComplete((v, throwable) -> {
+        if (throwable != null) {
+          writer.abort(throwable);
+        } else {
+          writer.end(totalRecords);
+        }
+      });
+  }
+}
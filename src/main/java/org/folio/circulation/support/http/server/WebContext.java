@@ -14,12 +14,17 @@ import java.util.Map;
 import org.folio.circulation.support.InvalidOkapiLocationException;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
 import org.folio.circulation.support.http.client.VertxWebClientOkapiHttpClient;
+import org.folio.circulation.support.metrics.StageTimer;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 
 public class WebContext {
+  private static final String STAGE_TIMER_KEY = "stageTimer";
+  private static final String SERVER_TIMING = "Server-Timing";
+
   private final RoutingContext routingContext;
 
   public WebContext(RoutingContext routingContext) {
@@ -91,7 +96,19 @@ public class WebContext {
 
     return VertxWebClientOkapiHttpClient.createClientUsing(httpClient,
       okapiUrl, tenantId, getOkapiToken(), getUserId(),
-      getRequestId());
+      getRequestId(), getCallingResource());
+  }
+
+  /**
+   * @return the path the route handling this request was registered with, so that
+   * record IDs in the request path are not included
+   */
+  private String getCallingResource() {
+    final Route route = routingContext.currentRoute();
+
+    return route == null || route.getPath() == null
+      ? null
+      : routingContext.request().method().name() + " " + route.getPath();
   }
 
   public void write(HttpResponse response) {
@@ -102,6 +119,28 @@ public class WebContext {
     result.applySideEffect(this::write, this::write);
   }
 
+  /**
+   * @return the stage timer for this request, created for the operation when this is
+   * the first time it has been asked for
+   */
+  public StageTimer getStageTimer(String operation) {
+    StageTimer stageTimer = routingContext.get(STAGE_TIMER_KEY);
+
+    if (stageTimer == null) {
+      stageTimer = new StageTimer(operation);
+      routingContext.put(STAGE_TIMER_KEY, stageTimer);
+    }
+
+    return stageTimer;
+  }
+
+  public void writeResultToHttpResponse(Result<HttpResponse> result, StageTimer stageTimer) {
+    stageTimer.finished();
+    routingContext.response().putHeader(SERVER_TIMING, stageTimer.toServerTimingHeader());
+
+    writeResultToHttpResponse(result);
+  }
+
   public Map<String, String> getHeaders() {
     return routingContext.request().headers().entries().stream()
       .collect(toMap(entry -> entry.getKey().toLowerCase(), Map.Entry::getValue, (a, b) -> b));
@@ -0,0 +1,63 @@
+package org.folio.circulation.support.metrics;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts observations into cumulative buckets, the way Prometheus histograms are exposed
+ */
+class Histogram {
+  private final double[] upperBounds;
+  private final LongAdder[] bucketCounts;
+  private final LongAdder count = new LongAdder();
+  private final DoubleAdder sum = new DoubleAdder();
+
+  Histogram(double... upperBounds) {
+    this.upperBounds = upperBounds.clone();
+    this.bucketCounts = new LongAdder[upperBounds.length];
+
+    for (int index = 0; index < upperBounds.length; index++) {
+      bucketCounts[index] = new LongAdder();
+    }
+  }
+
+  void observe(double value) {
+    for (int index = 0; index < upperBounds.length; index++) {
+      if (value <= upperBounds[index]) {
+        bucketCounts[index].increment();
+      }
+    }
+
+    count.increment();
+    sum.add(value);
+  }
+
+  void writeTo(PrometheusTextWriter writer, String name, String... labels) {
+    for (int index = 0; index < upperBounds.length; index++) {
+      writer.sample(name + "_bucket", bucketCounts[index].sum(),
+        withLabel(labels, "le", PrometheusTextWriter.formatValue(upperBounds[index])));
+    }
+
+    writer.sample(name + "_bucket", count.sum(), withLabel(labels, "le", "+Inf"));
+    writer.sample(name + "_sum", sum.sum(), labels);
+    writer.sample(name + "_count", count.sum(), labels);
+  }
+
+  long getCount() {
+    return count.sum();
+  }
+
+  double getSum() {
+    return sum.sum();
+  }
+
+  private static String[] withLabel(String[] labels, String name, String value) {
+    final String[] combined = new String[labels.length + 2];
+
+    System.arraycopy(labels, 0, combined, 0, labels.length);
+    combined[labels.length] = name;
+    combined[labels.length + 1] = value;
+
+    return combined;
+  }
+}
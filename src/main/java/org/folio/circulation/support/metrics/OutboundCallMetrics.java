@@ -0,0 +1,202 @@
+package org.folio.circulation.support.metrics;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Latency, status codes, payload sizes and in flight counts of the requests this module
+ * makes to other modules, by tenant, method, path template and the resource that made them.
+ * <p>
+ * Path templates replace record IDs with {id}, so that requests for different records
+ * are counted together. The number of distinct combinations is limited, beyond which
+ * requests are counted against a path of "other"
+ */
+@Log4j2
+public class OutboundCallMetrics {
+  private static final OutboundCallMetrics instance = new OutboundCallMetrics();
+
+  static final int MAXIMUM_SERIES = 5000;
+  private static final String OTHER_PATH = "other";
+  private static final String UNKNOWN = "unknown";
+
+  private static final double[] LATENCY_BUCKETS_SECONDS = {
+    0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 20 };
+
+  private static final double[] SIZE_BUCKETS_BYTES = {
+    256, 1024, 10_240, 102_400, 1_048_576, 10_485_760 };
+
+  private static final Pattern ID_SEGMENT = Pattern.compile(
+    "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+");
+
+  private final Map<CallKey, CallStatistics> calls = new ConcurrentHashMap<>();
+
+  public static OutboundCallMetrics getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records that a request has been sent, {@link Call#finished(Integer, long)} must be used
+   * once it has completed
+   */
+  public Call started(String tenantId, String method, String url, int requestBytes,
+    String callingResource) {
+
+    final var statistics = statisticsFor(new CallKey(valueOrUnknown(tenantId), method,
+      pathTemplate(url), valueOrUnknown(callingResource)));
+
+    statistics.inFlight.incrementAndGet();
+    statistics.requestSizes.observe(requestBytes);
+
+    return new Call(statistics, System.nanoTime());
+  }
+
+  public void writeTo(PrometheusTextWriter writer) {
+    writer.describe("circulation_outbound_request_duration_seconds", "histogram",
+      "Time taken for requests to other modules to complete");
+    calls.forEach((key, statistics) -> statistics.durations.writeTo(writer,
+      "circulation_outbound_request_duration_seconds", key.labels()));
+
+    writer.describe("circulation_outbound_responses_total", "counter",
+      "Responses from other modules by status code, error when there was no response");
+    calls.forEach((key, statistics) -> statistics.statusCodes.forEach((status, count) ->
+      writer.sample("circulation_outbound_responses_total", count.sum(),
+        key.labels("status", status))));
+
+    writer.describe("circulation_outbound_request_size_bytes", "histogram",
+      "Size of the bodies of requests sent to other modules");
+    calls.forEach((key, statistics) -> statistics.requestSizes.writeTo(writer,
+      "circulation_outbound_request_size_bytes", key.labels()));
+
+    writer.describe("circulation_outbound_response_size_bytes", "histogram",
+      "Size of the bodies of responses from other modules");
+    calls.forEach((key, statistics) -> statistics.responseSizes.writeTo(writer,
+      "circulation_outbound_response_size_bytes", key.labels()));
+
+    writer.describe("circulation_outbound_requests_in_flight", "gauge",
+      "Requests to other modules that have not yet completed");
+    calls.forEach((key, statistics) -> writer.sample(
+      "circulation_outbound_requests_in_flight", statistics.inFlight.get(), key.labels()));
+  }
+
+  void reset() {
+    calls.clear();
+  }
+
+  static String pathTemplate(String url) {
+    if (url == null) {
+      return UNKNOWN;
+    }
+
+    String path;
+
+    try {
+      path = URI.create(url).getRawPath();
+    } catch (IllegalArgumentException e) {
+      final int queryStart = url.indexOf('?');
+      path = queryStart < 0 ? url : url.substring(0, queryStart);
+    }
+
+    if (path == null || path.isEmpty()) {
+      return "/";
+    }
+
+    final String[] segments = path.split("/", -1);
+
+    for (int index = 0; index < segments.length; index++) {
+      if (ID_SEGMENT.matcher(segments[index]).matches()) {
+        segments[index] = "{id}";
+      }
+    }
+
+    return String.join("/", segments);
+  }
+
+  private CallStatistics statisticsFor(CallKey key) {
+    final var statistics = calls.get(key);
+
+    if (statistics != null) {
+      return statistics;
+    }
+
+    if (calls.size() >= MAXIMUM_SERIES) {
+      log.debug("statisticsFor:: too many distinct calls, counting {} as {}",
+        key.getPath(), OTHER_PATH);
+
+      return calls.computeIfAbsent(new CallKey(key.getTenant(), key.getMethod(), OTHER_PATH,
+        key.getCaller()), k -> new CallStatistics());
+    }
+
+    return calls.computeIfAbsent(key, k -> new CallStatistics());
+  }
+
+  private static String valueOrUnknown(String value) {
+    return value == null || value.isBlank() ? UNKNOWN : value;
+  }
+
+  public static class Call {
+    private final CallStatistics statistics;
+    private final long startTime;
+
+    private Call(CallStatistics statistics, long startTime) {
+      this.statistics = statistics;
+      this.startTime = startTime;
+    }
+
+    /**
+     * @param statusCode null when no response was received
+     */
+    public void finished(Integer statusCode, long responseBytes) {
+      final long elapsed = System.nanoTime() - startTime;
+
+      statistics.inFlight.decrementAndGet();
+      statistics.durations.observe((double) elapsed / TimeUnit.SECONDS.toNanos(1));
+      statistics.statusCodes.computeIfAbsent(
+        statusCode == null ? "error" : String.valueOf(statusCode), k -> new LongAdder())
+        .increment();
+
+      if (statusCode != null) {
+        statistics.responseSizes.observe(responseBytes);
+      }
+    }
+  }
+
+  private static class CallStatistics {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Histogram durations = new Histogram(LATENCY_BUCKETS_SECONDS);
+    private final Histogram requestSizes = new Histogram(SIZE_BUCKETS_BYTES);
+    private final Histogram responseSizes = new Histogram(SIZE_BUCKETS_BYTES);
+    private final Map<String, LongAdder> statusCodes = new ConcurrentHashMap<>();
+  }
+
+  @Value
+  private static class CallKey {
+    String tenant;
+    String method;
+    String path;
+    String caller;
+
+    String[] labels(String... additionalLabels) {
+      final String[] labels = new String[8 + additionalLabels.length];
+
+      labels[0] = "tenant";
+      labels[1] = tenant;
+      labels[2] = "method";
+      labels[3] = method;
+      labels[4] = "path";
+      labels[5] = path;
+      labels[6] = "caller";
+      labels[7] = caller;
+      System.arraycopy(additionalLabels, 0, labels, 8, additionalLabels.length);
+
+      return labels;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package org.folio.circulation.support.metrics;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Writes metrics in the Prometheus text exposition format (version 0.0.4).
+ * Labels are given as alternating names and values
+ */
+public class PrometheusTextWriter {
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final StringBuilder text = new StringBuilder();
+  private final Set<String> describedMetrics = new HashSet<>();
+
+  public PrometheusTextWriter describe(String name, String type, String help) {
+    if (describedMetrics.add(name)) {
+      text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+      text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    return this;
+  }
+
+  public PrometheusTextWriter sample(String name, double value, String... labels) {
+    text.append(name);
+
+    if (labels.length > 0) {
+      text.append('{');
+
+      for (int index = 0; index + 1 < labels.length; index += 2) {
+        if (index > 0) {
+          text.append(',');
+        }
+
+        text.append(labels[index]).append("=\"")
+          .append(escape(labels[index + 1])).append('"');
+      }
+
+      text.append('}');
+    }
+
+    text.append(' ').append(formatValue(value)).append('\n');
+
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return text.toString();
+  }
+
+  static String formatValue(double value) {
+    if (value == Math.rint(value) && !Double.isInfinite(value)) {
+      return String.valueOf((long) value);
+    }
+
+    return String.valueOf(value);
+  }
+
+  private static String escape(String value) {
+    if (value == null) {
+      return "";
+    }
+
+    return value.replace("\\", "\\\\")
+      .replace("\"", "\\\"")
+      .replace("\n", "\\n");
+  }
+}
@@ -0,0 +1,104 @@
+package org.folio.circulation.support.metrics;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.folio.circulation.support.results.Result;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Records how long the named stages of processing a single request take, for example
+ * {@code .thenComposeAsync(timer.timed("lookupItem", r -> r.after(this::lookupItem)))}
+ * <p>
+ * Once the request has been processed, {@link #finished()} adds the timings to the
+ * {@link StageTimingMetrics} histograms and the breakdown can be included in the response
+ * using {@link #toServerTimingHeader()}
+ */
+@Log4j2
+public class StageTimer {
+  public static final String TOTAL_STAGE = "total";
+
+  private final String operation;
+  private final long startTime;
+  private final Queue<Stage> stages = new ConcurrentLinkedQueue<>();
+
+  public StageTimer(String operation) {
+    this.operation = operation;
+    this.startTime = System.nanoTime();
+  }
+
+  /**
+   * @return the step, recording the time from when it is applied until the future
+   * it returns completes. Nothing is recorded when the step is applied to a failed
+   * result, as the stage is skipped
+   */
+  public <T, R> Function<T, CompletableFuture<R>> timed(String stage,
+    Function<T, CompletableFuture<R>> step) {
+
+    return value -> {
+      if (value instanceof Result<?> result && result.failed()) {
+        return step.apply(value);
+      }
+
+      final long stageStartTime = System.nanoTime();
+
+      return step.apply(value)
+        .whenComplete((result, throwable) ->
+          stages.add(new Stage(stage, System.nanoTime() - stageStartTime)));
+    };
+  }
+
+  /**
+   * Starts the step straight away, for stages that begin a chain
+   */
+  public <T> CompletableFuture<T> time(String stage, Supplier<CompletableFuture<T>> step) {
+    return this.<Void, T>timed(stage, notUsed -> step.get()).apply(null);
+  }
+
+  public String getOperation() {
+    return operation;
+  }
+
+  public void finished() {
+    final long total = System.nanoTime() - startTime;
+    final var metrics = StageTimingMetrics.getInstance();
+
+    stages.forEach(stage -> metrics.observe(operation, stage.getName(), stage.getDuration()));
+    metrics.observe(operation, TOTAL_STAGE, total);
+
+    log.debug("finished:: {} stages: {}", () -> operation, this::toServerTimingHeader);
+  }
+
+  /**
+   * @return the stages in the format of the Server-Timing header, with durations
+   * in milliseconds
+   */
+  public String toServerTimingHeader() {
+    final var total = new Stage(TOTAL_STAGE, System.nanoTime() - startTime);
+
+    return Stream.concat(stages.stream(), Stream.of(total))
+      .map(stage -> stage.getName() + ";dur=" + milliseconds(stage.getDuration()))
+      .collect(joining(", "));
+  }
+
+  private static String milliseconds(long nanoseconds) {
+    return String.format(Locale.ROOT, "%.1f",
+      (double) nanoseconds / TimeUnit.MILLISECONDS.toNanos(1));
+  }
+
+  @Value
+  private static class Stage {
+    String name;
+    long duration;
+  }
+}
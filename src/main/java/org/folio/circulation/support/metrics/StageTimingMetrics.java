@@ -0,0 +1,54 @@
+package org.folio.circulation.support.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Value;
+
+/**
+ * Time taken by each stage of check in, check out and renewal, recorded by {@link StageTimer}
+ */
+public class StageTimingMetrics {
+  private static final StageTimingMetrics instance = new StageTimingMetrics();
+
+  private static final double[] DURATION_BUCKETS_SECONDS = {
+    0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10 };
+
+  private final Map<StageKey, Histogram> durations = new ConcurrentHashMap<>();
+
+  public static StageTimingMetrics getInstance() {
+    return instance;
+  }
+
+  void observe(String operation, String stage, long durationNanoseconds) {
+    durations.computeIfAbsent(new StageKey(operation, stage),
+        k -> new Histogram(DURATION_BUCKETS_SECONDS))
+      .observe((double) durationNanoseconds / TimeUnit.SECONDS.toNanos(1));
+  }
+
+  public void writeTo(PrometheusTextWriter writer) {
+    writer.describe("circulation_stage_duration_seconds", "histogram",
+      "Time taken by each stage of processing check in, check out and renewal requests");
+
+    durations.forEach((key, histogram) -> histogram.writeTo(writer,
+      "circulation_stage_duration_seconds", "operation", key.getOperation(),
+      "stage", key.getStage()));
+  }
+
+  long getCount(String operation, String stage) {
+    final var histogram = durations.get(new StageKey(operation, stage));
+
+    return histogram == null ? 0 : histogram.getCount();
+  }
+
+  void reset() {
+    durations.clear();
+  }
+
+  @Value
+  private static class StageKey {
+    String operation;
+    String stage;
+  }
+}
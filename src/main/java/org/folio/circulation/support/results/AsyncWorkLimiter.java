@@ -0,0 +1,212 @@
+package org.folio.circulation.support.results;
+
+import static org.folio.circulation.support.results.AsynchronousResultBindings.safelyInitialise;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+
+/**
+ * Limits how many asynchronous tasks (usually requests to other modules) are in flight
+ * at the same time. Tasks submitted beyond the limit wait in a queue until a running
+ * task completes.
+ *
+ * Limiters for batch processes are shared by name across tenants, so that the limit
+ * applies to the module as a whole. A task must not wait for other tasks submitted
+ * to the same limiter, as that can use up all the slots and never complete
+ */
+public class AsyncWorkLimiter {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final Map<String, AsyncWorkLimiter> batchLimiters = new ConcurrentHashMap<>();
+  /**
+   * Tasks to start once the task being started on this thread returns, so that tasks which
+   * complete straight away start the next task in a loop, rather than deeper in the stack
+   */
+  private static final ThreadLocal<Queue<Runnable>> tasksToStart = new ThreadLocal<>();
+
+  private final String name;
+  private final int maximumInFlight;
+  /** tasks waiting for a slot, guarded by this */
+  private final Queue<Runnable> waiting = new ArrayDeque<>();
+  private int inFlight;
+  private int maximumQueueDepth;
+
+  private final AtomicLong completedCount = new AtomicLong();
+  private final AtomicLong totalWaitNanos = new AtomicLong();
+  private final AtomicLong totalRunNanos = new AtomicLong();
+
+  public AsyncWorkLimiter(String name, int maximumInFlight) {
+    if (maximumInFlight < 1) {
+      throw new IllegalArgumentException("Maximum in flight must be at least 1 for " + name);
+    }
+
+    this.name = name;
+    this.maximumInFlight = maximumInFlight;
+  }
+
+  /**
+   * The limiter shared by all uses of the named batch process, limited to
+   * BATCH_MAX_IN_FLIGHT_REQUESTS
+   */
+  public static AsyncWorkLimiter forBatch(String name) {
+    return batchLimiters.computeIfAbsent(name,
+      key -> new AsyncWorkLimiter(key, Environment.getBatchMaxInFlightRequests()));
+  }
+
+  public static Collection<AsyncWorkLimiter> batchLimiters() {
+    return List.copyOf(batchLimiters.values());
+  }
+
+  public <T> CompletableFuture<Result<T>> submit(Supplier<CompletableFuture<Result<T>>> task) {
+    final CompletableFuture<Result<T>> completion = new CompletableFuture<>();
+    final long submittedAt = System.nanoTime();
+    final Runnable start = () -> run(task, completion, submittedAt);
+
+    final boolean startNow;
+
+    synchronized (this) {
+      if (inFlight < maximumInFlight) {
+        inFlight++;
+        startNow = true;
+      } else {
+        waiting.add(start);
+        maximumQueueDepth = Math.max(maximumQueueDepth, waiting.size());
+        startNow = false;
+      }
+    }
+
+    if (startNow) {
+      startOnThisThread(start);
+    } else {
+      log.debug("submit:: {} task is waiting, queue depth {}", name, getQueueDepth());
+    }
+
+    return completion;
+  }
+
+  private <T> void run(Supplier<CompletableFuture<Result<T>>> task,
+    CompletableFuture<Result<T>> completion, long submittedAt) {
+
+    final long startedAt = System.nanoTime();
+    totalWaitNanos.addAndGet(startedAt - submittedAt);
+
+    safelyInitialise(task).whenComplete((result, error) -> {
+      totalRunNanos.addAndGet(System.nanoTime() - startedAt);
+      completedCount.incrementAndGet();
+
+      startNextWaitingTask();
+
+      if (error != null) {
+        completion.completeExceptionally(error);
+      } else {
+        completion.complete(result);
+      }
+    });
+  }
+
+  private void startNextWaitingTask() {
+    final Runnable next;
+
+    final boolean idle;
+
+    synchronized (this) {
+      next = waiting.poll();
+
+      if (next == null) {
+        inFlight--;
+      }
+
+      idle = inFlight == 0;
+    }
+
+    if (next == null) {
+      if (idle) {
+        log.info("startNextWaitingTask:: all tasks completed, {}", this);
+      }
+
+      return;
+    }
+
+    // the slot is handed straight to the next task
+    startOnThisThread(next);
+  }
+
+  private static void startOnThisThread(Runnable start) {
+    final Queue<Runnable> alreadyStarting = tasksToStart.get();
+
+    if (alreadyStarting != null) {
+      alreadyStarting.add(start);
+      return;
+    }
+
+    final Queue<Runnable> toStart = new ArrayDeque<>();
+    tasksToStart.set(toStart);
+
+    try {
+      for (Runnable next = start; next != null; next = toStart.poll()) {
+        next.run();
+      }
+    } finally {
+      tasksToStart.remove();
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getMaximumInFlight() {
+    return maximumInFlight;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  public synchronized int getQueueDepth() {
+    return waiting.size();
+  }
+
+  public synchronized int getMaximumQueueDepth() {
+    return maximumQueueDepth;
+  }
+
+  public long getCompletedCount() {
+    return completedCount.get();
+  }
+
+  public long getAverageWaitMillis() {
+    return averageMillis(totalWaitNanos.get());
+  }
+
+  public long getAverageRunMillis() {
+    return averageMillis(totalRunNanos.get());
+  }
+
+  private long averageMillis(long totalNanos) {
+    final long completed = completedCount.get();
+
+    return completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / completed);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: in flight %d of %d, queue depth %d (maximum %d), " +
+        "completed %d, average wait %d ms, average run %d ms", name, getInFlight(),
+      maximumInFlight, getQueueDepth(), getMaximumQueueDepth(), getCompletedCount(),
+      getAverageWaitMillis(), getAverageRunMillis());
+  }
+}
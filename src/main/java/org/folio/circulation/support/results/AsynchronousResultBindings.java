@@ -33,4 +33,14 @@ public class AsynchronousResultBindings {
 
     return r -> r.combineAfter(action, combiner);
   }
+
+  /**
+   * Runs the action within the limit of the limiter, for example
+   * {@code allOf(loans, limitedBy(limiter, this::updateLoan))}
+   */
+  public static <T, R> Function<T, CompletableFuture<Result<R>>> limitedBy(
+    AsyncWorkLimiter limiter, Function<T, CompletableFuture<Result<R>>> action) {
+
+    return value -> limiter.submit(() -> action.apply(value));
+  }
 }
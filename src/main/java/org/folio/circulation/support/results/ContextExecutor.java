@@ -0,0 +1,81 @@
+package org.folio.circulation.support.results;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Runs the asynchronous stages of a result pipeline on the Vert.x context that handled
+ * the request, for example {@code .thenComposeAsync(r -> r.after(this::lookupItem), executor)}.
+ * <p>
+ * Stages started without an executor run on the common fork join pool, which is shared
+ * with everything else in the module and sized to the number of processors, so every stage
+ * moves between that pool and the event loop. When there is no Vert.x context
+ * (for example in unit tests) the common pool is still used
+ */
+public class ContextExecutor implements Executor {
+  private static final LongAdder onContext = new LongAdder();
+  private static final LongAdder fromOtherThreads = new LongAdder();
+  private static final LongAdder withoutContext = new LongAdder();
+
+  private final Context context;
+
+  private ContextExecutor(Context context) {
+    this.context = context;
+  }
+
+  public static ContextExecutor forCurrentContext() {
+    return new ContextExecutor(Vertx.currentContext());
+  }
+
+  /**
+   * @return the executor given, or one for the current context when there is none
+   * (for example, when the clients providing it have been mocked)
+   */
+  public static Executor orForCurrentContext(Executor executor) {
+    return executor != null ? executor : forCurrentContext();
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (context == null) {
+      withoutContext.increment();
+      ForkJoinPool.commonPool().execute(task);
+      return;
+    }
+
+    if (Vertx.currentContext() == context) {
+      onContext.increment();
+    }
+    else {
+      fromOtherThreads.increment();
+    }
+
+    context.runOnContext(notUsed -> task.run());
+  }
+
+  /**
+   * @return the number of stages submitted from the context they were run on
+   */
+  public static long getOnContextCount() {
+    return onContext.sum();
+  }
+
+  /**
+   * @return the number of stages submitted from another thread, each of which is
+   * a switch to the context
+   */
+  public static long getContextSwitchCount() {
+    return fromOtherThreads.sum();
+  }
+
+  /**
+   * @return the number of stages run on the common pool because there was no context
+   */
+  public static long getWithoutContextCount() {
+    return withoutContext.sum();
+  }
+}
@@ -1,6 +1,7 @@
 package api.loans;
 
 import static api.support.JsonCollectionAssistant.getRecordById;
+import static api.support.http.InterfaceUrls.loansUrl;
 import static api.support.matchers.UUIDMatcher.is;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -9,6 +10,7 @@ import java.util.List;
 import java.util.UUID;
 
 import api.support.http.IndividualResource;
+import org.folio.circulation.domain.LoanRepresentation;
 import org.folio.circulation.support.http.client.Response;
 import org.junit.jupiter.api.Test;
 
@@ -111,4 +113,46 @@ class LoanAPIRelatedRecordsTests extends APITests {
       secondFetchedLoan.getJsonObject("item").getString("instanceId"),
       is(temeraire.getInstanceId()));
   }
+
+  @Test
+  void onlyIncludedRelatedRecordsAreFetchedForLoans() {
+    loansFixture.createLoan(itemsFixture.basedUponSmallAngryPlanet(), usersFixture.jessica());
+
+    final JsonObject everything = getOnlyLoan("");
+    final JsonObject onlyItem = getOnlyLoan("?include=item");
+    final JsonObject nothing = getOnlyLoan("?include=");
+
+    assertThat(everything.containsKey("loanPolicy"), is(true));
+    assertThat(everything.containsKey("borrower"), is(true));
+
+    assertThat(onlyItem.getJsonObject("item").getString("title"),
+      is("The Long Way to a Small, Angry Planet"));
+    assertThat(onlyItem.containsKey("loanPolicy"), is(false));
+    assertThat(onlyItem.containsKey("borrower"), is(false));
+
+    assertThat(nothing.containsKey("loanPolicy"), is(false));
+    assertThat(nothing.containsKey("borrower"), is(false));
+  }
+
+  @Test
+  void cannotIncludeUnrecognisedRelatedRecordForLoans() {
+    final Response response = restAssuredClient.get(loansUrl("?include=accounts"), 422,
+      "get-loans-including-unrecognised-record");
+
+    assertThat(response.getJson().getJsonArray("errors").getJsonObject(0)
+      .getString("message"), is("Related record cannot be included, must be one of: " +
+      String.join(", ", LoanRepresentation.RELATED_RECORDS)));
+  }
+
+  private JsonObject getOnlyLoan(String queryString) {
+    final List<JsonObject> loans = restAssuredClient.get(loansUrl(queryString), 200,
+        "get-loans-with-related-records")
+      .getJson().getJsonArray("loans").stream()
+      .map(JsonObject.class::cast)
+      .toList();
+
+    assertThat(loans.size(), is(1));
+
+    return loans.get(0);
+  }
 }
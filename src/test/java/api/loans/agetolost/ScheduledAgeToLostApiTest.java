@@ -11,13 +11,16 @@ import static api.support.matchers.ItemMatchers.isCheckedOut;
 import static api.support.matchers.ItemMatchers.isClaimedReturned;
 import static api.support.matchers.JsonObjectMatcher.hasJsonPath;
 import static api.support.matchers.TextDateTimeMatcher.isEquivalentTo;
+import static io.vertx.core.http.HttpMethod.POST;
 import static java.time.Clock.fixed;
 import static java.time.ZoneOffset.UTC;
+import static org.folio.HttpStatus.HTTP_NOT_FOUND;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getDateTimePropertyByPath;
 import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.iterableWithSize;
@@ -33,6 +36,7 @@ import java.util.stream.Collectors;
 import org.folio.circulation.domain.policy.lostitem.ChargeAmountType;
 import org.folio.circulation.support.utils.ClockUtil;
 import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +45,7 @@ import api.support.MultipleJsonRecords;
 import api.support.PubsubPublisherTestUtils;
 import api.support.builders.CheckOutByBarcodeRequestBuilder;
 import api.support.builders.ItemBuilder;
+import api.support.fakes.FakeStorageModule;
 import api.support.http.IndividualResource;
 import api.support.spring.SpringApiTest;
 import api.support.spring.clients.ScheduledJobClient;
@@ -48,6 +53,9 @@ import io.vertx.core.json.JsonObject;
 import lombok.val;
 
 class ScheduledAgeToLostApiTest extends SpringApiTest {
+  private static final String ITEMS_BATCH_UPDATE_PATH =
+    "/item-storage/batch/synchronous?upsert=true";
+
   private IndividualResource overdueLoan;
   private IndividualResource overdueItem;
   @Autowired
@@ -190,6 +198,57 @@ class ScheduledAgeToLostApiTest extends SpringApiTest {
     agedToLostActions.forEach(PubsubPublisherTestUtils::assertThatPublishedLoanLogRecordEventsAreValid);
   }
 
+  @Test
+  void shouldUpdateAgedToLostItemsInOneBatchRequest() {
+    initLostItemFeePolicy(ChargeAmountType.SET_COST);
+    val loanToItemMap = checkOutTenItems();
+
+    scheduledAgeToLostClient.triggerJob();
+
+    loanToItemMap.values().forEach(item ->
+      assertThat(itemsClient.get(item).getJson(), isAgedToLost()));
+
+    // every item found by checking that the items are still in storage is in the one batch
+    assertThat(FakeStorageModule.getBatchUpdates(), hasSize(1));
+    assertThat(batchUpdatedItemIds(FakeStorageModule.getBatchUpdates().get(0)),
+      containsInAnyOrder(itemIds(loanToItemMap.values())));
+  }
+
+  @Test
+  void shouldUpdateAgedToLostItemsIndividuallyWhenBatchUpdateIsNotAvailable() {
+    FakeStorageModule.addRequestMapping(POST, ITEMS_BATCH_UPDATE_PATH, HTTP_NOT_FOUND);
+    initLostItemFeePolicy(ChargeAmountType.SET_COST);
+    val firstLoanToItemMap = checkOutTenItems();
+
+    scheduledAgeToLostClient.triggerJob();
+
+    firstLoanToItemMap.values().forEach(item ->
+      assertThat(itemsClient.get(item).getJson(), isAgedToLost()));
+    assertThat(FakeStorageModule.getBatchUpdates(), hasSize(1));
+
+    val secondLoanToItemMap = checkOutTenItems();
+
+    scheduledAgeToLostClient.triggerJob();
+
+    secondLoanToItemMap.values().forEach(item ->
+      assertThat(itemsClient.get(item).getJson(), isAgedToLost()));
+    // the batch endpoint is not tried again for the tenant
+    assertThat(FakeStorageModule.getBatchUpdates(), hasSize(1));
+  }
+
+  private static List<String> batchUpdatedItemIds(JsonObject batchUpdate) {
+    return batchUpdate.getJsonArray("items").stream()
+      .map(JsonObject.class::cast)
+      .map(item -> item.getString("id"))
+      .collect(Collectors.toList());
+  }
+
+  private static String[] itemIds(Collection<IndividualResource> items) {
+    return items.stream()
+      .map(item -> item.getId().toString())
+      .toArray(String[]::new);
+  }
+
   private ZonedDateTime getLoanOverdueDate() {
     return ClockUtil.getZonedDateTime().minusWeeks(3);
   }
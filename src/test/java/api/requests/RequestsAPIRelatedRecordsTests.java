@@ -1,6 +1,7 @@
 package api.requests;
 
 import static api.support.JsonCollectionAssistant.getRecordById;
+import static api.support.http.InterfaceUrls.requestsUrl;
 import static api.support.matchers.UUIDMatcher.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
@@ -8,6 +9,7 @@ import static org.hamcrest.core.Is.is;
 import java.util.List;
 import java.util.UUID;
 
+import org.folio.circulation.domain.RequestRepresentation;
 import org.folio.circulation.support.http.client.Response;
 import org.junit.jupiter.api.Test;
 
@@ -140,4 +142,51 @@ class RequestsAPIRelatedRecordsTests extends APITests {
       fetchedRequestsResponse.get(1).getString("instanceId"),
       is(instanceId));
   }
+
+  @Test
+  void onlyIncludedRelatedRecordsAreFetchedForRequests() {
+    final ItemResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+
+    checkOutFixture.checkOutByBarcode(smallAngryPlanet);
+
+    requestsClient.create(new RequestBuilder()
+      .forItem(smallAngryPlanet)
+      .withPickupServicePointId(servicePointsFixture.cd1().getId())
+      .withInstanceId(smallAngryPlanet.getInstanceId())
+      .by(usersFixture.charlotte()));
+
+    final JsonObject everything = getOnlyRequest("");
+    final JsonObject onlyItem = getOnlyRequest("?include=item");
+    final JsonObject nothing = getOnlyRequest("?include=");
+
+    assertThat(everything.containsKey("pickupServicePoint"), is(true));
+
+    assertThat(onlyItem.getJsonObject("item").getString("barcode"),
+      is(smallAngryPlanet.getBarcode()));
+    assertThat(onlyItem.containsKey("pickupServicePoint"), is(false));
+
+    assertThat(nothing.containsKey("pickupServicePoint"), is(false));
+  }
+
+  @Test
+  void cannotIncludeUnrecognisedRelatedRecordForRequests() {
+    final Response response = restAssuredClient.get(requestsUrl("?include=borrower"), 422,
+      "get-requests-including-unrecognised-record");
+
+    assertThat(response.getJson().getJsonArray("errors").getJsonObject(0)
+      .getString("message"), is("Related record cannot be included, must be one of: " +
+      String.join(", ", RequestRepresentation.RELATED_RECORDS)));
+  }
+
+  private JsonObject getOnlyRequest(String queryString) {
+    final List<JsonObject> requests = restAssuredClient.get(requestsUrl(queryString), 200,
+        "get-requests-with-related-records")
+      .getJson().getJsonArray("requests").stream()
+      .map(JsonObject.class::cast)
+      .toList();
+
+    assertThat(requests.size(), is(1));
+
+    return requests.get(0);
+  }
 }
@@ -24,6 +24,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 import org.folio.Environment;
+import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.resources.TenantActivationResource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -352,6 +353,8 @@ public abstract class APITests {
     FakeModNotify.clearSentPatronNotices();
     FakeModNotify.setFailPatronNoticesWithBadRequest(false);
     FakeStorageModule.cleanUpRequestMappings();
+    FakeStorageModule.cleanUpBatchUpdates();
+    ItemRepository.resetBatchUpdateAvailability(TENANT_ID);
 
     Environment.MOCK_ENV.clear();
   }
@@ -109,6 +109,7 @@ public class FakeOkapi extends AbstractVerticle {
         StorageRecordPreProcessors::setItemStatusDateForItem,
         StorageRecordPreProcessors::setEffectiveCallNumberComponents))
       .validateRecordsWith(validatorForStorageItemSchema())
+      .withBatchUpdate("/item-storage/batch/synchronous")
       .create().register(router);
 
     new FakeStorageModuleBuilder()
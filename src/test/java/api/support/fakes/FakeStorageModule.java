@@ -80,11 +80,23 @@ public class FakeStorageModule extends AbstractVerticle {
   private final List<BiFunction<JsonObject, JsonObject, JsonObject>> recordPreProcessors;
   private final Collection<String> additionalQueryParameters;
   private final static Map<Endpoint, HttpStatus> requestMappings = new HashMap<>();
+  private static final List<JsonObject> batchUpdates =
+    Collections.synchronizedList(new ArrayList<>());
 
   public static Stream<String> getQueries() {
     return queries.stream();
   }
 
+  /**
+   * @return the bodies of batch update requests received, including those answered
+   * by a request mapping
+   */
+  public static List<JsonObject> getBatchUpdates() {
+    synchronized (batchUpdates) {
+      return List.copyOf(batchUpdates);
+    }
+  }
+
   /**
    * Set artificial delay (in milliseconds) for fake storage operations (PUT by id only).
    * Used in tests to simulate network/database latency and expose race conditions.
@@ -190,6 +202,8 @@ public class FakeStorageModule extends AbstractVerticle {
       router.route(batchUpdatePath).handler(this::checkRequestIdHeader);
 
       router.post(batchUpdatePath).handler(BodyHandler.create());
+      router.post(batchUpdatePath).handler(this::recordBatchUpdate);
+      router.post(batchUpdatePath).handler(this::applyRequestMappings);
       router.post(batchUpdatePath).handler(this::batchUpdate);
     }
   }
@@ -207,6 +221,11 @@ public class FakeStorageModule extends AbstractVerticle {
     }
   }
 
+  private void recordBatchUpdate(RoutingContext routingContext) {
+    batchUpdates.add(routingContext.body().asJsonObject());
+    routingContext.next();
+  }
+
   private void batchUpdate(RoutingContext routingContext) {
     WebContext context = new WebContext(routingContext);
     JsonObject body = routingContext.body().asJsonObject();
@@ -733,6 +752,10 @@ public class FakeStorageModule extends AbstractVerticle {
     requestMappings.clear();
   }
 
+  public static void cleanUpBatchUpdates() {
+    batchUpdates.clear();
+  }
+
   public static void cleanupDelayData() {
     fakeStorageDelay.set(0);
     requestDelayedPaths.set(new String[0]);
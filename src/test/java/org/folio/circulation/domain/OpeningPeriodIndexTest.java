@@ -0,0 +1,152 @@
+package org.folio.circulation.domain;
+
+import static api.support.fixtures.OpeningHourExamples.afternoon;
+import static api.support.fixtures.OpeningHourExamples.allDay;
+import static api.support.fixtures.OpeningHourExamples.morning;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class OpeningPeriodIndexTest {
+  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+  private static final ZoneId LONDON = ZoneId.of("Europe/London");
+  private static final ZoneId UTC = ZoneId.of("UTC");
+  private static final LocalDate MONDAY = LocalDate.parse("2020-04-06");
+
+  @Test
+  void minutesAreCountedForPartOfAnOpeningHour() {
+    final var index = OpeningPeriodIndex.of(MONDAY, MONDAY, openDays(MONDAY, MONDAY));
+
+    // morning is 07:00 to 12:00, afternoon is 13:30 to 18:30
+    assertThat(index.openMinutesBetween(at(MONDAY, 9, 30), at(MONDAY, 15, 0)), is(240));
+    assertThat(index.openMinutesBetween(at(MONDAY, 12, 0), at(MONDAY, 13, 30)), is(0));
+    assertThat(index.openMinutesBetween(at(MONDAY, 15, 0), at(MONDAY, 9, 30)), is(0));
+  }
+
+  @Test
+  void minutesAreCountedAcrossManyDays() {
+    final LocalDate lastDate = MONDAY.plusDays(99);
+    final var index = OpeningPeriodIndex.of(MONDAY, lastDate, openDays(MONDAY, lastDate));
+
+    assertThat(index.size(), is(200));
+    assertThat(index.openMinutesBetween(at(MONDAY, 0, 0), at(lastDate, 23, 59)),
+      is(100 * 10 * 60));
+    assertThat(index.openMinutesBetween(at(MONDAY, 18, 0), at(MONDAY.plusDays(1), 9, 0)),
+      is(150));
+  }
+
+  @Test
+  void combinedIndexCoversBothRangesOfDates() {
+    final LocalDate tuesday = MONDAY.plusDays(1);
+    final LocalDate friday = MONDAY.plusDays(4);
+
+    final var first = OpeningPeriodIndex.of(MONDAY, MONDAY, openDays(MONDAY, MONDAY));
+    final var second = OpeningPeriodIndex.of(tuesday, friday, openDays(tuesday, friday));
+
+    final var combined = second.combine(first);
+
+    assertThat(combined.getFirstDate(), is(MONDAY));
+    assertThat(combined.getLastDate(), is(friday));
+    assertThat(combined.covers(MONDAY, friday), is(true));
+    assertThat(combined.covers(MONDAY, friday.plusDays(1)), is(false));
+    assertThat(combined.openMinutesBetween(at(MONDAY, 0, 0), at(friday, 23, 59)),
+      is(5 * 10 * 60));
+  }
+
+  @ParameterizedTest
+  @MethodSource("openMinutesBetweenDueDateAndReturnDateParameters")
+  void openMinutesAreCountedBetweenDueDateAndReturnDate(List<OpeningDay> openingDays, int expectedResult) {
+
+    ZonedDateTime dueDate = ZonedDateTime.parse("2020-04-08T14:00:00.000Z");
+    ZonedDateTime returnDate = ZonedDateTime.parse("2020-04-10T15:00:00.000Z");
+
+    final var index = OpeningPeriodIndex.of(dueDate.toLocalDate(), returnDate.toLocalDate(),
+      openingDays);
+
+    assertThat(index.openMinutesBetween(dueDate, returnDate), is(expectedResult));
+  }
+
+  private static Object[] openMinutesBetweenDueDateAndReturnDateParameters() {
+    List<OpeningDay> zeroDays = emptyList();
+
+    List<OpeningDay> regular = asList(
+      createOpeningDay(false, LocalDate.parse("2020-04-08"), UTC),
+      createOpeningDay(false, LocalDate.parse("2020-04-09"), UTC),
+      createOpeningDay(false, LocalDate.parse("2020-04-10"), UTC));
+
+    List<OpeningDay> allDay = asList(
+      createOpeningDay(true, LocalDate.parse("2020-04-08"), NEW_YORK),
+      createOpeningDay(true, LocalDate.parse("2020-04-09"), NEW_YORK),
+      createOpeningDay(true, LocalDate.parse("2020-04-10"), NEW_YORK));
+
+    List<OpeningDay> mixed = asList(
+      createOpeningDay(false, LocalDate.parse("2020-04-08"), LONDON),
+      createOpeningDay(true, LocalDate.parse("2020-04-09"), LONDON),
+      createOpeningDay(false, LocalDate.parse("2020-04-10"), LONDON));
+
+    List<OpeningDay> invalid = asList(
+      new OpeningDay(
+        singletonList(new OpeningHour(null, null)), LocalDate.parse("2020-04-08"), false, true, UTC
+      ),
+      new OpeningDay(  // startTime after endTime
+        singletonList(new OpeningHour(LocalTime.of(6, 0), LocalTime.of(5, 0))),
+        LocalDate.parse("2020-04-09"), false, true, UTC)
+    );
+
+    List<OpeningDay> allDaysClosed = asList(
+      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-08"), true, false, NEW_YORK),
+      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-09"), true, false, NEW_YORK),
+      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-10"), true, false, NEW_YORK)
+    );
+
+    List<OpeningDay> secondDayClosed = asList(
+      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-08"), true, true, NEW_YORK),
+      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-09"), true, false, NEW_YORK),
+      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-10"), true, true, NEW_YORK)
+    );
+
+    return new Object[] {
+      new Object[]{zeroDays, 0},
+      new Object[]{regular, 60 * 21},
+      new Object[]{allDay, 60 * 49 - 2},
+      new Object[]{mixed, 60 * 35 - 1},
+      new Object[]{invalid, 0},
+      new Object[]{allDaysClosed, 0},
+      new Object[]{secondDayClosed, 60 * 25 - 1}
+    };
+  }
+
+  private static OpeningDay createOpeningDay(
+    boolean allDay, LocalDate date, ZoneId dateTimeZone) {
+
+    return new OpeningDay(
+      allDay ? singletonList(allDay()) : asList(morning(), afternoon()),
+      date, allDay, true, dateTimeZone
+      );
+  }
+
+  private static List<OpeningDay> openDays(LocalDate firstDate, LocalDate lastDate) {
+    return Stream.iterate(firstDate, date -> !date.isAfter(lastDate), date -> date.plusDays(1))
+      .map(date -> new OpeningDay(asList(morning(), afternoon()), date, false, true, UTC))
+      .collect(Collectors.toList());
+  }
+
+  private static ZonedDateTime at(LocalDate date, int hour, int minute) {
+    return ZonedDateTime.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
+      hour, minute, 0, 0, UTC);
+  }
+}
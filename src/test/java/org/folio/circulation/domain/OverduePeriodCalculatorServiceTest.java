@@ -1,21 +1,13 @@
 package org.folio.circulation.domain;
 
-import static api.support.fixtures.OpeningHourExamples.afternoon;
-import static api.support.fixtures.OpeningHourExamples.allDay;
-import static api.support.fixtures.OpeningHourExamples.morning;
-import static java.util.Collections.singletonList;
 import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Stream;
 
@@ -36,8 +28,6 @@ import io.vertx.core.json.JsonObject;
 class OverduePeriodCalculatorServiceTest {
   private static final OverduePeriodCalculatorService calculator =
     new OverduePeriodCalculatorService(null, null);
-  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
-  private static final ZoneId LONDON = ZoneId.of("Europe/London");
   private static final ZoneId UTC = ZoneId.of("UTC");
 
   @Test
@@ -92,68 +82,6 @@ class OverduePeriodCalculatorServiceTest {
     assertEquals(expectedResult, actualResult);
   }
 
-  @ParameterizedTest
-  @MethodSource("getOpeningDayDurationTestParameters")
-  void getOpeningDayDurationTest(List<OpeningDay> openingDays, int expectedResult) {
-
-    ZonedDateTime dueDate = ZonedDateTime.parse("2020-04-08T14:00:00.000Z");
-    ZonedDateTime returnDate = ZonedDateTime.parse("2020-04-10T15:00:00.000Z");
-
-    int actualResult = calculator.getOpeningDaysDurationMinutes(
-      openingDays, dueDate, returnDate).value();
-    assertEquals(expectedResult, actualResult);
-  }
-
-  private static Object[] getOpeningDayDurationTestParameters() {
-    List<OpeningDay> zeroDays = Collections.emptyList();
-
-    List<OpeningDay> regular = Arrays.asList(
-      createOpeningDay(false, LocalDate.parse("2020-04-08"), UTC),
-      createOpeningDay(false, LocalDate.parse("2020-04-09"), UTC),
-      createOpeningDay(false, LocalDate.parse("2020-04-10"), UTC));
-
-    List<OpeningDay> allDay = Arrays.asList(
-      createOpeningDay(true, LocalDate.parse("2020-04-08"), NEW_YORK),
-      createOpeningDay(true, LocalDate.parse("2020-04-09"), NEW_YORK),
-      createOpeningDay(true, LocalDate.parse("2020-04-10"), NEW_YORK));
-
-    List<OpeningDay> mixed = Arrays.asList(
-      createOpeningDay(false, LocalDate.parse("2020-04-08"), LONDON),
-      createOpeningDay(true, LocalDate.parse("2020-04-09"), LONDON),
-      createOpeningDay(false, LocalDate.parse("2020-04-10"), LONDON));
-
-    List<OpeningDay> invalid = Arrays.asList(
-      new OpeningDay(
-        singletonList(new OpeningHour(null, null)), LocalDate.parse("2020-04-08"), false, true, UTC
-      ),
-      new OpeningDay(  // startTime after endTime
-        singletonList(new OpeningHour(LocalTime.of(6, 0), LocalTime.of(5, 0))),
-        LocalDate.parse("2020-04-09"), false, true, UTC)
-    );
-
-    List<OpeningDay> allDaysClosed = Arrays.asList(
-      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-08"), true, false, NEW_YORK),
-      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-09"), true, false, NEW_YORK),
-      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-10"), true, false, NEW_YORK)
-    );
-
-    List<OpeningDay> secondDayClosed = Arrays.asList(
-      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-08"), true, true, NEW_YORK),
-      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-09"), true, false, NEW_YORK),
-      new OpeningDay(singletonList(allDay()), LocalDate.parse("2020-04-10"), true, true, NEW_YORK)
-    );
-
-    return new Object[] {
-      new Object[]{zeroDays, 0},
-      new Object[]{regular, 60 * 21},
-      new Object[]{allDay, 60 * 49 - 2},
-      new Object[]{mixed, 60 * 35 - 1},
-      new Object[]{invalid, 0},
-      new Object[]{allDaysClosed, 0},
-      new Object[]{secondDayClosed, 60 * 25 - 1}
-    };
-  }
-
   @ParameterizedTest
   @MethodSource("gracePeriodAdjustmentTestParameters")
   void gracePeriodAdjustmentTest(
@@ -238,15 +166,6 @@ class OverduePeriodCalculatorServiceTest {
     return OverdueFinePolicy.from(json);
   }
 
-  private static OpeningDay createOpeningDay(
-    boolean allDay, LocalDate date, ZoneId dateTimeZone) {
-
-    return new OpeningDay(
-      allDay ? singletonList(allDay()) : Arrays.asList(morning(), afternoon()),
-      date, allDay, true, dateTimeZone
-      );
-  }
-
   private static final class GracePeriodParams {
     private final int overdueMinutes;
     private final String interval;
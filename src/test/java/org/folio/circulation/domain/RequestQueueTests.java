@@ -2,11 +2,16 @@ package org.folio.circulation.domain;
 
 import static org.folio.circulation.domain.RequestStatus.OPEN_AWAITING_PICKUP;
 import static org.folio.circulation.domain.RequestStatus.OPEN_NOT_YET_FILLED;
+import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -58,6 +63,46 @@ class RequestQueueTests {
     assertEquals(requestId, firstInQueueRequestId);
   }
 
+  @Test
+  void relatedRecordsAreOnlyLoadedOnceForRequestInQueueLoadedWithoutThem() {
+    final String requestId = randomId();
+    final User requester = new User(new JsonObject().put("id", randomId()));
+    final AtomicInteger loads = new AtomicInteger();
+
+    final RequestQueue requestQueue = RequestQueue.withoutRelatedRecords(
+      List.of(buildRequest(1, OPEN_NOT_YET_FILLED, requestId),
+        buildRequest(2, OPEN_NOT_YET_FILLED, randomId())),
+      request -> {
+        loads.incrementAndGet();
+        return ofAsync(request.withRequester(requester));
+      });
+
+    final Request firstRequest = requestQueue.getRequests().iterator().next();
+
+    assertFalse(requestQueue.hasRelatedRecords(firstRequest));
+
+    final Request loadedRequest = requestQueue.loadRelatedRecords(firstRequest)
+      .join().value();
+
+    requestQueue.loadRelatedRecords(loadedRequest).join();
+
+    assertEquals(1, loads.get());
+    assertTrue(requestQueue.hasRelatedRecords(loadedRequest));
+    assertEquals(requester, requestQueue.getRequests().iterator().next().getRequester());
+    assertEquals(requestId, requestQueue.getRequests().iterator().next().getId());
+  }
+
+  @Test
+  void requestsInQueueLoadedWithRelatedRecordsAreNotLoadedAgain() {
+    final RequestQueue requestQueue = new RequestQueue(List.of(
+      buildRequest(1, OPEN_NOT_YET_FILLED, randomId())));
+
+    final Request request = requestQueue.getRequests().iterator().next();
+
+    assertTrue(requestQueue.hasRelatedRecords(request));
+    assertSame(request, requestQueue.loadRelatedRecords(request).join().value());
+  }
+
   private static Stream<Arguments> argumentsForUpdateRequestPositionOnCheckIn() {
     return Stream.of(
       Arguments.of(List.of(
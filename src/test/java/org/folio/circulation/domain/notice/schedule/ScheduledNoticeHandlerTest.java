@@ -1,15 +1,25 @@
 package org.folio.circulation.domain.notice.schedule;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.User;
@@ -24,9 +34,14 @@ import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.results.Result;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import api.support.builders.NoticeConfigurationBuilder;
 import io.vertx.core.json.JsonArray;
@@ -151,6 +166,187 @@ class ScheduledNoticeHandlerTest {
     assertThat(sendByPreference(context, loanNotices), is(false));
   }
 
+  @Test
+  void noticesHandledTogetherShareTemplateFetchAndAreDeletedTogether() {
+    var clients = mock(Clients.class);
+    var templatesClient = mock(CollectionResourceClient.class);
+    var scheduledNoticesClient = mock(CollectionResourceClient.class);
+    when(clients.noticeTemplatesClient()).thenReturn(templatesClient);
+    when(clients.scheduledNoticesStorageClient()).thenReturn(scheduledNoticesClient);
+
+    var templateId = UUID.randomUUID().toString();
+    var notices = Stream.generate(() -> buildNotice(new ScheduledNoticeConfig(
+        NoticeTiming.UPON_AT, null, templateId, NoticeFormat.EMAIL, false)))
+      .limit(3)
+      .toList();
+
+    var templates = new JsonObject()
+      .put("templates", new JsonArray().add(new JsonObject().put("id", templateId)))
+      .put("totalRecords", 1);
+
+    when(templatesClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(completedFuture(Result.succeeded(
+        new Response(200, templates.encode(), "application/json"))));
+    when(scheduledNoticesClient.deleteMany(any(CqlQuery.class)))
+      .thenReturn(completedFuture(Result.succeeded(
+        new Response(204, "", "application/json"))));
+
+    var result = new IrrelevantNoticeHandler(clients).handleNotices(notices).join();
+
+    assertThat(result.succeeded(), is(true));
+    verify(templatesClient, times(1)).getMany(any(CqlQuery.class), any(PageLimit.class));
+    verify(templatesClient, never()).get(anyString());
+    verify(scheduledNoticesClient, times(1)).deleteMany(any(CqlQuery.class));
+    verify(scheduledNoticesClient, never()).delete(anyString());
+  }
+
+  @Test
+  void noticesAreDeletedSeparatelyWhenDeletingThemTogetherFails() {
+    var clients = mock(Clients.class);
+    var templatesClient = mock(CollectionResourceClient.class);
+    var scheduledNoticesClient = mock(CollectionResourceClient.class);
+    when(clients.noticeTemplatesClient()).thenReturn(templatesClient);
+    when(clients.scheduledNoticesStorageClient()).thenReturn(scheduledNoticesClient);
+
+    var templateId = UUID.randomUUID().toString();
+    var notices = Stream.generate(() -> buildNotice(new ScheduledNoticeConfig(
+        NoticeTiming.UPON_AT, null, templateId, NoticeFormat.EMAIL, false)))
+      .limit(3)
+      .toList();
+
+    var templates = new JsonObject()
+      .put("templates", new JsonArray().add(new JsonObject().put("id", templateId)))
+      .put("totalRecords", 1);
+
+    when(templatesClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(completedFuture(Result.succeeded(
+        new Response(200, templates.encode(), "application/json"))));
+    when(scheduledNoticesClient.deleteMany(any(CqlQuery.class)))
+      .thenReturn(completedFuture(Result.succeeded(
+        new Response(500, "Internal server error", "text/plain"))));
+    when(scheduledNoticesClient.delete(anyString()))
+      .thenReturn(completedFuture(Result.succeeded(
+        new Response(204, "", "application/json"))));
+
+    var result = new IrrelevantNoticeHandler(clients).handleNotices(notices).join();
+
+    assertThat(result.succeeded(), is(true));
+    verify(scheduledNoticesClient, times(1)).deleteMany(any(CqlQuery.class));
+    verify(scheduledNoticesClient, times(3)).delete(anyString());
+  }
+
+  @Test
+  void handlingFailsWhenNoticesCannotBeDeleted() {
+    var clients = mock(Clients.class);
+    var templatesClient = mock(CollectionResourceClient.class);
+    var scheduledNoticesClient = mock(CollectionResourceClient.class);
+    when(clients.noticeTemplatesClient()).thenReturn(templatesClient);
+    when(clients.scheduledNoticesStorageClient()).thenReturn(scheduledNoticesClient);
+
+    var templateId = UUID.randomUUID().toString();
+    var notices = Stream.generate(() -> buildNotice(new ScheduledNoticeConfig(
+        NoticeTiming.UPON_AT, null, templateId, NoticeFormat.EMAIL, false)))
+      .limit(2)
+      .toList();
+
+    var templates = new JsonObject()
+      .put("templates", new JsonArray().add(new JsonObject().put("id", templateId)))
+      .put("totalRecords", 1);
+
+    when(templatesClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(completedFuture(Result.succeeded(
+        new Response(200, templates.encode(), "application/json"))));
+    when(scheduledNoticesClient.deleteMany(any(CqlQuery.class)))
+      .thenReturn(completedFuture(Result.succeeded(
+        new Response(500, "Internal server error", "text/plain"))));
+    when(scheduledNoticesClient.delete(anyString()))
+      .thenReturn(completedFuture(Result.succeeded(
+        new Response(500, "Internal server error", "text/plain"))));
+
+    var result = new IrrelevantNoticeHandler(clients).handleNotices(notices).join();
+
+    assertThat(result.failed(), is(true));
+  }
+
+  @Test
+  void noticesAreDeletedWhenHandlingTheBatchFails() {
+    var clients = mock(Clients.class);
+    var templateId = UUID.randomUUID().toString();
+    var scheduledNoticesClient = mockTemplateAndDeletion(clients, templateId);
+    var notices = noticesUsingTemplate(templateId, 2);
+
+    var handler = new IrrelevantNoticeHandler(clients);
+
+    var handling = handler.handleInBatch(notices,
+      deletions -> allOf(notices, notice -> handler.handleContext(
+          new ScheduledNoticeContext(notice).withDeferredDeletions(deletions)))
+        .thenCompose(r -> failedFuture(new IllegalStateException("handling failed"))));
+
+    assertThrows(CompletionException.class, handling::join);
+    verify(scheduledNoticesClient, times(1)).deleteMany(any(CqlQuery.class));
+  }
+
+  @Test
+  void batchesHandledAtTheSameTimeDeleteOnlyTheirOwnNotices() {
+    var clients = mock(Clients.class);
+    var templateId = UUID.randomUUID().toString();
+    var scheduledNoticesClient = mockTemplateAndDeletion(clients, templateId);
+    var firstNotices = noticesUsingTemplate(templateId, 2);
+    var secondNotices = noticesUsingTemplate(templateId, 3);
+
+    var handler = new IrrelevantNoticeHandler(clients);
+
+    // the second batch is handled while the first is still being handled
+    var result = handler.handleInBatch(firstNotices,
+      deletions -> handler.handleNotices(secondNotices)
+        .thenCompose(r -> allOf(firstNotices, notice -> handler.handleContext(
+          new ScheduledNoticeContext(notice).withDeferredDeletions(deletions)))))
+      .join();
+
+    assertThat(result.succeeded(), is(true));
+
+    var queries = ArgumentCaptor.forClass(CqlQuery.class);
+    verify(scheduledNoticesClient, times(2)).deleteMany(queries.capture());
+    verify(scheduledNoticesClient, never()).delete(anyString());
+    assertThat(queries.getAllValues().get(0).toString(), containsAllIds(secondNotices));
+    assertThat(queries.getAllValues().get(1).toString(), containsAllIds(firstNotices));
+  }
+
+  private static CollectionResourceClient mockTemplateAndDeletion(Clients clients,
+    String templateId) {
+
+    var templatesClient = mock(CollectionResourceClient.class);
+    var scheduledNoticesClient = mock(CollectionResourceClient.class);
+    when(clients.noticeTemplatesClient()).thenReturn(templatesClient);
+    when(clients.scheduledNoticesStorageClient()).thenReturn(scheduledNoticesClient);
+
+    var templates = new JsonObject()
+      .put("templates", new JsonArray().add(new JsonObject().put("id", templateId)))
+      .put("totalRecords", 1);
+
+    when(templatesClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(completedFuture(Result.succeeded(
+        new Response(200, templates.encode(), "application/json"))));
+    when(scheduledNoticesClient.deleteMany(any(CqlQuery.class)))
+      .thenReturn(completedFuture(Result.succeeded(
+        new Response(204, "", "application/json"))));
+
+    return scheduledNoticesClient;
+  }
+
+  private static List<ScheduledNotice> noticesUsingTemplate(String templateId, int count) {
+    return Stream.generate(() -> buildNotice(new ScheduledNoticeConfig(
+        NoticeTiming.UPON_AT, null, templateId, NoticeFormat.EMAIL, false)))
+      .limit(count)
+      .toList();
+  }
+
+  private static Matcher<String> containsAllIds(List<ScheduledNotice> notices) {
+    return CoreMatchers.allOf(notices.stream()
+      .<Matcher<? super String>>map(notice -> containsString(notice.getId()))
+      .toList());
+  }
+
   private boolean sendByPreference(ScheduledNotice notice, JsonArray loanNotices) {
     return sendByPreference(new ScheduledNoticeContext(notice)
       .withPatronNoticePolicyId(POLICY_ID), loanNotices);
@@ -232,7 +428,7 @@ class ScheduledNoticeHandlerTest {
       TriggeringEvent.DUE_DATE, null, config);
   }
 
-  private static final class TestScheduledNoticeHandler extends ScheduledNoticeHandler {
+  private static class TestScheduledNoticeHandler extends ScheduledNoticeHandler {
     private TestScheduledNoticeHandler(Clients clients) {
       super(clients, new LoanRepository(clients,
         mock(ItemRepository.class), mock(UserRepository.class)));
@@ -272,4 +468,32 @@ class ScheduledNoticeHandlerTest {
       return new JsonObject();
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Checks that the template exists and deletes every notice as irrelevant, without sending it
+   */
+  private static final class IrrelevantNoticeHandler extends TestScheduledNoticeHandler {
+    private IrrelevantNoticeHandler(Clients clients) {
+      super(clients);
+    }
+
+    @Override
+    protected CompletableFuture<Result<ScheduledNoticeContext>> fetchData(
+      ScheduledNoticeContext context) {
+
+      return fetchTemplate(context);
+    }
+
+    @Override
+    protected CompletableFuture<Result<ScheduledNotice>> updateNotice(
+      ScheduledNoticeContext context) {
+
+      return deleteNoticeAsIrrelevant(context);
+    }
+
+    @Override
+    protected boolean isNoticeIrrelevant(ScheduledNoticeContext context) {
+      return true;
+    }
+  }
+}
@@ -1,24 +1,42 @@
 package org.folio.circulation.infrastructure.storage;
 
+import static api.support.fixtures.OpeningHourExamples.afternoon;
+import static api.support.fixtures.OpeningHourExamples.morning;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.Arrays.asList;
+import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.folio.circulation.domain.OpeningDay;
+import org.folio.circulation.domain.OpeningPeriodIndex;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.GetManyRecordsClient;
+import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.results.Result;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import api.support.builders.OpeningDayCollectionBuilder;
+
 class CalendarRepositoryTest {
 
   private static final ZoneId UTC = ZoneId.of("UTC");
@@ -86,4 +104,71 @@ class CalendarRepositoryTest {
     assertThat(actualPath, is(expectedPath));
   }
 
+  @Test
+  void onlyDatesBeforeAndAfterThoseKeptAreFetched()
+    throws ExecutionException, InterruptedException {
+
+    Clients clients = mock(Clients.class);
+    CollectionResourceClient calendarClient = mock(CollectionResourceClient.class);
+    CollectionResourceClient localeClient = mock(CollectionResourceClient.class);
+
+    when(clients.calendarStorageClient()).thenReturn(calendarClient);
+    when(clients.localeClient()).thenReturn(localeClient);
+    when(clients.settingsStorageClient()).thenReturn(mock(GetManyRecordsClient.class));
+    when(clients.tenantId()).thenReturn("diku");
+    when(localeClient.get())
+      .thenReturn(ofAsync(new Response(HTTP_NOT_FOUND, "{}", APPLICATION_JSON)));
+
+    String servicePointId = UUID.randomUUID().toString();
+    LocalDate firstDate = LocalDate.parse("2020-04-06");
+    LocalDate firstKeptDate = LocalDate.parse("2020-04-08");
+    LocalDate lastKeptDate = LocalDate.parse("2020-04-10");
+    LocalDate lastDate = LocalDate.parse("2020-04-12");
+
+    String pathBefore = String.format(EXPECTED_PATH, servicePointId, firstDate,
+      firstKeptDate.minusDays(1));
+    String pathAfter = String.format(EXPECTED_PATH, servicePointId,
+      lastKeptDate.plusDays(1), lastDate);
+
+    when(calendarClient.get(pathBefore))
+      .thenReturn(ofAsync(openDaysResponse(firstDate, firstKeptDate.minusDays(1))));
+    when(calendarClient.get(pathAfter))
+      .thenReturn(ofAsync(openDaysResponse(lastKeptDate.plusDays(1), lastDate)));
+
+    ServicePointCalendarCache calendarCache = new ServicePointCalendarCache(10, 60_000,
+      () -> 1_000L);
+
+    calendarCache.addOpeningPeriods("diku", servicePointId, OpeningPeriodIndex.of(
+      firstKeptDate, lastKeptDate, openDays(firstKeptDate, lastKeptDate)));
+
+    CalendarRepository calendarRepository = new CalendarRepository(clients, calendarCache);
+
+    int openMinutes = calendarRepository.getOpenMinutesBetweenDates(servicePointId,
+      firstDate.atStartOfDay(UTC), lastDate.atTime(23, 59).atZone(UTC), UTC).get().value();
+
+    // morning and afternoon are 10 hours each day
+    assertThat(openMinutes, is(7 * 10 * 60));
+
+    verify(calendarClient).get(pathBefore);
+    verify(calendarClient).get(pathAfter);
+    verify(calendarClient, times(2)).get(any(String.class));
+
+    OpeningPeriodIndex keptPeriods = calendarCache.getOpeningPeriods("diku", servicePointId)
+      .orElseThrow();
+
+    assertThat(keptPeriods.getFirstDate(), is(firstDate));
+    assertThat(keptPeriods.getLastDate(), is(lastDate));
+  }
+
+  private static Response openDaysResponse(LocalDate firstDate, LocalDate lastDate) {
+    return new Response(HTTP_OK,
+      new OpeningDayCollectionBuilder(openDays(firstDate, lastDate)).create().encode(),
+      APPLICATION_JSON);
+  }
+
+  private static List<OpeningDay> openDays(LocalDate firstDate, LocalDate lastDate) {
+    return Stream.iterate(firstDate, date -> !date.isAfter(lastDate), date -> date.plusDays(1))
+      .map(date -> new OpeningDay(asList(morning(), afternoon()), date, false, true, UTC))
+      .collect(Collectors.toList());
+  }
 }
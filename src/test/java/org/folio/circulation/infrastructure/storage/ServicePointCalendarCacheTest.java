@@ -0,0 +1,89 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.circulation.AdjacentOpeningDays;
+import org.folio.circulation.domain.OpeningPeriodIndex;
+import org.junit.jupiter.api.Test;
+
+class ServicePointCalendarCacheTest {
+  private static final String TENANT_ID = "diku";
+  private static final String SERVICE_POINT_ID = "c4c90014-c8c9-4ade-8f24-b5e313319f4b";
+  private static final LocalDate FIRST_DATE = LocalDate.parse("2020-04-01");
+
+  private final AtomicLong currentTime = new AtomicLong(1_000);
+
+  @Test
+  void periodsForFollowingDatesAreAddedToThoseKept() {
+    final var cache = new ServicePointCalendarCache(10, 60_000, currentTime::get);
+
+    cache.addOpeningPeriods(TENANT_ID, SERVICE_POINT_ID, periods(0, 9));
+    cache.addOpeningPeriods(TENANT_ID, SERVICE_POINT_ID, periods(10, 19));
+
+    final var kept = cache.getOpeningPeriods(TENANT_ID, SERVICE_POINT_ID).orElseThrow();
+
+    assertThat(kept.getFirstDate(), is(FIRST_DATE));
+    assertThat(kept.getLastDate(), is(FIRST_DATE.plusDays(19)));
+  }
+
+  @Test
+  void periodsForDatesAlreadyKeptAreNotAddedAgain() {
+    final var cache = new ServicePointCalendarCache(10, 60_000, currentTime::get);
+
+    final var kept = cache.addOpeningPeriods(TENANT_ID, SERVICE_POINT_ID, periods(0, 9));
+    final var afterSecondAdd = cache.addOpeningPeriods(TENANT_ID, SERVICE_POINT_ID,
+      periods(2, 5));
+
+    assertThat(afterSecondAdd, sameInstance(kept));
+  }
+
+  @Test
+  void periodsExpireFromWhenTheyWereFirstFetched() {
+    final var cache = new ServicePointCalendarCache(10, 60_000, currentTime::get);
+
+    cache.addOpeningPeriods(TENANT_ID, SERVICE_POINT_ID, periods(0, 9));
+    currentTime.addAndGet(50_000);
+    cache.addOpeningPeriods(TENANT_ID, SERVICE_POINT_ID, periods(10, 19));
+
+    assertThat(cache.getOpeningPeriods(TENANT_ID, SERVICE_POINT_ID).isPresent(), is(true));
+
+    currentTime.addAndGet(10_000);
+
+    assertThat(cache.getOpeningPeriods(TENANT_ID, SERVICE_POINT_ID).isPresent(), is(false));
+  }
+
+  @Test
+  void adjacentOpeningDaysAreKeptForEachDate() {
+    final var cache = new ServicePointCalendarCache(10, 60_000, currentTime::get);
+    final var openingDays = AdjacentOpeningDays.createClosedOpeningDays();
+
+    cache.putAdjacentOpeningDays(TENANT_ID, SERVICE_POINT_ID, FIRST_DATE, openingDays);
+
+    assertThat(cache.getAdjacentOpeningDays(TENANT_ID, SERVICE_POINT_ID, FIRST_DATE)
+      .orElseThrow(), sameInstance(openingDays));
+    assertThat(cache.getAdjacentOpeningDays(TENANT_ID, SERVICE_POINT_ID,
+      FIRST_DATE.plusDays(1)).isPresent(), is(false));
+    assertThat(cache.getAdjacentOpeningDays("college", SERVICE_POINT_ID, FIRST_DATE)
+      .isPresent(), is(false));
+  }
+
+  @Test
+  void nothingIsKeptWhenDisabled() {
+    final var cache = new ServicePointCalendarCache(10, 0, currentTime::get);
+
+    cache.addOpeningPeriods(TENANT_ID, SERVICE_POINT_ID, periods(0, 9));
+
+    assertThat(cache.getOpeningPeriods(TENANT_ID, SERVICE_POINT_ID).isPresent(), is(false));
+  }
+
+  private static OpeningPeriodIndex periods(int firstDay, int lastDay) {
+    return OpeningPeriodIndex.of(FIRST_DATE.plusDays(firstDay), FIRST_DATE.plusDays(lastDay),
+      emptyList());
+  }
+}
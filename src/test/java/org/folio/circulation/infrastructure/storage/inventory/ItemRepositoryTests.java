@@ -8,11 +8,15 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -26,6 +30,8 @@ import org.folio.circulation.domain.LoanType;
 import org.folio.circulation.domain.Location;
 import org.folio.circulation.domain.MaterialType;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.results.Result;
 import org.junit.jupiter.api.Test;
@@ -136,12 +142,169 @@ class ItemRepositoryTests {
     assertThat(updateResult, succeeded());
   }
 
+  @Test
+  void canUpdateManyItemsInOneRequest() {
+    final var itemsClient = mock(CollectionResourceClient.class);
+    final var itemsBatchClient = mock(CollectionResourceClient.class);
+    final var repository = createRepository(itemsClient, null, itemsBatchClient);
+
+    final var firstItem = fetchItem(repository, itemsClient);
+    final var secondItem = fetchItem(repository, itemsClient);
+
+    mockedItemsInStorage(itemsClient, firstItem, secondItem);
+    when(itemsBatchClient.post(any(JsonObject.class), eq(true))).thenReturn(ofAsync(
+      () -> new Response(201, "", "application/json")));
+
+    final var updateResult = get(repository.updateItems(List.of(firstItem, secondItem)));
+
+    assertThat(updateResult, succeeded());
+    verify(itemsBatchClient).post(argThat((JsonObject batch) ->
+      batch.getJsonArray("items").size() == 2), eq(true));
+    verify(itemsClient, never()).put(any(), any());
+  }
+
+  @Test
+  void itemsNoLongerInStorageAreNotRecreatedByBatchUpdate() {
+    final var itemsClient = mock(CollectionResourceClient.class);
+    final var itemsBatchClient = mock(CollectionResourceClient.class);
+    final var repository = createRepository(itemsClient, null, itemsBatchClient);
+
+    final var firstItem = fetchItem(repository, itemsClient);
+    final var secondItem = fetchItem(repository, itemsClient);
+    final var deletedItem = fetchItem(repository, itemsClient);
+
+    mockedItemsInStorage(itemsClient, firstItem, secondItem);
+    when(itemsBatchClient.post(any(JsonObject.class), eq(true))).thenReturn(ofAsync(
+      () -> new Response(201, "", "application/json")));
+    when(itemsClient.put(eq(deletedItem.getItemId()), any())).thenReturn(ofAsync(
+      () -> new Response(404, "Not found", "text/plain")));
+
+    final var updateResult = get(repository.updateItems(
+      List.of(firstItem, secondItem, deletedItem)));
+
+    assertThat(updateResult.failed(), is(true));
+    verify(itemsBatchClient).post(argThat((JsonObject batch) ->
+      batch.getJsonArray("items").size() == 2
+        && batch.getJsonArray("items").stream()
+          .map(JsonObject.class::cast)
+          .noneMatch(item -> item.getString("id").equals(deletedItem.getItemId()))),
+      eq(true));
+    verify(itemsClient, times(1)).put(eq(deletedItem.getItemId()), any());
+  }
+
+  @Test
+  void updatesItemsIndividuallyWhenBatchUpdateIsNotAvailable() {
+    final var itemsClient = mock(CollectionResourceClient.class);
+    final var itemsBatchClient = mock(CollectionResourceClient.class);
+    final var repository = createRepository(itemsClient, null, itemsBatchClient);
+
+    final var firstItem = fetchItem(repository, itemsClient);
+    final var secondItem = fetchItem(repository, itemsClient);
+
+    mockedItemsInStorage(itemsClient, firstItem, secondItem);
+    when(itemsBatchClient.post(any(JsonObject.class), eq(true))).thenReturn(ofAsync(
+      () -> new Response(404, "Not found", "text/plain")));
+    when(itemsClient.put(any(), any())).thenReturn(ofAsync(
+      () -> new Response(204, "", "application/json")));
+
+    final var items = List.of(firstItem, secondItem);
+
+    assertThat(get(repository.updateItems(items)), succeeded());
+    assertThat(get(repository.updateItems(items)), succeeded());
+
+    verify(itemsBatchClient, times(1)).post(any(JsonObject.class), eq(true));
+    verify(itemsClient, times(4)).put(any(), any());
+  }
+
+  @Test
+  void otherRepositoriesForTheTenantUpdateItemsIndividuallyOnceBatchUpdateIsNotAvailable() {
+    final var tenantId = UUID.randomUUID().toString();
+    final var itemsClient = mock(CollectionResourceClient.class);
+    final var itemsBatchClient = mock(CollectionResourceClient.class);
+    final var firstRepository = createRepository(itemsClient, null, itemsBatchClient, tenantId);
+    final var secondRepository = createRepository(itemsClient, null, itemsBatchClient, tenantId);
+    final var otherTenantRepository = createRepository(itemsClient, null, itemsBatchClient);
+
+    when(itemsBatchClient.post(any(JsonObject.class), eq(true))).thenReturn(ofAsync(
+      () -> new Response(404, "Not found", "text/plain")));
+    when(itemsClient.put(any(), any())).thenReturn(ofAsync(
+      () -> new Response(204, "", "application/json")));
+
+    final var firstItems = List.of(fetchItem(firstRepository, itemsClient),
+      fetchItem(firstRepository, itemsClient));
+    mockedItemsInStorage(itemsClient, firstItems.toArray(Item[]::new));
+    assertThat(get(firstRepository.updateItems(firstItems)), succeeded());
+
+    final var secondItems = List.of(fetchItem(secondRepository, itemsClient),
+      fetchItem(secondRepository, itemsClient));
+    assertThat(get(secondRepository.updateItems(secondItems)), succeeded());
+
+    verify(itemsBatchClient, times(1)).post(any(JsonObject.class), eq(true));
+
+    final var otherTenantItems = List.of(fetchItem(otherTenantRepository, itemsClient),
+      fetchItem(otherTenantRepository, itemsClient));
+    mockedItemsInStorage(itemsClient, otherTenantItems.toArray(Item[]::new));
+    assertThat(get(otherTenantRepository.updateItems(otherTenantItems)), succeeded());
+
+    verify(itemsBatchClient, times(2)).post(any(JsonObject.class), eq(true));
+
+    ItemRepository.resetBatchUpdateAvailability(tenantId);
+    mockedItemsInStorage(itemsClient, secondItems.toArray(Item[]::new));
+    assertThat(get(secondRepository.updateItems(secondItems)), succeeded());
+
+    verify(itemsBatchClient, times(3)).post(any(JsonObject.class), eq(true));
+  }
+
+  private Item fetchItem(ItemRepository repository, CollectionResourceClient itemsClient) {
+    final var itemId = UUID.randomUUID().toString();
+
+    final var itemJson = new JsonObject()
+      .put("id", itemId)
+      .put("holdingsRecordId", UUID.randomUUID())
+      .put("effectiveLocationId", UUID.randomUUID());
+
+    when(itemsClient.get(itemId)).thenReturn(ofAsync(
+      () -> new Response(200, itemJson.encodePrettily(), "application/json")));
+
+    return get(repository.fetchById(itemId)).value();
+  }
+
+  private void mockedItemsInStorage(CollectionResourceClient itemsClient, Item... items) {
+    final var itemsInStorage = new JsonArray();
+
+    for (Item item : items) {
+      itemsInStorage.add(new JsonObject().put("id", item.getItemId()));
+    }
+
+    final var body = new JsonObject()
+      .put("items", itemsInStorage)
+      .put("totalRecords", items.length);
+
+    when(itemsClient.getMany(any(CqlQuery.class), any(PageLimit.class))).thenReturn(ofAsync(
+      () -> new Response(200, body.encode(), "application/json")));
+  }
+
   private void mockedClientGet(CollectionResourceClient client, String body) {
     when(client.get(anyString())).thenReturn(ofAsync(
       () -> new Response(200, body, "application/json")));
   }
 
   private ItemRepository createRepository(CollectionResourceClient itemsClient, CollectionResourceClient circulationItemClient) {
+    return createRepository(itemsClient, circulationItemClient, null);
+  }
+
+  private ItemRepository createRepository(CollectionResourceClient itemsClient,
+    CollectionResourceClient circulationItemClient,
+    CollectionResourceClient itemsBatchClient) {
+
+    return createRepository(itemsClient, circulationItemClient, itemsBatchClient,
+      UUID.randomUUID().toString());
+  }
+
+  private ItemRepository createRepository(CollectionResourceClient itemsClient,
+    CollectionResourceClient circulationItemClient,
+    CollectionResourceClient itemsBatchClient, String tenantId) {
+
     final var locationRepository = mock(LocationRepository.class);
     final var shadowLocationRepository = mock(ShadowLocationRepository.class);
     final var materialTypeRepository = mock(MaterialTypeRepository.class);
@@ -164,7 +327,8 @@ class ItemRepositoryTests {
 
     return new ItemRepository(itemsClient, locationRepository,
       shadowLocationRepository, materialTypeRepository, instanceRepository,
-      holdingsRepository, loanTypeRepository, circulationItemClient);
+      holdingsRepository, loanTypeRepository, circulationItemClient, itemsBatchClient,
+      tenantId);
   }
 
   private Item dummyItem() {
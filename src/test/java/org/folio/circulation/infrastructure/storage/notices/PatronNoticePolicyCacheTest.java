@@ -0,0 +1,149 @@
+package org.folio.circulation.infrastructure.storage.notices;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.folio.circulation.domain.notice.PatronNoticePolicy;
+import org.folio.circulation.support.CachingCollectionResourceClient;
+import org.folio.circulation.support.InvalidatingCollectionResourceClient;
+import org.folio.circulation.support.http.client.OkapiHttpClient;
+import org.folio.circulation.support.http.client.Response;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class PatronNoticePolicyCacheTest {
+  private static final String TENANT_ID = "diku";
+  private static final String POLICY_ID = "ab3b7d2c-4d4f-4fc0-9bf4-4e1bbf0d2ee7";
+  private static final String TEMPLATES = "http://okapi/templates";
+  private static final String TEMPLATE = TEMPLATES + "/5d0f3d1f-5d55-4b5c-9d0e-0b1c3b6d7f0a";
+
+  private final PatronNoticePolicy policy = new PatronNoticePolicy(emptyList());
+
+  @Test
+  void keptPolicyIsFoundForTheSameTenant() {
+    final var cache = new PatronNoticePolicyCache(10, 60_000);
+
+    cache.forTenant(TENANT_ID).put(POLICY_ID, policy);
+
+    assertThat(cache.forTenant(TENANT_ID).get(POLICY_ID).orElseThrow(),
+      sameInstance(policy));
+    assertThat(cache.forTenant("college").get(POLICY_ID).isPresent(), is(false));
+    assertThat(cache.getHitCount(), is(1L));
+    assertThat(cache.getMissCount(), is(1L));
+  }
+
+  @Test
+  void policyThatWasNotKeptIsAMiss() {
+    final var cache = new PatronNoticePolicyCache(10, 60_000);
+
+    assertThat(cache.forTenant(TENANT_ID).get(POLICY_ID).isPresent(), is(false));
+    assertThat(cache.getHitCount(), is(0L));
+    assertThat(cache.getMissCount(), is(1L));
+  }
+
+  @Test
+  void nothingIsKeptForTheTenantWhenDisabled() {
+    final var cache = new PatronNoticePolicyCache(10, 0);
+
+    cache.forTenant(TENANT_ID).put(POLICY_ID, policy);
+
+    assertThat(cache.forTenant(TENANT_ID).get(POLICY_ID).isPresent(), is(false));
+  }
+
+  @Test
+  void batchKeepsPoliciesWhenDisabled() {
+    final var cache = new PatronNoticePolicyCache(10, 0);
+    final var batchPolicies = cache.forBatch(TENANT_ID);
+
+    batchPolicies.put(POLICY_ID, policy);
+
+    assertThat(batchPolicies.get(POLICY_ID).orElseThrow(), sameInstance(policy));
+    assertThat(cache.forBatch(TENANT_ID).get(POLICY_ID).isPresent(), is(false));
+  }
+
+  @Test
+  void batchSharesPoliciesKeptForTheTenant() {
+    final var cache = new PatronNoticePolicyCache(10, 60_000);
+
+    cache.forBatch(TENANT_ID).put(POLICY_ID, policy);
+
+    assertThat(cache.forTenant(TENANT_ID).get(POLICY_ID).orElseThrow(),
+      sameInstance(policy));
+  }
+
+  @Test
+  void keptTemplateIsFoundForTheSameTenant() {
+    final var cache = new PatronNoticePolicyCache(10, 60_000);
+    final var template = new Response(HTTP_OK, "{}", APPLICATION_JSON);
+
+    cache.put(TENANT_ID, TEMPLATE, template);
+
+    assertThat(cache.get(TENANT_ID, TEMPLATE).orElseThrow(), sameInstance(template));
+    assertThat(cache.get("college", TEMPLATE).isPresent(), is(false));
+    assertThat(cache.getTemplateHitCount(), is(1L));
+    assertThat(cache.getTemplateMissCount(), is(1L));
+  }
+
+  @Test
+  void nothingIsKeptAfterInvalidatingTheTenant() {
+    final var cache = new PatronNoticePolicyCache(10, 60_000);
+
+    cache.forTenant(TENANT_ID).put(POLICY_ID, policy);
+    cache.put(TENANT_ID, TEMPLATE, new Response(HTTP_OK, "{}", APPLICATION_JSON));
+    cache.invalidate(TENANT_ID);
+
+    assertThat(cache.forTenant(TENANT_ID).get(POLICY_ID).isPresent(), is(false));
+    assertThat(cache.get(TENANT_ID, TEMPLATE).isPresent(), is(false));
+  }
+
+  @Test
+  void policiesAreInvalidatedByChangeMadeToPolicies() throws MalformedURLException {
+    final var cache = new PatronNoticePolicyCache(10, 60_000);
+    final var response = new Response(HTTP_OK, "{}", APPLICATION_JSON);
+    final OkapiHttpClient okapiClient = mock(OkapiHttpClient.class,
+      invocation -> completedFuture(succeeded(response)));
+
+    final var policiesClient = new InvalidatingCollectionResourceClient(okapiClient,
+      new URL("http://okapi/patron-notice-policy-storage/patron-notice-policies"),
+      () -> cache.invalidatePolicies(TENANT_ID));
+
+    cache.forTenant(TENANT_ID).put(POLICY_ID, policy);
+    cache.put(TENANT_ID, TEMPLATE, response);
+    policiesClient.put(POLICY_ID, new JsonObject()).join();
+
+    assertThat(cache.forTenant(TENANT_ID).get(POLICY_ID).isPresent(), is(false));
+    assertThat(cache.get(TENANT_ID, TEMPLATE).isPresent(), is(true));
+  }
+
+  @Test
+  void templatesAreInvalidatedByChangeMadeToTemplates() throws MalformedURLException {
+    final var cache = new PatronNoticePolicyCache(10, 60_000);
+    final var response = new Response(HTTP_OK, "{}", APPLICATION_JSON);
+    final OkapiHttpClient okapiClient = mock(OkapiHttpClient.class,
+      invocation -> completedFuture(succeeded(response)));
+
+    final var templatesClient = new CachingCollectionResourceClient(okapiClient,
+      new URL(TEMPLATES), TENANT_ID, cache);
+
+    cache.forTenant(TENANT_ID).put(POLICY_ID, policy);
+    templatesClient.get("5d0f3d1f-5d55-4b5c-9d0e-0b1c3b6d7f0a").join();
+
+    assertThat(cache.get(TENANT_ID, TEMPLATE).isPresent(), is(true));
+
+    templatesClient.delete("5d0f3d1f-5d55-4b5c-9d0e-0b1c3b6d7f0a").join();
+
+    assertThat(cache.get(TENANT_ID, TEMPLATE).isPresent(), is(false));
+    assertThat(cache.forTenant(TENANT_ID).get(POLICY_ID).isPresent(), is(true));
+  }
+}
@@ -0,0 +1,84 @@
+package org.folio.circulation.infrastructure.storage.notices;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.rules.AppliedRuleConditions;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class PatronNoticePolicyRepositoryTest {
+  private static final String TENANT_ID = "diku";
+  private static final String POLICY_ID = "9d3ee4ff-4c4b-4a5e-9d8d-7cc1b3f4e5a9";
+  private static final AppliedRuleConditions NO_RULE_CONDITIONS =
+    new AppliedRuleConditions(false, false, false);
+
+  private final Clients clients = mock(Clients.class);
+  private final CollectionResourceClient policiesClient = mock(CollectionResourceClient.class);
+  private final PatronNoticePolicyCache cache = new PatronNoticePolicyCache(10, 60_000);
+
+  @BeforeEach
+  void setUp() {
+    when(clients.patronNoticePolicesStorageClient()).thenReturn(policiesClient);
+  }
+
+  @Test
+  void policyIsNotFetchedAgainWhileKept() {
+    when(policiesClient.get(POLICY_ID)).thenReturn(policyFound());
+
+    final var firstLookup = repository().lookupPolicy(POLICY_ID, NO_RULE_CONDITIONS).join();
+    final var secondLookup = repository().lookupPolicy(POLICY_ID, NO_RULE_CONDITIONS).join();
+
+    assertThat(secondLookup.value(), sameInstance(firstLookup.value()));
+    verify(policiesClient, times(1)).get(POLICY_ID);
+  }
+
+  @Test
+  void policyIsFetchedAgainAfterInvalidatingTheTenant() {
+    when(policiesClient.get(POLICY_ID)).thenReturn(policyFound());
+
+    repository().lookupPolicy(POLICY_ID, NO_RULE_CONDITIONS).join();
+    cache.invalidate(TENANT_ID);
+    repository().lookupPolicy(POLICY_ID, NO_RULE_CONDITIONS).join();
+
+    verify(policiesClient, times(2)).get(POLICY_ID);
+  }
+
+  @Test
+  void failedLookupIsNotKept() {
+    when(policiesClient.get(POLICY_ID))
+      .thenReturn(completedFuture(Result.failed(new ServerErrorFailure("lookup failed"))))
+      .thenReturn(policyFound());
+
+    assertThat(repository().lookupPolicy(POLICY_ID, NO_RULE_CONDITIONS).join().failed(),
+      is(true));
+    assertThat(repository().lookupPolicy(POLICY_ID, NO_RULE_CONDITIONS).join().succeeded(),
+      is(true));
+
+    verify(policiesClient, times(2)).get(POLICY_ID);
+  }
+
+  private PatronNoticePolicyRepository repository() {
+    return new PatronNoticePolicyRepository(clients, cache.forTenant(TENANT_ID));
+  }
+
+  private static CompletableFuture<Result<Response>> policyFound() {
+    return completedFuture(Result.succeeded(new Response(200,
+      new JsonObject().put("id", POLICY_ID).encode(), "application/json")));
+  }
+}
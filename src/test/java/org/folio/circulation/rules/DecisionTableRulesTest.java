@@ -0,0 +1,198 @@
+package org.folio.circulation.rules;
+
+import static java.util.Collections.emptyList;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.folio.circulation.rules.CirculationRulesEngineType.DECISION_TABLE;
+import static org.folio.circulation.rules.CirculationRulesEngineType.DIFFERENTIAL;
+import static org.folio.circulation.rules.CirculationRulesEngineType.DROOLS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.ServicePoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.vertx.core.MultiMap;
+
+class DecisionTableRulesTest {
+  private static final String FIRST_INSTITUTION_ID = "3d22d91c-cf1d-11e9-bb65-2a2ae2dbcce4";
+  private static final String SECOND_INSTITUTION_ID = "3d22d91c-cf1d-11e9-bb65-2a2ae2dbcce5";
+  private static final String FIRST_LIBRARY_ID = "aa59f830-cfea-11e9-bb65-2a2ae2dbcce4";
+  private static final String FIRST_CAMPUS_ID = "692dbd8c-9804-4281-9fd1-8ce601d7c6a3";
+
+  private static final String POLICIES = " r request-%1$d n notice-%1$d o overdue-%1$d i lost-item-%1$d";
+
+  private static final String CRITERIUM_PRIORITY = String.join("\n",
+    "priority: t, s, c, b, a, m, g",
+    "fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item",
+    "m book cd dvd: l policy-a" + policies(1),
+    "m newspaper + g all: l policy-c" + policies(2),
+    "m streaming-subscription: l policy-c" + policies(3),
+    "    g visitor: l in-house" + policies(4),
+    "    g undergrad: l in-house" + policies(5),
+    "m book cd dvd + t special-items: l in-house" + policies(6),
+    "t special-items: l policy-d" + policies(7),
+    "    g visitor alumni: l in-house" + policies(8),
+    "a " + FIRST_INSTITUTION_ID + ": l in-university" + policies(9));
+
+  private static final String NEGATION_AND_LOCATIONS = String.join("\n",
+    "priority: number-of-criteria, first-line",
+    "fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item",
+    "m !book: l policy-a" + policies(1),
+    "    g !visitor alumni: l policy-b" + policies(2),
+    "s shelf new: l policy-c" + policies(3),
+    "c " + FIRST_LIBRARY_ID + " + b all: l policy-d" + policies(4),
+    "b !" + FIRST_CAMPUS_ID + ": l policy-e" + policies(5),
+    "a all + t !regular: l policy-f" + policies(6));
+
+  private static final String LAST_LINE = String.join("\n",
+    "priority: last-line",
+    "fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item",
+    "m all: l policy-a" + policies(1),
+    "g undergrad: l policy-b" + policies(2),
+    "    m book: l policy-c" + policies(3),
+    "        t regular: l policy-d" + policies(4),
+    "g visitor staff: l policy-e" + policies(5));
+
+  @ParameterizedTest
+  @MethodSource("rulesAsText")
+  void decisionTableGivesSameResultsAsDrools(String rulesAsText) {
+    final DifferentialRulesEngine engine = new DifferentialRulesEngine("test-tenant-id",
+      new Drools("test-tenant-id", Text2Drools.convert(rulesAsText)),
+      Text2Drools.compile(rulesAsText));
+
+    for (MultiMap params : allParams()) {
+      for (Location location : allLocations()) {
+        engine.loanPolicy(params, location);
+        engine.loanPolicies(params, location);
+        engine.requestPolicy(params, location);
+        engine.requestPolicies(params, location);
+        engine.noticePolicy(params, location);
+        engine.noticePolicies(params, location);
+        engine.overduePolicy(params, location);
+        engine.overduePolicies(params, location);
+        engine.lostItemPolicy(params, location);
+        engine.lostItemPolicies(params, location);
+      }
+    }
+
+    assertThat(engine.getMismatchCount(), is(0L));
+  }
+
+  @Test
+  void loanPolicyIncludesConditionsOfParentRules() {
+    final DecisionTableRules rules = Text2Drools.compile(LAST_LINE);
+
+    final CirculationRuleMatch match = rules.loanPolicy(
+      params("book", "regular", "undergrad", "shelf"), null);
+
+    assertThat(match.getPolicyId(), is("policy-d"));
+    assertThat(match.getAppliedRuleConditions().isItemTypePresent(), is(true));
+    assertThat(match.getAppliedRuleConditions().isLoanTypePresent(), is(true));
+    assertThat(match.getAppliedRuleConditions().isPatronGroupPresent(), is(true));
+  }
+
+  @Test
+  void locationUnitRulesDoNotMatchWithoutLocation() {
+    final DecisionTableRules rules = Text2Drools.compile(NEGATION_AND_LOCATIONS);
+
+    assertThat(rules.loanPolicy(params("book", "regular", "visitor", "stacks"),
+      createLocation(SECOND_INSTITUTION_ID, FIRST_LIBRARY_ID, FIRST_CAMPUS_ID)).getPolicyId(),
+      is("policy-d"));
+    assertThat(rules.loanPolicy(params("book", "regular", "visitor", "stacks"), null)
+      .getPolicyId(), is("no-loan"));
+  }
+
+  @Test
+  void engineCanBeChosenForEachTenant() {
+    final String enginesByTenant = "diku:decision-table, college : differential";
+
+    assertThat(CirculationRulesEngineType.forTenant("diku", "drools", enginesByTenant),
+      is(DECISION_TABLE));
+    assertThat(CirculationRulesEngineType.forTenant("college", "drools", enginesByTenant),
+      is(DIFFERENTIAL));
+    assertThat(CirculationRulesEngineType.forTenant("other", "drools", enginesByTenant),
+      is(DROOLS));
+    assertThat(CirculationRulesEngineType.forTenant("other", "decision-table", ""),
+      is(DECISION_TABLE));
+    assertThat(CirculationRulesEngineType.forTenant("other", "unknown", ""), is(DROOLS));
+  }
+
+  private static Stream<String> rulesAsText() {
+    return Stream.of(CRITERIUM_PRIORITY, NEGATION_AND_LOCATIONS, LAST_LINE);
+  }
+
+  private static String policies(int number) {
+    return String.format(POLICIES, number);
+  }
+
+  private static List<MultiMap> allParams() {
+    final List<String> itemTypes = Arrays.asList("book", "dvd", "newspaper",
+      "streaming-subscription", "map", null);
+    final List<String> loanTypes = Arrays.asList("regular", "special-items", null);
+    final List<String> patronGroups = Arrays.asList("undergrad", "visitor", "alumni", null);
+    final List<String> locations = Arrays.asList("shelf", "stacks", null);
+
+    final List<MultiMap> allParams = new ArrayList<>();
+
+    for (String itemType : itemTypes) {
+      for (String loanType : loanTypes) {
+        for (String patronGroup : patronGroups) {
+          for (String location : locations) {
+            allParams.add(params(itemType, loanType, patronGroup, location));
+          }
+        }
+      }
+    }
+
+    return allParams;
+  }
+
+  private static List<Location> allLocations() {
+    return Arrays.asList(null,
+      createLocation(FIRST_INSTITUTION_ID, FIRST_LIBRARY_ID, FIRST_CAMPUS_ID),
+      createLocation(SECOND_INSTITUTION_ID, FIRST_LIBRARY_ID, "other-campus"),
+      createLocation(null, null, null));
+  }
+
+  private static MultiMap params(String itId, String ltId, String ptId, String lId) {
+    MultiMap params = MultiMap.caseInsensitiveMultiMap();
+
+    if (itId != null) {
+      params.add(ITEM_TYPE_ID_NAME, itId);
+    }
+    if (ltId != null) {
+      params.add(LOAN_TYPE_ID_NAME, ltId);
+    }
+    if (ptId != null) {
+      params.add(PATRON_TYPE_ID_NAME, ptId);
+    }
+    if (lId != null) {
+      params.add(LOCATION_ID_NAME, lId);
+    }
+
+    return params;
+  }
+
+  private static Location createLocation(String institutionId, String libraryId,
+    String campusId) {
+
+    return new Location(null, null, null, null, emptyList(), null,
+      false,
+      Institution.unknown(institutionId), Campus.unknown(campusId), Library.unknown(libraryId),
+      ServicePoint.unknown());
+  }
+}
@@ -0,0 +1,88 @@
+package org.folio.circulation.rules.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedExpiringCacheTest {
+  private final AtomicLong now = new AtomicLong(1000);
+
+  @Test
+  void cachedValueIsReturnedUntilItExpires() {
+    final var cache = new BoundedExpiringCache<String, String>(10, 100, now::get);
+
+    cache.put("key", "value");
+    now.addAndGet(99);
+
+    assertThat(cache.get("key"), is(Optional.of("value")));
+
+    now.addAndGet(1);
+
+    assertThat(cache.get("key"), is(Optional.empty()));
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  void entriesCanBeKeptUntilEvicted() {
+    final var cache = new BoundedExpiringCache<String, String>(10,
+      BoundedExpiringCache.NEVER_EXPIRE, now::get);
+
+    cache.put("key", "value");
+    now.set(Long.MAX_VALUE - 1);
+
+    assertThat(cache.get("key"), is(Optional.of("value")));
+  }
+
+  @Test
+  void leastRecentlyUsedEntryIsEvictedWhenFull() {
+    final var cache = new BoundedExpiringCache<String, String>(2, 100, now::get);
+
+    cache.put("first", "1");
+    cache.put("second", "2");
+    cache.get("first");
+    cache.put("third", "3");
+
+    assertThat(cache.get("first"), is(Optional.of("1")));
+    assertThat(cache.get("second"), is(Optional.empty()));
+    assertThat(cache.get("third"), is(Optional.of("3")));
+  }
+
+  @Test
+  void hitsAndMissesAreCounted() {
+    final var cache = new BoundedExpiringCache<String, String>(10, 100, now::get);
+
+    cache.get("key");
+    cache.put("key", "value");
+    cache.get("key");
+    cache.get("key");
+
+    assertThat(cache.getHitCount(), is(2L));
+    assertThat(cache.getMissCount(), is(1L));
+  }
+
+  @Test
+  void matchingEntriesCanBeInvalidated() {
+    final var cache = new BoundedExpiringCache<String, String>(10, 100, now::get);
+
+    cache.put("/locations/1", "location");
+    cache.put("/loan-types/1", "loan type");
+    cache.invalidateIf(key -> key.startsWith("/locations"));
+
+    assertThat(cache.get("/locations/1"), is(Optional.empty()));
+    assertThat(cache.get("/loan-types/1"), is(Optional.of("loan type")));
+  }
+
+  @Test
+  void nothingIsCachedWhenTimeToLiveIsZero() {
+    final var cache = new BoundedExpiringCache<String, String>(10, 0, now::get);
+
+    cache.put("key", "value");
+
+    assertThat(cache.isEnabled(), is(false));
+    assertThat(cache.get("key"), is(Optional.empty()));
+  }
+}
@@ -2,19 +2,32 @@ package org.folio.circulation.rules.cache;
 
 import static java.lang.String.format;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
+import static org.folio.circulation.rules.cache.CirculationRulesCache.getInstance;
 import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
 import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.events.DomainEvent;
+import org.folio.circulation.domain.events.DomainEventPayloadType;
+import org.folio.circulation.domain.events.EntityChangedEventData;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,12 +48,12 @@ class CirculationRulesCacheTest {
       "22222222-2222-2222-2222-222222222222");
 
     Thread thread1 = new Thread(() -> {
-      CirculationRulesCache.getInstance().getDrools("tenant1", circulationRulesClient1);
+      CirculationRulesCache.getInstance().getRulesEngine("tenant1", circulationRulesClient1);
       thread1Finished = true;
     });
 
     Thread thread2 = new Thread(() -> {
-      CirculationRulesCache.getInstance().getDrools("tenant2", circulationRulesClient2);
+      CirculationRulesCache.getInstance().getRulesEngine("tenant2", circulationRulesClient2);
       thread2Finished = true;
     });
 
@@ -57,21 +70,102 @@ class CirculationRulesCacheTest {
   }
 
   private String getLoanPolicyId(String tenantId, CollectionResourceClient client) throws Exception {
-    return CirculationRulesCache.getInstance().getDrools(tenantId, client)
-      .get().value().loanPolicy(MultiMap.caseInsensitiveMultiMap(), Location.unknown()).getPolicyId();
+    return getInstance().getRulesEngine(tenantId, client)
+      .get(5, SECONDS).value().loanPolicy(MultiMap.caseInsensitiveMultiMap(), Location.unknown()).getPolicyId();
+  }
+
+  @Test
+  void rulesAreOnlyLoadedOnceForConcurrentRequests() throws Exception {
+    final String tenantId = UUID.randomUUID().toString();
+    final var rulesResponse = new CompletableFuture<Result<Response>>();
+
+    CollectionResourceClient circulationRulesClient = mock(CollectionResourceClient.class);
+    when(circulationRulesClient.get()).thenReturn(rulesResponse);
+
+    final var firstEngine = getInstance().getRulesEngine(tenantId, circulationRulesClient);
+    final var secondEngine = getInstance().getRulesEngine(tenantId, circulationRulesClient);
+
+    rulesResponse.complete(succeeded(rulesResponse("33333333-3333-3333-3333-333333333333")));
+
+    assertThat(firstEngine.get(5, SECONDS).value(),
+      sameInstance(secondEngine.get(5, SECONDS).value()));
+    verify(circulationRulesClient, times(1)).get();
+  }
+
+  @Test
+  void previousRulesAreUsedWhileNewRulesAreLoaded() throws Exception {
+    final String tenantId = UUID.randomUUID().toString();
+    final String previousPolicyId = "44444444-4444-4444-4444-444444444444";
+    final String newPolicyId = "55555555-5555-5555-5555-555555555555";
+    final var rulesResponse = new CompletableFuture<Result<Response>>();
+
+    getInstance().buildRules(tenantId, rulesAsText(previousPolicyId));
+
+    CollectionResourceClient circulationRulesClient = mock(CollectionResourceClient.class);
+    when(circulationRulesClient.get()).thenReturn(rulesResponse);
+
+    final var reload = getInstance().reloadRules(tenantId, circulationRulesClient);
+
+    assertThat(getLoanPolicyId(tenantId, circulationRulesClient), is(previousPolicyId));
+
+    rulesResponse.complete(succeeded(rulesResponse(newPolicyId)));
+    reload.get(5, SECONDS);
+
+    assertThat(getLoanPolicyId(tenantId, circulationRulesClient), is(newPolicyId));
+  }
+
+  @Test
+  void slowLoadDoesNotReplaceRulesFromLaterUpdate() throws Exception {
+    final String tenantId = UUID.randomUUID().toString();
+    final String loadedPolicyId = "66666666-6666-6666-6666-666666666666";
+    final String updatedPolicyId = "77777777-7777-7777-7777-777777777777";
+    final var rulesResponse = new CompletableFuture<Result<Response>>();
+
+    CollectionResourceClient circulationRulesClient = mock(CollectionResourceClient.class);
+    when(circulationRulesClient.get()).thenReturn(rulesResponse);
+
+    final var load = getInstance().getRulesEngine(tenantId, circulationRulesClient);
+
+    // the rules are updated after the load began, and the update is compiled first
+    getInstance().handleRulesUpdateEvent(rulesUpdateEvent(tenantId, updatedPolicyId,
+        System.currentTimeMillis() + 1000))
+      .get(5, SECONDS);
+
+    rulesResponse.complete(succeeded(rulesResponse(loadedPolicyId)));
+    load.get(5, SECONDS);
+
+    assertThat(getLoanPolicyId(tenantId, circulationRulesClient), is(updatedPolicyId));
+    assertThat(load.get(5, SECONDS).value()
+        .loanPolicy(MultiMap.caseInsensitiveMultiMap(), Location.unknown()).getPolicyId(),
+      is(updatedPolicyId));
+  }
+
+  private static DomainEvent<EntityChangedEventData> rulesUpdateEvent(String tenantId,
+    String policyId, long timestamp) {
+
+    return new DomainEvent<>(UUID.randomUUID().toString(), tenantId,
+      DomainEventPayloadType.UPDATED, timestamp, new EntityChangedEventData(new JsonObject(),
+        new JsonObject().put("rulesAsText", rulesAsText(policyId))));
   }
 
   private CollectionResourceClient createCirculationRulesClientMock(String policyId) {
+    CollectionResourceClient circulationRulesClient = mock(CollectionResourceClient.class);
+    when(circulationRulesClient.get()).thenReturn(ofAsync(rulesResponse(policyId)));
+
+    return circulationRulesClient;
+  }
+
+  private static Response rulesResponse(String policyId) {
     String rulesResponse = new JsonObject()
       .put("id", UUID.randomUUID().toString())
-      .put("rulesAsText", format("priority: g, m, t , s, b, c, a\nfallback-policy: " +
-        "l %s r %s n %s o %s i %s", policyId, policyId, policyId, policyId, policyId))
+      .put("rulesAsText", rulesAsText(policyId))
       .encodePrettily();
 
-    CollectionResourceClient circulationRulesClient = mock(CollectionResourceClient.class);
-    when(circulationRulesClient.get()).thenReturn(ofAsync(new Response(HTTP_OK, rulesResponse,
-      APPLICATION_JSON)));
+    return new Response(HTTP_OK, rulesResponse, APPLICATION_JSON);
+  }
 
-    return circulationRulesClient;
+  private static String rulesAsText(String policyId) {
+    return format("priority: g, m, t , s, b, c, a\nfallback-policy: " +
+      "l %s r %s n %s o %s i %s", policyId, policyId, policyId, policyId, policyId);
   }
 }
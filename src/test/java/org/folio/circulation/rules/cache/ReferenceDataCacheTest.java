@@ -0,0 +1,121 @@
+package org.folio.circulation.rules.cache;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.folio.circulation.support.CachingCollectionResourceClient;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.OkapiHttpClient;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.vertx.core.json.JsonObject;
+
+class ReferenceDataCacheTest {
+  private static final String LOCATIONS = "http://okapi/locations";
+  private static final String LOCATION = LOCATIONS + "/1";
+
+  @Test
+  void responsesAreCachedForEachTenant() {
+    final var cache = new ReferenceDataCache(10, 60_000);
+    final var response = new Response(HTTP_OK, "{}", APPLICATION_JSON);
+
+    cache.put("tenant1", LOCATION, response);
+
+    assertThat(cache.get("tenant1", LOCATION).isPresent(), is(true));
+    assertThat(cache.get("tenant2", LOCATION).isPresent(), is(false));
+    assertThat(cache.getHitCount(), is(1L));
+    assertThat(cache.getMissCount(), is(1L));
+  }
+
+  @Test
+  void collectionCanBeInvalidatedForTenant() {
+    final var cache = new ReferenceDataCache(10, 60_000);
+    final var response = new Response(HTTP_OK, "{}", APPLICATION_JSON);
+
+    cache.put("tenant1", LOCATION, response);
+    cache.put("tenant2", LOCATION, response);
+    cache.invalidate("tenant1", "http://okapi/locations");
+
+    assertThat(cache.get("tenant1", LOCATION).isPresent(), is(false));
+    assertThat(cache.get("tenant2", LOCATION).isPresent(), is(true));
+  }
+
+  @Test
+  void isDisabledWithoutTimeToLive() {
+    final var cache = new ReferenceDataCache(10, 0);
+
+    cache.put("tenant1", LOCATION, new Response(HTTP_OK, "{}", APPLICATION_JSON));
+
+    assertThat(cache.isEnabled(), is(false));
+    assertThat(cache.get("tenant1", LOCATION).isPresent(), is(false));
+  }
+
+  @ParameterizedTest
+  @MethodSource("changes")
+  void collectionIsInvalidatedByEveryChangeMadeThroughCachingClient(
+    Function<CollectionResourceClient, CompletableFuture<Result<Response>>> change)
+    throws MalformedURLException {
+
+    final var cache = new ReferenceDataCache(10, 60_000);
+    final var response = new Response(HTTP_OK, "{}", APPLICATION_JSON);
+    final OkapiHttpClient okapiClient = mock(OkapiHttpClient.class,
+      invocation -> completedFuture(succeeded(response)));
+
+    final var client = new CachingCollectionResourceClient(okapiClient,
+      new URL(LOCATIONS), "tenant1", cache);
+
+    cache.put("tenant1", LOCATION, response);
+    change.apply(client).join();
+
+    assertThat(cache.get("tenant1", LOCATION).isPresent(), is(false));
+  }
+
+  @Test
+  void responseFetchedDuringChangeIsNotKept() throws MalformedURLException {
+    final var cache = new ReferenceDataCache(10, 60_000);
+    final var response = new Response(HTTP_OK, "{}", APPLICATION_JSON);
+    final var changeMade = new CompletableFuture<Result<Response>>();
+    final OkapiHttpClient okapiClient = mock(OkapiHttpClient.class,
+      invocation -> changeMade);
+
+    final var client = new CachingCollectionResourceClient(okapiClient,
+      new URL(LOCATIONS), "tenant1", cache);
+
+    final var change = client.put("1", new JsonObject());
+    cache.put("tenant1", LOCATION, response);
+    changeMade.complete(succeeded(response));
+    change.join();
+
+    assertThat(cache.get("tenant1", LOCATION).isPresent(), is(false));
+  }
+
+  private static Stream<Function<CollectionResourceClient,
+    CompletableFuture<Result<Response>>>> changes() {
+
+
+    return Stream.of(
+      client -> client.post(new JsonObject()),
+      client -> client.post(new JsonObject(), "1"),
+      client -> client.put(new JsonObject()),
+      client -> client.put("1", new JsonObject()),
+      client -> client.delete("1"),
+      CollectionResourceClient::delete,
+      client -> client.deleteMany(CqlQuery.exactMatch("id", "1").value()));
+  }
+}
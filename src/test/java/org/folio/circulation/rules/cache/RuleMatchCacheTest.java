@@ -0,0 +1,86 @@
+package org.folio.circulation.rules.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.circulation.rules.AppliedRuleConditions;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.RulesExecutionParameters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RuleMatchCacheTest {
+  private static final String RULES = "priority: t, s, c, b, a, m, g\n" +
+    "fallback-policy: l loan r request n notice o overdue i lost-item";
+
+  private final AtomicInteger determinations = new AtomicInteger();
+
+  @AfterEach
+  void afterEach() {
+    CirculationRulesCache.getInstance().dropCache();
+  }
+
+  @Test
+  void matchIsOnlyDeterminedOnceForSameCriteria() {
+    final var cache = new RuleMatchCache(1, 10);
+
+    final var first = cache.getOrDetermine("loan policy", parameters("book"), this::loanPolicy);
+    final var second = cache.getOrDetermine("loan policy", parameters("book"), this::loanPolicy);
+
+    assertThat(second, sameInstance(first));
+    assertThat(determinations.get(), is(1));
+    assertThat(cache.getHitCount(), is(1L));
+  }
+
+  @Test
+  void matchIsDeterminedForDifferentCriteriaOrPolicyType() {
+    final var cache = new RuleMatchCache(1, 10);
+
+    cache.getOrDetermine("loan policy", parameters("book"), this::loanPolicy);
+    cache.getOrDetermine("loan policy", parameters("dvd"), this::loanPolicy);
+    cache.getOrDetermine("request policy", parameters("book"), this::loanPolicy);
+
+    assertThat(determinations.get(), is(3));
+    assertThat(cache.size(), is(3));
+  }
+
+  @Test
+  void matchesAreNotKeptWhenDisabled() {
+    final var cache = new RuleMatchCache(1, 0);
+
+    cache.getOrDetermine("loan policy", parameters("book"), this::loanPolicy);
+    cache.getOrDetermine("loan policy", parameters("book"), this::loanPolicy);
+
+    assertThat(determinations.get(), is(2));
+  }
+
+  @Test
+  void matchesAreReplacedWhenNewRulesAreBuilt() {
+    final var rulesCache = CirculationRulesCache.getInstance();
+
+    rulesCache.buildRules("tenant", RULES);
+    final var previousMatches = rulesCache.getRules("tenant").getRuleMatches();
+    previousMatches.getOrDetermine("loan policy", parameters("book"), this::loanPolicy);
+
+    rulesCache.buildRules("tenant", RULES);
+    final var currentMatches = rulesCache.getRules("tenant").getRuleMatches();
+
+    assertThat(currentMatches, not(sameInstance(previousMatches)));
+    assertThat(currentMatches.size(), is(0));
+  }
+
+  private CirculationRuleMatch loanPolicy() {
+    determinations.incrementAndGet();
+
+    return new CirculationRuleMatch("loan", new AppliedRuleConditions(false, false, false));
+  }
+
+  private static RulesExecutionParameters parameters(String materialTypeId) {
+    return new RulesExecutionParameters("loan-type", "location", materialTypeId,
+      "patron-group", null);
+  }
+}
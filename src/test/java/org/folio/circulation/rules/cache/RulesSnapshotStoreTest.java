@@ -0,0 +1,150 @@
+package org.folio.circulation.rules.cache;
+
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.folio.circulation.rules.Drools;
+import org.folio.circulation.rules.Text2Drools;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.vertx.core.MultiMap;
+
+class RulesSnapshotStoreTest {
+  private static final String RULES = String.join("\n",
+    "priority: t, s, c, b, a, m, g",
+    "fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item",
+    "m book: l policy-a r request-1 n notice-1 o overdue-1 i lost-item-1");
+
+  private static final String CHANGED_RULES = RULES.replace("policy-a", "policy-b");
+
+  private static final byte[] KEY = "snapshot-key".getBytes(UTF_8);
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void restoredRulesDetermineTheSamePolicies() {
+    final var store = new RulesSnapshotStore(directory, KEY);
+
+    store.save("diku", RULES, compile(RULES).getKieBase());
+
+    final var restored = store.load("diku", RULES).map(Drools::new).orElseThrow();
+
+    assertThat(restored.loanPolicy(params("book"), null).getPolicyId(), is("policy-a"));
+    assertThat(restored.loanPolicy(params("dvd"), null).getPolicyId(), is("no-loan"));
+  }
+
+  @Test
+  void snapshotIsNotUsedForChangedRulesOrOtherTenants() {
+    final var store = new RulesSnapshotStore(directory, KEY);
+
+    store.save("diku", RULES, compile(RULES).getKieBase());
+
+    assertThat(store.load("diku", CHANGED_RULES).isPresent(), is(false));
+    assertThat(store.load("college", RULES).isPresent(), is(false));
+  }
+
+  @Test
+  void previousSnapshotIsRemovedWhenRulesChange() throws IOException {
+    final var store = new RulesSnapshotStore(directory, KEY);
+
+    store.save("diku", RULES, compile(RULES).getKieBase());
+    store.save("college", RULES, compile(RULES).getKieBase());
+    store.save("diku", CHANGED_RULES, compile(CHANGED_RULES).getKieBase());
+
+    assertThat(snapshots(), hasSize(2));
+    assertThat(store.load("diku", RULES).isPresent(), is(false));
+    assertThat(store.load("diku", CHANGED_RULES).isPresent(), is(true));
+    assertThat(store.load("college", RULES).isPresent(), is(true));
+  }
+
+  @Test
+  void corruptSnapshotIsDeleted() throws IOException {
+    final var store = new RulesSnapshotStore(directory, KEY);
+
+    store.save("diku", RULES, compile(RULES).getKieBase());
+
+    final Path snapshot = snapshots().get(0);
+    final byte[] contents = Files.readAllBytes(snapshot);
+    contents[contents.length - 1] ^= 1;
+    Files.write(snapshot, contents);
+
+    assertThat(store.load("diku", RULES).isPresent(), is(false));
+    assertThat(snapshots(), hasSize(0));
+  }
+
+  @Test
+  void snapshotSignedWithAnotherKeyIsDeleted() throws IOException {
+    new RulesSnapshotStore(directory, "another-key".getBytes(UTF_8))
+      .save("diku", RULES, compile(RULES).getKieBase());
+
+    assertThat(new RulesSnapshotStore(directory, KEY).load("diku", RULES).isPresent(),
+      is(false));
+    assertThat(snapshots(), hasSize(0));
+  }
+
+  @Test
+  void snapshotIsNotUsedWhenRenamedForAnotherTenant() throws IOException {
+    final var store = new RulesSnapshotStore(directory, KEY);
+
+    store.save("diku", RULES, compile(RULES).getKieBase());
+
+    final Path snapshot = snapshots().get(0);
+    Files.move(snapshot, snapshot.resolveSibling(
+      snapshot.getFileName().toString().replace("diku-", "college-")));
+
+    assertThat(store.load("college", RULES).isPresent(), is(false));
+  }
+
+  @Test
+  void nothingIsKeptWithoutKey() {
+    final var store = new RulesSnapshotStore(directory, new byte[0]);
+
+    store.save("diku", RULES, compile(RULES).getKieBase());
+
+    assertThat(store.isEnabled(), is(false));
+    assertThat(store.load("diku", RULES).isPresent(), is(false));
+  }
+
+  @Test
+  void nothingIsKeptWithoutDirectory() {
+    final var store = new RulesSnapshotStore(null, KEY);
+
+    store.save("diku", RULES, compile(RULES).getKieBase());
+
+    assertThat(store.isEnabled(), is(false));
+    assertThat(store.load("diku", RULES).isPresent(), is(false));
+  }
+
+  private List<Path> snapshots() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.collect(Collectors.toList());
+    }
+  }
+
+  private static Drools compile(String rules) {
+    return new Drools("test-tenant-id", Text2Drools.convert(rules));
+  }
+
+  private static MultiMap params(String itemTypeId) {
+    return MultiMap.caseInsensitiveMultiMap()
+      .add(ITEM_TYPE_ID_NAME, itemTypeId)
+      .add(LOAN_TYPE_ID_NAME, "regular")
+      .add(PATRON_TYPE_ID_NAME, "student")
+      .add(LOCATION_ID_NAME, "shelf");
+  }
+}
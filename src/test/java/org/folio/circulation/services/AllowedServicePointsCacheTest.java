@@ -0,0 +1,85 @@
+package org.folio.circulation.services;
+
+import static java.util.Collections.emptySet;
+import static org.folio.circulation.domain.Request.Operation.CREATE;
+import static org.folio.circulation.domain.Request.Operation.REPLACE;
+import static org.folio.circulation.domain.RequestType.PAGE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.folio.circulation.domain.AllowedServicePoint;
+import org.folio.circulation.domain.AllowedServicePointsRequest;
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.RequestType;
+import org.junit.jupiter.api.Test;
+
+class AllowedServicePointsCacheTest {
+  private static final String TENANT_ID = "diku";
+  private static final String INSTANCE_ID = "5bf370e0-8cca-4d9c-82e4-5170ab2a0a39";
+  private static final String PATRON_GROUP_ID = "3684a786-6671-4268-8ed0-9db82ebca60b";
+  private static final String INDEX_NAME = "pickupLocation";
+
+  private final Map<RequestType, Set<AllowedServicePoint>> allowedServicePoints =
+    Map.of(PAGE, emptySet());
+
+  @Test
+  void allowedServicePointsAreKeptForTheSameInstancePatronGroupAndOperation() {
+    final var cache = new AllowedServicePointsCache(10, 60_000);
+
+    cache.put(TENANT_ID, titleLevel(CREATE), PATRON_GROUP_ID, INDEX_NAME,
+      allowedServicePoints);
+
+    assertThat(cache.get(TENANT_ID, titleLevel(CREATE), PATRON_GROUP_ID, INDEX_NAME)
+      .orElseThrow(), sameInstance(allowedServicePoints));
+    assertThat(cache.get(TENANT_ID, titleLevel(REPLACE), PATRON_GROUP_ID, INDEX_NAME)
+      .isPresent(), is(false));
+    assertThat(cache.get(TENANT_ID, titleLevel(CREATE), "other-group", INDEX_NAME)
+      .isPresent(), is(false));
+    assertThat(cache.get("college", titleLevel(CREATE), PATRON_GROUP_ID, INDEX_NAME)
+      .isPresent(), is(false));
+  }
+
+  @Test
+  void itemLevelRequestsAreNotKept() {
+    final var cache = new AllowedServicePointsCache(10, 60_000);
+    final var request = new AllowedServicePointsRequest(CREATE, null, PATRON_GROUP_ID, null,
+      "item-id", null, false, false);
+
+    cache.put(TENANT_ID, request, PATRON_GROUP_ID, INDEX_NAME, allowedServicePoints);
+
+    assertThat(cache.get(TENANT_ID, request, PATRON_GROUP_ID, INDEX_NAME).isPresent(),
+      is(false));
+  }
+
+  @Test
+  void nothingIsKeptAfterInvalidatingTheTenant() {
+    final var cache = new AllowedServicePointsCache(10, 60_000);
+
+    cache.put(TENANT_ID, titleLevel(CREATE), PATRON_GROUP_ID, INDEX_NAME,
+      allowedServicePoints);
+    cache.invalidate(TENANT_ID);
+
+    assertThat(cache.get(TENANT_ID, titleLevel(CREATE), PATRON_GROUP_ID, INDEX_NAME)
+      .isPresent(), is(false));
+  }
+
+  @Test
+  void nothingIsKeptWhenDisabled() {
+    final var cache = new AllowedServicePointsCache(10, 0);
+
+    cache.put(TENANT_ID, titleLevel(CREATE), PATRON_GROUP_ID, INDEX_NAME,
+      allowedServicePoints);
+
+    assertThat(cache.get(TENANT_ID, titleLevel(CREATE), PATRON_GROUP_ID, INDEX_NAME)
+      .isPresent(), is(false));
+  }
+
+  private static AllowedServicePointsRequest titleLevel(Request.Operation operation) {
+    return new AllowedServicePointsRequest(operation, null, PATRON_GROUP_ID, INSTANCE_ID,
+      null, null, false, false);
+  }
+}
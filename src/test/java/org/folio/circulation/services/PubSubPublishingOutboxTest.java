@@ -0,0 +1,90 @@
+package org.folio.circulation.services;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+
+class PubSubPublishingOutboxTest {
+  private static final Map<String, String> OKAPI_HEADERS = Map.of("x-okapi-tenant", "test");
+
+  private Vertx vertx;
+
+  @BeforeEach
+  void setUp() {
+    vertx = Vertx.vertx();
+  }
+
+  @AfterEach
+  void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  void eventsAreDeliveredOneBatchAtATime() {
+    final List<CompletableFuture<Boolean>> deliveries = new CopyOnWriteArrayList<>();
+
+    final var outbox = new PubSubPublishingOutbox("test", vertx, (v, event) -> {
+      final var delivery = new CompletableFuture<Boolean>();
+      deliveries.add(delivery);
+      return delivery;
+    }, 100, 2, 1, 1);
+
+    for (int index = 0; index < 5; index++) {
+      assertThat(outbox.offer("LOG_RECORD", "{}", OKAPI_HEADERS), is(true));
+    }
+
+    await().until(() -> deliveries, hasSize(2));
+    deliveries.forEach(delivery -> delivery.complete(true));
+
+    await().until(() -> deliveries, hasSize(4));
+    deliveries.forEach(delivery -> delivery.complete(true));
+
+    await().until(() -> deliveries, hasSize(5));
+    deliveries.forEach(delivery -> delivery.complete(true));
+
+    await().until(outbox::getDeliveredCount, is(5L));
+    assertThat(outbox.getPendingCount(), is(0));
+  }
+
+  @Test
+  void failedEventIsTriedAgainUntilMaximumAttempts() {
+    final var attempts = new AtomicInteger();
+
+    final var outbox = new PubSubPublishingOutbox("test", vertx, (v, event) -> {
+      attempts.incrementAndGet();
+      return completedFuture(false);
+    }, 100, 10, 3, 1);
+
+    outbox.offer("LOG_RECORD", "{}", OKAPI_HEADERS);
+
+    await().until(outbox::getDroppedCount, is(1L));
+
+    assertThat(attempts.get(), is(3));
+    assertThat(outbox.getRetriedCount(), is(2L));
+    assertThat(outbox.getPendingCount(), is(0));
+  }
+
+  @Test
+  void eventIsRefusedWhenOutboxIsFull() {
+    final var outbox = new PubSubPublishingOutbox("test", vertx,
+      (v, event) -> new CompletableFuture<>(), 1, 10, 1, 1);
+
+    assertThat(outbox.offer("LOG_RECORD", "{}", OKAPI_HEADERS), is(true));
+    assertThat(outbox.offer("LOG_RECORD", "{}", OKAPI_HEADERS), is(false));
+    assertThat(outbox.getOverflowCount(), is(1L));
+  }
+}
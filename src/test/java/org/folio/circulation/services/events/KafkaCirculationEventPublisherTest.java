@@ -0,0 +1,114 @@
+package org.folio.circulation.services.events;
+
+import static api.support.Wait.waitFor;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.Environment;
+import org.folio.circulation.domain.events.CirculationKafkaTopic;
+import org.folio.circulation.support.http.OkapiHeader;
+import org.folio.rest.jaxrs.model.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import api.support.KafkaTestHelper;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+class KafkaCirculationEventPublisherTest {
+  private static final String TEST_TENANT = "test";
+  private static final Map<String, String> HEADERS = Map.of(
+    OkapiHeader.OKAPI_URL, "http://localhost:9130",
+    OkapiHeader.TENANT, TEST_TENANT,
+    OkapiHeader.TOKEN, "test_token",
+    OkapiHeader.USER_ID, randomUUID().toString()
+  );
+
+  private static KafkaTestHelper kafkaHelper;
+
+  private Vertx vertx;
+
+  @BeforeAll
+  static void setUp() {
+    kafkaHelper = KafkaTestHelper.getInstance();
+  }
+
+  @AfterEach
+  void tearDown() {
+    Environment.MOCK_ENV.clear();
+
+    if (vertx != null) {
+      waitFor(KafkaCirculationEventPublisher.close(vertx));
+      waitFor(vertx.close());
+    }
+  }
+
+  @Test
+  void eventsAreSentToTopicForEventTypeKeyedByTenant() {
+    final String topic = CirculationKafkaTopic.LOG_RECORD.fullTopicName(TEST_TENANT);
+    kafkaHelper.createTopic(topic);
+
+    final var consumer = kafkaHelper.createConsumer("log-record-consumer-group-" + randomUUID());
+    waitFor(consumer.subscribe(topic));
+
+    vertx = Vertx.vertx();
+    final var publisher = KafkaCirculationEventPublisher.forVertx(vertx);
+
+    final List<CompletableFuture<Boolean>> results = IntStream.range(0, 5)
+      .mapToObj(index -> publisher.publish(event("LOG_RECORD"), TEST_TENANT, HEADERS))
+      .collect(Collectors.toList());
+
+    final List<Boolean> published = results.stream()
+      .map(CompletableFuture::join)
+      .collect(Collectors.toList());
+
+    final var records = kafkaHelper.consumeEvents(consumer, topic, 5);
+    consumer.close();
+
+    assertThat(published, everyItem(is(true)));
+    assertThat(records.size(), is(5));
+    assertThat(records.stream().map(ConsumerRecord::key).collect(Collectors.toList()),
+      everyItem(is(TEST_TENANT)));
+    // the helper's consumer reads values as strings, whatever its declared type
+    final ConsumerRecord<?, ?> firstRecord = records.iterator().next();
+    assertThat(new JsonObject(firstRecord.value().toString()).getString("eventType"),
+      is("LOG_RECORD"));
+    assertThat(publisher.getPublishedCount(), is(5L));
+    assertThat(publisher.getFailedCount(), is(0L));
+  }
+
+  @Test
+  void onlyEventTypesWithTopicsAreSentToKafka() {
+    Environment.MOCK_ENV.put("CIRCULATION_EVENTS_BACKEND", "kafka");
+
+    assertThat(KafkaCirculationEventPublisher.publishesEventType("ITEM_CHECKED_OUT"), is(true));
+    assertThat(KafkaCirculationEventPublisher.publishesEventType("LOG_RECORD"), is(true));
+    assertThat(KafkaCirculationEventPublisher.publishesEventType(
+      "LOAN_RELATED_FEE_FINE_CLOSED"), is(false));
+  }
+
+  @Test
+  void noEventsAreSentToKafkaWhenPubSubIsTheBackend() {
+    Environment.MOCK_ENV.put("CIRCULATION_EVENTS_BACKEND", "pubsub");
+
+    assertThat(KafkaCirculationEventPublisher.publishesEventType("ITEM_CHECKED_OUT"), is(false));
+  }
+
+  private static Event event(String eventType) {
+    return new Event()
+      .withId(UUID.randomUUID().toString())
+      .withEventType(eventType)
+      .withEventPayload("{}");
+  }
+}
@@ -0,0 +1,98 @@
+package org.folio.circulation.support.fetching;
+
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentEnrichmentTest {
+  @Test
+  void stagesAreStartedTogetherAndMergedInOrder() {
+    final var firstStage = new CompletableFuture<Result<MultipleRecords<String>>>();
+    final var secondStage = new CompletableFuture<Result<MultipleRecords<String>>>();
+    final var startedStages = new AtomicInteger();
+
+    final var enrichment = new ConcurrentEnrichment<String>()
+      .with(records -> {
+        startedStages.incrementAndGet();
+        return firstStage;
+      }, ConcurrentEnrichmentTest::appendLastCharacter)
+      .with(records -> {
+        startedStages.incrementAndGet();
+        return secondStage;
+      }, ConcurrentEnrichmentTest::appendLastCharacter);
+
+    final var enriched = enrichment.enrich(records("1", "2"));
+
+    assertThat(startedStages.get(), is(2));
+    assertThat(enriched.isDone(), is(false));
+
+    secondStage.complete(succeeded(records("1b", "2b")));
+    firstStage.complete(succeeded(records("1a", "2a")));
+
+    final var result = enriched.join();
+
+    assertThat(result.value().getRecords(), contains("1ab", "2ab"));
+    assertThat(result.value().getTotalRecords(), is(5));
+  }
+
+  @Test
+  void failsWhenAnyStageFails() {
+    final var enrichment = new ConcurrentEnrichment<String>()
+      .with(records -> ofAsync(records("1a", "2a")), ConcurrentEnrichmentTest::appendLastCharacter)
+      .with(records -> CompletableFuture.completedFuture(
+        failed(new ServerErrorFailure("look up failed"))),
+        ConcurrentEnrichmentTest::appendLastCharacter);
+
+    final var result = enrichment.enrich(records("1", "2")).join();
+
+    assertThat(result.failed(), is(true));
+    assertThat(result.cause(), instanceOf(ServerErrorFailure.class));
+  }
+
+  @Test
+  void failsWhenStageReturnsDifferentNumberOfRecords() {
+    final var enrichment = new ConcurrentEnrichment<String>()
+      .with(records -> ofAsync(records("1a")), ConcurrentEnrichmentTest::appendLastCharacter);
+
+    final var result = enrichment.enrich(records("1", "2")).join();
+
+    assertThat(result.failed(), is(true));
+  }
+
+  @Test
+  void noStagesAreStartedForEmptyPage() {
+    final var startedStages = new AtomicInteger();
+
+    final var enrichment = new ConcurrentEnrichment<String>()
+      .with(records -> {
+        startedStages.incrementAndGet();
+        return ofAsync(records);
+      }, ConcurrentEnrichmentTest::appendLastCharacter);
+
+    final var result = enrichment.enrich(MultipleRecords.empty()).join();
+
+    assertThat(result.value().isEmpty(), is(true));
+    assertThat(startedStages.get(), is(0));
+  }
+
+  private static String appendLastCharacter(String merged, String enriched) {
+    return merged + enriched.charAt(enriched.length() - 1);
+  }
+
+  private static MultipleRecords<String> records(String... records) {
+    return new MultipleRecords<>(List.of(records), 5);
+  }
+}
@@ -1,7 +1,10 @@
 package org.folio.circulation.support.fetching;
 
 import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
 import static org.folio.circulation.support.http.client.CqlQuery.noQuery;
@@ -19,7 +22,14 @@ import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.noInteractions;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.ServerErrorFailure;
@@ -111,6 +121,44 @@ class PageableFetcherTest {
     verify(pageProcessor, times(10)).processPage(any());
   }
 
+  @Test
+  void shouldProcessManyPagesWithoutGrowingTheStack() {
+    final var pageSize = limit(1);
+    final var pagesProcessed = new AtomicInteger();
+
+    final var voidResult = new PageableFetcher<>(repository(50_000), pageSize, Integer.MAX_VALUE)
+      .processPages(noQuery().value(), records -> {
+        pagesProcessed.incrementAndGet();
+        return ofAsync(() -> null);
+      })
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(pagesProcessed.get(), is(50_001));
+  }
+
+  @Test
+  void shouldNotSkipRecordsWhenPagingByKeyAndProcessingChangesMatchingRecords() {
+    final var matchingRecords = range(0, 25)
+      .mapToObj(index -> String.format("record-%02d", index))
+      .collect(toCollection(TreeSet::new));
+    final List<String> processedRecords = new ArrayList<>();
+
+    final var voidResult = new PageableFetcher<>(keyedRepository(matchingRecords), limit(10),
+      Integer.MAX_VALUE)
+      .processPagesByKey(noQuery().value(), "id", identity(), records -> {
+        processedRecords.addAll(records.getRecords());
+        // processing means these records no longer match the query
+        matchingRecords.removeAll(records.getRecords());
+        return ofAsync(() -> null);
+      })
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(processedRecords.size(), is(25));
+    assertThat(processedRecords.get(24), is("record-24"));
+  }
+
   private <T> Result<Void> processPages(GetManyRecordsRepository<T> repository,
     PageLimit pageLimit, PageProcessor<T> processor) {
 
@@ -136,6 +184,19 @@ class PageableFetcherTest {
     };
   }
 
+  private GetManyRecordsRepository<String> keyedRepository(SortedSet<String> records) {
+    return (cqlQuery, pageLimit, offset) -> {
+      final var query = URLDecoder.decode(cqlQuery.encode().value(), UTF_8);
+      final var afterKey = Pattern.compile("id>\"([^\"]*)\"").matcher(query);
+      final var page = (afterKey.find() ? records.tailSet(afterKey.group(1) + "\0") : records)
+        .stream()
+        .limit(pageLimit.getLimit())
+        .collect(toList());
+
+      return ofAsync(() -> new MultipleRecords<>(page, records.size()));
+    };
+  }
+
   // Mockito can not spy a lambda
   @SuppressWarnings("all")
   private PageProcessor<Integer> dummyProcessor() {
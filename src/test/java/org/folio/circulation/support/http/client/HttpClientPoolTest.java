@@ -0,0 +1,59 @@
+package org.folio.circulation.support.http.client;
+
+import static api.support.Wait.waitFor;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+
+class HttpClientPoolTest {
+  private final Vertx vertx = Vertx.vertx();
+
+  @AfterEach
+  void tearDown() {
+    waitFor(vertx.close());
+  }
+
+  @Test
+  void poolsWithTheSameNameAreToldApart() {
+    final var first = HttpClientPool.create(vertx, "interactive", 5);
+    final var second = HttpClientPool.create(vertx, "interactive", 5);
+
+    assertThat(first.getInstance().equals(second.getInstance()), is(false));
+    assertThat(HttpClientPool.pools(), hasItem(first));
+    assertThat(HttpClientPool.pools(), hasItem(second));
+
+    waitFor(first.close());
+    waitFor(second.close());
+  }
+
+  @Test
+  void closedPoolIsNoLongerRecorded() {
+    final var pool = HttpClientPool.create(vertx, "batch", 5);
+
+    waitFor(pool.close());
+
+    assertThat(HttpClientPool.pools(), not(hasItem(pool)));
+    assertThat(HttpClientPool.forClient(pool.getHttpClient()) == null, is(true));
+  }
+
+  @Test
+  void requestsInFlightAreCounted() {
+    final var pool = HttpClientPool.create(vertx, "interactive", 5);
+
+    pool.requestStarted();
+    pool.requestStarted();
+    pool.requestFinished();
+
+    assertThat(pool.getInFlight(), is(1));
+    assertThat(pool.getMaximumInFlight(), is(2));
+    assertThat(pool.getRequestCount(), is(2L));
+
+    waitFor(pool.close());
+  }
+}
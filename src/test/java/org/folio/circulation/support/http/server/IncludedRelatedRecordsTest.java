@@ -0,0 +1,59 @@
+package org.folio.circulation.support.http.server;
+
+import static api.support.matchers.FailureMatcher.hasValidationFailure;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class IncludedRelatedRecordsTest {
+  private static final List<String> RECOGNISED = List.of("item", "borrower", "loanPolicy");
+
+  @Test
+  void everythingIsIncludedWithoutParameter() {
+    final var include = IncludedRelatedRecords.fromQueryString(
+      "query=status.name%3D%3DOpen&limit=10", RECOGNISED).value();
+
+    assertThat(include.includes("item"), is(true));
+    assertThat(include.includes("loanPolicy"), is(true));
+  }
+
+  @Test
+  void onlyNamedRecordsAreIncluded() {
+    final var include = IncludedRelatedRecords.fromQueryString(
+      "limit=10&include=item%2Cborrower", RECOGNISED).value();
+
+    assertThat(include.includes("item"), is(true));
+    assertThat(include.includes("borrower"), is(true));
+    assertThat(include.includes("loanPolicy"), is(false));
+    assertThat(include.includesAny("loanPolicy", "borrower"), is(true));
+  }
+
+  @Test
+  void nothingIsIncludedWithEmptyParameter() {
+    final var include = IncludedRelatedRecords.fromQueryString(
+      "limit=10&include=", RECOGNISED).value();
+
+    assertThat(include.includes("item"), is(false));
+    assertThat(include.includesAny("borrower", "loanPolicy"), is(false));
+  }
+
+  @Test
+  void unrecognisedRecordIsRefused() {
+    final var include = IncludedRelatedRecords.fromQueryString(
+      "include=item,accounts", RECOGNISED);
+
+    assertThat(include, hasValidationFailure(
+      "Related record cannot be included, must be one of: item, borrower, loanPolicy"));
+  }
+
+  @Test
+  void includeParameterIsNotPassedOn() {
+    assertThat(IncludedRelatedRecords.withoutIncludeParameter(
+      "query=status.name%3D%3DOpen&include=item&limit=10"),
+      is("query=status.name%3D%3DOpen&limit=10"));
+    assertThat(IncludedRelatedRecords.withoutIncludeParameter("include=item"), is(""));
+  }
+}
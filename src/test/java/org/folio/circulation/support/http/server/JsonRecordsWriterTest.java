@@ -0,0 +1,117 @@
+package org.folio.circulation.support.http.server;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+
+class JsonRecordsWriterTest {
+  @Test
+  void recordsWrittenInSeveralGoesFormOneCollection() {
+    final var response = mock(HttpServerResponse.class);
+    final var body = Buffer.buffer();
+
+    when(response.write(any(Buffer.class))).thenAnswer(invocation -> {
+      body.appendBuffer(invocation.getArgument(0));
+      return null;
+    });
+
+    when(response.end(any(Buffer.class))).thenAnswer(invocation -> {
+      body.appendBuffer(invocation.getArgument(0));
+      return null;
+    });
+
+    final var writer = new JsonRecordsWriter(response, "items").begin(200);
+
+    writer.write(List.of("1", "2"), JsonRecordsWriterTest::toJson).join();
+    writer.write(List.of(), JsonRecordsWriterTest::toJson).join();
+    writer.write(List.of("3"), JsonRecordsWriterTest::toJson).join();
+    writer.end(3);
+
+    final var collection = new JsonObject(body);
+
+    assertThat(collection.getJsonArray("items").size(), is(3));
+    assertThat(collection.getJsonArray("items").getJsonObject(2).getString("id"), is("3"));
+    assertThat(collection.getInteger("totalRecords"), is(3));
+    assertThat(writer.getRecordsWritten(), is(3));
+
+    verify(response).setChunked(true);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void writingWaitsUntilResponseHasDrained() {
+    final var response = mock(HttpServerResponse.class);
+
+    when(response.writeQueueFull()).thenReturn(true, false);
+
+    final var writer = new JsonRecordsWriter(response, "items").begin(200);
+
+    final List<String> records = IntStream.range(0, 2000)
+      .mapToObj(String::valueOf)
+      .collect(Collectors.toList());
+
+    final var written = writer.write(records, JsonRecordsWriterTest::toJson);
+
+    final ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+    verify(response).drainHandler(drainHandler.capture());
+
+    assertThat(written.isDone(), is(false));
+
+    drainHandler.getValue().handle(null);
+
+    assertThat(written.isDone(), is(true));
+    assertThat(written.isCompletedExceptionally(), is(false));
+    assertThat(writer.getRecordsWritten(), is(2000));
+    verify(response).drainHandler(null);
+    verify(response).closeHandler(null);
+    verify(response).exceptionHandler(null);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void writingFailsWhenClientDisconnectsWhileWaitingForDrain() {
+    final var response = mock(HttpServerResponse.class);
+
+    when(response.writeQueueFull()).thenReturn(true);
+
+    final var writer = new JsonRecordsWriter(response, "items").begin(200);
+
+    final List<String> records = IntStream.range(0, 2000)
+      .mapToObj(String::valueOf)
+      .collect(Collectors.toList());
+
+    final var written = writer.write(records, JsonRecordsWriterTest::toJson);
+
+    final ArgumentCaptor<Handler<Void>> closeHandler = ArgumentCaptor.forClass(Handler.class);
+    verify(response).closeHandler(closeHandler.capture());
+
+    assertThat(written.isDone(), is(false));
+
+    closeHandler.getValue().handle(null);
+
+    assertThat(written.isCompletedExceptionally(), is(true));
+    verify(response).drainHandler(null);
+    verify(response).exceptionHandler(null);
+  }
+
+  private static JsonObject toJson(String id) {
+    return new JsonObject()
+      .put("id", id)
+      .put("description", "a record that is large enough to fill a chunk quickly");
+  }
+}
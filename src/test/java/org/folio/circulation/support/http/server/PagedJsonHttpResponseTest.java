@@ -0,0 +1,115 @@
+package org.folio.circulation.support.http.server;
+
+import static java.util.function.Function.identity;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+
+class PagedJsonHttpResponseTest {
+  @Test
+  void pagesAreFetchedAndWrittenInOrder() {
+    final var response = mock(HttpServerResponse.class);
+    final var body = collectBody(response);
+    final List<Integer> fetchedPages = new ArrayList<>();
+
+    PagedJsonHttpResponse.<JsonObject>ok("items", 3, pageIndex -> {
+      fetchedPages.add(pageIndex);
+      return ofAsync(List.of(record(pageIndex + "a"), record(pageIndex + "b")));
+    }, identity(), 6).writeTo(response);
+
+    final var collection = new JsonObject(body);
+
+    assertThat(fetchedPages, contains(0, 1, 2));
+    assertThat(collection.getJsonArray("items").size(), is(6));
+    assertThat(collection.getJsonArray("items").getJsonObject(5).getString("id"), is("2b"));
+    assertThat(collection.getInteger("totalRecords"), is(6));
+  }
+
+  @Test
+  void totalRecordsIsTheNumberOfRecordsWrittenWhenNotGiven() {
+    final var response = mock(HttpServerResponse.class);
+    final var body = collectBody(response);
+
+    PagedJsonHttpResponse.<JsonObject>ok("items", 2, pageIndex -> pageIndex == 0
+      ? ofAsync(List.of(record("0a"), record("0b")))
+      : ofAsync(List.of(record("1a"))), identity()).writeTo(response);
+
+    final var collection = new JsonObject(body);
+
+    assertThat(collection.getJsonArray("items").size(), is(3));
+    assertThat(collection.getInteger("totalRecords"), is(3));
+  }
+
+  @Test
+  void nextPageIsNotFetchedUntilPreviousPageHasBeenFetched() {
+    final var response = mock(HttpServerResponse.class);
+    final var firstPage = new CompletableFuture<Result<Collection<JsonObject>>>();
+    final List<Integer> fetchedPages = new ArrayList<>();
+
+    PagedJsonHttpResponse.<JsonObject>ok("items", 2, pageIndex -> {
+      fetchedPages.add(pageIndex);
+      return pageIndex == 0 ? firstPage : ofAsync(List.of(record("1a")));
+    }, identity(), 2).writeTo(response);
+
+    assertThat(fetchedPages, contains(0));
+
+    firstPage.complete(Result.succeeded(List.of(record("0a"))));
+
+    assertThat(fetchedPages, contains(0, 1));
+  }
+
+  @Test
+  void responseIsResetWhenPageCannotBeFetched() {
+    final var response = mock(HttpServerResponse.class);
+
+    when(response.reset()).thenReturn(true);
+
+    PagedJsonHttpResponse.<JsonObject>ok("items", 2,
+      pageIndex -> CompletableFuture.completedFuture(
+        failed(new ServerErrorFailure("page could not be fetched"))),
+      identity(), 2).writeTo(response);
+
+    verify(response).reset();
+    verify(response, never()).end(any(Buffer.class));
+  }
+
+  private static Buffer collectBody(HttpServerResponse response) {
+    final var body = Buffer.buffer();
+
+    when(response.write(any(Buffer.class))).thenAnswer(invocation -> {
+      body.appendBuffer(invocation.getArgument(0));
+      return null;
+    });
+
+    when(response.end(any(Buffer.class))).thenAnswer(invocation -> {
+      body.appendBuffer(invocation.getArgument(0));
+      return null;
+    });
+
+    return body;
+  }
+
+  private static JsonObject record(String id) {
+    return new JsonObject().put("id", id);
+  }
+}
@@ -0,0 +1,80 @@
+package org.folio.circulation.support.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class OutboundCallMetricsTest {
+  private final OutboundCallMetrics metrics = OutboundCallMetrics.getInstance();
+
+  @BeforeEach
+  void setUp() {
+    metrics.reset();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "http://okapi:9130/item-storage/items?query=barcode%3D%3D123, /item-storage/items",
+    "http://okapi:9130/loan-storage/loans/0b0ae5e5-7a6b-4a5a-8e1a-9f3d4a0c5e11, /loan-storage/loans/{id}",
+    "http://okapi:9130/calendar/dates/1f3c9b2e-1111-4aaa-9bbb-0123456789ab/all-openings, /calendar/dates/{id}/all-openings",
+    "http://okapi:9130/users/12345, /users/{id}"
+  })
+  void recordIdsAreRemovedFromPaths(String url, String expectedPath) {
+    assertThat(OutboundCallMetrics.pathTemplate(url), is(expectedPath));
+  }
+
+  @Test
+  void completedCallIsCountedByStatusCode() {
+    final var call = metrics.started("diku", "GET",
+      "http://okapi:9130/loan-storage/loans/0b0ae5e5-7a6b-4a5a-8e1a-9f3d4a0c5e11", 0,
+      "POST /circulation/check-in-by-barcode");
+
+    assertThat(inFlightSample(), containsString(" 1\n"));
+
+    call.finished(200, 2048);
+
+    final var writer = new PrometheusTextWriter();
+    metrics.writeTo(writer);
+
+    final String labels = "tenant=\"diku\",method=\"GET\",path=\"/loan-storage/loans/{id}\","
+      + "caller=\"POST /circulation/check-in-by-barcode\"";
+
+    assertThat(writer.toString(), containsString(
+      "circulation_outbound_responses_total{" + labels + ",status=\"200\"} 1\n"));
+    assertThat(writer.toString(), containsString(
+      "circulation_outbound_request_duration_seconds_count{" + labels + "} 1\n"));
+    assertThat(writer.toString(), containsString(
+      "circulation_outbound_response_size_bytes_bucket{" + labels + ",le=\"1024\"} 0\n"));
+    assertThat(writer.toString(), containsString(
+      "circulation_outbound_response_size_bytes_bucket{" + labels + ",le=\"10240\"} 1\n"));
+    assertThat(writer.toString(), containsString(
+      "circulation_outbound_requests_in_flight{" + labels + "} 0\n"));
+  }
+
+  @Test
+  void callWithoutResponseIsCountedAsError() {
+    metrics.started("diku", "POST", "http://okapi:9130/request-storage/requests", 512, null)
+      .finished(null, 0);
+
+    final var writer = new PrometheusTextWriter();
+    metrics.writeTo(writer);
+
+    assertThat(writer.toString(), containsString(
+      "caller=\"unknown\",status=\"error\"} 1\n"));
+  }
+
+  private String inFlightSample() {
+    final var writer = new PrometheusTextWriter();
+    metrics.writeTo(writer);
+
+    final String text = writer.toString();
+    final int start = text.indexOf("circulation_outbound_requests_in_flight{");
+
+    return text.substring(start, text.indexOf('\n', start) + 1);
+  }
+}
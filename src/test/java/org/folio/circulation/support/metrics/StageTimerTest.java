@@ -0,0 +1,72 @@
+package org.folio.circulation.support.metrics;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StageTimerTest {
+  private final StageTimingMetrics metrics = StageTimingMetrics.getInstance();
+
+  @BeforeEach
+  void setUp() {
+    metrics.reset();
+  }
+
+  @Test
+  void stageIsRecordedWhenItsFutureCompletes() {
+    final var timer = new StageTimer("check-out");
+    final var lookup = new CompletableFuture<String>();
+
+    final var result = completedFuture("barcode")
+      .thenCompose(timer.timed("lookupItem", barcode -> lookup));
+
+    assertThat(timer.toServerTimingHeader(), matchesPattern("total;dur=\\d+\\.\\d"));
+
+    lookup.complete("item");
+
+    assertThat(result.join(), is("item"));
+    assertThat(timer.toServerTimingHeader(),
+      matchesPattern("lookupItem;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d"));
+  }
+
+  @Test
+  void finishedRequestIsAddedToHistograms() {
+    final var timer = new StageTimer("check-in");
+
+    timer.time("lookupItem", () -> completedFuture("item"))
+      .thenCompose(timer.timed("updateItem", item -> completedFuture(item)))
+      .join();
+
+    timer.finished();
+
+    assertThat(metrics.getCount("check-in", "lookupItem"), is(1L));
+    assertThat(metrics.getCount("check-in", "updateItem"), is(1L));
+    assertThat(metrics.getCount("check-in", StageTimer.TOTAL_STAGE), is(1L));
+    assertThat(metrics.getCount("check-out", "lookupItem"), is(0L));
+  }
+
+  @Test
+  void stageIsNotRecordedWhenAnEarlierStageFailed() {
+    final var timer = new StageTimer("renewal");
+
+    timer.time("lookupLoan", () -> completedFuture(Result.<String>failed(
+        new ServerErrorFailure("loan not found"))))
+      .thenCompose(timer.timed("lookupLoanPolicy", r -> r.after(loan -> ofAsync(loan))))
+      .join();
+
+    timer.finished();
+
+    assertThat(metrics.getCount("renewal", "lookupLoan"), is(1L));
+    assertThat(metrics.getCount("renewal", "lookupLoanPolicy"), is(0L));
+    assertThat(metrics.getCount("renewal", StageTimer.TOTAL_STAGE), is(1L));
+  }
+}
@@ -0,0 +1,146 @@
+package org.folio.circulation.support.results;
+
+import static api.support.matchers.FailureMatcher.isErrorFailureContaining;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.results.AsynchronousResultBindings.limitedBy;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.ResultExamples.actionFailed;
+import static org.folio.circulation.support.results.ResultExamples.somethingWentWrong;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.val;
+
+class AsyncWorkLimiterTests {
+  @Test
+  void shouldNotStartMoreTasksThanTheLimit() {
+    val limiter = new AsyncWorkLimiter("test", 2);
+    val tasks = new ArrayList<CompletableFuture<Result<Integer>>>();
+
+    for (int i = 0; i < 5; i++) {
+      limiter.submit(() -> addTask(tasks));
+    }
+
+    assertThat(tasks.size(), is(2));
+    assertThat(limiter.getInFlight(), is(2));
+    assertThat(limiter.getQueueDepth(), is(3));
+    assertThat(limiter.getMaximumQueueDepth(), is(3));
+  }
+
+  @Test
+  void shouldStartWaitingTaskWhenRunningTaskCompletes() throws ExecutionException,
+    InterruptedException, TimeoutException {
+
+    val limiter = new AsyncWorkLimiter("test", 1);
+    val tasks = new ArrayList<CompletableFuture<Result<Integer>>>();
+
+    val first = limiter.submit(() -> addTask(tasks));
+    val second = limiter.submit(() -> addTask(tasks));
+
+    assertThat(tasks.size(), is(1));
+
+    tasks.get(0).complete(succeeded(1));
+
+    assertThat(first.get(1, SECONDS).value(), is(1));
+    assertThat(tasks.size(), is(2));
+    assertThat(second.isDone(), is(false));
+
+    tasks.get(1).complete(succeeded(2));
+
+    assertThat(second.get(1, SECONDS).value(), is(2));
+    assertThat(limiter.getInFlight(), is(0));
+    assertThat(limiter.getQueueDepth(), is(0));
+    assertThat(limiter.getCompletedCount(), is(2L));
+  }
+
+  @Test
+  void shouldProcessAllValuesWhenUsedWithAllOf() throws ExecutionException,
+    InterruptedException, TimeoutException {
+
+    val limiter = new AsyncWorkLimiter("test", 3);
+    val values = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+    val result = allOf(values,
+      limitedBy(limiter, (Integer value) -> completedFuture(succeeded(value * 2))))
+      .get(1, SECONDS);
+
+    assertThat(result.value(), is(List.of(2, 4, 6, 8, 10, 12, 14, 16, 18, 20)));
+    assertThat(limiter.getCompletedCount(), is(10L));
+  }
+
+  @Test
+  void shouldPassOnFailedResultAndReleaseSlot() throws ExecutionException,
+    InterruptedException, TimeoutException {
+
+    val limiter = new AsyncWorkLimiter("test", 1);
+
+    val failed = limiter.<Integer>submit(() -> completedFuture(actionFailed()))
+      .get(1, SECONDS);
+
+    assertThat(failed, isErrorFailureContaining("Action failed"));
+    assertThat(limiter.getInFlight(), is(0));
+  }
+
+  @Test
+  void shouldReleaseSlotWhenTaskThrowsException() throws ExecutionException,
+    InterruptedException, TimeoutException {
+
+    val limiter = new AsyncWorkLimiter("test", 1);
+
+    val result = limiter.<Integer>submit(() -> { throw somethingWentWrong(); })
+      .get(1, SECONDS);
+
+    assertThat(result, isErrorFailureContaining("Something went wrong"));
+
+    val next = limiter.submit(() -> completedFuture(succeeded(5)))
+      .get(1, SECONDS);
+
+    assertThat(next.value(), is(5));
+  }
+
+  @Test
+  void shouldStartManyWaitingTasksThatCompleteStraightAway() throws ExecutionException,
+    InterruptedException, TimeoutException {
+
+    val limiter = new AsyncWorkLimiter("test", 1);
+    val tasks = new ArrayList<CompletableFuture<Result<Integer>>>();
+    val waitingTasks = new ArrayList<CompletableFuture<Result<Integer>>>();
+
+    limiter.submit(() -> addTask(tasks));
+
+    for (int i = 0; i < 100_000; i++) {
+      final int value = i;
+      waitingTasks.add(limiter.submit(() -> completedFuture(succeeded(value))));
+    }
+
+    tasks.get(0).complete(succeeded(-1));
+
+    assertThat(waitingTasks.get(99_999).get(1, SECONDS).value(), is(99_999));
+    assertThat(limiter.getInFlight(), is(0));
+    assertThat(limiter.getCompletedCount(), is(100_001L));
+  }
+
+  @Test
+  void shouldNotAllowLimitBelowOne() {
+    assertThrows(IllegalArgumentException.class, () -> new AsyncWorkLimiter("test", 0));
+  }
+
+  private static CompletableFuture<Result<Integer>> addTask(
+    List<CompletableFuture<Result<Integer>>> tasks) {
+
+    val task = new CompletableFuture<Result<Integer>>();
+    tasks.add(task);
+    return task;
+  }
+}
@@ -0,0 +1,66 @@
+package org.folio.circulation.support.results;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+class ContextExecutorTests {
+  private Vertx vertx;
+
+  @BeforeEach
+  void setUp() {
+    vertx = Vertx.vertx();
+  }
+
+  @AfterEach
+  void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  void shouldRunStagesOnTheContextTheExecutorWasCreatedOn() throws ExecutionException,
+    InterruptedException, TimeoutException {
+
+    final var context = vertx.getOrCreateContext();
+    final var executorFuture = new CompletableFuture<ContextExecutor>();
+
+    context.runOnContext(v -> executorFuture.complete(ContextExecutor.forCurrentContext()));
+
+    final var executor = executorFuture.get(1, SECONDS);
+    final long switchesBefore = ContextExecutor.getContextSwitchCount();
+
+    final Context stageContext = CompletableFuture.completedFuture("value")
+      .thenApplyAsync(value -> Vertx.currentContext(), executor)
+      .get(1, SECONDS);
+
+    assertThat(stageContext, sameInstance(context));
+    assertThat(ContextExecutor.getContextSwitchCount() > switchesBefore, is(true));
+  }
+
+  @Test
+  void shouldUseCommonPoolWhenThereIsNoContext() throws ExecutionException,
+    InterruptedException, TimeoutException {
+
+    final var executor = ContextExecutor.forCurrentContext();
+    final long withoutContextBefore = ContextExecutor.getWithoutContextCount();
+
+    final String result = CompletableFuture.completedFuture("value")
+      .thenApplyAsync(String::toUpperCase, executor)
+      .get(1, SECONDS);
+
+    assertThat(result, is("VALUE"));
+    assertThat(ContextExecutor.getWithoutContextCount() > withoutContextBefore, is(true));
+  }
+}